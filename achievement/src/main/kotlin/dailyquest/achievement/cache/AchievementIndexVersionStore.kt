@@ -0,0 +1,11 @@
+package dailyquest.achievement.cache
+
+/**
+ * 여러 노드가 공유하는 업적 목표값 인덱스 버전 저장소.
+ * 한 노드에서 업적이 변경되면 버전을 올리고, 다른 노드는 주기적으로 버전을 확인해 바뀐 경우 인덱스를 비운다.
+ */
+interface AchievementIndexVersionStore {
+    fun getVersion(): Long
+
+    fun increaseVersion()
+}
@@ -0,0 +1,171 @@
+package dailyquest.achievement.cache
+
+import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.event.AchievementChangedEvent
+import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.properties.AchievementIndexProperties
+import org.slf4j.LoggerFactory
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 업적 달성 확인 시 매번 미달성 업적을 조회하지 않도록 타입별 활성 업적 목표값과 유저별 다음 목표값을 메모리에 보관한다.
+ *
+ * 유저별 다음 목표값은 DB 에서 조회한 가장 낮은 미달성 업적의 목표값이며, 현재 값이 이보다 작으면 달성할 업적이 없다고 판단한다.
+ * 더 낮은 목표값의 업적이 추가되거나 활성화되면 기록된 다음 목표값이 실제보다 높아져 달성을 놓칠 수 있으므로,
+ * 업적 변경이 커밋되면 인덱스를 비우고 세대를 올려 변경 전에 조회한 결과가 기록되지 않게 한다.
+ *
+ * 공유 버전 저장소가 있으면 변경 시 버전을 올리고, 각 노드는 versionCheckIntervalMillis 주기로 버전을 확인해 바뀐 경우 인덱스를 비운다.
+ * 저장소가 없으면 현재 노드의 인덱스만 비우며, 다른 노드는 목표값 목록의 TTL 이 지나야 갱신된다.
+ */
+@Component
+class AchievementThresholdIndex(
+    private val achievementRepository: AchievementRepository,
+    private val achievementIndexProperties: AchievementIndexProperties,
+    private val achievementIndexVersionStore: AchievementIndexVersionStore? = null,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val generation = AtomicLong()
+    @Volatile
+    private var thresholds: Thresholds? = null
+    private val watermarks = ConcurrentHashMap<WatermarkKey, Watermark>()
+
+    /**
+     * 현재 값으로 달성할 수 있는 업적이 있을 수 있으면 true 를 반환한다. false 면 DB 를 조회하지 않아도 된다.
+     */
+    fun mayAchieve(type: AchievementType, userId: Long, currentValue: Long): Boolean {
+        val now = System.currentTimeMillis()
+        val lowestTargetValue = this.getThresholds(now).targetValuesOf(type).firstOrNull() ?: return false
+        if (currentValue < lowestTargetValue) return false
+
+        val watermark = watermarks[WatermarkKey(userId, type)]
+        if (watermark == null || watermark.expiresAt <= now || watermark.generation != generation.get()) return true
+        return currentValue >= watermark.nextTargetValue
+    }
+
+    /**
+     * 인덱스가 비워질 때마다 증가하는 값. 미달성 업적을 조회하기 전에 읽어 [recordNotAchieved] 에 넘긴다.
+     */
+    fun generation(): Long = generation.get()
+
+    /**
+     * DB 에서 조회한 가장 낮은 미달성 업적으로 유저의 다음 목표값을 기록한다. 미달성 업적이 없으면 어떤 값으로도 달성할 수 없다.
+     * 조회 이후 인덱스가 비워졌다면 조회 결과가 변경 전 업적 기준일 수 있으므로 기록하지 않는다.
+     */
+    fun recordNotAchieved(type: AchievementType, userId: Long, notAchievedAchievement: Achievement?, generation: Long) {
+        if (generation != this.generation.get()) return
+        val now = System.currentTimeMillis()
+        if (watermarks.size >= achievementIndexProperties.watermarkMaxSize) {
+            watermarks.values.removeIf { it.expiresAt <= now }
+            if (watermarks.size >= achievementIndexProperties.watermarkMaxSize) watermarks.clear()
+        }
+        val nextTargetValue = notAchievedAchievement?.targetValue ?: Long.MAX_VALUE
+        watermarks[WatermarkKey(userId, type)] = Watermark(nextTargetValue, now + achievementIndexProperties.watermarkTtlMillis, generation)
+    }
+
+    fun recordAchieved(type: AchievementType, userId: Long) {
+        watermarks.remove(WatermarkKey(userId, type))
+    }
+
+    /**
+     * 업적 변경이 커밋된 뒤 공유 버전을 올려 다른 노드에 알리고, 현재 노드의 인덱스는 즉시 비운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    fun onAchievementChanged(event: AchievementChangedEvent) {
+        try {
+            achievementIndexVersionStore?.increaseVersion()
+        } catch (e: RuntimeException) {
+            log.warn("업적 목표값 인덱스 버전을 올리지 못했습니다. achievementId : [{}]", event.achievementId, e)
+        }
+        this.invalidate()
+    }
+
+    fun invalidate() {
+        synchronized(this) {
+            thresholds = null
+            this.clearWatermarks()
+        }
+    }
+
+    private fun clearWatermarks() {
+        generation.incrementAndGet()
+        watermarks.clear()
+    }
+
+    /**
+     * 목록을 다시 읽는 동안 [invalidate] 가 끼어들지 않도록 잠금 안에서 갱신한다.
+     * 공유 버전이 바뀌었으면 다른 노드에서 업적이 변경된 것이므로 유저별 다음 목표값도 비운다.
+     */
+    private fun getThresholds(now: Long): Thresholds {
+        val cached = thresholds
+        if (cached != null && !cached.needsCheck(now)) return cached
+
+        synchronized(this) {
+            val current = thresholds
+            if (current != null && !current.needsCheck(now)) return current
+
+            val version = this.getSharedVersion(current)
+            if (current != null && current.version != version) this.clearWatermarks()
+            val refreshed = if (current != null && current.version == version && current.expiresAt > now) {
+                current.checkedAt(now)
+            } else {
+                this.loadThresholds(version, now)
+            }
+            thresholds = refreshed
+            return refreshed
+        }
+    }
+
+    private fun getSharedVersion(current: Thresholds?): Long {
+        val store = achievementIndexVersionStore ?: return current?.version ?: 0L
+        return try {
+            store.getVersion()
+        } catch (e: RuntimeException) {
+            log.warn("업적 목표값 인덱스 버전을 확인하지 못했습니다.", e)
+            current?.version ?: 0L
+        }
+    }
+
+    private fun loadThresholds(version: Long, now: Long): Thresholds {
+        val targetValuesByType = achievementRepository.getAllByOrderByTypeAscTargetValueAsc()
+            .filter { !it.inactivated }
+            .groupBy(Achievement::type) { it.targetValue }
+        return Thresholds(
+            targetValuesByType, version, now + achievementIndexProperties.thresholdTtlMillis,
+            now, achievementIndexProperties.versionCheckIntervalMillis
+        )
+    }
+
+    private class Thresholds(
+        private val targetValuesByType: Map<AchievementType, List<Long>>,
+        val version: Long,
+        val expiresAt: Long,
+        private val checkedAt: Long,
+        private val checkIntervalMillis: Long,
+    ) {
+        fun targetValuesOf(type: AchievementType): List<Long> = targetValuesByType[type] ?: emptyList()
+
+        fun needsCheck(now: Long): Boolean {
+            return expiresAt <= now || now - checkedAt >= checkIntervalMillis
+        }
+
+        fun checkedAt(now: Long): Thresholds {
+            return Thresholds(targetValuesByType, version, expiresAt, now, checkIntervalMillis)
+        }
+    }
+
+    private data class WatermarkKey(
+        val userId: Long,
+        val type: AchievementType,
+    )
+
+    private class Watermark(
+        val nextTargetValue: Long,
+        val expiresAt: Long,
+        val generation: Long,
+    )
+}
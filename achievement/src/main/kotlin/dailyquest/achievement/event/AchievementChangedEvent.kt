@@ -0,0 +1,8 @@
+package dailyquest.achievement.event
+
+/**
+ * 업적이 추가, 수정, 활성화 또는 비활성화되었음을 알리는 이벤트. 커밋 이후 업적 목표값 인덱스를 무효화하는 데 사용한다.
+ */
+class AchievementChangedEvent(
+    val achievementId: Long,
+)
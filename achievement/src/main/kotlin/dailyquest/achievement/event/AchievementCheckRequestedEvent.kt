@@ -0,0 +1,10 @@
+package dailyquest.achievement.event
+
+import dailyquest.achievement.dto.AchievementAchieveRequest
+
+/**
+ * 업적 달성 조건에 쓰이는 유저 기록이 변경되었음을 알리는 이벤트. 변경된 기록 값으로 업적 달성 여부를 확인하는 데 사용한다.
+ */
+class AchievementCheckRequestedEvent(
+    val achieveRequests: List<AchievementAchieveRequest>,
+)
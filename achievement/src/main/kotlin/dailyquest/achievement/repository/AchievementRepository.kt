@@ -17,6 +17,14 @@ interface AchievementRepository: JpaRepository<Achievement, Long>{
             "order by a.targetValue " +
             "limit 1")
     fun findNotAchievedAchievement(@Param("type") type: AchievementType, @Param("userId") userId: Long): Achievement?
+
+    @Query("select a " +
+            "from Achievement a " +
+            "left join AchievementAchieveLog al " +
+            "on al.userId = :userId and al.achievement.id = a.id " +
+            "where a.type in :types and al.achievement.id is null and a.inactivated = false " +
+            "order by a.type, a.targetValue")
+    fun getAllNotAchievedOfTypes(@Param("types") types: Collection<AchievementType>, @Param("userId") userId: Long): List<Achievement>
     fun existsByTypeAndTargetValue(type: AchievementType, targetValue: Long): Boolean
 
     @Query("select a from Achievement a where a.type = :type and a.inactivated = false order by a.targetValue")
@@ -0,0 +1,184 @@
+package dailyquest.achievement.service
+
+import dailyquest.achievement.dto.AchievementAchieveRequest
+import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.event.AchievementCheckRequestedEvent
+import dailyquest.properties.AchievementEvaluationProperties
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.context.event.EventListener
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 유저 기록 변경 이벤트를 커밋 이후 대기열에 모아 두었다가 별도 스레드에서 묶음 단위로 업적 달성 여부를 확인한다.
+ *
+ * 같은 유저와 타입의 요청이 평가 전에 다시 들어오면 가장 큰 값만 남긴다.
+ * 대기열이 가득 찼거나 서버가 종료 중이면 요청을 버리지 않고 이벤트를 받은 스레드에서 새 트랜잭션으로 바로 확인한다.
+ * 서버 종료 시에는 남은 요청을 모두 확인한 뒤 종료하며, 그래도 실패한 요청은 유저와 타입을 에러 로그로 남긴다.
+ * 비동기 평가를 사용하지 않으면 이벤트를 발행한 트랜잭션 안에서 바로 확인한다.
+ */
+@Component
+class AchievementEvaluationQueue(
+    private val achievementService: AchievementService,
+    private val properties: AchievementEvaluationProperties,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val lock = ReentrantLock()
+    private val pendingRequests = LinkedHashMap<PendingKey, AchievementAchieveRequest>()
+    private var scheduler: ScheduledExecutorService? = null
+    @Volatile
+    private var stopped = false
+
+    @PostConstruct
+    fun start() {
+        if (!properties.async) return
+
+        val executor = Executors.newSingleThreadScheduledExecutor {
+            Thread(it, "achievement-evaluation").apply { isDaemon = true }
+        }
+        executor.scheduleWithFixedDelay(
+            { runCatching { flush() }.onFailure { log.error("업적 달성 확인 중 오류가 발생했습니다.", it) } },
+            properties.flushIntervalMillis,
+            properties.flushIntervalMillis,
+            TimeUnit.MILLISECONDS
+        )
+        scheduler = executor
+    }
+
+    @PreDestroy
+    fun stop() {
+        stopped = true
+        scheduler?.shutdown()
+        scheduler?.awaitTermination(properties.flushIntervalMillis, TimeUnit.MILLISECONDS)
+        flush()
+        val remainingRequests = drain()
+        if (remainingRequests.isNotEmpty()) {
+            log.error("서버 종료 전에 확인하지 못한 업적 확인 요청이 있습니다. size : [{}], requests : [{}]",
+                remainingRequests.size, remainingRequests.map { "${it.userId}:${it.type}" })
+        }
+    }
+
+    @EventListener
+    fun evaluateImmediately(event: AchievementCheckRequestedEvent) {
+        if (properties.async) return
+        achievementService.checkAndAchieveAchievements(event.achieveRequests)
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    fun enqueue(event: AchievementCheckRequestedEvent) {
+        if (!properties.async) return
+        val rejectedRequests = lock.withLock {
+            if (stopped) event.achieveRequests else event.achieveRequests.filterNot { this.putPending(it) }
+        }
+        if (rejectedRequests.isNotEmpty()) this.evaluateNow(rejectedRequests)
+    }
+
+    fun flush() {
+        val drainedRequests = drain()
+        drainedRequests.chunked(properties.batchSize).forEach { evaluate(it) }
+    }
+
+    fun pendingCount(): Int = lock.withLock { pendingRequests.size }
+
+    /**
+     * @return 대기열이 가득 차 새 유저와 타입의 요청을 넣지 못하면 false
+     */
+    private fun putPending(achieveRequest: AchievementAchieveRequest, enforceLimit: Boolean = true): Boolean {
+        val key = PendingKey(achieveRequest.userId, achieveRequest.type)
+        val previous = pendingRequests[key]
+        if (enforceLimit && previous == null && pendingRequests.size >= properties.maxPendingRequests) return false
+        if (previous == null || previous.currentValue < achieveRequest.currentValue) {
+            pendingRequests[key] = achieveRequest
+        }
+        return true
+    }
+
+    /**
+     * 대기열에 넣지 못한 요청을 이벤트를 받은 스레드에서 바로 확인한다.
+     * 커밋 이후 단계에서는 끝난 트랜잭션의 자원이 남아 있어 저장 내용이 커밋되지 않으므로 새 트랜잭션에서 확인한다.
+     */
+    private fun evaluateNow(requests: List<AchievementAchieveRequest>) {
+        log.warn("업적 평가 대기열에 넣을 수 없어 바로 확인합니다. size : [{}]", requests.size)
+        try {
+            achievementService.checkAndAchieveAchievementsInNewTransaction(requests)
+        } catch (e: DataIntegrityViolationException) {
+            requests.forEach { evaluateOneNow(it) }
+        } catch (e: RuntimeException) {
+            log.warn("업적 달성 확인에 실패했습니다. 다음 확인 때 다시 시도합니다. size : [{}]", requests.size, e)
+            requeue(requests)
+        }
+    }
+
+    private fun evaluateOneNow(achieveRequest: AchievementAchieveRequest) {
+        try {
+            achievementService.checkAndAchieveAchievementsInNewTransaction(listOf(achieveRequest))
+        } catch (e: DataIntegrityViolationException) {
+            log.info("이미 달성 처리된 업적입니다. userId : [{}], type : [{}]", achieveRequest.userId, achieveRequest.type)
+        } catch (e: RuntimeException) {
+            log.warn("업적 달성 확인에 실패했습니다. 다음 확인 때 다시 시도합니다. userId : [{}]", achieveRequest.userId, e)
+            requeue(listOf(achieveRequest))
+        }
+    }
+
+    private fun drain(): List<AchievementAchieveRequest> {
+        return lock.withLock {
+            val drainedRequests = pendingRequests.values.toList()
+            pendingRequests.clear()
+            drainedRequests
+        }
+    }
+
+    /**
+     * 묶음 단위로 한 트랜잭션에서 확인한다. 다른 노드나 배치가 같은 업적을 먼저 달성 처리해 unique_user_achievement 제약에 걸리면
+     * 묶음 전체가 롤백되므로 요청을 하나씩 다시 확인하고, 이미 저장된 달성 로그와 중복된 요청은 건너뛴다.
+     * 그 밖의 오류로 실패한 요청은 다음 확인 때 다시 시도한다.
+     */
+    private fun evaluate(batch: List<AchievementAchieveRequest>) {
+        try {
+            achievementService.checkAndAchieveAchievements(batch)
+        } catch (e: DataIntegrityViolationException) {
+            batch.forEach { evaluateOne(it) }
+        } catch (e: RuntimeException) {
+            log.warn("업적 달성 확인에 실패했습니다. 다음 확인 때 다시 시도합니다. size : [{}]", batch.size, e)
+            requeue(batch)
+        }
+    }
+
+    private fun evaluateOne(achieveRequest: AchievementAchieveRequest) {
+        try {
+            achievementService.checkAndAchieveAchievement(achieveRequest)
+        } catch (e: DataIntegrityViolationException) {
+            log.info("이미 달성 처리된 업적입니다. userId : [{}], type : [{}]", achieveRequest.userId, achieveRequest.type)
+        } catch (e: RuntimeException) {
+            log.warn("업적 달성 확인에 실패했습니다. 다음 확인 때 다시 시도합니다. userId : [{}]", achieveRequest.userId, e)
+            requeue(listOf(achieveRequest))
+        }
+    }
+
+    /**
+     * 실패한 요청은 이미 대기열에서 꺼낸 요청이므로 상한을 넘더라도 다시 넣는다.
+     * 서버가 종료 중이면 다시 확인할 스레드가 없으므로 에러 로그로 남긴다.
+     */
+    private fun requeue(batch: List<AchievementAchieveRequest>) {
+        if (stopped) {
+            log.error("서버 종료 중 업적 확인에 실패했습니다. size : [{}], requests : [{}]", batch.size, batch.map { "${it.userId}:${it.type}" })
+            return
+        }
+        lock.withLock {
+            batch.forEach { this.putPending(it, enforceLimit = false) }
+        }
+    }
+
+    private data class PendingKey(
+        val userId: Long,
+        val type: AchievementType,
+    )
+}
@@ -1,19 +1,23 @@
 package dailyquest.achievement.service
 
+import dailyquest.achievement.cache.AchievementThresholdIndex
 import dailyquest.achievement.dto.AchievementAchieveRequest
 import dailyquest.achievement.dto.AchievementResponse
 import dailyquest.achievement.dto.AchievementSaveRequest
 import dailyquest.achievement.dto.AchievementUpdateRequest
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.event.AchievementChangedEvent
 import dailyquest.achievement.repository.AchievementRepository
 import dailyquest.properties.AchievementPageSizeProperties
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.context.MessageSource
 import org.springframework.context.support.MessageSourceAccessor
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.repository.findByIdOrNull
 import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Propagation
 import org.springframework.transaction.annotation.Transactional
 
 @Transactional(readOnly = true)
@@ -23,6 +27,8 @@ class AchievementService(
     private val achievementPageSizeProperties: AchievementPageSizeProperties,
     private val achieveLogCommandService: AchievementAchieveLogCommandService,
     private val achieveLogQueryService: AchievementAchieveLogQueryService,
+    private val achievementThresholdIndex: AchievementThresholdIndex,
+    private val eventPublisher: ApplicationEventPublisher,
     messageSource: MessageSource
 ) {
     private val messageSourceAccessor: MessageSourceAccessor = MessageSourceAccessor(messageSource)
@@ -40,9 +46,50 @@ class AchievementService(
 
     @Transactional
     fun checkAndAchieveAchievement(achieveRequest: AchievementAchieveRequest) {
+        val indexGeneration = achievementThresholdIndex.generation()
+        if (!this.mayAchieve(achieveRequest)) return
+
         val targetAchievement = this.getNotAchievedAchievement(achieveRequest)
+        this.achieveIfPossible(achieveRequest, targetAchievement, indexGeneration)
+    }
+
+    /**
+     * 여러 타입의 업적을 한 번에 확인한다. 달성 가능성이 있는 타입의 미달성 업적만 유저별로 한 번의 쿼리로 조회한다.
+     */
+    @Transactional
+    fun checkAndAchieveAchievements(achieveRequests: List<AchievementAchieveRequest>) {
+        val indexGeneration = achievementThresholdIndex.generation()
+        achieveRequests.filter { this.mayAchieve(it) }
+            .groupBy { it.userId }
+            .forEach { (userId, candidateRequests) ->
+                val lowestNotAchievedByType = achievementRepository
+                    .getAllNotAchievedOfTypes(candidateRequests.map { it.type }.toSet(), userId)
+                    .groupBy(Achievement::type)
+                    .mapValues { it.value.minBy(Achievement::targetValue) }
+                candidateRequests.forEach { this.achieveIfPossible(it, lowestNotAchievedByType[it.type], indexGeneration) }
+            }
+    }
+
+    /**
+     * 커밋 이후 단계처럼 이미 끝난 트랜잭션의 자원이 남아 있는 곳에서 호출한다. 새 트랜잭션에서 확인해 저장 내용이 커밋되게 한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    fun checkAndAchieveAchievementsInNewTransaction(achieveRequests: List<AchievementAchieveRequest>) {
+        this.checkAndAchieveAchievements(achieveRequests)
+    }
+
+    private fun mayAchieve(achieveRequest: AchievementAchieveRequest): Boolean {
+        return achievementThresholdIndex.mayAchieve(achieveRequest.type, achieveRequest.userId, achieveRequest.currentValue)
+    }
+
+    private fun achieveIfPossible(achieveRequest: AchievementAchieveRequest, targetAchievement: Achievement?, indexGeneration: Long) {
+        val type = achieveRequest.type
+        val userId = achieveRequest.userId
         if (targetAchievement?.canAchieve(achieveRequest.currentValue) == true) {
-            achieveLogCommandService.saveAchieveLog(targetAchievement.id, achieveRequest.userId)
+            achieveLogCommandService.saveAchieveLog(targetAchievement.id, userId)
+            achievementThresholdIndex.recordAchieved(type, userId)
+        } else {
+            achievementThresholdIndex.recordNotAchieved(type, userId, targetAchievement, indexGeneration)
         }
     }
 
@@ -60,6 +107,7 @@ class AchievementService(
         }
         val saveEntity = saveRequest.mapToEntity()
         achievementRepository.save(saveEntity)
+        eventPublisher.publishEvent(AchievementChangedEvent(saveEntity.id))
         return saveEntity.id
     }
 
@@ -75,14 +123,16 @@ class AchievementService(
 
     @Transactional
     fun inactivateAchievement(achievementId: Long) {
-        val updateTarget = achievementRepository.findByIdOrNull(achievementId)
-        updateTarget?.inactivateAchievement()
+        val updateTarget = achievementRepository.findByIdOrNull(achievementId) ?: return
+        updateTarget.inactivateAchievement()
+        eventPublisher.publishEvent(AchievementChangedEvent(achievementId))
     }
 
     @Transactional
     fun activateAchievement(achievementId: Long) {
-        val updateTarget = achievementRepository.findByIdOrNull(achievementId)
-        updateTarget?.activateAchievement()
+        val updateTarget = achievementRepository.findByIdOrNull(achievementId) ?: return
+        updateTarget.activateAchievement()
+        eventPublisher.publishEvent(AchievementChangedEvent(achievementId))
     }
 
     fun getAllAchievementsGroupByType(): Map<AchievementType, List<AchievementResponse>> {
@@ -0,0 +1,11 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "achievement.evaluation")
+class AchievementEvaluationProperties(
+    val async: Boolean = true,
+    val flushIntervalMillis: Long = 200,
+    val batchSize: Int = 100,
+    val maxPendingRequests: Int = 10000,
+)
@@ -0,0 +1,11 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "achievement.index")
+class AchievementIndexProperties(
+    val thresholdTtlMillis: Long = 60000,
+    val watermarkTtlMillis: Long = 600000,
+    val watermarkMaxSize: Int = 100000,
+    val versionCheckIntervalMillis: Long = 3000,
+)
@@ -0,0 +1,189 @@
+package dailyquest.achievement.cache
+
+import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementType.*
+import dailyquest.achievement.event.AchievementChangedEvent
+import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.properties.AchievementIndexProperties
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("업적 목표값 인덱스 유닛 테스트")
+class AchievementThresholdIndexUnitTest {
+
+    private lateinit var achievementRepository: AchievementRepository
+    private lateinit var achievementThresholdIndex: AchievementThresholdIndex
+    private val userId = 1L
+
+    @BeforeEach
+    fun init() {
+        achievementRepository = mockk()
+        every { achievementRepository.getAllByOrderByTypeAscTargetValueAsc() } returns listOf(
+            Achievement(type = QUEST_COMPLETION, targetValue = 10),
+            Achievement(type = QUEST_COMPLETION, targetValue = 20),
+            Achievement(type = GOLD_EARN, targetValue = 5).apply { inactivateAchievement() },
+        )
+        achievementThresholdIndex = AchievementThresholdIndex(achievementRepository, AchievementIndexProperties())
+    }
+
+    @DisplayName("현재 값이 가장 낮은 활성 업적 목표값보다 작으면 달성 가능한 업적이 없다")
+    @Test
+    fun `현재 값이 가장 낮은 활성 업적 목표값보다 작으면 달성 가능한 업적이 없다`() {
+        //given
+        //when
+        val mayAchieve = achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 9)
+
+        //then
+        assertThat(mayAchieve).isFalse()
+    }
+
+    @DisplayName("해당 타입에 활성 업적이 없으면 달성 가능한 업적이 없다")
+    @Test
+    fun `해당 타입에 활성 업적이 없으면 달성 가능한 업적이 없다`() {
+        //given
+        //when
+        val mayAchieve = achievementThresholdIndex.mayAchieve(GOLD_EARN, userId, 100)
+
+        //then
+        assertThat(mayAchieve).isFalse()
+    }
+
+    @DisplayName("유저의 다음 목표값이 없으면 목표값을 넘은 경우 달성 가능하다고 판단한다")
+    @Test
+    fun `유저의 다음 목표값이 없으면 목표값을 넘은 경우 달성 가능하다고 판단한다`() {
+        //given
+        //when
+        val mayAchieve = achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 10)
+
+        //then
+        assertThat(mayAchieve).isTrue()
+    }
+
+    @DisplayName("기록된 다음 목표값보다 현재 값이 작으면 달성 가능한 업적이 없다")
+    @Test
+    fun `기록된 다음 목표값보다 현재 값이 작으면 달성 가능한 업적이 없다`() {
+        //given
+        achievementThresholdIndex.recordNotAchieved(QUEST_COMPLETION, userId, Achievement(type = QUEST_COMPLETION, targetValue = 20), achievementThresholdIndex.generation())
+
+        //when
+        val belowNext = achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 15)
+        val reachNext = achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 20)
+
+        //then
+        assertThat(belowNext).isFalse()
+        assertThat(reachNext).isTrue()
+    }
+
+    @DisplayName("미달성 업적이 없다고 기록되면 어떤 값으로도 달성 가능한 업적이 없다")
+    @Test
+    fun `미달성 업적이 없다고 기록되면 어떤 값으로도 달성 가능한 업적이 없다`() {
+        //given
+        achievementThresholdIndex.recordNotAchieved(QUEST_COMPLETION, userId, null, achievementThresholdIndex.generation())
+
+        //when
+        val mayAchieve = achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, Long.MAX_VALUE - 1)
+
+        //then
+        assertThat(mayAchieve).isFalse()
+    }
+
+    @DisplayName("업적 달성이 기록되면 다음 호출 시 다시 DB 조회가 필요하다고 판단한다")
+    @Test
+    fun `업적 달성이 기록되면 다음 호출 시 다시 DB 조회가 필요하다고 판단한다`() {
+        //given
+        achievementThresholdIndex.recordNotAchieved(QUEST_COMPLETION, userId, null, achievementThresholdIndex.generation())
+
+        //when
+        achievementThresholdIndex.recordAchieved(QUEST_COMPLETION, userId)
+
+        //then
+        assertThat(achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 10)).isTrue()
+    }
+
+    @DisplayName("목표값 목록은 TTL 동안 한 번만 조회하고, 무효화되면 다시 조회한다")
+    @Test
+    fun `목표값 목록은 TTL 동안 한 번만 조회하고, 무효화되면 다시 조회한다`() {
+        //given
+        achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 10)
+        achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 20)
+
+        //when
+        achievementThresholdIndex.invalidate()
+        achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 10)
+
+        //then
+        verify(exactly = 2) { achievementRepository.getAllByOrderByTypeAscTargetValueAsc() }
+    }
+
+    @DisplayName("업적이 변경되면 공유 버전을 올리고 기록된 다음 목표값을 비운다")
+    @Test
+    fun `업적이 변경되면 공유 버전을 올리고 기록된 다음 목표값을 비운다`() {
+        //given
+        val versionStore = mockk<AchievementIndexVersionStore>(relaxed = true)
+        val index = AchievementThresholdIndex(achievementRepository, AchievementIndexProperties(), versionStore)
+        index.recordNotAchieved(QUEST_COMPLETION, userId, null, index.generation())
+
+        //when
+        index.onAchievementChanged(AchievementChangedEvent(1L))
+
+        //then
+        verify { versionStore.increaseVersion() }
+        assertThat(index.mayAchieve(QUEST_COMPLETION, userId, 10)).isTrue()
+    }
+
+    @DisplayName("인덱스가 비워지기 전에 조회한 미달성 업적은 다음 목표값으로 기록되지 않는다")
+    @Test
+    fun `인덱스가 비워지기 전에 조회한 미달성 업적은 다음 목표값으로 기록되지 않는다`() {
+        //given
+        val generationBeforeQuery = achievementThresholdIndex.generation()
+        achievementThresholdIndex.invalidate()
+
+        //when
+        achievementThresholdIndex.recordNotAchieved(QUEST_COMPLETION, userId, null, generationBeforeQuery)
+
+        //then
+        assertThat(achievementThresholdIndex.mayAchieve(QUEST_COMPLETION, userId, 10)).isTrue()
+    }
+
+    @DisplayName("다른 노드에서 공유 버전을 올리면 목표값 목록을 다시 읽고 기록된 다음 목표값을 비운다")
+    @Test
+    fun `다른 노드에서 공유 버전을 올리면 목표값 목록을 다시 읽고 기록된 다음 목표값을 비운다`() {
+        //given
+        val versionStore = mockk<AchievementIndexVersionStore>()
+        every { versionStore.getVersion() } returnsMany listOf(0L, 0L, 1L)
+        val index = AchievementThresholdIndex(achievementRepository, AchievementIndexProperties(versionCheckIntervalMillis = 0), versionStore)
+        index.mayAchieve(QUEST_COMPLETION, userId, 10)
+        index.recordNotAchieved(QUEST_COMPLETION, userId, null, index.generation())
+        val beforeVersionChanged = index.mayAchieve(QUEST_COMPLETION, userId, 10)
+
+        //when
+        val afterVersionChanged = index.mayAchieve(QUEST_COMPLETION, userId, 10)
+
+        //then
+        assertThat(beforeVersionChanged).isFalse()
+        assertThat(afterVersionChanged).isTrue()
+        verify(exactly = 2) { achievementRepository.getAllByOrderByTypeAscTargetValueAsc() }
+    }
+
+    @DisplayName("공유 버전을 확인하지 못하면 현재 목표값 목록을 계속 사용한다")
+    @Test
+    fun `공유 버전을 확인하지 못하면 현재 목표값 목록을 계속 사용한다`() {
+        //given
+        val versionStore = mockk<AchievementIndexVersionStore>()
+        every { versionStore.getVersion() } returns 0L andThenThrows RuntimeException()
+        val index = AchievementThresholdIndex(achievementRepository, AchievementIndexProperties(versionCheckIntervalMillis = 0), versionStore)
+        index.mayAchieve(QUEST_COMPLETION, userId, 10)
+
+        //when
+        val mayAchieve = index.mayAchieve(QUEST_COMPLETION, userId, 9)
+
+        //then
+        assertThat(mayAchieve).isFalse()
+        verify(exactly = 1) { achievementRepository.getAllByOrderByTypeAscTargetValueAsc() }
+    }
+}
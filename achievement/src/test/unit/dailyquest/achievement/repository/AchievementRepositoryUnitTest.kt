@@ -2,6 +2,7 @@ package dailyquest.achievement.repository
 
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
+import dailyquest.achievement.entity.AchievementType.GOLD_EARN
 import dailyquest.achievement.entity.AchievementType.QUEST_COMPLETION
 import dailyquest.achievement.entity.AchievementType.QUEST_REGISTRATION
 import io.mockk.junit5.MockKExtension
@@ -197,6 +198,31 @@ class AchievementRepositoryUnitTest {
         }
     }
 
+    @DisplayName("getAllNotAchievedOfTypes 호출 시")
+    @Nested
+    inner class TestGetAllNotAchievedOfTypes {
+        @DisplayName("인자로 넘어온 타입 중 유저가 달성하지 않은 활성 업적만 조회된다")
+        @Test
+        fun `인자로 넘어온 타입 중 유저가 달성하지 않은 활성 업적만 조회된다`() {
+            //given
+            val userId = 1L
+            val achievedAchievement = achievementRepository.save(Achievement("", "", QUEST_COMPLETION, 1))
+            achieveLogRepository.save(AchievementAchieveLog(achievedAchievement, userId))
+            val notAchievedCompletion = achievementRepository.save(Achievement("", "", QUEST_COMPLETION, 2))
+            val notAchievedGoldEarn = achievementRepository.save(Achievement("", "", GOLD_EARN, 1))
+            val inactivatedAchievement = Achievement("", "", GOLD_EARN, 2)
+            inactivatedAchievement.inactivateAchievement()
+            achievementRepository.save(inactivatedAchievement)
+            achievementRepository.save(Achievement("", "", QUEST_REGISTRATION, 1))
+
+            //when
+            val result = achievementRepository.getAllNotAchievedOfTypes(listOf(QUEST_COMPLETION, GOLD_EARN), userId)
+
+            //then
+            assertThat(result).containsExactlyInAnyOrder(notAchievedCompletion, notAchievedGoldEarn)
+        }
+    }
+
     @DisplayName("getAllActivatedOfType 호출 시")
     @Nested
     inner class TestGetAllActivatedOfType {
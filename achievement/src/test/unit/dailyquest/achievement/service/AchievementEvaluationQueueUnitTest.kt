@@ -0,0 +1,173 @@
+package dailyquest.achievement.service
+
+import dailyquest.achievement.dto.AchievementAchieveRequest
+import dailyquest.achievement.dto.SimpleAchievementAchieveRequest
+import dailyquest.achievement.entity.AchievementType.*
+import dailyquest.achievement.event.AchievementCheckRequestedEvent
+import dailyquest.properties.AchievementEvaluationProperties
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.dao.DataIntegrityViolationException
+
+@DisplayName("업적 평가 대기열 유닛 테스트")
+class AchievementEvaluationQueueUnitTest {
+
+    private lateinit var achievementService: AchievementService
+    private lateinit var evaluationQueue: AchievementEvaluationQueue
+    private val evaluatedBatches = mutableListOf<List<AchievementAchieveRequest>>()
+
+    @BeforeEach
+    fun init() {
+        achievementService = mockk(relaxed = true)
+        val batch = slot<List<AchievementAchieveRequest>>()
+        every { achievementService.checkAndAchieveAchievements(capture(batch)) } answers { evaluatedBatches.add(batch.captured.toList()) }
+        evaluationQueue = AchievementEvaluationQueue(achievementService, AchievementEvaluationProperties(batchSize = 2))
+    }
+
+    private fun eventOf(vararg achieveRequests: AchievementAchieveRequest): AchievementCheckRequestedEvent {
+        return AchievementCheckRequestedEvent(achieveRequests.toList())
+    }
+
+    @DisplayName("평가 전에 같은 유저와 타입의 요청이 다시 들어오면 가장 큰 값의 요청만 평가된다")
+    @Test
+    fun `평가 전에 같은 유저와 타입의 요청이 다시 들어오면 가장 큰 값의 요청만 평가된다`() {
+        //given
+        val largestRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 3)
+        evaluationQueue.enqueue(eventOf(SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 2)))
+        evaluationQueue.enqueue(eventOf(largestRequest))
+        evaluationQueue.enqueue(eventOf(SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1)))
+
+        //when
+        evaluationQueue.flush()
+
+        //then
+        assertThat(evaluatedBatches).containsExactly(listOf(largestRequest))
+        assertThat(evaluationQueue.pendingCount()).isZero()
+    }
+
+    @DisplayName("대기 중인 요청은 배치 크기 단위로 나뉘어 평가된다")
+    @Test
+    fun `대기 중인 요청은 배치 크기 단위로 나뉘어 평가된다`() {
+        //given
+        evaluationQueue.enqueue(eventOf(
+            SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1),
+            SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, 1L, 1),
+            SimpleAchievementAchieveRequest.of(GOLD_EARN, 1L, 1),
+        ))
+
+        //when
+        evaluationQueue.flush()
+
+        //then
+        assertThat(evaluatedBatches.map { it.size }).containsExactly(2, 1)
+    }
+
+    @DisplayName("이미 달성된 업적과 중복되어 배치 평가가 실패하면 요청을 하나씩 다시 평가하고 대기열에 남기지 않는다")
+    @Test
+    fun `이미 달성된 업적과 중복되어 배치 평가가 실패하면 요청을 하나씩 다시 평가하고 대기열에 남기지 않는다`() {
+        //given
+        val duplicatedRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1)
+        val otherRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 2L, 1)
+        every { achievementService.checkAndAchieveAchievements(any()) } throws DataIntegrityViolationException("")
+        every { achievementService.checkAndAchieveAchievement(duplicatedRequest) } throws DataIntegrityViolationException("")
+        evaluationQueue.enqueue(eventOf(duplicatedRequest, otherRequest))
+
+        //when
+        evaluationQueue.flush()
+
+        //then
+        verify { achievementService.checkAndAchieveAchievement(duplicatedRequest) }
+        verify { achievementService.checkAndAchieveAchievement(otherRequest) }
+        assertThat(evaluationQueue.pendingCount()).isZero()
+    }
+
+    @DisplayName("그 밖의 이유로 평가에 실패한 요청은 대기열로 돌아가 다음 평가 때 다시 평가된다")
+    @Test
+    fun `그 밖의 이유로 평가에 실패한 요청은 대기열로 돌아가 다음 평가 때 다시 평가된다`() {
+        //given
+        val request = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1)
+        every { achievementService.checkAndAchieveAchievements(any()) } throws RuntimeException() andThen Unit
+        evaluationQueue.enqueue(eventOf(request))
+
+        //when
+        evaluationQueue.flush()
+        evaluationQueue.flush()
+
+        //then
+        verify(exactly = 2) { achievementService.checkAndAchieveAchievements(listOf(request)) }
+        assertThat(evaluationQueue.pendingCount()).isZero()
+    }
+
+    @DisplayName("대기열이 가득 차면 새 유저와 타입의 요청은 버리지 않고 새 트랜잭션에서 바로 평가한다")
+    @Test
+    fun `대기열이 가득 차면 새 유저와 타입의 요청은 버리지 않고 새 트랜잭션에서 바로 평가한다`() {
+        //given
+        evaluationQueue = AchievementEvaluationQueue(achievementService, AchievementEvaluationProperties(maxPendingRequests = 1))
+        val overflowRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 2L, 1)
+        evaluationQueue.enqueue(eventOf(SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1)))
+
+        //when
+        evaluationQueue.enqueue(eventOf(overflowRequest))
+        evaluationQueue.enqueue(eventOf(SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 2)))
+
+        //then
+        verify { achievementService.checkAndAchieveAchievementsInNewTransaction(listOf(overflowRequest)) }
+        evaluationQueue.flush()
+        assertThat(evaluatedBatches).containsExactly(listOf(SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 2)))
+    }
+
+    @DisplayName("바로 평가한 요청이 실패하면 대기열 상한을 넘더라도 대기열로 돌아간다")
+    @Test
+    fun `바로 평가한 요청이 실패하면 대기열 상한을 넘더라도 대기열로 돌아간다`() {
+        //given
+        evaluationQueue = AchievementEvaluationQueue(achievementService, AchievementEvaluationProperties(maxPendingRequests = 1))
+        every { achievementService.checkAndAchieveAchievementsInNewTransaction(any()) } throws RuntimeException()
+        evaluationQueue.enqueue(eventOf(SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1)))
+
+        //when
+        evaluationQueue.enqueue(eventOf(SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 2L, 1)))
+
+        //then
+        assertThat(evaluationQueue.pendingCount()).isEqualTo(2)
+    }
+
+    @DisplayName("종료 시 대기 중인 요청을 모두 평가하고, 종료 후 들어온 요청은 새 트랜잭션에서 바로 평가한다")
+    @Test
+    fun `종료 시 대기 중인 요청을 모두 평가하고, 종료 후 들어온 요청은 새 트랜잭션에서 바로 평가한다`() {
+        //given
+        val pendingRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1)
+        val lateRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 2L, 1)
+        evaluationQueue.enqueue(eventOf(pendingRequest))
+
+        //when
+        evaluationQueue.stop()
+        evaluationQueue.enqueue(eventOf(lateRequest))
+
+        //then
+        assertThat(evaluatedBatches).containsExactly(listOf(pendingRequest))
+        verify { achievementService.checkAndAchieveAchievementsInNewTransaction(listOf(lateRequest)) }
+        assertThat(evaluationQueue.pendingCount()).isZero()
+    }
+
+    @DisplayName("비동기 평가를 사용하지 않으면 이벤트를 받는 즉시 평가하고 대기열에 넣지 않는다")
+    @Test
+    fun `비동기 평가를 사용하지 않으면 이벤트를 받는 즉시 평가하고 대기열에 넣지 않는다`() {
+        //given
+        evaluationQueue = AchievementEvaluationQueue(achievementService, AchievementEvaluationProperties(async = false))
+        val request = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, 1L, 1)
+
+        //when
+        evaluationQueue.evaluateImmediately(eventOf(request))
+        evaluationQueue.enqueue(eventOf(request))
+
+        //then
+        assertThat(evaluatedBatches).containsExactly(listOf(request))
+        assertThat(evaluationQueue.pendingCount()).isZero()
+    }
+}
@@ -1,12 +1,15 @@
 package dailyquest.achievement.service
 
+import dailyquest.achievement.cache.AchievementThresholdIndex
 import dailyquest.achievement.dto.AchievementAchieveRequest
 import dailyquest.achievement.dto.AchievementResponse
 import dailyquest.achievement.dto.AchievementSaveRequest
 import dailyquest.achievement.dto.AchievementUpdateRequest
+import dailyquest.achievement.dto.SimpleAchievementAchieveRequest
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementType
 import dailyquest.achievement.entity.AchievementType.*
+import dailyquest.achievement.event.AchievementChangedEvent
 import dailyquest.achievement.repository.AchievementRepository
 import dailyquest.notification.service.NotificationService
 import dailyquest.properties.AchievementPageSizeProperties
@@ -16,10 +19,12 @@ import io.mockk.impl.annotations.RelaxedMockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.mockk
 import io.mockk.mockkObject
+import io.mockk.spyk
 import io.mockk.verify
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.context.MessageSource
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.repository.findByIdOrNull
@@ -36,8 +41,12 @@ class AchievementServiceUnitTest {
     @RelaxedMockK
     private lateinit var achieveLogQueryService: AchievementAchieveLogQueryService
     @RelaxedMockK
+    private lateinit var achievementThresholdIndex: AchievementThresholdIndex
+    @RelaxedMockK
     private lateinit var notificationService: NotificationService
     @RelaxedMockK
+    private lateinit var eventPublisher: ApplicationEventPublisher
+    @RelaxedMockK
     private lateinit var messageSource: MessageSource
     @InjectMockKs
     private lateinit var achievementService: AchievementService
@@ -91,6 +100,28 @@ class AchievementServiceUnitTest {
     @DisplayName("checkAndAchieveAchievement 호출 시")
     @Nested
     inner class TestCheckAndAchieveAchievement {
+        @BeforeEach
+        fun init() {
+            every { achievementThresholdIndex.mayAchieve(any(), any(), any()) } returns true
+        }
+
+        @DisplayName("인덱스에서 달성 가능한 업적이 없다고 판단하면 DB를 조회하지 않는다")
+        @Test
+        fun `인덱스에서 달성 가능한 업적이 없다고 판단하면 DB를 조회하지 않는다`() {
+            //given
+            every { achievementThresholdIndex.mayAchieve(any(), any(), any()) } returns false
+            val achieveRequest = mockk<AchievementAchieveRequest>(relaxed = true)
+
+            //when
+            achievementService.checkAndAchieveAchievement(achieveRequest)
+
+            //then
+            verify(inverse = true) {
+                achievementRepository.findNotAchievedAchievement(any(), any())
+                achieveLogCommandService.saveAchieveLog(any(), any())
+            }
+        }
+
         @DisplayName("리포지토리 반환 결과가 null이면 업적이 달성되지 않는다")
         @Test
         fun `리포지토리 반환 결과가 null이면 업적이 달성되지 않는다`() {
@@ -124,6 +155,7 @@ class AchievementServiceUnitTest {
             //then
             verify {
                 achieveLogCommandService.saveAchieveLog(eq(achievementId), any())
+                achievementThresholdIndex.recordAchieved(any(), any())
             }
         }
 
@@ -143,6 +175,73 @@ class AchievementServiceUnitTest {
             verify(inverse = true) {
                 achieveLogCommandService.saveAchieveLog(any(), any())
             }
+            verify { achievementThresholdIndex.recordNotAchieved(any(), any(), eq(achievement), any()) }
+        }
+    }
+
+    @DisplayName("checkAndAchieveAchievements 호출 시")
+    @Nested
+    inner class TestCheckAndAchieveAchievements {
+        private val userId = 1L
+
+        @DisplayName("달성 가능성이 있는 타입의 미달성 업적만 한 번에 조회한다")
+        @Test
+        fun `달성 가능성이 있는 타입의 미달성 업적만 한 번에 조회한다`() {
+            //given
+            val completionRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, 10)
+            val goldRequest = SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, 10)
+            val continuousRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, userId, 1)
+            every { achievementThresholdIndex.mayAchieve(any(), any(), any()) } returns true
+            every { achievementThresholdIndex.mayAchieve(QUEST_CONTINUOUS_COMPLETION, any(), any()) } returns false
+
+            //when
+            achievementService.checkAndAchieveAchievements(listOf(completionRequest, goldRequest, continuousRequest))
+
+            //then
+            verify(exactly = 1) { achievementRepository.getAllNotAchievedOfTypes(eq(setOf(QUEST_COMPLETION, GOLD_EARN)), eq(userId)) }
+            verify(inverse = true) { achievementRepository.findNotAchievedAchievement(any(), any()) }
+        }
+
+        @DisplayName("타입별로 목표값이 가장 낮은 미달성 업적을 달성할 수 있으면 달성 로그를 저장한다")
+        @Test
+        fun `타입별로 목표값이 가장 낮은 미달성 업적을 달성할 수 있으면 달성 로그를 저장한다`() {
+            //given
+            val lowCompletion = achievementOf(1L, QUEST_COMPLETION, 10)
+            val highCompletion = achievementOf(2L, QUEST_COMPLETION, 20)
+            val gold = achievementOf(3L, GOLD_EARN, 100)
+            every { achievementThresholdIndex.mayAchieve(any(), any(), any()) } returns true
+            every { achievementRepository.getAllNotAchievedOfTypes(any(), any()) } returns listOf(highCompletion, lowCompletion, gold)
+            val requests = listOf(
+                SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, 20),
+                SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, 50),
+            )
+
+            //when
+            achievementService.checkAndAchieveAchievements(requests)
+
+            //then
+            verify(exactly = 1) { achieveLogCommandService.saveAchieveLog(any(), any()) }
+            verify { achieveLogCommandService.saveAchieveLog(eq(lowCompletion.id), eq(userId)) }
+            verify { achievementThresholdIndex.recordNotAchieved(GOLD_EARN, userId, eq(gold), any()) }
+        }
+
+        @DisplayName("달성 가능성이 있는 타입이 없으면 DB를 조회하지 않는다")
+        @Test
+        fun `달성 가능성이 있는 타입이 없으면 DB를 조회하지 않는다`() {
+            //given
+            every { achievementThresholdIndex.mayAchieve(any(), any(), any()) } returns false
+
+            //when
+            achievementService.checkAndAchieveAchievements(listOf(SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, 10)))
+
+            //then
+            verify(inverse = true) { achievementRepository.getAllNotAchievedOfTypes(any(), any()) }
+        }
+
+        private fun achievementOf(id: Long, type: AchievementType, targetValue: Long): Achievement {
+            val achievement = spyk(Achievement(type = type, targetValue = targetValue))
+            every { achievement.id } returns id
+            return achievement
         }
     }
 
@@ -179,6 +278,7 @@ class AchievementServiceUnitTest {
 
             //then
             verify { achievementRepository.save(any()) }
+            verify { eventPublisher.publishEvent(any<AchievementChangedEvent>()) }
         }
     }
 
@@ -216,6 +316,7 @@ class AchievementServiceUnitTest {
 
             //then
             verify { achievement.inactivateAchievement() }
+            verify { eventPublisher.publishEvent(any<AchievementChangedEvent>()) }
         }
     }
 
@@ -234,6 +335,7 @@ class AchievementServiceUnitTest {
 
             //then
             verify { achievement.activateAchievement() }
+            verify { eventPublisher.publishEvent(any<AchievementChangedEvent>()) }
         }
     }
 
@@ -0,0 +1,59 @@
+package dailyquest.achievement.repository
+
+import dailyquest.achievement.entity.AchievementAchieveLog
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import java.time.LocalDateTime
+
+interface BatchAchievementAchieveLogRepository : JpaRepository<AchievementAchieveLog, Long> {
+
+    /**
+     * 유저 id 범위 내에서 업적 달성 조건을 만족하고 아직 달성하지 않은 유저의 달성 로그를 한 번에 저장하고 저장된 로그 수를 반환한다.
+     * 조회 이후 다른 곳에서 같은 유저의 달성 로그가 먼저 저장되더라도 실패하지 않도록 중복된 로그는 저장하지 않고 건너뛴다.
+     */
+    @Modifying
+    @Query(value = "insert ignore into achievement_achieve_log (achievement_id, user_id, created_date) " +
+            "select :achievementId, ur.user_id, :createdDate " +
+            "from user_record ur " +
+            "where " + ACHIEVABLE_USER_CONDITION, nativeQuery = true)
+    fun insertAchieveLogsBetween(
+        @Param("achievementId") achievementId: Long,
+        @Param("achievementType") achievementType: String,
+        @Param("targetValue") targetValue: Long,
+        @Param("startUserId") startUserId: Long,
+        @Param("endUserId") endUserId: Long,
+        @Param("createdDate") createdDate: LocalDateTime,
+    ): Int
+
+    /**
+     * 잡 인스턴스의 stagingKey 로 저장된 유저 id 와 업적 id 에 해당하는 달성 로그 중 유저 id 가 lastUserId 보다 큰 로그를 유저 id 순으로 조회한다.
+     */
+    @Query("select aal from AchievementAchieveLog aal join fetch aal.achievement a " +
+            "join BatchStagingItem s on s.itemKey = aal.userId and s.itemValue = a.id " +
+            "where s.jobInstanceId = :jobInstanceId and s.stagingKey = :stagingKey and aal.userId > :lastUserId order by aal.userId asc")
+    fun getAllStagedAchieveLogs(
+        @Param("jobInstanceId") jobInstanceId: Long,
+        @Param("stagingKey") stagingKey: String,
+        @Param("lastUserId") lastUserId: Long,
+        pageable: Pageable
+    ): List<AchievementAchieveLog>
+
+    companion object {
+        /**
+         * user_record 를 ur 로 조회할 때 유저 id 범위 내에서 업적 타입의 기록이 목표값 이상이고 달성 로그가 없는 유저를 찾는 조건
+         */
+        const val ACHIEVABLE_USER_CONDITION = "ur.user_id >= :startUserId and ur.user_id < :endUserId " +
+                "and (case :achievementType " +
+                "when 'QUEST_REGISTRATION' then ur.quest_registration_count " +
+                "when 'QUEST_COMPLETION' then ur.quest_completion_count " +
+                "when 'QUEST_CONTINUOUS_REGISTRATION' then ur.max_quest_continuous_registration_days " +
+                "when 'QUEST_CONTINUOUS_COMPLETION' then ur.max_quest_continuous_completion_days " +
+                "when 'GOLD_EARN' then ur.gold_earn_amount " +
+                "when 'PERFECT_DAY' then ur.perfect_day_count " +
+                "end) >= :targetValue " +
+                "and not exists (select 1 from achievement_achieve_log aal where aal.user_id = ur.user_id and aal.achievement_id = :achievementId)"
+    }
+}
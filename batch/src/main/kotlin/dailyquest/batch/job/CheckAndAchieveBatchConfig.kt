@@ -1,5 +1,6 @@
 package dailyquest.batch.job
 
+import dailyquest.batch.listener.job.BatchStagingCleanupJobListener
 import dailyquest.batch.listener.job.CheckAndAchieveJobListener
 import org.springframework.batch.core.Job
 import org.springframework.batch.core.Step
@@ -15,12 +16,14 @@ class CheckAndAchieveBatchConfig {
         jobRepository: JobRepository,
         checkAndAchieveStep: Step,
         achievementAchieveNotificationStep: Step,
-        checkAndAchieveJobListener: CheckAndAchieveJobListener
+        checkAndAchieveJobListener: CheckAndAchieveJobListener,
+        batchStagingCleanupJobListener: BatchStagingCleanupJobListener,
     ): Job {
         return JobBuilder("checkAndAchieveJob", jobRepository)
             .start(checkAndAchieveStep)
             .next(achievementAchieveNotificationStep)
             .listener(checkAndAchieveJobListener)
+            .listener(batchStagingCleanupJobListener)
             .build()
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package dailyquest.batch.job
+
+import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.achievement.repository.BatchAchievementAchieveLogRepository
+import dailyquest.notification.dto.AchieveNotificationSaveRequest
+import dailyquest.notification.repository.BatchNotificationRepository
+import dailyquest.properties.CheckAndAchieveProperties
+import dailyquest.user.record.repository.BatchUserRecordRepository
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.Step
+import org.springframework.batch.core.configuration.annotation.JobScope
+import org.springframework.batch.core.configuration.annotation.StepScope
+import org.springframework.batch.core.job.builder.JobBuilder
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.core.step.builder.StepBuilder
+import org.springframework.batch.core.step.tasklet.Tasklet
+import org.springframework.batch.repeat.RepeatStatus
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.data.repository.findByIdOrNull
+import org.springframework.transaction.PlatformTransactionManager
+import java.time.LocalDateTime
+import java.time.temporal.ChronoUnit
+
+/**
+ * 새로 등록된 업적의 달성 처리를 유저 id 범위 단위의 집합 연산으로 처리하는 배치.
+ * 범위마다 user_record 에서 달성 조건을 만족하는 유저의 달성 로그를 INSERT ... SELECT 로 저장하고, 실제로 저장된 달성 로그로 알림을 저장한다.
+ *
+ * 알림 내용은 업적마다 같으므로 한 번만 만들고, 처리한 유저 목록을 실행 컨텍스트에 모으지 않는다.
+ */
+@Configuration
+class CheckAndAchieveBulkBatchConfig {
+
+    @Bean
+    fun checkAndAchieveBulkBatchJob(
+        jobRepository: JobRepository,
+        checkAndAchieveBulkStep: Step,
+    ): Job {
+        return JobBuilder("checkAndAchieveBulkJob", jobRepository)
+            .start(checkAndAchieveBulkStep)
+            .build()
+    }
+
+    @Bean
+    @JobScope
+    fun checkAndAchieveBulkStep(
+        jobRepository: JobRepository,
+        transactionManager: PlatformTransactionManager,
+        checkAndAchieveBulkTasklet: Tasklet,
+    ): Step {
+        return StepBuilder("checkAndAchieveBulkStep", jobRepository)
+            .tasklet(checkAndAchieveBulkTasklet, transactionManager)
+            .build()
+    }
+
+    /**
+     * 한 번 실행될 때마다 [CheckAndAchieveProperties.idRangeSize] 만큼의 유저 id 범위를 처리하고, 다음 시작 유저 id 를 스텝 컨텍스트에 남긴다.
+     * 달성 로그를 먼저 저장하고 이번 실행 시각으로 저장된 로그에만 알림을 저장하므로, 다른 곳에서 먼저 달성 처리된 유저는 알림을 다시 받지 않는다.
+     * 알림과 달성 로그는 같은 트랜잭션에서 저장되므로 실패 후 재시작해도 알림이 중복되지 않는다.
+     * DB 에 저장되는 시각과 비교할 수 있도록 실행 시각은 마이크로초 단위로 자른다.
+     */
+    @Bean
+    @StepScope
+    fun checkAndAchieveBulkTasklet(
+        @Value("#{jobParameters[targetAchievementId]}") targetAchievementId: Long,
+        checkAndAchieveProperties: CheckAndAchieveProperties,
+        achievementRepository: AchievementRepository,
+        batchUserRecordRepository: BatchUserRecordRepository,
+        batchAchievementAchieveLogRepository: BatchAchievementAchieveLogRepository,
+        batchNotificationRepository: BatchNotificationRepository,
+    ): Tasklet {
+        val targetAchievement = achievementRepository.findByIdOrNull(targetAchievementId)
+            ?.takeUnless { it.inactivated }
+            ?: return Tasklet { _, _ -> RepeatStatus.FINISHED }
+        val achievementType = targetAchievement.type.name
+        val notification = AchieveNotificationSaveRequest.of(0L, targetAchievement).mapToEntity()
+
+        return Tasklet { contribution, _ ->
+            val executionContext = contribution.stepExecution.executionContext
+            if (!executionContext.containsKey(MAX_USER_ID_KEY)) {
+                val minUserId = batchUserRecordRepository.findMinUserId() ?: return@Tasklet RepeatStatus.FINISHED
+                val maxUserId = batchUserRecordRepository.findMaxUserId() ?: return@Tasklet RepeatStatus.FINISHED
+                executionContext.putLong(NEXT_USER_ID_KEY, minUserId)
+                executionContext.putLong(MAX_USER_ID_KEY, maxUserId)
+            }
+            val startUserId = executionContext.getLong(NEXT_USER_ID_KEY)
+            if (startUserId > executionContext.getLong(MAX_USER_ID_KEY)) return@Tasklet RepeatStatus.FINISHED
+
+            val endUserId = startUserId + checkAndAchieveProperties.idRangeSize
+            val now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
+            val insertedCount = batchAchievementAchieveLogRepository.insertAchieveLogsBetween(
+                targetAchievement.id,
+                achievementType,
+                targetAchievement.targetValue,
+                startUserId,
+                endUserId,
+                now
+            )
+            if (insertedCount > 0) {
+                batchNotificationRepository.insertAchieveNotificationsOfLogsBetween(
+                    targetAchievement.id,
+                    startUserId,
+                    endUserId,
+                    notification.type.name,
+                    notification.title,
+                    notification.content,
+                    notification.metadata,
+                    now
+                )
+            }
+            contribution.incrementWriteCount(insertedCount.toLong())
+            executionContext.putLong(NEXT_USER_ID_KEY, endUserId)
+            RepeatStatus.CONTINUABLE
+        }
+    }
+
+    companion object {
+        private const val NEXT_USER_ID_KEY = "nextUserId"
+        private const val MAX_USER_ID_KEY = "maxUserId"
+    }
+}
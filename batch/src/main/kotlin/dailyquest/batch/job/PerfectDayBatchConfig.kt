@@ -1,5 +1,6 @@
 package dailyquest.batch.job
 
+import dailyquest.batch.listener.job.BatchStagingCleanupJobListener
 import org.springframework.batch.core.Job
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.job.builder.JobBuilder
@@ -16,12 +17,14 @@ class PerfectDayBatchConfig {
         increasePerfectDayCountStep: Step,
         perfectDayAchievementStep: Step,
         achievementAchieveNotificationStep: Step,
+        batchStagingCleanupJobListener: BatchStagingCleanupJobListener,
     ): Job {
         return JobBuilder("perfectDayJob", jobRepository)
             .start(readPerfectDayUserIdStep)
             .next(increasePerfectDayCountStep)
             .next(perfectDayAchievementStep)
             .next(achievementAchieveNotificationStep)
+            .listener(batchStagingCleanupJobListener)
             .build()
     }
 }
\ No newline at end of file
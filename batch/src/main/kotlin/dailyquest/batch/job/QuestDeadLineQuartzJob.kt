@@ -1,5 +1,7 @@
 package dailyquest.batch.job
 
+import dailyquest.properties.BatchPartitionProperties
+import dailyquest.properties.QuestDeadLineProperties
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.slf4j.LoggerFactory
@@ -14,10 +16,14 @@ import java.time.format.DateTimeFormatter
 class QuestDeadLineQuartzJob(
     private val jobLauncher: JobLauncher,
     private val questDeadLineBatchJob: org.springframework.batch.core.Job,
+    private val questDeadLinePartitionBatchJob: org.springframework.batch.core.Job,
+    private val batchPartitionProperties: BatchPartitionProperties,
+    private val questDeadLineProperties: QuestDeadLineProperties,
 ) : Job {
     private val log = LoggerFactory.getLogger(javaClass)
 
     override fun execute(context: JobExecutionContext) {
+        if (questDeadLineProperties.engine == QuestDeadLineProperties.Engine.SCHEDULER) return
 
         val targetDate = LocalDateTime.now().withSecond(0).withNano(0)
             .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
@@ -27,7 +33,8 @@ class QuestDeadLineQuartzJob(
             .toJobParameters()
 
         try {
-            jobLauncher.run(questDeadLineBatchJob, jobParameters)
+            val deadLineJob = if (batchPartitionProperties.deadLineEnabled) questDeadLinePartitionBatchJob else questDeadLineBatchJob
+            jobLauncher.run(deadLineJob, jobParameters)
         } catch (_: JobInstanceAlreadyCompleteException) {
             log.info("[Duplicated Batch: QuestDeadLineJob] -> {} 퀘스트 데드라인 배치 작업이 중복으로 발생했습니다.", targetDate)
         }
@@ -0,0 +1,80 @@
+package dailyquest.batch.job
+
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
+import dailyquest.quest.repository.QuestLogRepository
+import org.slf4j.LoggerFactory
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.Step
+import org.springframework.batch.core.configuration.annotation.JobScope
+import org.springframework.batch.core.job.builder.JobBuilder
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.core.step.builder.StepBuilder
+import org.springframework.batch.core.step.tasklet.Tasklet
+import org.springframework.batch.repeat.RepeatStatus
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.transaction.PlatformTransactionManager
+
+/**
+ * 누적 상태 카운트(quest_log_lifetime_count)가 quest_log 와 일치하는지 유저 범위 단위로 확인하고,
+ * 불일치하는 범위가 있으면 quest_log 를 다시 집계해 덮어쓰는 배치.
+ */
+@Configuration
+class QuestLogLifetimeCountReconcileBatchConfig {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    @Bean
+    fun questLogLifetimeCountReconcileBatchJob(
+        jobRepository: JobRepository,
+        questLogLifetimeCountReconcileStep: Step,
+    ): Job {
+        return JobBuilder("questLogLifetimeCountReconcileJob", jobRepository)
+            .start(questLogLifetimeCountReconcileStep)
+            .build()
+    }
+
+    @Bean
+    @JobScope
+    fun questLogLifetimeCountReconcileStep(
+        jobRepository: JobRepository,
+        transactionManager: PlatformTransactionManager,
+        questLogLifetimeCountReconcileTasklet: Tasklet,
+    ): Step {
+        return StepBuilder("questLogLifetimeCountReconcileStep", jobRepository)
+            .tasklet(questLogLifetimeCountReconcileTasklet, transactionManager)
+            .build()
+    }
+
+    /**
+     * 한 번 실행될 때마다 [USER_ID_RANGE_SIZE] 만큼의 유저 범위를 처리하고, 다음 시작 유저 id 를 스텝 컨텍스트에 남긴다.
+     * 범위마다 트랜잭션이 나뉘므로 실패 후 재시작하면 마지막으로 커밋된 범위부터 이어서 처리한다.
+     */
+    @Bean
+    fun questLogLifetimeCountReconcileTasklet(
+        questLogRepository: QuestLogRepository,
+        questLogLifetimeCountRepository: QuestLogLifetimeCountRepository,
+    ): Tasklet {
+        return Tasklet { contribution, _ ->
+            val executionContext = contribution.stepExecution.executionContext
+            val maxUserId = questLogRepository.findMaxUserId() ?: return@Tasklet RepeatStatus.FINISHED
+            val startUserId = executionContext.getLong(NEXT_USER_ID_KEY, 0L)
+            if (startUserId > maxUserId) return@Tasklet RepeatStatus.FINISHED
+
+            val endUserId = startUserId + USER_ID_RANGE_SIZE
+            val mismatchedUserCount = questLogLifetimeCountRepository.countMismatchedUsersBetween(startUserId, endUserId)
+            if (mismatchedUserCount > 0) {
+                log.warn("[Lifetime Count Mismatch] -> userId [{}, {}) 범위에서 {}명의 누적 카운트가 일치하지 않아 다시 집계합니다.",
+                    startUserId, endUserId, mismatchedUserCount)
+                questLogLifetimeCountRepository.recomputeCountsBetween(startUserId, endUserId)
+                contribution.incrementWriteCount(mismatchedUserCount)
+            }
+            executionContext.putLong(NEXT_USER_ID_KEY, endUserId)
+            RepeatStatus.CONTINUABLE
+        }
+    }
+
+    companion object {
+        const val USER_ID_RANGE_SIZE = 1000L
+        private const val NEXT_USER_ID_KEY = "nextUserId"
+    }
+}
@@ -0,0 +1,75 @@
+package dailyquest.batch.job
+
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.Step
+import org.springframework.batch.core.configuration.annotation.JobScope
+import org.springframework.batch.core.configuration.annotation.StepScope
+import org.springframework.batch.core.job.builder.JobBuilder
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.core.step.builder.StepBuilder
+import org.springframework.batch.item.ItemWriter
+import org.springframework.batch.item.support.ListItemReader
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.transaction.PlatformTransactionManager
+import java.time.LocalDate
+
+/**
+ * quest_log 를 날짜 단위로 다시 집계해 quest_log_daily_rollup 을 채우는 배치.
+ * 날짜마다 집계 행을 덮어쓰므로 중간에 실패하더라도 같은 범위로 다시 실행하면 된다.
+ *
+ * 실행 예) --spring.batch.job.enabled=true --spring.batch.job.name=questLogRollupBackfillJob
+ *         fromDate=2023-01-01,java.time.LocalDate toDate=2023-12-31,java.time.LocalDate
+ */
+@Configuration
+class QuestLogRollupBackfillBatchConfig {
+
+    @Bean
+    fun questLogRollupBackfillBatchJob(
+        jobRepository: JobRepository,
+        questLogRollupBackfillStep: Step,
+    ): Job {
+        return JobBuilder("questLogRollupBackfillJob", jobRepository)
+            .start(questLogRollupBackfillStep)
+            .build()
+    }
+
+    @Bean
+    @JobScope
+    fun questLogRollupBackfillStep(
+        jobRepository: JobRepository,
+        transactionManager: PlatformTransactionManager,
+        questLogRollupBackfillDateReader: ListItemReader<LocalDate>,
+        questLogRollupBackfillWriter: ItemWriter<LocalDate>,
+    ): Step {
+        return StepBuilder("questLogRollupBackfillStep", jobRepository)
+            .chunk<LocalDate, LocalDate>(1, transactionManager)
+            .reader(questLogRollupBackfillDateReader)
+            .writer(questLogRollupBackfillWriter)
+            .faultTolerant()
+            .retryLimit(3)
+            .retry(Exception::class.java)
+            .build()
+    }
+
+    @Bean
+    @StepScope
+    fun questLogRollupBackfillDateReader(
+        @Value("#{jobParameters[fromDate]}") fromDate: LocalDate,
+        @Value("#{jobParameters[toDate]}") toDate: LocalDate,
+    ): ListItemReader<LocalDate> {
+        return ListItemReader(fromDate.datesUntil(toDate.plusDays(1)).toList())
+    }
+
+    @Bean
+    @StepScope
+    fun questLogRollupBackfillWriter(
+        questLogDailyRollupRepository: QuestLogDailyRollupRepository
+    ): ItemWriter<LocalDate> {
+        return ItemWriter { dates ->
+            dates.forEach { questLogDailyRollupRepository.recomputeCountsOf(it) }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dailyquest.batch.job
+
+import dailyquest.batch.partition.UserIdRangePartitioner
+import dailyquest.batch.reader.KeysetItemReader
+import dailyquest.properties.BatchPartitionProperties
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.repository.QuestRepository
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.Step
+import org.springframework.batch.core.configuration.annotation.JobScope
+import org.springframework.batch.core.configuration.annotation.StepScope
+import org.springframework.batch.core.job.builder.JobBuilder
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.core.step.builder.StepBuilder
+import org.springframework.batch.item.database.JdbcBatchItemWriter
+import org.springframework.batch.item.function.FunctionItemProcessor
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.core.task.TaskExecutor
+import org.springframework.data.domain.PageRequest
+import org.springframework.transaction.PlatformTransactionManager
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+
+/**
+ * 퀘스트 초기화, 데드라인 배치를 유저 id 범위로 나눠 여러 워커 스텝에서 동시에 처리하는 배치.
+ *
+ * 매니저 스텝은 [UserIdRangePartitioner] 로 범위를 나누고, 각 범위는 별도의 스텝 실행으로 워커 스텝에서 처리된다.
+ * 워커 스텝은 범위 정보를 스텝 컨텍스트로만 전달받으므로 파티션 핸들러만 바꾸면 다른 프로세스에서 실행할 수 있다.
+ * 스텝 리스너는 스텝 스코프 빈이라 파티션마다 따로 생성되어, 로그 저장과 문서 상태 업데이트가 파티션 단위로 처리된다.
+ */
+@Configuration
+class QuestPartitionBatchConfig(
+    private val jobRepository: JobRepository,
+    private val transactionManager: PlatformTransactionManager,
+    private val questRepository: QuestRepository,
+    private val batchPartitionProperties: BatchPartitionProperties,
+) {
+
+    @Bean
+    fun questResetPartitionBatchJob(
+        questResetPartitionStep: Step
+    ): Job {
+        return JobBuilder("questResetPartitionJob", jobRepository)
+            .start(questResetPartitionStep)
+            .build()
+    }
+
+    @Bean
+    fun questDeadLinePartitionBatchJob(
+        questDeadLinePartitionStep: Step
+    ): Job {
+        return JobBuilder("questDeadLinePartitionJob", jobRepository)
+            .start(questDeadLinePartitionStep)
+            .build()
+    }
+
+    @Bean
+    @JobScope
+    fun questResetPartitionStep(
+        questResetPartitioner: UserIdRangePartitioner,
+        questResetWorkerStep: Step,
+        batchPartitionTaskExecutor: TaskExecutor,
+    ): Step {
+        return StepBuilder("questResetPartitionStep", jobRepository)
+            .partitioner(questResetWorkerStep.name, questResetPartitioner)
+            .step(questResetWorkerStep)
+            .gridSize(batchPartitionProperties.gridSize)
+            .taskExecutor(batchPartitionTaskExecutor)
+            .build()
+    }
+
+    @Bean
+    @JobScope
+    fun questDeadLinePartitionStep(
+        questDeadLinePartitioner: UserIdRangePartitioner,
+        questDeadLineWorkerStep: Step,
+        batchPartitionTaskExecutor: TaskExecutor,
+    ): Step {
+        return StepBuilder("questDeadLinePartitionStep", jobRepository)
+            .partitioner(questDeadLineWorkerStep.name, questDeadLinePartitioner)
+            .step(questDeadLineWorkerStep)
+            .gridSize(batchPartitionProperties.gridSize)
+            .taskExecutor(batchPartitionTaskExecutor)
+            .build()
+    }
+
+    @Bean
+    @JobScope
+    fun questResetPartitioner(@Value("#{jobParameters[resetDateTime]}") resetDateTimeStr: String): UserIdRangePartitioner {
+        val resetDateTime = LocalDateTime.parse(resetDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+        return UserIdRangePartitioner(
+            questRepository.findMinUserIdForReset(resetDateTime),
+            questRepository.findMaxUserIdForReset(resetDateTime)
+        )
+    }
+
+    @Bean
+    @JobScope
+    fun questDeadLinePartitioner(@Value("#{jobParameters[targetDate]}") targetDateStr: String): UserIdRangePartitioner {
+        val targetDate = LocalDateTime.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+        return UserIdRangePartitioner(
+            questRepository.findMinUserIdForDeadLine(targetDate),
+            questRepository.findMaxUserIdForDeadLine(targetDate)
+        )
+    }
+
+    @Bean
+    fun questResetWorkerStep(
+        questResetWorkerReader: KeysetItemReader<Quest>,
+        questFailProcessor: FunctionItemProcessor<Quest, Quest>,
+        questWriter: JdbcBatchItemWriter<Quest>,
+        resetStepListener: ResetStepListener,
+    ): Step {
+        return StepBuilder("questResetWorkerStep", jobRepository)
+            .chunk<Quest, Quest>(10, transactionManager)
+            .reader(questResetWorkerReader)
+            .processor(questFailProcessor)
+            .writer(questWriter)
+            .listener(resetStepListener)
+            .faultTolerant()
+            .retryLimit(3)
+            .retry(Exception::class.java)
+            .build()
+    }
+
+    @Bean
+    fun questDeadLineWorkerStep(
+        questDeadLineWorkerReader: KeysetItemReader<Quest>,
+        questFailProcessor: FunctionItemProcessor<Quest, Quest>,
+        questWriter: JdbcBatchItemWriter<Quest>,
+        deadLineStepListener: DeadLineStepListener,
+    ): Step {
+        return StepBuilder("questDeadLineWorkerStep", jobRepository)
+            .chunk<Quest, Quest>(10, transactionManager)
+            .reader(questDeadLineWorkerReader)
+            .processor(questFailProcessor)
+            .writer(questWriter)
+            .listener(deadLineStepListener)
+            .faultTolerant()
+            .retryLimit(3)
+            .retry(Exception::class.java)
+            .build()
+    }
+
+    @Bean
+    @StepScope
+    fun questResetWorkerReader(
+        @Value("#{jobParameters[resetDateTime]}") resetDateTimeStr: String,
+        @Value("#{stepExecutionContext[minUserId]}") minUserId: Long,
+        @Value("#{stepExecutionContext[maxUserId]}") maxUserId: Long,
+    ): KeysetItemReader<Quest> {
+        val resetDateTime = LocalDateTime.parse(resetDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+        return KeysetItemReader("questResetWorkerReader", 10, Quest::id) { lastQuestId, pageSize ->
+            questRepository.getQuestsForResetBatchBetween(resetDateTime, minUserId, maxUserId, lastQuestId, PageRequest.ofSize(pageSize))
+        }
+    }
+
+    @Bean
+    @StepScope
+    fun questDeadLineWorkerReader(
+        @Value("#{jobParameters[targetDate]}") targetDateStr: String,
+        @Value("#{stepExecutionContext[minUserId]}") minUserId: Long,
+        @Value("#{stepExecutionContext[maxUserId]}") maxUserId: Long,
+    ): KeysetItemReader<Quest> {
+        val targetDate = LocalDateTime.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+        return KeysetItemReader("questDeadLineWorkerReader", 10, Quest::id) { lastQuestId, pageSize ->
+            questRepository.getQuestForDeadLineBatchBetween(targetDate, minUserId, maxUserId, lastQuestId, PageRequest.ofSize(pageSize))
+        }
+    }
+}
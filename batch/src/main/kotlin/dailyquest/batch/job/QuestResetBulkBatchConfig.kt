@@ -0,0 +1,107 @@
+package dailyquest.batch.job
+
+import dailyquest.properties.QuestResetProperties
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
+import dailyquest.quest.repository.QuestLogRepository
+import dailyquest.quest.repository.QuestRepository
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.Step
+import org.springframework.batch.core.configuration.annotation.JobScope
+import org.springframework.batch.core.configuration.annotation.StepScope
+import org.springframework.batch.core.job.builder.JobBuilder
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.core.step.builder.StepBuilder
+import org.springframework.batch.core.step.tasklet.Tasklet
+import org.springframework.batch.repeat.RepeatStatus
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.transaction.PlatformTransactionManager
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+
+/**
+ * 퀘스트 초기화를 퀘스트 id 범위 단위의 집합 연산으로 처리하는 배치.
+ * 범위마다 대상 퀘스트의 로그와 통계 집계를 INSERT ... SELECT 로 저장한 뒤 UPDATE 한 번으로 상태를 변경하고,
+ * 변경된 퀘스트의 검색 문서 상태는 범위 트랜잭션이 커밋된 뒤 [QuestResetBulkStepListener] 가 bulk 로 업데이트한다.
+ *
+ * 고정된 id 범위를 순서대로 처리하므로 처리한 퀘스트가 대상에서 빠지더라도 오프셋 페이징처럼 건너뛰는 퀘스트가 생기지 않는다.
+ */
+@Configuration
+class QuestResetBulkBatchConfig {
+
+    @Bean
+    fun questResetBulkBatchJob(
+        jobRepository: JobRepository,
+        questResetBulkStep: Step,
+    ): Job {
+        return JobBuilder("questResetBulkJob", jobRepository)
+            .start(questResetBulkStep)
+            .build()
+    }
+
+    @Bean
+    @JobScope
+    fun questResetBulkStep(
+        jobRepository: JobRepository,
+        transactionManager: PlatformTransactionManager,
+        questResetBulkTasklet: Tasklet,
+        questResetBulkStepListener: QuestResetBulkStepListener,
+    ): Step {
+        return StepBuilder("questResetBulkStep", jobRepository)
+            .tasklet(questResetBulkTasklet, transactionManager)
+            .listener(questResetBulkStepListener)
+            .build()
+    }
+
+    /**
+     * 한 번 실행될 때마다 [QuestResetProperties.idRangeSize] 만큼의 퀘스트 id 범위를 처리하고, 다음 시작 퀘스트 id 를 스텝 컨텍스트에 남긴다.
+     * 범위마다 트랜잭션이 나뉘므로 실패 후 재시작하면 마지막으로 커밋된 범위부터 이어서 처리한다.
+     */
+    @Bean
+    @StepScope
+    fun questResetBulkTasklet(
+        @Value("#{jobParameters[resetDateTime]}") resetDateTimeStr: String,
+        questResetProperties: QuestResetProperties,
+        questRepository: QuestRepository,
+        questLogRepository: QuestLogRepository,
+        questLogDailyRollupRepository: QuestLogDailyRollupRepository,
+        questLogLifetimeCountRepository: QuestLogLifetimeCountRepository,
+        questResetBulkStepListener: QuestResetBulkStepListener,
+    ): Tasklet {
+        val resetDateTime = LocalDateTime.parse(resetDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+        val loggedDate = resetDateTime.toLocalDate().minusDays(1)
+
+        return Tasklet { contribution, _ ->
+            val executionContext = contribution.stepExecution.executionContext
+            if (!executionContext.containsKey(MAX_QUEST_ID_KEY)) {
+                val minQuestId = questRepository.findMinQuestIdForReset(resetDateTime) ?: return@Tasklet RepeatStatus.FINISHED
+                val maxQuestId = questRepository.findMaxQuestIdForReset(resetDateTime) ?: return@Tasklet RepeatStatus.FINISHED
+                executionContext.putLong(NEXT_QUEST_ID_KEY, minQuestId)
+                executionContext.putLong(MAX_QUEST_ID_KEY, maxQuestId)
+            }
+            val startQuestId = executionContext.getLong(NEXT_QUEST_ID_KEY)
+            if (startQuestId > executionContext.getLong(MAX_QUEST_ID_KEY)) return@Tasklet RepeatStatus.FINISHED
+
+            val endQuestId = startQuestId + questResetProperties.idRangeSize
+            val questIds = questRepository.lockQuestIdsForResetBetween(startQuestId, endQuestId, resetDateTime)
+            if (questIds.isNotEmpty()) {
+                questLogRepository.insertFailLogsForResetBetween(startQuestId, endQuestId, resetDateTime, loggedDate, LocalDateTime.now())
+                questLogDailyRollupRepository.increaseFailCountsForResetBetween(startQuestId, endQuestId, resetDateTime, loggedDate)
+                questLogLifetimeCountRepository.increaseFailCountsForResetBetween(startQuestId, endQuestId, resetDateTime)
+                val modifiedDate = LocalDateTime.now()
+                val updatedCount = questRepository.failQuestsForResetBetween(startQuestId, endQuestId, resetDateTime, modifiedDate)
+                contribution.incrementWriteCount(updatedCount.toLong())
+                questResetBulkStepListener.afterFail(questIds, modifiedDate)
+            }
+            executionContext.putLong(NEXT_QUEST_ID_KEY, endQuestId)
+            RepeatStatus.CONTINUABLE
+        }
+    }
+
+    companion object {
+        private const val NEXT_QUEST_ID_KEY = "nextQuestId"
+        private const val MAX_QUEST_ID_KEY = "maxQuestId"
+    }
+}
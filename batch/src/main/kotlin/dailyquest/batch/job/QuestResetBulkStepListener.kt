@@ -0,0 +1,65 @@
+package dailyquest.batch.job
+
+import dailyquest.properties.ElasticBulkProperties
+import dailyquest.quest.entity.QuestState
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import org.slf4j.LoggerFactory
+import org.springframework.batch.core.ExitStatus
+import org.springframework.batch.core.StepExecution
+import org.springframework.batch.core.annotation.AfterChunk
+import org.springframework.batch.core.annotation.AfterChunkError
+import org.springframework.batch.core.annotation.AfterStep
+import org.springframework.batch.core.configuration.annotation.StepScope
+import org.springframework.batch.core.scope.context.ChunkContext
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * 집합 기반 퀘스트 초기화 스텝에서 실패 처리된 퀘스트의 검색 문서 상태를 범위 트랜잭션이 커밋된 뒤에 업데이트한다.
+ */
+@StepScope
+@Component
+class QuestResetBulkStepListener(
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer,
+    private val elasticBulkProperties: ElasticBulkProperties,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val writtenDocuments = mutableMapOf<Long, LocalDateTime>()
+    private val failedDocuments = mutableMapOf<Long, LocalDateTime>()
+
+    /**
+     * 현재 범위에서 실패 처리한 퀘스트를 기록한다. 범위 트랜잭션이 커밋되기 전까지는 문서 상태 업데이트 대상이 아니다.
+     */
+    fun afterFail(questIds: List<Long>, modifiedDate: LocalDateTime) {
+        questIds.forEach { writtenDocuments[it] = modifiedDate }
+    }
+
+    @AfterChunk
+    fun afterChunk(context: ChunkContext) {
+        failedDocuments.putAll(writtenDocuments)
+        writtenDocuments.clear()
+        if (failedDocuments.size >= elasticBulkProperties.stateUpdateBatchSize) {
+            this.updateFailedDocuments()
+        }
+    }
+
+    @AfterChunkError
+    fun afterChunkError(context: ChunkContext) {
+        writtenDocuments.clear()
+    }
+
+    @AfterStep
+    fun afterStep(stepExecution: StepExecution): ExitStatus? {
+        this.updateFailedDocuments()
+        return stepExecution.exitStatus
+    }
+
+    private fun updateFailedDocuments() {
+        if (failedDocuments.isEmpty()) return
+        val notUpdatedIds = questDocumentBulkIndexer.bulkUpdateState(failedDocuments.toMap(), QuestState.FAIL)
+        if (notUpdatedIds.isNotEmpty()) {
+            log.warn("퀘스트 문서 상태 업데이트에 실패했습니다. size : [{}], ids : [{}]", notUpdatedIds.size, notUpdatedIds)
+        }
+        failedDocuments.clear()
+    }
+}
@@ -1,5 +1,6 @@
 package dailyquest.batch.job
 
+import dailyquest.properties.QuestResetProperties
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.slf4j.LoggerFactory
@@ -16,6 +17,9 @@ import java.time.format.DateTimeFormatter
 class QuestResetQuartzJob (
     private val jobLauncher: JobLauncher,
     private val questResetBatchJob: org.springframework.batch.core.Job,
+    private val questResetBulkBatchJob: org.springframework.batch.core.Job,
+    private val questResetPartitionBatchJob: org.springframework.batch.core.Job,
+    private val questResetProperties: QuestResetProperties,
 ) : Job {
     private val log = LoggerFactory.getLogger(javaClass)
 
@@ -28,7 +32,12 @@ class QuestResetQuartzJob (
             .toJobParameters()
 
         try {
-            jobLauncher.run(questResetBatchJob, jobParameters)
+            val resetJob = when (questResetProperties.engine) {
+                QuestResetProperties.Engine.CHUNK -> questResetBatchJob
+                QuestResetProperties.Engine.BULK -> questResetBulkBatchJob
+                QuestResetProperties.Engine.PARTITION -> questResetPartitionBatchJob
+            }
+            jobLauncher.run(resetJob, jobParameters)
         } catch (_: JobInstanceAlreadyCompleteException) {
             log.info("[Duplicated Batch: QuestResetJob] -> {} 퀘스트 초기화 배치 작업이 중복으로 발생했습니다.", resetDate.minusDays(1))
         }
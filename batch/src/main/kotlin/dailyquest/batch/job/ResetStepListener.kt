@@ -1,32 +1,47 @@
 package dailyquest.batch.job
 
+import dailyquest.properties.ElasticBulkProperties
 import dailyquest.quest.entity.Quest
 import dailyquest.quest.entity.QuestLog
+import dailyquest.quest.entity.QuestLogDailyRollup
 import dailyquest.quest.entity.QuestState
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
 import dailyquest.quest.repository.QuestLogRepository
-import dailyquest.search.document.QuestDocument
-import dailyquest.search.repository.QuestIndexRepository
+import dailyquest.search.service.QuestDocumentBulkIndexer
 import org.slf4j.LoggerFactory
+import org.springframework.batch.core.ExitStatus
+import org.springframework.batch.core.StepExecution
+import org.springframework.batch.core.annotation.AfterChunk
+import org.springframework.batch.core.annotation.AfterChunkError
+import org.springframework.batch.core.annotation.AfterStep
 import org.springframework.batch.core.annotation.AfterWrite
 import org.springframework.batch.core.annotation.OnProcessError
 import org.springframework.batch.core.annotation.OnReadError
 import org.springframework.batch.core.annotation.OnWriteError
 import org.springframework.batch.core.configuration.annotation.StepScope
+import org.springframework.batch.core.scope.context.ChunkContext
 import org.springframework.batch.item.Chunk
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Component
 import java.time.LocalDate
+import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
 
 @StepScope
 @Component
 class ResetStepListener(
     private val questLogRepository: QuestLogRepository,
-    private val questIndexRepository: QuestIndexRepository,
+    private val questLogDailyRollupRepository: QuestLogDailyRollupRepository,
+    private val questLogLifetimeCountRepository: QuestLogLifetimeCountRepository,
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer,
+    private val elasticBulkProperties: ElasticBulkProperties,
     @Value("#{jobParameters[resetDateTime]}")
     private val resetDateTimeStr: String,
 ) {
     private val log = LoggerFactory.getLogger(javaClass)
+    private val writtenDocuments = mutableMapOf<Long, LocalDateTime>()
+    private val failedDocuments = mutableMapOf<Long, LocalDateTime>()
 
     @AfterWrite
     fun afterWrite(items : Chunk<Quest>) {
@@ -34,26 +49,60 @@ class ResetStepListener(
                 .minusDays(1)
 
         val questLogList = mutableListOf<QuestLog>();
-        val documentList = mutableListOf<QuestDocument>();
 
         for (item in items.items) {
             val questLog = QuestLog(item, loggedDate)
             questLogList.add(questLog)
 
-            documentList.add(QuestDocument(
-                item.id,
-                item.title,
-                item.description,
-                item.detailQuests.map { it.title }.toList(),
-                item.userId,
-                QuestState.FAIL.name,
-                item.createdDate,
-                null
-            ))
         }
 
         questLogRepository.saveAll(questLogList)
-        questIndexRepository.saveAll(documentList)
+        QuestLogDailyRollup.aggregate(questLogList).forEach {
+            questLogDailyRollupRepository.increaseCounts(
+                it.userId, it.loggedDate,
+                it.registeredCount, it.completeCount, it.failCount,
+                it.discardCount, it.mainCount, it.subCount
+            )
+            questLogLifetimeCountRepository.increaseCounts(
+                it.userId, it.registeredCount, it.completeCount, it.failCount, it.discardCount
+            )
+        }
+        items.items.forEach { writtenDocuments[it.id] = it.lastModifiedDate }
+    }
+
+    /**
+     * 청크 트랜잭션이 커밋된 뒤에만 문서 상태 업데이트 대상으로 옮겨, 롤백된 퀘스트가 검색 문서에만 실패로 반영되지 않게 한다.
+     */
+    @AfterChunk
+    fun afterChunk(context: ChunkContext) {
+        failedDocuments.putAll(writtenDocuments)
+        writtenDocuments.clear()
+        if (failedDocuments.size >= elasticBulkProperties.stateUpdateBatchSize) {
+            this.updateFailedDocuments()
+        }
+    }
+
+    @AfterChunkError
+    fun afterChunkError(context: ChunkContext) {
+        writtenDocuments.clear()
+    }
+
+    @AfterStep
+    fun afterStep(stepExecution: StepExecution): ExitStatus? {
+        this.updateFailedDocuments()
+        return stepExecution.exitStatus
+    }
+
+    /**
+     * 실패 처리된 퀘스트 문서의 state 필드를 퀘스트의 수정 시각 버전으로 bulk 반영한다.
+     */
+    private fun updateFailedDocuments() {
+        if (failedDocuments.isEmpty()) return
+        val notUpdatedIds = questDocumentBulkIndexer.bulkUpdateState(failedDocuments.toMap(), QuestState.FAIL)
+        if (notUpdatedIds.isNotEmpty()) {
+            log.warn("퀘스트 문서 상태 업데이트에 실패했습니다. size : [{}], ids : [{}]", notUpdatedIds.size, notUpdatedIds)
+        }
+        failedDocuments.clear()
     }
 
     @OnReadError
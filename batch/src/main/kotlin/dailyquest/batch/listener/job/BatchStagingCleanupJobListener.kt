@@ -0,0 +1,29 @@
+package dailyquest.batch.listener.job
+
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
+import org.springframework.batch.core.BatchStatus
+import org.springframework.batch.core.JobExecution
+import org.springframework.batch.core.annotation.AfterJob
+import org.springframework.stereotype.Component
+
+/**
+ * 잡이 완료되면 스텝 사이에 넘긴 항목을 나눠서 삭제한다. 실패한 잡은 재시작 시 이어서 읽어야 하므로 남겨 둔다.
+ */
+@Component
+class BatchStagingCleanupJobListener(
+    private val batchStagingItemRepository: BatchStagingItemRepository,
+) {
+    @AfterJob
+    fun afterJob(jobExecution: JobExecution) {
+        if (jobExecution.status != BatchStatus.COMPLETED) return
+
+        val jobInstanceId = jobExecution.jobInstance.instanceId
+        do {
+            val deletedCount = batchStagingItemRepository.deleteAllOfJobInstance(jobInstanceId, DELETE_SIZE)
+        } while (deletedCount >= DELETE_SIZE)
+    }
+
+    companion object {
+        private const val DELETE_SIZE = 10000
+    }
+}
@@ -1,46 +1,28 @@
 package dailyquest.batch.listener.step
 
-import dailyquest.common.util.ExecutionContextUtil
-import dailyquest.user.dto.UserPerfectDayCount
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
+import dailyquest.properties.BatchContextProperties
 import dailyquest.user.record.entity.UserRecord
-import org.springframework.batch.core.ExitStatus
-import org.springframework.batch.core.StepExecution
-import org.springframework.batch.core.annotation.AfterChunk
-import org.springframework.batch.core.annotation.AfterStep
 import org.springframework.batch.core.annotation.AfterWrite
-import org.springframework.batch.core.annotation.BeforeStep
-import org.springframework.batch.core.scope.context.ChunkContext
+import org.springframework.batch.core.configuration.annotation.StepScope
 import org.springframework.batch.item.Chunk
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Component
 
+@StepScope
 @Component
+class IncreasePerfectDayCountStepListener(
+    private val batchStagingItemRepository: BatchStagingItemRepository,
+    private val batchContextProperties: BatchContextProperties,
+    @Value("#{stepExecution.jobExecution.jobInstance.instanceId}")
+    private val jobInstanceId: Long,
+) {
 
-class IncreasePerfectDayCountStepListener {
-    private lateinit var executionContextUtil: ExecutionContextUtil
-    private val userPerfectDayCountsKey = "userPerfectDayCounts"
-
-    @BeforeStep
-    fun beforeStep(stepExecution: StepExecution) {
-        executionContextUtil = ExecutionContextUtil.from(stepExecution)
-    }
-
-    @AfterStep
-    fun afterStep(stepExecution: StepExecution): ExitStatus {
-        executionContextUtil.removeFromStepContext(userPerfectDayCountsKey)
-        return stepExecution.exitStatus
-    }
-
+    /**
+     * 청크와 같은 트랜잭션에서 유저의 완벽한 하루 횟수를 하나의 JDBC 배치로 스테이징 테이블에 저장하므로, 청크가 롤백되면 함께 롤백된다.
+     */
     @AfterWrite
     fun afterWrite(chunk: Chunk<UserRecord>) {
-        val userPerfectDayCounts = chunk.map { UserPerfectDayCount.from(it) }
-        executionContextUtil.putToStepContext(userPerfectDayCountsKey, userPerfectDayCounts)
-    }
-
-    @AfterChunk
-    fun afterChunk(context: ChunkContext) {
-        if (context.isComplete) {
-            executionContextUtil.mergeListFromStepContextToJobContext<UserPerfectDayCount>(userPerfectDayCountsKey)
-        }
-        executionContextUtil.removeFromStepContext(userPerfectDayCountsKey)
+        batchStagingItemRepository.stageAll(jobInstanceId, batchContextProperties.userPerfectDayCountsKey, chunk.items.associate { it.id to it.perfectDayCount })
     }
-}
\ No newline at end of file
+}
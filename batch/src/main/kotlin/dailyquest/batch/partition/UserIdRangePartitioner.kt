@@ -0,0 +1,39 @@
+package dailyquest.batch.partition
+
+import org.springframework.batch.core.partition.support.Partitioner
+import org.springframework.batch.item.ExecutionContext
+
+/**
+ * 유저 id 구간을 gridSize 개의 연속된 범위로 나눈다. 각 범위의 양 끝은 포함된다.
+ *
+ * 한 유저의 퀘스트는 항상 같은 파티션에서 처리되므로, 유저 단위로 증가시키는 통계 집계 행을 여러 파티션이 동시에 갱신하지 않는다.
+ */
+class UserIdRangePartitioner(
+    private val minUserId: Long?,
+    private val maxUserId: Long?,
+) : Partitioner {
+
+    override fun partition(gridSize: Int): Map<String, ExecutionContext> {
+        if (minUserId == null || maxUserId == null) return emptyMap()
+
+        val rangeSize = (maxUserId - minUserId) / gridSize.coerceAtLeast(1) + 1
+        val partitions = linkedMapOf<String, ExecutionContext>()
+        var startUserId: Long = minUserId
+        var partitionNumber = 0
+        while (startUserId <= maxUserId) {
+            val endUserId = minOf(startUserId + rangeSize - 1, maxUserId)
+            val executionContext = ExecutionContext()
+            executionContext.putLong(MIN_USER_ID_KEY, startUserId)
+            executionContext.putLong(MAX_USER_ID_KEY, endUserId)
+            partitions["$PARTITION_KEY_PREFIX${partitionNumber++}"] = executionContext
+            startUserId = endUserId + 1
+        }
+        return partitions
+    }
+
+    companion object {
+        const val MIN_USER_ID_KEY = "minUserId"
+        const val MAX_USER_ID_KEY = "maxUserId"
+        private const val PARTITION_KEY_PREFIX = "partition"
+    }
+}
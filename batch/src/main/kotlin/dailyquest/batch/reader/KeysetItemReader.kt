@@ -0,0 +1,60 @@
+package dailyquest.batch.reader
+
+import org.springframework.batch.item.ExecutionContext
+import org.springframework.batch.item.ItemStreamReader
+import org.springframework.batch.item.ItemStreamSupport
+
+/**
+ * 마지막으로 읽은 항목의 키보다 큰 항목을 키 오름차순으로 pageSize 만큼씩 조회하는 리더.
+ *
+ * OFFSET 과 count 쿼리 없이 항상 마지막 키 다음부터 조회하므로 읽은 위치가 뒤로 갈수록 조회 비용이 늘지 않고,
+ * 처리된 항목이 조회 조건에서 빠지더라도 건너뛰는 항목이 생기지 않는다.
+ * 마지막으로 반환한 항목의 키를 스텝 컨텍스트에 저장하므로, 재시작하면 마지막으로 커밋된 청크 다음 항목부터 읽는다.
+ *
+ * @param pageFetcher 마지막 키와 페이지 크기를 받아, 키가 마지막 키보다 큰 항목을 키 오름차순으로 최대 페이지 크기만큼 조회한다.
+ */
+class KeysetItemReader<T : Any>(
+    name: String,
+    private val pageSize: Int,
+    private val keyExtractor: (T) -> Long,
+    private val pageFetcher: (lastKey: Long, pageSize: Int) -> List<T>,
+) : ItemStreamSupport(), ItemStreamReader<T> {
+
+    private var lastKey = INITIAL_KEY
+    private var page: Iterator<T> = emptyList<T>().iterator()
+    private var lastPageFetched = false
+
+    init {
+        setName(name)
+    }
+
+    override fun read(): T? {
+        if (!page.hasNext()) {
+            if (lastPageFetched) return null
+            val fetched = pageFetcher(lastKey, pageSize)
+            lastPageFetched = fetched.size < pageSize
+            page = fetched.iterator()
+            if (!page.hasNext()) return null
+        }
+        val item = page.next()
+        lastKey = keyExtractor(item)
+        return item
+    }
+
+    override fun open(executionContext: ExecutionContext) {
+        val lastKeyName = getExecutionContextKey(LAST_KEY_NAME)
+        lastKey = if (executionContext.containsKey(lastKeyName)) executionContext.getLong(lastKeyName) else INITIAL_KEY
+        page = emptyList<T>().iterator()
+        lastPageFetched = false
+    }
+
+    override fun update(executionContext: ExecutionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_KEY_NAME), lastKey)
+    }
+
+    companion object {
+        /** 조회 대상 키는 모두 양수인 식별자이므로 0 보다 큰 키부터 조회한다 */
+        const val INITIAL_KEY = 0L
+        private const val LAST_KEY_NAME = "lastKey"
+    }
+}
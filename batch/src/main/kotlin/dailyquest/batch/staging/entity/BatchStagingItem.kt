@@ -0,0 +1,35 @@
+package dailyquest.batch.staging.entity
+
+import jakarta.persistence.*
+
+/**
+ * 배치 잡의 스텝 사이에 넘겨야 하는 항목을 잡 인스턴스와 키 단위로 보관한다.
+ * 다음 스텝은 itemKey 순서로 필요한 만큼씩 읽으므로, 처리 대상이 늘어나도 실행 컨텍스트와 메모리가 함께 늘어나지 않는다.
+ */
+@Table(
+    name = "batch_staging_item",
+    uniqueConstraints = [UniqueConstraint(name = "unique_staging_item", columnNames = ["job_instance_id", "staging_key", "item_key"])]
+)
+@Entity
+class BatchStagingItem(
+    jobInstanceId: Long,
+    stagingKey: String,
+    itemKey: Long,
+    itemValue: Long = 0,
+) {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "batch_staging_item_id")
+    val id: Long = 0
+
+    @Column(name = "job_instance_id", nullable = false, updatable = false)
+    val jobInstanceId: Long = jobInstanceId
+
+    @Column(name = "staging_key", nullable = false, updatable = false, length = 50)
+    val stagingKey: String = stagingKey
+
+    @Column(name = "item_key", nullable = false, updatable = false)
+    val itemKey: Long = itemKey
+
+    @Column(name = "item_value", nullable = false)
+    val itemValue: Long = itemValue
+}
@@ -0,0 +1,41 @@
+package dailyquest.batch.staging.repository
+
+import dailyquest.batch.staging.entity.BatchStagingItem
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import org.springframework.transaction.annotation.Transactional
+
+interface BatchStagingItemRepository : JpaRepository<BatchStagingItem, Long>, BatchStagingItemRepositoryCustom {
+
+    /**
+     * 항목을 저장한다. 청크가 재시도되거나 재시작되어 같은 항목을 다시 저장하면 값만 갱신한다.
+     */
+    @Modifying
+    @Query(value = "insert into batch_staging_item (job_instance_id, staging_key, item_key, item_value) " +
+            "values (:jobInstanceId, :stagingKey, :itemKey, :itemValue) " +
+            "on duplicate key update item_value = values(item_value)", nativeQuery = true)
+    fun stage(
+        @Param("jobInstanceId") jobInstanceId: Long,
+        @Param("stagingKey") stagingKey: String,
+        @Param("itemKey") itemKey: Long,
+        @Param("itemValue") itemValue: Long,
+    )
+
+    fun findAllByJobInstanceIdAndStagingKeyAndItemKeyGreaterThanOrderByItemKeyAsc(
+        jobInstanceId: Long,
+        stagingKey: String,
+        lastItemKey: Long,
+        pageable: Pageable
+    ): List<BatchStagingItem>
+
+    /**
+     * 잡 인스턴스의 항목을 최대 limit 만큼 삭제하고 삭제한 수를 반환한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from batch_staging_item where job_instance_id = :jobInstanceId limit :limit", nativeQuery = true)
+    fun deleteAllOfJobInstance(@Param("jobInstanceId") jobInstanceId: Long, @Param("limit") limit: Int): Int
+}
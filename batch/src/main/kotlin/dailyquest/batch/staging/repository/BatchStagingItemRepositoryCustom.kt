@@ -0,0 +1,5 @@
+package dailyquest.batch.staging.repository
+
+interface BatchStagingItemRepositoryCustom {
+    fun stageAll(jobInstanceId: Long, stagingKey: String, items: Map<Long, Long>)
+}
@@ -0,0 +1,30 @@
+package dailyquest.batch.staging.repository
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
+
+class BatchStagingItemRepositoryImpl(
+    private val namedParameterJdbcTemplate: NamedParameterJdbcTemplate
+): BatchStagingItemRepositoryCustom {
+
+    /**
+     * itemKey 와 itemValue 쌍을 하나의 JDBC 배치로 저장한다. 같은 항목을 다시 저장하면 [BatchStagingItemRepository.stage] 처럼 값만 갱신한다.
+     */
+    override fun stageAll(jobInstanceId: Long, stagingKey: String, items: Map<Long, Long>) {
+        if (items.isEmpty()) return
+        val params = items.map { (itemKey, itemValue) ->
+            MapSqlParameterSource()
+                .addValue("jobInstanceId", jobInstanceId)
+                .addValue("stagingKey", stagingKey)
+                .addValue("itemKey", itemKey)
+                .addValue("itemValue", itemValue)
+        }
+        namedParameterJdbcTemplate.batchUpdate(STAGE_SQL, params.toTypedArray())
+    }
+
+    companion object {
+        private const val STAGE_SQL = "insert into batch_staging_item (job_instance_id, staging_key, item_key, item_value) " +
+                "values (:jobInstanceId, :stagingKey, :itemKey, :itemValue) " +
+                "on duplicate key update item_value = values(item_value)"
+    }
+}
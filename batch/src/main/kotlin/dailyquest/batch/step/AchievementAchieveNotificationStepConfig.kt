@@ -1,10 +1,12 @@
 package dailyquest.batch.step
 
 import dailyquest.achievement.entity.AchievementAchieveLog
-import dailyquest.batch.listener.step.AchievementAchieveNotificationStepListener
+import dailyquest.achievement.repository.BatchAchievementAchieveLogRepository
+import dailyquest.batch.reader.KeysetItemReader
 import dailyquest.notification.dto.AchieveNotificationSaveRequest
 import dailyquest.notification.entity.Notification
 import dailyquest.notification.repository.NotificationRepository
+import dailyquest.properties.BatchContextProperties
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.configuration.annotation.JobScope
 import org.springframework.batch.core.configuration.annotation.StepScope
@@ -16,10 +18,10 @@ import org.springframework.batch.item.ItemWriter
 import org.springframework.batch.item.data.RepositoryItemWriter
 import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder
 import org.springframework.batch.item.function.FunctionItemProcessor
-import org.springframework.batch.item.support.IteratorItemReader
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.data.domain.PageRequest
 import org.springframework.transaction.PlatformTransactionManager
 
 @Configuration(proxyBeanMethods = false)
@@ -32,14 +34,12 @@ class AchievementAchieveNotificationStepConfig {
         achievementAchieveLogReader: ItemReader<AchievementAchieveLog>,
         achievementAchieveNotificationProcessor: ItemProcessor<AchievementAchieveLog, Notification>,
         achievementAchieveNotificationWriter: ItemWriter<Notification>,
-        achievementNotificationStepListener: AchievementAchieveNotificationStepListener
     ): Step {
         return StepBuilder("achievementAchieveNotificationStep", jobRepository)
             .chunk<AchievementAchieveLog, Notification>(10, transactionManager)
             .reader(achievementAchieveLogReader)
             .processor(achievementAchieveNotificationProcessor)
             .writer(achievementAchieveNotificationWriter)
-            .listener(achievementNotificationStepListener)
             .faultTolerant()
             .retryLimit(3)
             .retry(Exception::class.java)
@@ -49,9 +49,13 @@ class AchievementAchieveNotificationStepConfig {
     @Bean
     @StepScope
     fun achievementAchieveLogReader(
-        @Value("#{jobExecutionContext['achievedLogs']}") achievedLogs: List<AchievementAchieveLog>,
-    ): IteratorItemReader<AchievementAchieveLog> {
-        return IteratorItemReader(achievedLogs)
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") jobInstanceId: Long,
+        batchAchievementAchieveLogRepository: BatchAchievementAchieveLogRepository,
+        batchContextProperties: BatchContextProperties,
+    ): KeysetItemReader<AchievementAchieveLog> {
+        return KeysetItemReader("achievementAchieveLogReader", 10, AchievementAchieveLog::userId) { lastUserId, pageSize ->
+            batchAchievementAchieveLogRepository.getAllStagedAchieveLogs(jobInstanceId, batchContextProperties.achievedLogsKey, lastUserId, PageRequest.ofSize(pageSize))
+        }
     }
 
     @Bean
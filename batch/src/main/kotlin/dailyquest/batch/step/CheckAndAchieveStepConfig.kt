@@ -4,6 +4,7 @@ import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
 import dailyquest.achievement.repository.AchievementAchieveLogRepository
 import dailyquest.batch.listener.step.CheckAndAchieveStepListener
+import dailyquest.batch.reader.KeysetItemReader
 import dailyquest.user.record.repository.BatchUserRecordRepository
 import dailyquest.user.repository.BatchUserRepository
 import org.springframework.batch.core.Step
@@ -14,9 +15,7 @@ import org.springframework.batch.core.step.builder.StepBuilder
 import org.springframework.batch.item.ItemProcessor
 import org.springframework.batch.item.ItemReader
 import org.springframework.batch.item.ItemWriter
-import org.springframework.batch.item.data.RepositoryItemReader
 import org.springframework.batch.item.data.RepositoryItemWriter
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder
 import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder
 import org.springframework.batch.item.function.FunctionItemProcessor
 import org.springframework.beans.factory.annotation.Value
@@ -53,15 +52,10 @@ class CheckAndAchieveStepConfig {
     fun checkAndAchieveReader(
         @Value("#{jobExecutionContext['targetAchievement']}") targetAchievement: Achievement,
         batchUserRecordRepository: BatchUserRecordRepository,
-    ): RepositoryItemReader<Long> {
-        return RepositoryItemReaderBuilder<Long>()
-            .repository(batchUserRecordRepository)
-            .methodName("getAllUserIdWhoCanAchieveOf")
-            .arguments(targetAchievement)
-            .pageSize(10)
-            .name("checkAndAchieveReader")
-            .sorts(sortedMapOf())
-            .build()
+    ): KeysetItemReader<Long> {
+        return KeysetItemReader("checkAndAchieveReader", 10, { it }) { lastUserId, pageSize ->
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(targetAchievement, lastUserId, pageSize)
+        }
     }
 
     @Bean
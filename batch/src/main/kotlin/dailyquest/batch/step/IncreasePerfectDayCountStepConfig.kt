@@ -1,6 +1,8 @@
 package dailyquest.batch.step
 
 import dailyquest.batch.listener.step.IncreasePerfectDayCountStepListener
+import dailyquest.batch.reader.KeysetItemReader
+import dailyquest.properties.BatchContextProperties
 import dailyquest.user.record.entity.UserRecord
 import dailyquest.user.record.repository.BatchUserRecordRepository
 import org.springframework.batch.core.Step
@@ -8,15 +10,16 @@ import org.springframework.batch.core.configuration.annotation.JobScope
 import org.springframework.batch.core.configuration.annotation.StepScope
 import org.springframework.batch.core.repository.JobRepository
 import org.springframework.batch.core.step.builder.StepBuilder
-import org.springframework.batch.item.data.RepositoryItemReader
-import org.springframework.batch.item.data.RepositoryItemWriter
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder
-import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder
+import org.springframework.batch.item.database.JdbcBatchItemWriter
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder
 import org.springframework.batch.item.function.FunctionItemProcessor
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.data.domain.PageRequest
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
 import org.springframework.transaction.PlatformTransactionManager
+import javax.sql.DataSource
 
 @Configuration
 class IncreasePerfectDayCountStepConfig {
@@ -25,10 +28,10 @@ class IncreasePerfectDayCountStepConfig {
     fun increasePerfectDayCountStep(
         jobRepository: JobRepository,
         transactionManager: PlatformTransactionManager,
-        perfectDayUserReader: RepositoryItemReader<UserRecord>,
+        perfectDayUserReader: KeysetItemReader<UserRecord>,
         perfectDayCountIncreaseProcessor: FunctionItemProcessor<UserRecord, UserRecord>,
         increasePerfectDayCountStepListener: IncreasePerfectDayCountStepListener,
-        userWriter: RepositoryItemWriter<UserRecord>,
+        userWriter: JdbcBatchItemWriter<UserRecord>,
     ): Step {
         return StepBuilder("perfectDayLogStep", jobRepository)
             .chunk<UserRecord, UserRecord>(10, transactionManager)
@@ -45,17 +48,13 @@ class IncreasePerfectDayCountStepConfig {
     @Bean
     @StepScope
     fun perfectDayUserReader(
-        @Value("#{jobExecutionContext['perfectDayLogUserIds']}") userIds: List<Long>,
-        userRecordRepository: BatchUserRecordRepository
-    ): RepositoryItemReader<UserRecord> {
-        return RepositoryItemReaderBuilder<UserRecord>()
-            .repository(userRecordRepository)
-            .methodName("findAllByIdIn")
-            .arguments(listOf(userIds))
-            .pageSize(10)
-            .name("perfectDayUserReader")
-            .sorts(sortedMapOf())
-            .build()
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") jobInstanceId: Long,
+        userRecordRepository: BatchUserRecordRepository,
+        batchContextProperties: BatchContextProperties,
+    ): KeysetItemReader<UserRecord> {
+        return KeysetItemReader("perfectDayUserReader", 10, UserRecord::id) { lastUserId, pageSize ->
+            userRecordRepository.getAllStagedUserRecords(jobInstanceId, batchContextProperties.perfectDayLogUserIdsKey, lastUserId, PageRequest.ofSize(pageSize))
+        }
     }
 
     @Bean
@@ -67,11 +66,20 @@ class IncreasePerfectDayCountStepConfig {
         }
     }
 
+    /**
+     * 청크 유저의 완벽한 하루 횟수를 하나의 JDBC 배치로 변경한다. 엔티티 전체를 병합하지 않으므로 그 사이 웹에서 변경된 다른 기록을 덮어쓰지 않는다.
+     */
     @Bean
     @StepScope
-    fun userWriter(userRecordRepository: BatchUserRecordRepository): RepositoryItemWriter<UserRecord> {
-        return RepositoryItemWriterBuilder<UserRecord>()
-            .repository(userRecordRepository)
+    fun userWriter(dataSource: DataSource): JdbcBatchItemWriter<UserRecord> {
+        return JdbcBatchItemWriterBuilder<UserRecord>()
+            .dataSource(dataSource)
+            .sql("update user_record set perfect_day_count = :perfectDayCount where user_id = :id")
+            .itemSqlParameterSourceProvider {
+                MapSqlParameterSource()
+                    .addValue("id", it.id)
+                    .addValue("perfectDayCount", it.perfectDayCount)
+            }
             .build()
     }
 }
\ No newline at end of file
@@ -4,8 +4,10 @@ import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
 import dailyquest.achievement.repository.AchievementAchieveLogRepository
 import dailyquest.batch.listener.step.PerfectDayAchievementStepListener
+import dailyquest.batch.reader.KeysetItemReader
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
+import dailyquest.properties.BatchContextProperties
 import dailyquest.user.dto.UserPerfectDayCount
-import dailyquest.user.repository.UserRepository
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.configuration.annotation.JobScope
 import org.springframework.batch.core.configuration.annotation.StepScope
@@ -17,10 +19,10 @@ import org.springframework.batch.item.ItemWriter
 import org.springframework.batch.item.data.RepositoryItemWriter
 import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder
 import org.springframework.batch.item.function.FunctionItemProcessor
-import org.springframework.batch.item.support.IteratorItemReader
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.data.domain.PageRequest
 import org.springframework.transaction.PlatformTransactionManager
 
 @Configuration(proxyBeanMethods = false)
@@ -50,9 +52,15 @@ class PerfectDayAchievementStepConfig {
     @Bean
     @StepScope
     fun perfectDayCountReader(
-        @Value("#{jobExecutionContext['userPerfectDayCounts']}") userPerfectDayCounts: List<UserPerfectDayCount>
-    ): IteratorItemReader<UserPerfectDayCount> {
-        return IteratorItemReader(userPerfectDayCounts)
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") jobInstanceId: Long,
+        batchStagingItemRepository: BatchStagingItemRepository,
+        batchContextProperties: BatchContextProperties,
+    ): KeysetItemReader<UserPerfectDayCount> {
+        return KeysetItemReader("perfectDayCountReader", 10, UserPerfectDayCount::userId) { lastUserId, pageSize ->
+            batchStagingItemRepository.findAllByJobInstanceIdAndStagingKeyAndItemKeyGreaterThanOrderByItemKeyAsc(
+                jobInstanceId, batchContextProperties.userPerfectDayCountsKey, lastUserId, PageRequest.ofSize(pageSize)
+            ).map { UserPerfectDayCount(it.itemKey, it.itemValue) }
+        }
     }
 
     @StepScope
@@ -1,19 +1,19 @@
 package dailyquest.batch.step
 
-import dailyquest.batch.listener.step.ReadPerfectDayUserIdStepListener
-import dailyquest.quest.repository.QuestLogRepository
-import dailyquest.user.entity.User
+import dailyquest.batch.reader.KeysetItemReader
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
+import dailyquest.properties.BatchContextProperties
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.configuration.annotation.JobScope
 import org.springframework.batch.core.configuration.annotation.StepScope
 import org.springframework.batch.core.repository.JobRepository
 import org.springframework.batch.core.step.builder.StepBuilder
-import org.springframework.batch.item.data.RepositoryItemReader
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder
-import org.springframework.batch.item.support.ListItemWriter
+import org.springframework.batch.item.ItemWriter
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.data.domain.PageRequest
 import org.springframework.transaction.PlatformTransactionManager
 import java.time.LocalDate
 
@@ -24,14 +24,13 @@ class ReadPerfectDayUserIdStepConfig {
     fun readPerfectDayUserIdStep(
         jobRepository: JobRepository,
         transactionManager: PlatformTransactionManager,
-        perfectDayUserIdReader: RepositoryItemReader<Long>,
-        perfectDayLogStepListener: ReadPerfectDayUserIdStepListener
+        perfectDayUserIdReader: KeysetItemReader<Long>,
+        perfectDayUserIdWriter: ItemWriter<Long>,
     ): Step {
         return StepBuilder("readPerfectDayUserIdStep", jobRepository)
-            .chunk<Long, User>(10, transactionManager)
+            .chunk<Long, Long>(10, transactionManager)
             .reader(perfectDayUserIdReader)
-            .writer(ListItemWriter())
-            .listener(perfectDayLogStepListener)
+            .writer(perfectDayUserIdWriter)
             .faultTolerant()
             .retryLimit(3)
             .retry(Exception::class.java)
@@ -42,15 +41,25 @@ class ReadPerfectDayUserIdStepConfig {
     @StepScope
     fun perfectDayUserIdReader(
         @Value("#{jobParameters[loggedDate]}") loggedDate: LocalDate,
-        questLogRepository: QuestLogRepository
-    ): RepositoryItemReader<Long> {
-        return RepositoryItemReaderBuilder<Long>()
-            .repository(questLogRepository)
-            .methodName("getAllUserIdsWhoAchievedPerfectDay")
-            .arguments(loggedDate)
-            .pageSize(10)
-            .name("perfectDayUserIdReader")
-            .sorts(sortedMapOf())
-            .build()
+        questLogDailyRollupRepository: QuestLogDailyRollupRepository
+    ): KeysetItemReader<Long> {
+        return KeysetItemReader("perfectDayUserIdReader", 10, { it }) { lastUserId, pageSize ->
+            questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, lastUserId, PageRequest.ofSize(pageSize))
+        }
+    }
+
+    /**
+     * 완벽한 하루를 달성한 유저 id 를 다음 스텝에서 읽을 수 있도록 청크 단위의 JDBC 배치로 스테이징 테이블에 저장한다.
+     */
+    @Bean
+    @StepScope
+    fun perfectDayUserIdWriter(
+        @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") jobInstanceId: Long,
+        batchStagingItemRepository: BatchStagingItemRepository,
+        batchContextProperties: BatchContextProperties,
+    ): ItemWriter<Long> {
+        return ItemWriter { chunk ->
+            batchStagingItemRepository.stageAll(jobInstanceId, batchContextProperties.perfectDayLogUserIdsKey, chunk.items.associateWith { 0L })
+        }
     }
-}
\ No newline at end of file
+}
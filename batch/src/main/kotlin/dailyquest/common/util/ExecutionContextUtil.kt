@@ -26,13 +26,6 @@ class ExecutionContextUtil private constructor(
         jobExecutionContextUtil.putToJobContext(key, value)
     }
 
-    fun <E> mergeListFromStepContextToJobContext(key: String) {
-        val fromJobContext = this.getFromJobContext<List<E>?>(key)?.toMutableList() ?: mutableListOf()
-        val fromStepContext = this.getFromStepContext<List<E>>(key)
-        fromStepContext?.let { fromJobContext.addAll(it) }
-        this.putToJobContext(key, fromJobContext)
-    }
-
     fun removeFromStepContext(key: String) {
         stepExecution.executionContext.remove(key)
     }
@@ -1,8 +1,26 @@
 package dailyquest.config
 
+import dailyquest.properties.BatchPartitionProperties
+import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 import org.springframework.scheduling.annotation.EnableAsync
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor
 
 @EnableAsync
 @Configuration
-class AsyncConfig
\ No newline at end of file
+class AsyncConfig {
+
+    /**
+     * 파티션 배치의 워커 스텝을 실행하는 스레드 풀
+     */
+    @Bean
+    fun batchPartitionTaskExecutor(batchPartitionProperties: BatchPartitionProperties): ThreadPoolTaskExecutor {
+        val executor = ThreadPoolTaskExecutor()
+        executor.corePoolSize = batchPartitionProperties.poolSize
+        executor.maxPoolSize = batchPartitionProperties.poolSize
+        executor.setThreadNamePrefix("batch-partition-")
+        executor.setWaitForTasksToCompleteOnShutdown(true)
+        executor.initialize()
+        return executor
+    }
+}
@@ -2,6 +2,7 @@ package dailyquest.config
 
 import dailyquest.batch.job.DeadLineStepListener
 import dailyquest.batch.job.ResetStepListener
+import dailyquest.batch.reader.KeysetItemReader
 import dailyquest.quest.entity.Quest
 import dailyquest.quest.repository.QuestRepository
 import org.springframework.batch.core.Job
@@ -11,17 +12,18 @@ import org.springframework.batch.core.configuration.annotation.StepScope
 import org.springframework.batch.core.job.builder.JobBuilder
 import org.springframework.batch.core.repository.JobRepository
 import org.springframework.batch.core.step.builder.StepBuilder
-import org.springframework.batch.item.data.RepositoryItemReader
-import org.springframework.batch.item.data.RepositoryItemWriter
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder
-import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder
+import org.springframework.batch.item.database.JdbcBatchItemWriter
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder
 import org.springframework.batch.item.function.FunctionItemProcessor
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.data.domain.PageRequest
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
 import org.springframework.transaction.PlatformTransactionManager
 import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
+import javax.sql.DataSource
 
 
 @Configuration
@@ -54,9 +56,9 @@ class BatchConfig(
     @Bean
     @JobScope
     fun questResetBatchStep(
-        questResetReader: RepositoryItemReader<Quest>,
+        questResetReader: KeysetItemReader<Quest>,
         questFailProcessor: FunctionItemProcessor<Quest, Quest>,
-        questWriter: RepositoryItemWriter<Quest>
+        questWriter: JdbcBatchItemWriter<Quest>
     ): Step {
         return StepBuilder("questResetStep", jobRepository)
             .chunk<Quest, Quest>(10, transactionManager)
@@ -73,9 +75,9 @@ class BatchConfig(
     @Bean
     @JobScope
     fun questDeadLineBatchStep(
-        questDeadLineReader: RepositoryItemReader<Quest>,
+        questDeadLineReader: KeysetItemReader<Quest>,
         questFailProcessor: FunctionItemProcessor<Quest, Quest>,
-        questWriter: RepositoryItemWriter<Quest>
+        questWriter: JdbcBatchItemWriter<Quest>
     ): Step {
         return StepBuilder("questDeadLineStep", jobRepository)
             .chunk<Quest, Quest>(10, transactionManager)
@@ -91,45 +93,50 @@ class BatchConfig(
 
     @Bean
     @StepScope
-    fun questResetReader(@Value("#{jobParameters[resetDateTime]}") resetDateTimeStr: String): RepositoryItemReader<Quest> {
-
-        return RepositoryItemReaderBuilder<Quest>()
-            .repository(questRepository)
-            .methodName("getQuestsForResetBatch")
-            .arguments(LocalDateTime.parse(resetDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-            .pageSize(10)
-            .sorts(sortedMapOf())
-            .name("questResetReader")
-            .build()
+    fun questResetReader(@Value("#{jobParameters[resetDateTime]}") resetDateTimeStr: String): KeysetItemReader<Quest> {
+        val resetDateTime = LocalDateTime.parse(resetDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+        return KeysetItemReader("questResetReader", 10, Quest::id) { lastQuestId, pageSize ->
+            questRepository.getQuestsForResetBatch(resetDateTime, lastQuestId, PageRequest.ofSize(pageSize))
+        }
     }
 
     @Bean
     @StepScope
-    fun questDeadLineReader(@Value("#{jobParameters[targetDate]}") targetDateStr: String): RepositoryItemReader<Quest> {
-        return RepositoryItemReaderBuilder<Quest>()
-            .repository(questRepository)
-            .methodName("getQuestForDeadLineBatch")
-            .arguments(LocalDateTime.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
-            .pageSize(10)
-            .sorts(sortedMapOf())
-            .name("questDeadLineReader")
-            .build()
+    fun questDeadLineReader(@Value("#{jobParameters[targetDate]}") targetDateStr: String): KeysetItemReader<Quest> {
+        val targetDate = LocalDateTime.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+        return KeysetItemReader("questDeadLineReader", 10, Quest::id) { lastQuestId, pageSize ->
+            questRepository.getQuestForDeadLineBatch(targetDate, lastQuestId, PageRequest.ofSize(pageSize))
+        }
     }
 
+    /**
+     * 퀘스트를 실패 처리하고 수정 시각을 기록한다. 라이터는 이 수정 시각을 DB 에, 스텝 리스너는 검색 문서의 버전으로 사용한다.
+     */
     @Bean
     @StepScope
     fun questFailProcessor(): FunctionItemProcessor<Quest, Quest> {
         return FunctionItemProcessor { quest ->
             quest.failQuest()
+            quest.lastModifiedDate = LocalDateTime.now()
             quest
         }
     }
 
+    /**
+     * 청크의 퀘스트 상태를 하나의 JDBC 배치로 변경한다. 리더가 조회한 퀘스트는 변경 감지 대상이 아니므로 여기서만 반영된다.
+     */
     @Bean
     @StepScope
-    fun questWriter(): RepositoryItemWriter<Quest> {
-        return RepositoryItemWriterBuilder<Quest>()
-            .repository(questRepository)
+    fun questWriter(dataSource: DataSource): JdbcBatchItemWriter<Quest> {
+        return JdbcBatchItemWriterBuilder<Quest>()
+            .dataSource(dataSource)
+            .sql("update quest set state = :state, last_modified_date = :lastModifiedDate where quest_id = :id")
+            .itemSqlParameterSourceProvider {
+                MapSqlParameterSource()
+                    .addValue("id", it.id)
+                    .addValue("state", it.state.name)
+                    .addValue("lastModifiedDate", it.lastModifiedDate)
+            }
             .build()
     }
 
@@ -0,0 +1,33 @@
+package dailyquest.notification.repository
+
+import dailyquest.notification.entity.Notification
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import java.time.LocalDateTime
+
+interface BatchNotificationRepository : JpaRepository<Notification, Long> {
+
+    /**
+     * 유저 id 범위 내에서 createdDate 에 저장된 업적의 달성 로그마다 같은 내용의 알림을 한 번에 저장한다.
+     * 이번 실행에서 실제로 저장된 달성 로그를 대상으로 하므로 같은 범위의 달성 로그를 저장한 뒤 같은 createdDate 로 실행해야 한다.
+     */
+    @Modifying
+    @Query(value = "insert into notification (user_id, title, content, type, metadata, created_date) " +
+            "select aal.user_id, :title, :content, :notificationType, :metadata, :createdDate " +
+            "from achievement_achieve_log aal " +
+            "where aal.achievement_id = :achievementId " +
+            "and aal.user_id >= :startUserId and aal.user_id < :endUserId " +
+            "and aal.created_date = :createdDate", nativeQuery = true)
+    fun insertAchieveNotificationsOfLogsBetween(
+        @Param("achievementId") achievementId: Long,
+        @Param("startUserId") startUserId: Long,
+        @Param("endUserId") endUserId: Long,
+        @Param("notificationType") notificationType: String,
+        @Param("title") title: String,
+        @Param("content") content: String,
+        @Param("metadata") metadata: String,
+        @Param("createdDate") createdDate: LocalDateTime,
+    ): Int
+}
@@ -6,5 +6,6 @@ import org.springframework.boot.context.properties.ConfigurationProperties
 class BatchContextProperties(
     val targetAchievementKey: String,
     val achievedLogsKey: String,
-    val notifiedUserIdsKey: String,
+    val perfectDayLogUserIdsKey: String,
+    val userPerfectDayCountsKey: String,
 )
\ No newline at end of file
@@ -0,0 +1,10 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "batch.partition")
+class BatchPartitionProperties(
+    val gridSize: Int = 4,
+    val poolSize: Int = 4,
+    val deadLineEnabled: Boolean = false,
+)
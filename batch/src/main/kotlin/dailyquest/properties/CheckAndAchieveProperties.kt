@@ -0,0 +1,16 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "batch.check-and-achieve")
+class CheckAndAchieveProperties(
+    val engine: Engine = Engine.CHUNK,
+    val idRangeSize: Long = 10000,
+) {
+    enum class Engine {
+        /** 달성 가능한 유저를 페이지 단위로 읽어 JPA 로 달성 로그와 알림을 저장하는 청크 기반 잡 */
+        CHUNK,
+        /** 유저 id 범위 단위로 달성 로그와 알림을 INSERT ... SELECT 로 저장하는 집합 기반 잡 */
+        BULK,
+    }
+}
@@ -0,0 +1,8 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "elastic.bulk")
+class ElasticBulkProperties(
+    val stateUpdateBatchSize: Int = 1000,
+)
@@ -0,0 +1,9 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "elastic.sync.consumer")
+class ElasticSyncConsumerProperties(
+    val maxItemRetries: Int = 3,
+    val retryBackoffMillis: Long = 100,
+)
@@ -0,0 +1,20 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "batch.dead-line")
+class QuestDeadLineProperties(
+    val engine: Engine = Engine.BATCH,
+    val redisKey: String = "quest:dead-line",
+    val pollIntervalMillis: Long = 1000,
+    val pollSize: Int = 100,
+    val loadPageSize: Int = 1000,
+    val reloadIntervalMillis: Long = 600_000,
+) {
+    enum class Engine {
+        /** 1분마다 데드라인이 지난 퀘스트를 테이블에서 조회해 실패 처리하는 배치 작업 */
+        BATCH,
+        /** Redis sorted set 에 데드라인 순으로 쌓인 퀘스트를 짧은 주기로 꺼내 실패 처리하는 스케줄러 */
+        SCHEDULER,
+    }
+}
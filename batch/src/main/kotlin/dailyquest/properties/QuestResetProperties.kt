@@ -0,0 +1,18 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "batch.reset")
+class QuestResetProperties(
+    val engine: Engine = Engine.CHUNK,
+    val idRangeSize: Long = 10000,
+) {
+    enum class Engine {
+        /** 퀘스트를 한 건씩 읽어 JPA 로 변경하는 청크 기반 스텝 */
+        CHUNK,
+        /** 퀘스트 id 범위 단위로 UPDATE, INSERT ... SELECT 를 실행하는 집합 기반 스텝 */
+        BULK,
+        /** 유저 id 범위로 나눈 청크 기반 스텝을 여러 스레드에서 실행하는 파티션 스텝 */
+        PARTITION,
+    }
+}
@@ -0,0 +1,27 @@
+package dailyquest.quartz.config
+
+import org.quartz.*
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+@Configuration
+class QuestLogLifetimeCountReconcileQuartzConfig {
+    @Bean
+    fun questLogLifetimeCountReconcileJobDetail(questLogLifetimeCountReconcileQuartzJob: Job): JobDetail {
+        return JobBuilder
+            .newJob(questLogLifetimeCountReconcileQuartzJob.javaClass)
+            .withIdentity("questLogLifetimeCountReconcileJobDetail")
+            .storeDurably()
+            .build()
+    }
+
+    @Bean
+    fun questLogLifetimeCountReconcileJobTrigger(questLogLifetimeCountReconcileJobDetail: JobDetail): Trigger {
+        return TriggerBuilder
+            .newTrigger()
+            .forJob(questLogLifetimeCountReconcileJobDetail)
+            .withIdentity("questLogLifetimeCountReconcileJobTrigger")
+            .withSchedule(CronScheduleBuilder.cronSchedule("0 0 4 ? * MON"))
+            .build()
+    }
+}
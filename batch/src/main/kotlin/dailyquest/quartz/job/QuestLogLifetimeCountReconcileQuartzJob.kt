@@ -0,0 +1,32 @@
+package dailyquest.quartz.job
+
+import org.quartz.Job
+import org.quartz.JobExecutionContext
+import org.slf4j.LoggerFactory
+import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.core.launch.JobLauncher
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException
+import org.springframework.stereotype.Component
+import java.time.LocalDate
+
+@Component
+class QuestLogLifetimeCountReconcileQuartzJob(
+    private val jobLauncher: JobLauncher,
+    private val questLogLifetimeCountReconcileBatchJob: org.springframework.batch.core.Job,
+) : Job {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    override fun execute(context: JobExecutionContext) {
+
+        val reconcileDate = LocalDate.now()
+        val jobParameters = JobParametersBuilder()
+            .addLocalDate("reconcileDate", reconcileDate)
+            .toJobParameters()
+
+        try {
+            jobLauncher.run(questLogLifetimeCountReconcileBatchJob, jobParameters)
+        } catch (_: JobInstanceAlreadyCompleteException) {
+            log.info("[Duplicated Batch: QuestLogLifetimeCountReconcileJob] -> {} 누적 상태 카운트 정합성 배치 작업이 중복으로 발생했습니다.", reconcileDate)
+        }
+    }
+}
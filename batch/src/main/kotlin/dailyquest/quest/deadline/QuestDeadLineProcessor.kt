@@ -0,0 +1,55 @@
+package dailyquest.quest.deadline
+
+import dailyquest.quest.entity.QuestLog
+import dailyquest.quest.entity.QuestLogDailyRollup
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
+import dailyquest.quest.repository.QuestLogRepository
+import dailyquest.quest.repository.QuestRepository
+import org.springframework.stereotype.Component
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+import java.time.LocalTime
+
+/**
+ * 데드라인 스케줄에서 꺼낸 퀘스트를 실패 처리하고, 데드라인 배치 작업과 같은 방식으로 실패 로그와 집계를 반영한다.
+ */
+@Component
+class QuestDeadLineProcessor(
+    private val questRepository: QuestRepository,
+    private val questLogRepository: QuestLogRepository,
+    private val questLogDailyRollupRepository: QuestLogDailyRollupRepository,
+    private val questLogLifetimeCountRepository: QuestLogLifetimeCountRepository,
+) {
+
+    /**
+     * 주어진 퀘스트 중 아직 진행 중이고 데드라인이 지난 퀘스트만 실패 처리한다.
+     * 이미 다른 상태가 됐거나 데드라인이 뒤로 변경된 퀘스트는 건너뛴다.
+     *
+     * @return 실패 처리한 퀘스트 id 별 수정 시각
+     */
+    @Transactional
+    fun failQuests(questIds: List<Long>, now: LocalDateTime): Map<Long, LocalDateTime> {
+        if (questIds.isEmpty()) return emptyMap()
+        val quests = questRepository.lockQuestsForDeadLineIn(questIds, now)
+        if (quests.isEmpty()) return emptyMap()
+
+        val loggedDate = if (now.toLocalTime().isBefore(LocalTime.of(6, 0))) now.toLocalDate().minusDays(1) else now.toLocalDate()
+        quests.forEach { it.failQuest() }
+        val questLogs = quests.map { QuestLog(it, loggedDate) }
+
+        questLogRepository.saveAll(questLogs)
+        QuestLogDailyRollup.aggregate(questLogs).forEach {
+            questLogDailyRollupRepository.increaseCounts(
+                it.userId, it.loggedDate,
+                it.registeredCount, it.completeCount, it.failCount,
+                it.discardCount, it.mainCount, it.subCount
+            )
+            questLogLifetimeCountRepository.increaseCounts(
+                it.userId, it.registeredCount, it.completeCount, it.failCount, it.discardCount
+            )
+        }
+        questRepository.flush()
+        return quests.associate { it.id to it.lastModifiedDate }
+    }
+}
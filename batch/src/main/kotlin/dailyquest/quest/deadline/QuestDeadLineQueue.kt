@@ -0,0 +1,62 @@
+package dailyquest.quest.deadline
+
+import dailyquest.properties.QuestDeadLineProperties
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * 퀘스트 id 를 데드라인 시각(epoch millis) 점수로 담는 Redis sorted set.
+ *
+ * 웹 서버가 퀘스트 등록, 수정, 상태 변경 시 항목을 추가하거나 제거하고,
+ * 데드라인 스케줄러는 데드라인이 지난 항목만 점수 범위로 꺼내 처리한다.
+ */
+@Component
+class QuestDeadLineQueue(
+    private val redisTemplate: StringRedisTemplate,
+    private val questDeadLineProperties: QuestDeadLineProperties,
+) {
+
+    /**
+     * 스케줄에 없는 퀘스트만 추가한다(ZADD NX). 이미 있는 퀘스트의 점수는 웹 서버가 갱신한 값을 그대로 둔다.
+     */
+    fun addAllIfAbsent(deadLines: Map<Long, LocalDateTime>) {
+        if (deadLines.isEmpty()) return
+        val tuples = deadLines.map { (questId, deadLine) -> TypedTuple.of(questId.toString(), QuestDeadLineScore.of(deadLine)) }
+        redisTemplate.opsForZSet().addIfAbsent(questDeadLineProperties.redisKey, tuples.toSet())
+    }
+
+    fun getDueQuestIds(now: LocalDateTime, limit: Int): List<Long> {
+        return redisTemplate.opsForZSet()
+            .rangeByScore(questDeadLineProperties.redisKey, Double.NEGATIVE_INFINITY, QuestDeadLineScore.of(now), 0, limit.toLong())
+            ?.map { it.toLong() }
+            ?: emptyList()
+    }
+
+    /**
+     * 처리한 퀘스트를 제거한다. 처리하는 사이 데드라인이 뒤로 변경된 퀘스트는 남겨 둔다.
+     */
+    fun removeDue(questIds: List<Long>, now: LocalDateTime) {
+        if (questIds.isEmpty()) return
+        val args = listOf(QuestDeadLineScore.of(now).toLong().toString()) + questIds.map { it.toString() }
+        redisTemplate.execute(REMOVE_DUE_SCRIPT, listOf(questDeadLineProperties.redisKey), *args.toTypedArray())
+    }
+
+    companion object {
+        private val REMOVE_DUE_SCRIPT = RedisScript.of<Long>(
+            """
+            local removed = 0
+            for i = 2, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if score and tonumber(score) <= tonumber(ARGV[1]) then
+                    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+                end
+            end
+            return removed
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+}
@@ -0,0 +1,112 @@
+package dailyquest.quest.deadline
+
+import dailyquest.properties.QuestDeadLineProperties
+import dailyquest.properties.QuestDeadLineProperties.Engine
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.repository.QuestRepository
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.data.domain.PageRequest
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * 데드라인 스케줄에서 데드라인이 지난 퀘스트를 짧은 주기로 꺼내 실패 처리한다.
+ *
+ * 스케줄은 웹 서버가 퀘스트 변경 시점마다 갱신하므로, 매분 퀘스트 테이블을 조회하지 않고도 데드라인 직후에 처리할 수 있다.
+ * 시작할 때와 이후 reloadIntervalMillis 주기로 진행 중인 데드라인 퀘스트를 DB 에서 읽어 스케줄에 없는 퀘스트를 채워,
+ * 스케줄러가 멈춰 있던 동안이나 웹 서버가 Redis 반영에 실패한 변경의 누락을 보정한다.
+ * 재적재는 테이블 전체를 읽으므로 별도 스레드에서 실행해 데드라인 처리 주기를 밀어내지 않는다.
+ * 데드라인 엔진이 SCHEDULER 일 때만 동작한다.
+ */
+@Component
+class QuestDeadLineScheduler(
+    private val questDeadLineQueue: QuestDeadLineQueue,
+    private val questDeadLineProcessor: QuestDeadLineProcessor,
+    private val questRepository: QuestRepository,
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer,
+    private val questDeadLineProperties: QuestDeadLineProperties,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private var pollExecutor: ScheduledExecutorService? = null
+    private var reloadExecutor: ScheduledExecutorService? = null
+
+    @PostConstruct
+    fun start() {
+        if (questDeadLineProperties.engine != Engine.SCHEDULER) return
+
+        reloadExecutor = newDaemonExecutor("quest-dead-line-reloader").apply {
+            scheduleWithFixedDelay(
+                { runCatching { loadSchedule() }.onFailure { log.error("퀘스트 데드라인 스케줄을 채우는 중 오류가 발생했습니다.", it) } },
+                0,
+                questDeadLineProperties.reloadIntervalMillis,
+                TimeUnit.MILLISECONDS
+            )
+        }
+        pollExecutor = newDaemonExecutor("quest-dead-line-scheduler").apply {
+            scheduleWithFixedDelay(
+                { runCatching { poll() }.onFailure { log.error("퀘스트 데드라인 처리 중 오류가 발생했습니다.", it) } },
+                questDeadLineProperties.pollIntervalMillis,
+                questDeadLineProperties.pollIntervalMillis,
+                TimeUnit.MILLISECONDS
+            )
+        }
+    }
+
+    @PreDestroy
+    fun stop() {
+        reloadExecutor?.shutdownNow()
+        pollExecutor?.shutdown()
+        pollExecutor?.awaitTermination(questDeadLineProperties.pollIntervalMillis, TimeUnit.MILLISECONDS)
+    }
+
+    private fun newDaemonExecutor(threadName: String): ScheduledExecutorService {
+        return Executors.newSingleThreadScheduledExecutor { Thread(it, threadName).apply { isDaemon = true } }
+    }
+
+    /**
+     * 데드라인이 지난 퀘스트가 남지 않을 때까지 pollSize 만큼씩 꺼내 실패 처리한다.
+     */
+    fun poll() {
+        while (true) {
+            val now = LocalDateTime.now()
+            val dueQuestIds = questDeadLineQueue.getDueQuestIds(now, questDeadLineProperties.pollSize)
+            if (dueQuestIds.isEmpty()) return
+
+            val failedQuests = questDeadLineProcessor.failQuests(dueQuestIds, now)
+            this.updateFailedDocuments(failedQuests)
+            questDeadLineQueue.removeDue(dueQuestIds, now)
+
+            if (dueQuestIds.size < questDeadLineProperties.pollSize) return
+        }
+    }
+
+    /**
+     * 진행 중인 데드라인 퀘스트를 id 순으로 읽어 스케줄에 없는 퀘스트만 추가한다.
+     * 이미 있는 퀘스트의 점수는 웹 서버가 갱신하므로, 읽는 사이 변경된 데드라인을 오래된 DB 값으로 되돌리지 않는다.
+     */
+    fun loadSchedule() {
+        var lastQuestId = 0L
+        while (true) {
+            val quests = questRepository.getQuestsWithDeadLine(lastQuestId, PageRequest.ofSize(questDeadLineProperties.loadPageSize))
+            if (quests.isEmpty()) return
+
+            questDeadLineQueue.addAllIfAbsent(quests.associate { it.id to it.deadLine!! })
+            if (quests.size < questDeadLineProperties.loadPageSize) return
+            lastQuestId = quests.last().id
+        }
+    }
+
+    private fun updateFailedDocuments(failedQuests: Map<Long, LocalDateTime>) {
+        if (failedQuests.isEmpty()) return
+        val notUpdatedIds = questDocumentBulkIndexer.bulkUpdateState(failedQuests, QuestState.FAIL)
+        if (notUpdatedIds.isNotEmpty()) {
+            log.warn("퀘스트 문서 상태 업데이트에 실패했습니다. size : [{}], ids : [{}]", notUpdatedIds.size, notUpdatedIds)
+        }
+    }
+}
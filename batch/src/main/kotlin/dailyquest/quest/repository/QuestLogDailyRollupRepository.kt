@@ -0,0 +1,103 @@
+package dailyquest.quest.repository
+
+import dailyquest.quest.entity.QuestLogDailyRollup
+import dailyquest.quest.entity.QuestLogDailyRollupId
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import java.time.LocalDate
+import java.time.LocalDateTime
+
+interface QuestLogDailyRollupRepository : JpaRepository<QuestLogDailyRollup, QuestLogDailyRollupId> {
+
+    /**
+     * 집계 행이 없으면 증가분으로 생성하고, 있으면 증가분만큼 더한다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_daily_rollup (user_id, logged_date, registered_count, complete_count, fail_count, discard_count, main_count, sub_count, registered_complete_count) " +
+            "values (:userId, :loggedDate, :registeredCount, :completeCount, :failCount, :discardCount, :mainCount, :subCount, 0) " +
+            "on duplicate key update " +
+            "registered_count = registered_count + :registeredCount, " +
+            "complete_count = complete_count + :completeCount, " +
+            "fail_count = fail_count + :failCount, " +
+            "discard_count = discard_count + :discardCount, " +
+            "main_count = main_count + :mainCount, " +
+            "sub_count = sub_count + :subCount", nativeQuery = true)
+    fun increaseCounts(
+        @Param("userId") userId: Long,
+        @Param("loggedDate") loggedDate: LocalDate,
+        @Param("registeredCount") registeredCount: Long,
+        @Param("completeCount") completeCount: Long,
+        @Param("failCount") failCount: Long,
+        @Param("discardCount") discardCount: Long,
+        @Param("mainCount") mainCount: Long,
+        @Param("subCount") subCount: Long,
+    ): Int
+
+    /**
+     * 해당 날짜의 quest_log 를 다시 집계해 집계 행을 덮어쓴다. 여러 번 실행해도 결과가 같다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_daily_rollup (user_id, logged_date, registered_count, complete_count, fail_count, discard_count, main_count, sub_count, registered_complete_count) " +
+            "select l.user_id, l.logged_date, " +
+            "sum(case when l.state = 'PROCEED' then 1 else 0 end), " +
+            "sum(case when l.state = 'COMPLETE' then 1 else 0 end), " +
+            "sum(case when l.state = 'FAIL' then 1 else 0 end), " +
+            "sum(case when l.state = 'DISCARD' then 1 else 0 end), " +
+            "sum(case when l.type = 'MAIN' then 1 else 0 end), " +
+            "sum(case when l.type = 'SUB' then 1 else 0 end), " +
+            "sum(case when l.state = 'COMPLETE' and exists (" +
+            "select 1 from quest_log r where r.quest_id = l.quest_id and r.user_id = l.user_id " +
+            "and r.state = 'PROCEED' and r.logged_date = l.logged_date) then 1 else 0 end) " +
+            "from quest_log l " +
+            "where l.logged_date = :loggedDate " +
+            "group by l.user_id, l.logged_date " +
+            "on duplicate key update " +
+            "registered_count = values(registered_count), " +
+            "complete_count = values(complete_count), " +
+            "fail_count = values(fail_count), " +
+            "discard_count = values(discard_count), " +
+            "main_count = values(main_count), " +
+            "sub_count = values(sub_count), " +
+            "registered_complete_count = values(registered_complete_count)", nativeQuery = true)
+    fun recomputeCountsOf(@Param("loggedDate") loggedDate: LocalDate): Int
+
+    /**
+     * id 범위 내 초기화 대상 퀘스트를 유저별로 묶어 실패 카운트와 타입 카운트를 증가시킨다. 퀘스트 상태를 변경하기 전에 실행해야 한다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_daily_rollup (user_id, logged_date, registered_count, complete_count, fail_count, discard_count, main_count, sub_count, registered_complete_count) " +
+            "select user_id, :loggedDate, 0, 0, count(*), 0, " +
+            "sum(case when type = 'MAIN' then 1 else 0 end), " +
+            "sum(case when type = 'SUB' then 1 else 0 end), 0 " +
+            "from quest " +
+            "where quest_id >= :startQuestId and quest_id < :endQuestId " +
+            "and state = 'PROCEED' and dead_line is null and created_date <= :resetDateTime " +
+            "group by user_id " +
+            "on duplicate key update " +
+            "fail_count = fail_count + values(fail_count), " +
+            "main_count = main_count + values(main_count), " +
+            "sub_count = sub_count + values(sub_count)", nativeQuery = true)
+    fun increaseFailCountsForResetBetween(
+        @Param("startQuestId") startQuestId: Long,
+        @Param("endQuestId") endQuestId: Long,
+        @Param("resetDateTime") resetDateTime: LocalDateTime,
+        @Param("loggedDate") loggedDate: LocalDate,
+    ): Int
+
+    /**
+     * 해당 날짜에 등록한 퀘스트가 있고, 등록한 퀘스트를 모두 같은 날 완료한 유저 중 id 가 lastUserId 보다 큰 유저의 id 를 id 순으로 조회한다.
+     * (logged_date, user_id) 인덱스 범위 조회로 처리되므로 quest_log 를 다시 집계하지 않는다.
+     */
+    @Query("select r.userId from QuestLogDailyRollup r " +
+            "where r.loggedDate = :loggedDate and r.userId > :lastUserId " +
+            "and r.registeredCount > 0 and r.registeredCompleteCount = r.registeredCount " +
+            "order by r.userId")
+    fun getAllUserIdsWhoAchievedPerfectDay(
+        @Param("loggedDate") loggedDate: LocalDate,
+        @Param("lastUserId") lastUserId: Long,
+        pageable: Pageable,
+    ): List<Long>
+}
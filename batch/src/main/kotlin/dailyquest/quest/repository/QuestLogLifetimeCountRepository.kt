@@ -0,0 +1,89 @@
+package dailyquest.quest.repository
+
+import dailyquest.quest.entity.QuestLogLifetimeCount
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import java.time.LocalDateTime
+
+interface QuestLogLifetimeCountRepository : JpaRepository<QuestLogLifetimeCount, Long> {
+
+    /**
+     * 누적 행이 없으면 증가분으로 생성하고, 있으면 증가분만큼 더한다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_lifetime_count (user_id, registered_count, complete_count, fail_count, discard_count) " +
+            "values (:userId, :registeredCount, :completeCount, :failCount, :discardCount) " +
+            "on duplicate key update " +
+            "registered_count = registered_count + :registeredCount, " +
+            "complete_count = complete_count + :completeCount, " +
+            "fail_count = fail_count + :failCount, " +
+            "discard_count = discard_count + :discardCount", nativeQuery = true)
+    fun increaseCounts(
+        @Param("userId") userId: Long,
+        @Param("registeredCount") registeredCount: Long,
+        @Param("completeCount") completeCount: Long,
+        @Param("failCount") failCount: Long,
+        @Param("discardCount") discardCount: Long,
+    ): Int
+
+    /**
+     * 범위 내 유저 중 quest_log 를 다시 집계한 값과 누적 카운트가 다른 유저 수를 조회한다.
+     */
+    @Query(value = "select count(*) from (" +
+            "select ql.user_id, " +
+            "sum(case when ql.state = 'PROCEED' then 1 else 0 end) as registered_count, " +
+            "sum(case when ql.state = 'COMPLETE' then 1 else 0 end) as complete_count, " +
+            "sum(case when ql.state = 'FAIL' then 1 else 0 end) as fail_count, " +
+            "sum(case when ql.state = 'DISCARD' then 1 else 0 end) as discard_count " +
+            "from quest_log ql " +
+            "where ql.user_id >= :startUserId and ql.user_id < :endUserId " +
+            "group by ql.user_id" +
+            ") expected " +
+            "left join quest_log_lifetime_count lc on lc.user_id = expected.user_id " +
+            "where lc.user_id is null " +
+            "or lc.registered_count <> expected.registered_count " +
+            "or lc.complete_count <> expected.complete_count " +
+            "or lc.fail_count <> expected.fail_count " +
+            "or lc.discard_count <> expected.discard_count", nativeQuery = true)
+    fun countMismatchedUsersBetween(@Param("startUserId") startUserId: Long, @Param("endUserId") endUserId: Long): Long
+
+    /**
+     * 범위 내 유저의 quest_log 를 다시 집계해 누적 카운트를 덮어쓴다. 여러 번 실행해도 결과가 같다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_lifetime_count (user_id, registered_count, complete_count, fail_count, discard_count) " +
+            "select user_id, " +
+            "sum(case when state = 'PROCEED' then 1 else 0 end), " +
+            "sum(case when state = 'COMPLETE' then 1 else 0 end), " +
+            "sum(case when state = 'FAIL' then 1 else 0 end), " +
+            "sum(case when state = 'DISCARD' then 1 else 0 end) " +
+            "from quest_log " +
+            "where user_id >= :startUserId and user_id < :endUserId " +
+            "group by user_id " +
+            "on duplicate key update " +
+            "registered_count = values(registered_count), " +
+            "complete_count = values(complete_count), " +
+            "fail_count = values(fail_count), " +
+            "discard_count = values(discard_count)", nativeQuery = true)
+    fun recomputeCountsBetween(@Param("startUserId") startUserId: Long, @Param("endUserId") endUserId: Long): Int
+
+    /**
+     * id 범위 내 초기화 대상 퀘스트를 유저별로 묶어 누적 실패 카운트를 증가시킨다. 퀘스트 상태를 변경하기 전에 실행해야 한다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_lifetime_count (user_id, registered_count, complete_count, fail_count, discard_count) " +
+            "select user_id, 0, 0, count(*), 0 " +
+            "from quest " +
+            "where quest_id >= :startQuestId and quest_id < :endQuestId " +
+            "and state = 'PROCEED' and dead_line is null and created_date <= :resetDateTime " +
+            "group by user_id " +
+            "on duplicate key update " +
+            "fail_count = fail_count + values(fail_count)", nativeQuery = true)
+    fun increaseFailCountsForResetBetween(
+        @Param("startQuestId") startQuestId: Long,
+        @Param("endQuestId") endQuestId: Long,
+        @Param("resetDateTime") resetDateTime: LocalDateTime,
+    ): Int
+}
@@ -1,25 +1,32 @@
 package dailyquest.quest.repository
 
 import dailyquest.quest.entity.QuestLog
-import org.springframework.data.domain.Page
-import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
 import org.springframework.data.repository.query.Param
 import java.time.LocalDate
+import java.time.LocalDateTime
 
 interface QuestLogRepository : JpaRepository<QuestLog, Long> {
 
-    @Query("select qlp.userId " +
-            "from QuestLog qlp " +
-            "left join QuestLog qlc " +
-                "on qlc.loggedDate = :loggedDate " +
-                "and qlc.state = 'COMPLETE' " +
-                "and qlc.userId = qlp.userId " +
-                "and qlc.questId = qlp.questId " +
-            "where qlp.loggedDate = :loggedDate " +
-            "and qlp.state = 'PROCEED' " +
-            "group by qlp.userId " +
-            "having count(qlp.questId) = count(qlc.questId)")
-    fun getAllUserIdsWhoAchievedPerfectDay(@Param("loggedDate") loggedDate: LocalDate, pageable: Pageable): Page<Long>
-}
\ No newline at end of file
+    @Query("select max(ql.userId) from QuestLog ql")
+    fun findMaxUserId(): Long?
+
+    /**
+     * id 범위 내 초기화 대상 퀘스트의 실패 로그를 한 번에 저장한다. 퀘스트 상태를 변경하기 전에 실행해야 한다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log (user_id, quest_id, state, type, logged_date, created_date, last_modified_date) " +
+            "select user_id, quest_id, 'FAIL', type, :loggedDate, :createdDate, :createdDate " +
+            "from quest " +
+            "where quest_id >= :startQuestId and quest_id < :endQuestId " +
+            "and state = 'PROCEED' and dead_line is null and created_date <= :resetDateTime", nativeQuery = true)
+    fun insertFailLogsForResetBetween(
+        @Param("startQuestId") startQuestId: Long,
+        @Param("endQuestId") endQuestId: Long,
+        @Param("resetDateTime") resetDateTime: LocalDateTime,
+        @Param("loggedDate") loggedDate: LocalDate,
+        @Param("createdDate") createdDate: LocalDateTime,
+    ): Int
+}
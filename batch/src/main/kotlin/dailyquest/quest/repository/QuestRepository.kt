@@ -1,24 +1,130 @@
 package dailyquest.quest.repository
 
 import dailyquest.quest.entity.Quest
-import org.springframework.data.domain.Page
+import jakarta.persistence.LockModeType
+import jakarta.persistence.QueryHint
+import org.hibernate.jpa.HibernateHints
 import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Lock
+import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
+import org.springframework.data.jpa.repository.QueryHints
 import org.springframework.data.repository.query.Param
 import java.time.LocalDateTime
 
 interface QuestRepository : JpaRepository<Quest, Long> {
 
-    @Query("select q from Quest q where q.state = 'PROCEED' and q.deadLine = null and q.createdDate <= :resetDateTime")
+    /**
+     * 초기화 대상 퀘스트 중 id 가 lastQuestId 보다 큰 퀘스트를 id 순으로 조회한다.
+     * 상태 변경은 배치 라이터가 JDBC 로 실행하므로, 조회한 엔티티는 변경 감지 대상에서 제외한다.
+     */
+    @QueryHints(QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select q from Quest q where q.state = 'PROCEED' and q.deadLine = null and q.createdDate <= :resetDateTime " +
+            "and q.id > :lastQuestId order by q.id")
     fun getQuestsForResetBatch(
         @Param("resetDateTime") resetDateTime: LocalDateTime,
+        @Param("lastQuestId") lastQuestId: Long,
         pageable: Pageable
-    ): Page<Quest>
+    ): List<Quest>
 
-    @Query("select q from Quest q where q.state = 'PROCEED' and q.deadLine != null and q.deadLine <= :targetDate")
+    /**
+     * 데드라인이 지난 퀘스트 중 id 가 lastQuestId 보다 큰 퀘스트를 id 순으로 조회한다.
+     * 상태 변경은 배치 라이터가 JDBC 로 실행하므로, 조회한 엔티티는 변경 감지 대상에서 제외한다.
+     */
+    @QueryHints(QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select q from Quest q where q.state = 'PROCEED' and q.deadLine != null and q.deadLine <= :targetDate " +
+            "and q.id > :lastQuestId order by q.id")
     fun getQuestForDeadLineBatch(
         @Param("targetDate") targetDate: LocalDateTime,
+        @Param("lastQuestId") lastQuestId: Long,
         pageable: Pageable
-    ): Page<Quest>
+    ): List<Quest>
+
+    @QueryHints(QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select q from Quest q where q.state = 'PROCEED' and q.deadLine = null and q.createdDate <= :resetDateTime " +
+            "and q.userId between :minUserId and :maxUserId and q.id > :lastQuestId order by q.id")
+    fun getQuestsForResetBatchBetween(
+        @Param("resetDateTime") resetDateTime: LocalDateTime,
+        @Param("minUserId") minUserId: Long,
+        @Param("maxUserId") maxUserId: Long,
+        @Param("lastQuestId") lastQuestId: Long,
+        pageable: Pageable
+    ): List<Quest>
+
+    @QueryHints(QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select q from Quest q where q.state = 'PROCEED' and q.deadLine != null and q.deadLine <= :targetDate " +
+            "and q.userId between :minUserId and :maxUserId and q.id > :lastQuestId order by q.id")
+    fun getQuestForDeadLineBatchBetween(
+        @Param("targetDate") targetDate: LocalDateTime,
+        @Param("minUserId") minUserId: Long,
+        @Param("maxUserId") maxUserId: Long,
+        @Param("lastQuestId") lastQuestId: Long,
+        pageable: Pageable
+    ): List<Quest>
+
+    /**
+     * 데드라인이 있는 진행 중 퀘스트 중 id 가 lastQuestId 보다 큰 퀘스트를 id 순으로 조회한다.
+     * 데드라인 스케줄러가 시작할 때와 reloadIntervalMillis 주기로 스케줄의 누락을 채우는 용도로만 사용한다.
+     */
+    @QueryHints(QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select q from Quest q where q.state = 'PROCEED' and q.deadLine != null and q.id > :lastQuestId order by q.id")
+    fun getQuestsWithDeadLine(
+        @Param("lastQuestId") lastQuestId: Long,
+        pageable: Pageable
+    ): List<Quest>
+
+    /**
+     * 주어진 퀘스트 중 데드라인이 지난 진행 중 퀘스트에 쓰기 락을 걸고 조회한다.
+     * 여러 인스턴스가 같은 퀘스트를 꺼내더라도 먼저 락을 얻은 쪽만 실패 처리하게 된다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q from Quest q where q.id in :questIds and q.state = 'PROCEED' and q.deadLine != null and q.deadLine <= :targetDate")
+    fun lockQuestsForDeadLineIn(
+        @Param("questIds") questIds: Collection<Long>,
+        @Param("targetDate") targetDate: LocalDateTime,
+    ): List<Quest>
+
+    @Query("select min(q.userId) from Quest q where q.state = 'PROCEED' and q.deadLine = null and q.createdDate <= :resetDateTime")
+    fun findMinUserIdForReset(@Param("resetDateTime") resetDateTime: LocalDateTime): Long?
+
+    @Query("select max(q.userId) from Quest q where q.state = 'PROCEED' and q.deadLine = null and q.createdDate <= :resetDateTime")
+    fun findMaxUserIdForReset(@Param("resetDateTime") resetDateTime: LocalDateTime): Long?
+
+    @Query("select min(q.userId) from Quest q where q.state = 'PROCEED' and q.deadLine != null and q.deadLine <= :targetDate")
+    fun findMinUserIdForDeadLine(@Param("targetDate") targetDate: LocalDateTime): Long?
+
+    @Query("select max(q.userId) from Quest q where q.state = 'PROCEED' and q.deadLine != null and q.deadLine <= :targetDate")
+    fun findMaxUserIdForDeadLine(@Param("targetDate") targetDate: LocalDateTime): Long?
+
+    @Query("select min(q.id) from Quest q where q.state = 'PROCEED' and q.deadLine = null and q.createdDate <= :resetDateTime")
+    fun findMinQuestIdForReset(@Param("resetDateTime") resetDateTime: LocalDateTime): Long?
+
+    @Query("select max(q.id) from Quest q where q.state = 'PROCEED' and q.deadLine = null and q.createdDate <= :resetDateTime")
+    fun findMaxQuestIdForReset(@Param("resetDateTime") resetDateTime: LocalDateTime): Long?
+
+    /**
+     * id 범위 내 초기화 대상 퀘스트에 쓰기 락을 걸고 id 를 조회한다.
+     * 같은 트랜잭션에서 이어지는 로그 저장과 상태 변경이 조회한 퀘스트와 같은 대상에 적용되도록 한다.
+     */
+    @Query(value = "select quest_id from quest " +
+            "where quest_id >= :startQuestId and quest_id < :endQuestId " +
+            "and state = 'PROCEED' and dead_line is null and created_date <= :resetDateTime " +
+            "for update", nativeQuery = true)
+    fun lockQuestIdsForResetBetween(
+        @Param("startQuestId") startQuestId: Long,
+        @Param("endQuestId") endQuestId: Long,
+        @Param("resetDateTime") resetDateTime: LocalDateTime,
+    ): List<Long>
+
+    @Modifying
+    @Query(value = "update quest set state = 'FAIL', last_modified_date = :modifiedDate " +
+            "where quest_id >= :startQuestId and quest_id < :endQuestId " +
+            "and state = 'PROCEED' and dead_line is null and created_date <= :resetDateTime", nativeQuery = true)
+    fun failQuestsForResetBetween(
+        @Param("startQuestId") startQuestId: Long,
+        @Param("endQuestId") endQuestId: Long,
+        @Param("resetDateTime") resetDateTime: LocalDateTime,
+        @Param("modifiedDate") modifiedDate: LocalDateTime,
+    ): Int
 }
@@ -0,0 +1,149 @@
+package dailyquest.search.service
+
+import dailyquest.properties.ElasticBulkProperties
+import dailyquest.properties.ElasticSyncConsumerProperties
+import dailyquest.quest.entity.QuestState
+import dailyquest.search.document.QuestDocument
+import dailyquest.sqs.dto.ElasticSyncMessage
+import dailyquest.sqs.dto.ElasticSyncRequestType
+import org.opensearch.action.DocWriteRequest
+import org.opensearch.action.bulk.BulkRequest
+import org.opensearch.action.delete.DeleteRequest
+import org.opensearch.action.get.MultiGetRequest
+import org.opensearch.action.index.IndexRequest
+import org.opensearch.client.RequestOptions
+import org.opensearch.client.RestHighLevelClient
+import org.opensearch.common.xcontent.XContentType
+import org.opensearch.index.VersionType
+import org.opensearch.rest.RestStatus
+import org.slf4j.LoggerFactory
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations
+import org.springframework.stereotype.Component
+import java.io.IOException
+import java.time.LocalDateTime
+
+/**
+ * 퀘스트 문서 변경을 _bulk API 로 한 번에 반영한다.
+ *
+ * 동기화 메시지는 version 을 외부 버전(external_gte)으로 사용하므로, 순서가 뒤바뀌어 도착한 오래된 메시지는
+ * 버전 충돌로 거절되고 더 최신 문서가 유지된다. 같은 메시지가 다시 전달되어도 같은 버전이므로 결과는 같다.
+ * 단, 삭제된 문서의 버전은 인덱스 설정 index.gc_deletes(기본 60초) 동안만 유지되므로,
+ * 그보다 늦게 도착한 삭제 이전의 메시지는 삭제된 문서를 다시 만들 수 있다.
+ * 무시해도 되는 실패가 아닌 항목만 모아 설정된 횟수만큼 다시 요청한다.
+ */
+@Component
+class QuestDocumentBulkIndexer(
+    private val restHighLevelClient: RestHighLevelClient,
+    private val properties: ElasticSyncConsumerProperties,
+    private val bulkProperties: ElasticBulkProperties,
+    elasticsearchOperations: ElasticsearchOperations,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val indexName: String = elasticsearchOperations.getIndexCoordinatesFor(QuestDocument::class.java).indexName
+
+    /**
+     * @return 재시도 후에도 반영하지 못한 메시지 목록
+     */
+    fun bulkApply(messages: List<ElasticSyncMessage>): List<ElasticSyncMessage> {
+        return this.executeWithRetry(messages, RestStatus.CONFLICT) { items -> items.map { it to toWriteRequest(it) } }
+    }
+
+    /**
+     * 문서의 state 필드만 바꿔 퀘스트의 새 수정 시각을 외부 버전(external_gte)으로 다시 색인한다.
+     * 부분 업데이트에는 외부 버전을 지정할 수 없으므로, 문서를 mget 으로 읽어 state 만 바꾼 원본을 색인한다.
+     * 그래서 동기화 메시지와 같은 버전 규칙이 적용되어, 더 최신 문서는 덮어쓰지 않고 상태 변경보다 오래된 메시지가 늦게 도착해도 거절된다.
+     * 단, mget 과 색인 사이에 상태 변경보다 오래된 메시지가 먼저 반영되면 그 메시지의 다른 필드 변경은 다음 동기화 때까지 빠질 수 있다.
+     * 요청은 elastic.bulk.state-update-batch-size 단위로 나뉘며, 색인되지 않은 문서와 이미 더 최신인 문서는 건너뛴다.
+     *
+     * @param lastModifiedDates 문서 ID 별로 상태를 변경하며 DB 에 저장한 퀘스트의 수정 시각
+     * @return 재시도 후에도 반영하지 못한 문서 ID 목록
+     */
+    fun bulkUpdateState(lastModifiedDates: Map<Long, LocalDateTime>, state: QuestState): List<Long> {
+        return lastModifiedDates.keys.chunked(bulkProperties.stateUpdateBatchSize).flatMap { chunk ->
+            this.executeWithRetry(chunk, RestStatus.CONFLICT) { toStateIndexRequests(it, lastModifiedDates, state) }
+        }
+    }
+
+    private fun <T> executeWithRetry(items: List<T>, ignorableStatus: RestStatus, toRequests: (List<T>) -> List<Pair<T, DocWriteRequest<*>>>): List<T> {
+        var pendingItems = items
+        var attempt = 0
+        while (pendingItems.isNotEmpty()) {
+            val failedItems = this.execute(pendingItems, ignorableStatus, toRequests)
+            if (failedItems.isEmpty() || attempt >= properties.maxItemRetries) {
+                return failedItems
+            }
+            attempt++
+            log.warn("검색 문서 bulk 요청 중 일부 항목이 실패했습니다. 실패한 항목만 다시 요청합니다. attempt : [{}], size : [{}]", attempt, failedItems.size)
+            Thread.sleep(properties.retryBackoffMillis * attempt)
+            pendingItems = failedItems
+        }
+        return emptyList()
+    }
+
+    private fun <T> execute(items: List<T>, ignorableStatus: RestStatus, toRequests: (List<T>) -> List<Pair<T, DocWriteRequest<*>>>): List<T> {
+        val requests = try {
+            toRequests(items)
+        } catch (e: IOException) {
+            log.error("검색 문서 bulk 요청을 만드는 중에 실패했습니다. size : [{}]", items.size, e)
+            return items
+        }
+        if (requests.isEmpty()) return emptyList()
+
+        val bulkRequest = BulkRequest()
+        requests.forEach { bulkRequest.add(it.second) }
+        val bulkResponse = try {
+            restHighLevelClient.bulk(bulkRequest, RequestOptions.DEFAULT)
+        } catch (e: IOException) {
+            log.error("검색 문서 bulk 요청에 실패했습니다. size : [{}]", items.size, e)
+            return items
+        }
+        if (!bulkResponse.hasFailures()) {
+            return emptyList()
+        }
+        return bulkResponse.items
+            .filter { it.isFailed && it.failure.status != ignorableStatus }
+            .map { requests[it.itemId].first }
+    }
+
+    /**
+     * 색인된 문서만 원본을 읽어 state 를 바꾼 색인 요청을 만든다. 읽기에 실패한 문서가 있으면 묶음 전체를 다시 시도한다.
+     */
+    private fun toStateIndexRequests(
+        documentIds: List<Long>,
+        lastModifiedDates: Map<Long, LocalDateTime>,
+        state: QuestState
+    ): List<Pair<Long, DocWriteRequest<*>>> {
+        val multiGetRequest = MultiGetRequest()
+        documentIds.forEach { multiGetRequest.add(indexName, it.toString()) }
+        val multiGetResponse = restHighLevelClient.mget(multiGetRequest, RequestOptions.DEFAULT)
+        if (multiGetResponse.responses.any { it.isFailed }) {
+            throw IOException("검색 문서 mget 요청 중 일부 문서를 읽지 못했습니다.")
+        }
+        return multiGetResponse.responses
+            .filter { it.response.isExists }
+            .map {
+                val documentId = it.id.toLong()
+                val request = IndexRequest(indexName).id(it.id)
+                    .source(it.response.sourceAsMap + (STATE_FIELD to state.name))
+                    .versionType(VersionType.EXTERNAL_GTE)
+                    .version(ElasticSyncMessage.versionOf(lastModifiedDates.getValue(documentId)))
+                documentId to request
+            }
+    }
+
+    private fun toWriteRequest(message: ElasticSyncMessage): DocWriteRequest<*> {
+        val documentId = message.documentId.toString()
+        val request: DocWriteRequest<*> = when (message.requestType) {
+            ElasticSyncRequestType.PERSIST -> IndexRequest(indexName).id(documentId).source(message.documentJson, XContentType.JSON)
+            ElasticSyncRequestType.DELETE -> DeleteRequest(indexName, documentId)
+        }
+        if (message.hasVersion()) {
+            request.versionType(VersionType.EXTERNAL_GTE).version(message.version)
+        }
+        return request
+    }
+
+    companion object {
+        private const val STATE_FIELD = "state"
+    }
+}
@@ -1,6 +1,7 @@
 package dailyquest.sqs.listener
 
 import dailyquest.properties.BatchParameterProperties
+import dailyquest.properties.CheckAndAchieveProperties
 import io.awspring.cloud.sqs.annotation.SqsListener
 import io.awspring.cloud.sqs.listener.acknowledgement.Acknowledgement
 import org.springframework.batch.core.ExitStatus
@@ -14,7 +15,9 @@ import org.springframework.stereotype.Component
 class AchievementRegQueueListener(
     private val jobLauncher: JobLauncher,
     private val checkAndAchieveBatchJob: Job,
+    private val checkAndAchieveBulkBatchJob: Job,
     private val batchParameterProperties: BatchParameterProperties,
+    private val checkAndAchieveProperties: CheckAndAchieveProperties,
 ) {
     @SqsListener(value = ["\${aws.sqs.queue.batch-job-queue-url}"], acknowledgementMode = "MANUAL")
     fun consumeMessage(achievementId: Long, ack: Acknowledgement) {
@@ -28,6 +31,10 @@ class AchievementRegQueueListener(
         val jobParameters = JobParametersBuilder()
             .addLong(batchParameterProperties.targetAchievementIdKey, achievementId)
             .toJobParameters()
-        return jobLauncher.run(checkAndAchieveBatchJob, jobParameters)
+        val checkAndAchieveJob = when (checkAndAchieveProperties.engine) {
+            CheckAndAchieveProperties.Engine.CHUNK -> checkAndAchieveBatchJob
+            CheckAndAchieveProperties.Engine.BULK -> checkAndAchieveBulkBatchJob
+        }
+        return jobLauncher.run(checkAndAchieveJob, jobParameters)
     }
-}
\ No newline at end of file
+}
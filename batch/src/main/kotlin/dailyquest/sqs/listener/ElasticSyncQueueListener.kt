@@ -0,0 +1,33 @@
+package dailyquest.sqs.listener
+
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import dailyquest.sqs.dto.ElasticSyncMessage
+import io.awspring.cloud.sqs.annotation.SqsListener
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement
+import org.springframework.messaging.Message
+import org.springframework.stereotype.Component
+
+/**
+ * 검색 문서 동기화 큐의 메시지를 폴링 단위로 모아 bulk 로 반영한다.
+ * 한 번에 받는 메시지 수와 대기 시간은 elastic.sync.consumer 설정으로 조절하며,
+ * 반영에 실패한 메시지는 acknowledge 하지 않아 가시성 타임아웃 이후 다시 전달된다.
+ */
+@Component
+class ElasticSyncQueueListener(
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer,
+) {
+    @SqsListener(
+        value = ["\${aws.sqs.queue.elastic-sync-queue-url}"],
+        acknowledgementMode = "MANUAL",
+        maxMessagesPerPoll = "\${elastic.sync.consumer.max-messages-per-poll:10}",
+        maxConcurrentMessages = "\${elastic.sync.consumer.max-concurrent-messages:10}",
+        pollTimeoutSeconds = "\${elastic.sync.consumer.poll-timeout-seconds:1}",
+    )
+    fun consumeMessages(messages: List<Message<ElasticSyncMessage>>, ack: BatchAcknowledgement<ElasticSyncMessage>) {
+        val failedMessages = questDocumentBulkIndexer.bulkApply(messages.map { it.payload })
+        val succeededMessages = messages.filter { message -> failedMessages.none { it === message.payload } }
+        if (succeededMessages.isNotEmpty()) {
+            ack.acknowledge(succeededMessages)
+        }
+    }
+}
@@ -1,9 +1,27 @@
 package dailyquest.user.record.repository
 
 import dailyquest.user.record.entity.UserRecord
-import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 
 interface BatchUserRecordRepository : UserRecordRepository, BatchUserRecordRepositoryCustom {
-    fun findAllByIdIn(id: List<Long>, pageable: Pageable): Page<UserRecord>
-}
\ No newline at end of file
+
+    /**
+     * 잡 인스턴스의 stagingKey 로 저장된 유저 id 중 lastUserId 보다 큰 유저의 기록을 id 순으로 조회한다.
+     */
+    @Query("select ur from UserRecord ur join BatchStagingItem s on s.itemKey = ur.id " +
+            "where s.jobInstanceId = :jobInstanceId and s.stagingKey = :stagingKey and ur.id > :lastUserId order by ur.id asc")
+    fun getAllStagedUserRecords(
+        @Param("jobInstanceId") jobInstanceId: Long,
+        @Param("stagingKey") stagingKey: String,
+        @Param("lastUserId") lastUserId: Long,
+        pageable: Pageable
+    ): List<UserRecord>
+
+    @Query("select min(ur.id) from UserRecord ur")
+    fun findMinUserId(): Long?
+
+    @Query("select max(ur.id) from UserRecord ur")
+    fun findMaxUserId(): Long?
+}
@@ -4,18 +4,19 @@ import com.querydsl.jpa.impl.JPAQueryFactory
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementType.*
 import dailyquest.user.record.entity.QUserRecord.userRecord
-import org.springframework.data.domain.Page
-import org.springframework.data.domain.PageImpl
-import org.springframework.data.domain.Pageable
 
 class BatchUserRecordRepositoryImpl(
     private val jpaQueryFactory: JPAQueryFactory
 ): BatchUserRecordRepositoryCustom {
 
+    /**
+     * 업적 달성 조건을 만족하는 유저 중 id 가 lastUserId 보다 큰 유저의 id 를 id 순으로 최대 pageSize 만큼 조회한다.
+     */
     override fun getAllUserIdWhoCanAchieveOf(
         targetAchievement: Achievement,
-        pageable: Pageable
-    ): Page<Long> {
+        lastUserId: Long,
+        pageSize: Int
+    ): List<Long> {
         val recordForType = when (targetAchievement.type) {
             QUEST_REGISTRATION -> userRecord.questRegistrationCount
             QUEST_COMPLETION -> userRecord.questCompletionCount
@@ -26,17 +27,11 @@ class BatchUserRecordRepositoryImpl(
         }
 
         val isRecordForTypeGoeThanTargetValue = recordForType.goe(targetAchievement.targetValue)
-        val users = jpaQueryFactory.select(userRecord.id)
+        return jpaQueryFactory.select(userRecord.id)
             .from(userRecord)
-            .where(isRecordForTypeGoeThanTargetValue)
-            .offset(pageable.offset)
-            .limit(pageable.pageSize.toLong())
+            .where(isRecordForTypeGoeThanTargetValue, userRecord.id.gt(lastUserId))
+            .orderBy(userRecord.id.asc())
+            .limit(pageSize.toLong())
             .fetch()
-
-        val totalCount = jpaQueryFactory.select(userRecord.count())
-            .from(userRecord)
-            .where(isRecordForTypeGoeThanTargetValue)
-            .fetchFirst()
-        return PageImpl(users, pageable, totalCount)
     }
 }
\ No newline at end of file
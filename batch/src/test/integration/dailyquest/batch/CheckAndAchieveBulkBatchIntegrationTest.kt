@@ -0,0 +1,132 @@
+package dailyquest.batch
+
+import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementType
+import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.properties.BatchContextProperties
+import dailyquest.properties.BatchParameterProperties
+import dailyquest.search.repository.QuestIndexRepository
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.batch.core.BatchStatus
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.core.launch.JobLauncher
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.test.JobLauncherTestUtils
+import org.springframework.batch.test.JobRepositoryTestUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.mock.mockito.MockBean
+import org.springframework.context.annotation.Import
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+
+@Import(MockSqsClientTestContextConfig::class)
+@DisplayName("집합 기반 업적 달성 확인 배치 통합 테스트")
+@SpringBootTest
+class CheckAndAchieveBulkBatchIntegrationTest @Autowired constructor(
+    private val checkAndAchieveBulkBatchJob: Job,
+    private val jobLauncher: JobLauncher,
+    private val jobRepository: JobRepository,
+    private val entityManager: EntityManager,
+    private val transactionTemplate: TransactionTemplate,
+) {
+    @MockBean
+    private lateinit var batchParameterProperties: BatchParameterProperties
+    @MockBean
+    private lateinit var batchContextProperties: BatchContextProperties
+    @MockBean
+    private lateinit var questIndexRepository: QuestIndexRepository
+    private lateinit var jobLauncherTestUtils: JobLauncherTestUtils
+    private lateinit var achievement: Achievement
+
+    private val achievedUserId = 1L
+    private val notAchievableUserId = 2L
+    private val alreadyAchievedUserId = 3L
+
+    @BeforeEach
+    fun init() {
+        transactionTemplate.executeWithoutResult {
+            entityManager.createNativeQuery("delete from notification").executeUpdate()
+            entityManager.createNativeQuery("delete from achievement_achieve_log").executeUpdate()
+            entityManager.createNativeQuery("delete from achievement").executeUpdate()
+            entityManager.createNativeQuery("delete from user_record").executeUpdate()
+        }
+        JobRepositoryTestUtils(jobRepository).removeJobExecutions()
+
+        achievement = Achievement("title", "desc", AchievementType.QUEST_COMPLETION, 10)
+        transactionTemplate.executeWithoutResult {
+            entityManager.persist(achievement)
+            val query = entityManager.createNativeQuery(
+                "insert into user_record (user_id, quest_registration_count, quest_completion_count, " +
+                        "current_quest_continuous_registration_days, current_quest_continuous_completion_days, " +
+                        "max_quest_continuous_registration_days, max_quest_continuous_completion_days, " +
+                        "perfect_day_count, gold_earn_amount, gold_use_amount) values (?, 0, ?, 0, 0, 0, 0, 0, 0, 0)"
+            )
+            query.setParameter(1, achievedUserId).setParameter(2, 10).executeUpdate()
+            query.setParameter(1, notAchievableUserId).setParameter(2, 9).executeUpdate()
+            query.setParameter(1, alreadyAchievedUserId).setParameter(2, 20).executeUpdate()
+            entityManager
+                .createNativeQuery("insert into achievement_achieve_log (achievement_id, user_id, created_date) values (?, ?, ?)")
+                .setParameter(1, achievement.id)
+                .setParameter(2, alreadyAchievedUserId)
+                .setParameter(3, LocalDateTime.now().minusDays(1))
+                .executeUpdate()
+            entityManager.clear()
+        }
+
+        jobLauncherTestUtils = JobLauncherTestUtils()
+        jobLauncherTestUtils.jobLauncher = jobLauncher
+        jobLauncherTestUtils.job = checkAndAchieveBulkBatchJob
+    }
+
+    @DisplayName("달성 조건을 만족하고 아직 달성하지 않은 유저에게만 달성 로그와 알림을 저장한다")
+    @Test
+    fun `달성 조건을 만족하고 아직 달성하지 않은 유저에게만 달성 로그와 알림을 저장한다`() {
+        //given
+        val jobParameters = JobParametersBuilder().addLong("targetAchievementId", achievement.id).toJobParameters()
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        assertThat(jobExecution.stepExecutions.single().writeCount).isEqualTo(1)
+        assertThat(this.getAchievedUserIds()).containsExactly(achievedUserId, alreadyAchievedUserId)
+        assertThat(this.getNotifiedUserIds()).containsExactly(achievedUserId)
+    }
+
+    @DisplayName("같은 업적으로 다시 실행해도 달성 로그와 알림이 중복되지 않는다")
+    @Test
+    fun `같은 업적으로 다시 실행해도 달성 로그와 알림이 중복되지 않는다`() {
+        //given
+        jobLauncherTestUtils.launchJob(JobParametersBuilder().addLong("targetAchievementId", achievement.id).addLong("run", 1).toJobParameters())
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(
+            JobParametersBuilder().addLong("targetAchievementId", achievement.id).addLong("run", 2).toJobParameters()
+        )
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        assertThat(jobExecution.stepExecutions.single().writeCount).isEqualTo(0)
+        assertThat(this.getAchievedUserIds()).containsExactly(achievedUserId, alreadyAchievedUserId)
+        assertThat(this.getNotifiedUserIds()).containsExactly(achievedUserId)
+    }
+
+    private fun getAchievedUserIds(): List<Long> {
+        return entityManager
+            .createQuery("select aal.userId from AchievementAchieveLog aal order by aal.userId", Long::class.javaObjectType)
+            .resultList
+    }
+
+    private fun getNotifiedUserIds(): List<Long> {
+        return entityManager
+            .createQuery("select n.userId from Notification n order by n.userId", Long::class.javaObjectType)
+            .resultList
+    }
+}
@@ -1,5 +1,6 @@
 package dailyquest.batch
 
+import dailyquest.batch.reader.KeysetItemReader
 import dailyquest.context.MockSqsClientTestContextConfig
 import dailyquest.properties.BatchContextProperties
 import dailyquest.properties.BatchParameterProperties
@@ -19,8 +20,7 @@ import org.springframework.batch.core.JobParametersBuilder
 import org.springframework.batch.core.repository.JobRepository
 import org.springframework.batch.core.scope.context.StepSynchronizationManager
 import org.springframework.batch.item.Chunk
-import org.springframework.batch.item.data.RepositoryItemReader
-import org.springframework.batch.item.data.RepositoryItemWriter
+import org.springframework.batch.item.database.JdbcBatchItemWriter
 import org.springframework.batch.item.function.FunctionItemProcessor
 import org.springframework.batch.test.JobRepositoryTestUtils
 import org.springframework.batch.test.MetaDataInstanceFactory
@@ -42,10 +42,10 @@ import java.time.format.DateTimeFormatter
 @SpringBootTest
 class QuestBatchComponentTest @Autowired constructor(
     private val questRepository: QuestRepository,
-    private val questResetReader: RepositoryItemReader<Quest>,
-    private val questDeadLineReader: RepositoryItemReader<Quest>,
+    private val questResetReader: KeysetItemReader<Quest>,
+    private val questDeadLineReader: KeysetItemReader<Quest>,
     private val questFailProcessor: FunctionItemProcessor<Quest, Quest>,
-    private val questWriter: RepositoryItemWriter<Quest>,
+    private val questWriter: JdbcBatchItemWriter<Quest>,
     private val entityManager: EntityManager,
     private val transactionTemplate: TransactionTemplate,
     private val jobRepository: JobRepository,
@@ -178,12 +178,42 @@ class QuestBatchComponentTest @Autowired constructor(
     @Test
     fun `questWriter 동작 시 quest 상태가 저장된다`() {
         //given
-        val quest = Quest("", "", testUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, null)
+        val quest = questRepository.save(Quest("", "", testUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, null))
+        quest.failQuest()
 
         //when
         questWriter.write(Chunk(quest))
 
         //then
-        assertThat(quest.id).isNotNull().isNotEqualTo(0L)
+        assertThat(questRepository.findById(quest.id)).hasValueSatisfying { assertThat(it.state).isEqualTo(QuestState.FAIL) }
+    }
+
+    @DisplayName("questResetReader 동작 중 읽은 퀘스트가 실패 처리되어도 건너뛰는 퀘스트 없이 모두 조회된다")
+    @Test
+    fun `questResetReader 동작 중 읽은 퀘스트가 실패 처리되어도 건너뛰는 퀘스트 없이 모두 조회된다`() {
+        //given
+        val resetDateTime = LocalDateTime.now().plusMinutes(1).withSecond(0).withNano(0)
+        val savedQuestIds = (1..25).map {
+            questRepository.save(Quest("", "", testUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, null)).id
+        }
+
+        val jobParameters = JobParametersBuilder()
+            .addString("resetDateTime", resetDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+            .toJobParameters()
+
+        val stepExecution = MetaDataInstanceFactory.createStepExecution(jobParameters)
+        StepSynchronizationManager.register(stepExecution)
+
+        //when
+        val readQuestIds = mutableListOf<Long>()
+        while (true) {
+            val quest = questResetReader.read() ?: break
+            questFailProcessor.process(quest)
+            questWriter.write(Chunk(quest))
+            readQuestIds.add(quest.id)
+        }
+
+        //then
+        assertThat(readQuestIds).containsExactlyElementsOf(savedQuestIds)
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,7 @@ import dailyquest.quest.entity.QuestState
 import dailyquest.quest.entity.QuestType
 import dailyquest.quest.repository.QuestLogRepository
 import dailyquest.quest.repository.QuestRepository
+import dailyquest.search.document.QuestDocument
 import dailyquest.search.repository.QuestIndexRepository
 import dailyquest.user.entity.ProviderType
 import dailyquest.user.entity.User
@@ -43,7 +44,10 @@ import java.time.format.DateTimeFormatter
 @SpringBootTest
 class QuestBatchIntegrationTest @Autowired constructor(
     private val questResetBatchJob: Job,
+    private val questResetBulkBatchJob: Job,
     private val questDeadLineBatchJob: Job,
+    private val questResetPartitionBatchJob: Job,
+    private val questDeadLinePartitionBatchJob: Job,
     private val questRepository: QuestRepository,
     private val questLogRepository: QuestLogRepository,
     private val questIndexRepository: QuestIndexRepository,
@@ -194,6 +198,7 @@ class QuestBatchIntegrationTest @Autowired constructor(
                 query.setParameter(1, datetime1).setParameter(2, filterTitle).executeUpdate()
                 query.setParameter(1, datetime2).setParameter(2, filterTitle).executeUpdate()
             }
+            questIndexRepository.saveAll(questRepository.findAll().filter { it.title == filterTitle }.map { documentOf(it) })
 
             jobLauncherTestUtils.job = questResetBatchJob
 
@@ -209,9 +214,128 @@ class QuestBatchIntegrationTest @Autowired constructor(
 
             //then
             val filteredQuestId = questRepository.findAll().filter { it.title == filterTitle }.map { it.id }
-            val documents = questIndexRepository.findAll()
-            assertThat(documents).isNotEmpty
-            assertThat(documents.map { it.id }.toList()).containsAll(filteredQuestId)
+            val documents = questIndexRepository.findAllById(filteredQuestId)
+            assertThat(documents).hasSize(filteredQuestId.size)
+            assertThat(documents).allMatch { it.state == QuestState.FAIL.name }
+        }
+    }
+
+    @DisplayName("집합 기반 퀘스트 초기화 배치 동작 시")
+    @Nested
+    inner class TestQuestResetBulkBatch {
+        @DisplayName("오늘 resetTime 이전에 등록된 퀘스트만 실패 처리하고 로그와 검색 문서에 반영한다")
+        @Test
+        fun failQuestsCreatedBeforeResetTimeAndApplyToLogsAndDocuments() {
+            //given
+            val filterTitle = "bulkResetTestTarget"
+
+            val resetDate = LocalDate.of(2022, 12, 1)
+            val resetDateTime = LocalDateTime.of(resetDate, LocalTime.of(6, 0))
+
+            transactionTemplate.executeWithoutResult {
+                val query = entityManager
+                    .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', ?, 'MAIN', ?)")
+                    .setParameter(2, filterTitle)
+
+                query.setParameter(1, LocalDateTime.of(resetDate, LocalTime.of(5, 58))).setParameter(3, testUser.id).executeUpdate()
+                query.setParameter(1, LocalDateTime.of(resetDate, LocalTime.of(5, 59))).setParameter(3, anotherUser.id).executeUpdate()
+                query.setParameter(1, LocalDateTime.of(resetDate, LocalTime.of(6, 1))).setParameter(3, testUser.id).executeUpdate()
+            }
+            val quests = questRepository.findAll().filter { it.title == filterTitle }
+            questIndexRepository.saveAll(quests.map { documentOf(it) })
+            val targetIds = quests.filter { !it.createdDate.isAfter(resetDateTime) }.map { it.id }
+            val notTargetIds = quests.filter { it.createdDate.isAfter(resetDateTime) }.map { it.id }
+
+            jobLauncherTestUtils.job = questResetBulkBatchJob
+
+            val jobParameters = JobParametersBuilder()
+                .addString("resetDateTime", resetDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                .toJobParameters()
+
+            //when
+            val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+            //then
+            assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+            assertThat(questRepository.findAllById(targetIds)).allMatch { it.state == QuestState.FAIL }
+            assertThat(questRepository.findAllById(notTargetIds)).allMatch { it.state == QuestState.PROCEED }
+
+            val logs = questLogRepository.findAll().filter { it.questId in targetIds }
+            assertThat(logs).hasSize(targetIds.size)
+            assertThat(logs).allMatch { it.state == QuestState.FAIL && it.loggedDate == resetDate.minusDays(1) }
+
+            val documents = questIndexRepository.findAllById(targetIds)
+            assertThat(documents).hasSize(targetIds.size)
+            assertThat(documents).allMatch { it.state == QuestState.FAIL.name }
+        }
+    }
+
+    @DisplayName("파티션 배치 동작 시")
+    @Nested
+    inner class TestQuestPartitionBatch {
+        @DisplayName("초기화 배치는 모든 유저의 초기화 대상 퀘스트를 실패 처리하고 로그와 검색 문서에 반영한다")
+        @Test
+        fun resetPartitionJobFailsQuestsOfAllUsers() {
+            //given
+            val resetDate = LocalDate.of(2022, 12, 1)
+            val resetDateTime = LocalDateTime.of(resetDate, LocalTime.of(6, 0))
+            val createdDate = LocalDateTime.of(resetDate, LocalTime.of(5, 59))
+
+            val quests = listOf(testUser, anotherUser).flatMap { user ->
+                (1..3).map { questRepository.save(Quest("partition", "", user.id, 0L, QuestState.PROCEED, QuestType.MAIN)) }
+            }
+            transactionTemplate.executeWithoutResult {
+                entityManager.createNativeQuery("update quest set created_date = ? where title = 'partition'")
+                    .setParameter(1, createdDate)
+                    .executeUpdate()
+            }
+            questIndexRepository.saveAll(quests.map { documentOf(it) })
+            val questIds = quests.map(Quest::id)
+
+            jobLauncherTestUtils.job = questResetPartitionBatchJob
+
+            val jobParameters = JobParametersBuilder()
+                .addString("resetDateTime", resetDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                .toJobParameters()
+
+            //when
+            val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+            //then
+            assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+            assertThat(questRepository.findAllById(questIds)).allMatch { it.state == QuestState.FAIL }
+            assertThat(questLogRepository.findAll().map { it.questId }).containsAll(questIds)
+            assertThat(questIndexRepository.findAllById(questIds)).allMatch { it.state == QuestState.FAIL.name }
+        }
+
+        @DisplayName("데드라인 배치는 모든 유저의 데드라인이 지난 퀘스트만 실패 처리한다")
+        @Test
+        fun deadLinePartitionJobFailsOnlyExpiredQuests() {
+            //given
+            val currentTime = LocalDateTime.now().withSecond(0).withNano(0)
+
+            val processedIds = listOf(
+                questRepository.save(Quest("", "", testUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, currentTime)),
+                questRepository.save(Quest("", "", anotherUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, currentTime.minusMinutes(1))),
+            ).map(Quest::id)
+            val notProcessedIds = listOf(
+                questRepository.save(Quest("", "", testUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, currentTime.plusMinutes(1))),
+                questRepository.save(Quest("", "", anotherUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, null)),
+            ).map(Quest::id)
+
+            jobLauncherTestUtils.job = questDeadLinePartitionBatchJob
+
+            val jobParameters = JobParametersBuilder()
+                .addString("targetDate", currentTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                .toJobParameters()
+
+            //when
+            val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+            //then
+            assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+            assertThat(questRepository.findAllById(processedIds)).allMatch { it.state == QuestState.FAIL }
+            assertThat(questRepository.findAllById(notProcessedIds)).allMatch { it.state == QuestState.PROCEED }
         }
     }
 
@@ -291,12 +415,14 @@ class QuestBatchIntegrationTest @Autowired constructor(
             //given
             val currentTime = LocalDateTime.now().withSecond(0).withNano(0)
 
-            val processedIds = listOf(
+            val processedQuests = listOf(
                 questRepository.save(Quest("", "", testUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, currentTime)),
                 questRepository.save(Quest("", "", testUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, currentTime.minusMinutes(1))),
                 questRepository.save(Quest("", "", anotherUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, currentTime)),
                 questRepository.save(Quest("", "", anotherUser.id, 0L, QuestState.PROCEED, QuestType.MAIN, currentTime.minusMinutes(1))),
-            ).map(Quest::id)
+            )
+            questIndexRepository.saveAll(processedQuests.map { documentOf(it) })
+            val processedIds = processedQuests.map(Quest::id)
 
             jobLauncherTestUtils.job = questDeadLineBatchJob
 
@@ -308,11 +434,13 @@ class QuestBatchIntegrationTest @Autowired constructor(
             jobLauncherTestUtils.launchJob(jobParameters)
 
             //then
-            val documents = questIndexRepository.findAll()
-            assertThat(documents).isNotEmpty
-            assertThat(documents.map { it.id }.toList()).containsAll(processedIds)
+            val documents = questIndexRepository.findAllById(processedIds)
+            assertThat(documents).hasSize(processedIds.size)
+            assertThat(documents).allMatch { it.state == QuestState.FAIL.name }
         }
     }
 
-
+    private fun documentOf(quest: Quest): QuestDocument {
+        return QuestDocument(quest.id, quest.title, quest.description, emptyList(), quest.userId, quest.state.name, quest.createdDate, null)
+    }
 }
\ No newline at end of file
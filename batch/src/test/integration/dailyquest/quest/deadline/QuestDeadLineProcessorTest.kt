@@ -0,0 +1,91 @@
+package dailyquest.quest.deadline
+
+import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.properties.BatchContextProperties
+import dailyquest.properties.BatchParameterProperties
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.entity.QuestType
+import dailyquest.quest.repository.QuestLogRepository
+import dailyquest.quest.repository.QuestRepository
+import dailyquest.search.repository.QuestIndexRepository
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.mock.mockito.MockBean
+import org.springframework.context.annotation.Import
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+
+@DisplayName("퀘스트 데드라인 처리기 통합 테스트")
+@Import(MockSqsClientTestContextConfig::class)
+@SpringBootTest
+class QuestDeadLineProcessorTest @Autowired constructor(
+    private val questDeadLineProcessor: QuestDeadLineProcessor,
+    private val questRepository: QuestRepository,
+    private val questLogRepository: QuestLogRepository,
+    private val entityManager: EntityManager,
+    private val transactionTemplate: TransactionTemplate,
+) {
+    @MockBean
+    private lateinit var batchParameterProperties: BatchParameterProperties
+    @MockBean
+    private lateinit var batchContextProperties: BatchContextProperties
+    @MockBean
+    private lateinit var questIndexRepository: QuestIndexRepository
+
+    private val now = LocalDateTime.of(2022, 12, 1, 12, 0)
+
+    @BeforeEach
+    fun init() {
+        transactionTemplate.executeWithoutResult {
+            entityManager.createQuery("delete from QuestLog").executeUpdate()
+            entityManager.createQuery("delete from Quest").executeUpdate()
+        }
+    }
+
+    private fun saveQuest(deadLine: LocalDateTime, state: QuestState = QuestState.PROCEED): Quest {
+        return questRepository.save(Quest("title", "", 1L, 1L, state, QuestType.MAIN, deadLine))
+    }
+
+    @DisplayName("진행 중이고 데드라인이 지난 퀘스트만 실패 처리하고 실패 로그를 저장한다")
+    @Test
+    fun `진행 중이고 데드라인이 지난 퀘스트만 실패 처리하고 실패 로그를 저장한다`() {
+        //given
+        val dueQuest = saveQuest(now.minusSeconds(1))
+        val postponedQuest = saveQuest(now.plusMinutes(10))
+        val completedQuest = saveQuest(now.minusSeconds(1), QuestState.COMPLETE)
+        val questIds = listOf(dueQuest.id, postponedQuest.id, completedQuest.id)
+
+        //when
+        val failedQuests = questDeadLineProcessor.failQuests(questIds, now)
+
+        //then
+        assertThat(failedQuests.keys).containsExactly(dueQuest.id)
+        assertThat(questRepository.findById(dueQuest.id)).hasValueSatisfying {
+            assertThat(it.lastModifiedDate).isEqualToIgnoringNanos(failedQuests.getValue(dueQuest.id))
+        }
+        assertThat(questRepository.findById(dueQuest.id)).hasValueSatisfying { assertThat(it.state).isEqualTo(QuestState.FAIL) }
+        assertThat(questRepository.findById(postponedQuest.id)).hasValueSatisfying { assertThat(it.state).isEqualTo(QuestState.PROCEED) }
+        assertThat(questLogRepository.findAll()).hasSize(1).allSatisfy { assertThat(it.state).isEqualTo(QuestState.FAIL) }
+    }
+
+    @DisplayName("이미 실패 처리된 퀘스트를 다시 전달하면 아무것도 처리하지 않는다")
+    @Test
+    fun `이미 실패 처리된 퀘스트를 다시 전달하면 아무것도 처리하지 않는다`() {
+        //given
+        val dueQuest = saveQuest(now.minusSeconds(1))
+        questDeadLineProcessor.failQuests(listOf(dueQuest.id), now)
+
+        //when
+        val failedQuests = questDeadLineProcessor.failQuests(listOf(dueQuest.id), now)
+
+        //then
+        assertThat(failedQuests).isEmpty()
+        assertThat(questLogRepository.findAll()).hasSize(1)
+    }
+}
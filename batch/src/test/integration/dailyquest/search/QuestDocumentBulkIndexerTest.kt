@@ -0,0 +1,166 @@
+package dailyquest.search
+
+import dailyquest.common.CustomOpenSearchContainer
+import dailyquest.quest.entity.QuestState
+import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.search.document.QuestDocument
+import dailyquest.search.repository.QuestIndexRepository
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import dailyquest.sqs.dto.ElasticSyncMessage
+import dailyquest.sqs.dto.ElasticSyncRequestType
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.context.annotation.Import
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations
+import org.testcontainers.junit.jupiter.Container
+import org.testcontainers.junit.jupiter.Testcontainers
+import java.time.LocalDateTime
+
+@Import(MockSqsClientTestContextConfig::class)
+@Testcontainers
+@DisplayName("퀘스트 문서 bulk 인덱서 통합 테스트")
+@SpringBootTest
+class QuestDocumentBulkIndexerTest @Autowired constructor(
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer,
+    private val questIndexRepository: QuestIndexRepository,
+    private val elasticsearchOperations: ElasticsearchOperations,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    companion object {
+        @JvmStatic
+        @Container
+        val elasticsearch = CustomOpenSearchContainer()
+    }
+
+    @BeforeEach
+    fun init() {
+        val indexOps = elasticsearchOperations.indexOps(QuestDocument::class.java)
+        if (indexOps.exists()) {
+            indexOps.delete()
+        }
+        indexOps.createWithMapping()
+    }
+
+    private fun persistMessage(documentId: Long, title: String, version: Long): ElasticSyncMessage {
+        val documentJson = "{\"id\":$documentId,\"title\":\"$title\",\"description\":\"\",\"detailTitles\":[],\"userId\":1,\"state\":\"PROCEED\",\"createdDate\":\"2022-12-12T12:00:00\"}"
+        return ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, documentId, documentJson, version)
+    }
+
+    private fun refresh() {
+        elasticsearchOperations.indexOps(QuestDocument::class.java).refresh()
+    }
+
+    @DisplayName("늦게 도착한 오래된 버전의 메시지는 최신 문서를 덮어쓰지 않는다")
+    @Test
+    fun `늦게 도착한 오래된 버전의 메시지는 최신 문서를 덮어쓰지 않는다`() {
+        //given
+        questDocumentBulkIndexer.bulkApply(listOf(persistMessage(1L, "newer", 200L)))
+
+        //when
+        val failedMessages = questDocumentBulkIndexer.bulkApply(listOf(persistMessage(1L, "older", 100L)))
+
+        //then
+        refresh()
+        assertThat(failedMessages).isEmpty()
+        assertThat(questIndexRepository.findById(1L)).hasValueSatisfying { assertThat(it.title).isEqualTo("newer") }
+    }
+
+    @DisplayName("삭제 이전 버전의 메시지는 삭제된 문서를 되살리지 않는다")
+    @Test
+    fun `삭제 이전 버전의 메시지는 삭제된 문서를 되살리지 않는다`() {
+        //given
+        questDocumentBulkIndexer.bulkApply(listOf(persistMessage(1L, "title", 100L)))
+        questDocumentBulkIndexer.bulkApply(listOf(ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L, "", 300L)))
+
+        //when
+        questDocumentBulkIndexer.bulkApply(listOf(persistMessage(1L, "title", 200L)))
+
+        //then
+        refresh()
+        assertThat(questIndexRepository.findById(1L)).isEmpty()
+    }
+
+    @DisplayName("같은 메시지가 다시 전달되어도 실패하지 않는다")
+    @Test
+    fun `같은 메시지가 다시 전달되어도 실패하지 않는다`() {
+        //given
+        val message = persistMessage(1L, "title", 100L)
+        questDocumentBulkIndexer.bulkApply(listOf(message))
+
+        //when
+        val failedMessages = questDocumentBulkIndexer.bulkApply(listOf(message))
+
+        //then
+        assertThat(failedMessages).isEmpty()
+    }
+
+    @DisplayName("상태 업데이트는 퀘스트 수정 시각 버전으로 반영되어 이후의 오래된 메시지에 덮어써지지 않는다")
+    @Test
+    fun `상태 업데이트는 퀘스트 수정 시각 버전으로 반영되어 이후의 오래된 메시지에 덮어써지지 않는다`() {
+        //given
+        val modifiedDate = LocalDateTime.of(2022, 12, 12, 12, 0, 0)
+        val olderVersion = ElasticSyncMessage.versionOf(modifiedDate.minusSeconds(1))
+        questDocumentBulkIndexer.bulkApply(listOf(persistMessage(1L, "title", olderVersion)))
+        questDocumentBulkIndexer.bulkUpdateState(mapOf(1L to modifiedDate), QuestState.FAIL)
+
+        //when
+        questDocumentBulkIndexer.bulkApply(listOf(persistMessage(1L, "title", olderVersion)))
+
+        //then
+        refresh()
+        assertThat(questIndexRepository.findById(1L)).hasValueSatisfying { assertThat(it.state).isEqualTo(QuestState.FAIL.name) }
+    }
+
+    @DisplayName("더 최신 버전의 문서에는 상태 업데이트가 반영되지 않는다")
+    @Test
+    fun `더 최신 버전의 문서에는 상태 업데이트가 반영되지 않는다`() {
+        //given
+        val modifiedDate = LocalDateTime.of(2022, 12, 12, 12, 0, 0)
+        questDocumentBulkIndexer.bulkApply(listOf(persistMessage(1L, "newer", ElasticSyncMessage.versionOf(modifiedDate.plusSeconds(1)))))
+
+        //when
+        val notUpdatedIds = questDocumentBulkIndexer.bulkUpdateState(mapOf(1L to modifiedDate), QuestState.FAIL)
+
+        //then
+        refresh()
+        assertThat(notUpdatedIds).isEmpty()
+        assertThat(questIndexRepository.findById(1L)).hasValueSatisfying { assertThat(it.state).isEqualTo(QuestState.PROCEED.name) }
+    }
+
+    /**
+     * 처리량 비교용 측정. 결과는 로그로 남기며, 시간 값은 환경에 따라 달라지므로 검증하지 않는다.
+     */
+    @DisplayName("bulk 반영과 건별 반영의 처리량을 측정한다")
+    @Test
+    fun `bulk 반영과 건별 반영의 처리량을 측정한다`() {
+        //given
+        val documentCount = 2000
+        val batchSize = 100
+        val bulkMessages = (1..documentCount).map { persistMessage(it.toLong(), "bulk$it", 1L) }
+        val singleMessages = (1..documentCount).map { persistMessage((documentCount + it).toLong(), "single$it", 1L) }
+
+        //when
+        val bulkStartedAt = System.nanoTime()
+        bulkMessages.chunked(batchSize).forEach { questDocumentBulkIndexer.bulkApply(it) }
+        val bulkElapsedMillis = (System.nanoTime() - bulkStartedAt) / 1_000_000
+
+        val singleStartedAt = System.nanoTime()
+        singleMessages.forEach { questDocumentBulkIndexer.bulkApply(listOf(it)) }
+        val singleElapsedMillis = (System.nanoTime() - singleStartedAt) / 1_000_000
+
+        //then
+        refresh()
+        log.info(
+            "bulk(batchSize={}) : {} docs in {} ms ({} docs/s), single : {} docs in {} ms ({} docs/s)",
+            batchSize, documentCount, bulkElapsedMillis, documentCount * 1000 / maxOf(bulkElapsedMillis, 1),
+            documentCount, singleElapsedMillis, documentCount * 1000 / maxOf(singleElapsedMillis, 1)
+        )
+        assertThat(questIndexRepository.count()).isEqualTo(documentCount * 2L)
+    }
+}
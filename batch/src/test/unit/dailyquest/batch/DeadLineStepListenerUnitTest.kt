@@ -1,10 +1,13 @@
 package dailyquest.batch
 
 import dailyquest.batch.job.DeadLineStepListener
+import dailyquest.properties.ElasticBulkProperties
 import dailyquest.quest.entity.Quest
 import dailyquest.quest.entity.QuestLog
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
 import dailyquest.quest.repository.QuestLogRepository
-import dailyquest.search.repository.QuestIndexRepository
+import dailyquest.search.service.QuestDocumentBulkIndexer
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
@@ -22,7 +25,10 @@ import java.time.format.DateTimeFormatter
 class DeadLineStepListenerUnitTest {
 
     private val questLogRepository: QuestLogRepository = mock<QuestLogRepository>()
-    private val questIndexRepository: QuestIndexRepository  = mock<QuestIndexRepository>()
+    private val questLogDailyRollupRepository: QuestLogDailyRollupRepository = mock<QuestLogDailyRollupRepository>()
+    private val questLogLifetimeCountRepository: QuestLogLifetimeCountRepository = mock<QuestLogLifetimeCountRepository>()
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer = mock<QuestDocumentBulkIndexer>()
+    private val elasticBulkProperties = ElasticBulkProperties(stateUpdateBatchSize = 2)
     private lateinit var deadLineStepListener: DeadLineStepListener
 
     @DisplayName("afterWrite 동작 시")
@@ -36,7 +42,7 @@ class DeadLineStepListenerUnitTest {
             val loggedDate = LocalDate.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
                 .minusDays(1)
 
-            deadLineStepListener = DeadLineStepListener(questLogRepository, questIndexRepository, targetDateStr)
+            deadLineStepListener = DeadLineStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, targetDateStr)
             val questLogListArgumentCaptor = argumentCaptor<MutableList<QuestLog>>()
 
             val mockQuest = mock(Quest::class.java, Answers.RETURNS_DEEP_STUBS)
@@ -57,7 +63,7 @@ class DeadLineStepListenerUnitTest {
             val targetDateStr = "2022-12-01 06:00:00"
             val loggedDate = LocalDate.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
 
-            deadLineStepListener = DeadLineStepListener(questLogRepository, questIndexRepository, targetDateStr)
+            deadLineStepListener = DeadLineStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, targetDateStr)
             val questLogListArgumentCaptor = argumentCaptor<MutableList<QuestLog>>()
 
             val mockQuest = mock(Quest::class.java, Answers.RETURNS_DEEP_STUBS)
@@ -78,7 +84,7 @@ class DeadLineStepListenerUnitTest {
             val targetDateStr = "2022-12-01 06:01:00"
             val loggedDate = LocalDate.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
 
-            deadLineStepListener = DeadLineStepListener(questLogRepository, questIndexRepository, targetDateStr)
+            deadLineStepListener = DeadLineStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, targetDateStr)
             val questLogListArgumentCaptor = argumentCaptor<MutableList<QuestLog>>()
 
             val mockQuest = mock(Quest::class.java, Answers.RETURNS_DEEP_STUBS)
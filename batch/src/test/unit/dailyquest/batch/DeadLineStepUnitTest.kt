@@ -2,6 +2,7 @@ package dailyquest.batch
 
 import dailyquest.batch.job.DeadLineStepListener
 import dailyquest.batch.job.ResetStepListener
+import dailyquest.batch.reader.KeysetItemReader
 import dailyquest.config.BatchConfig
 import dailyquest.context.MockSqsClientTestContextConfig
 import dailyquest.quest.entity.Quest
@@ -14,8 +15,7 @@ import org.mockito.kotlin.*
 import org.springframework.batch.core.ExitStatus
 import org.springframework.batch.core.Job
 import org.springframework.batch.core.JobParametersBuilder
-import org.springframework.batch.item.data.RepositoryItemReader
-import org.springframework.batch.item.data.RepositoryItemWriter
+import org.springframework.batch.item.database.JdbcBatchItemWriter
 import org.springframework.batch.item.function.FunctionItemProcessor
 import org.springframework.batch.test.JobLauncherTestUtils
 import org.springframework.batch.test.JobRepositoryTestUtils
@@ -47,13 +47,13 @@ class DeadLineStepUnitTest @Autowired constructor(
     private lateinit var questRepository: QuestRepository
 
     @MockBean(name = "questDeadLineReader")
-    private lateinit var questDeadLineReader: RepositoryItemReader<Quest>
+    private lateinit var questDeadLineReader: KeysetItemReader<Quest>
 
     @MockBean(name = "questFailProcessor")
     private lateinit var questFailProcessor: FunctionItemProcessor<Quest, Quest>
 
     @MockBean(name = "questWriter")
-    private lateinit var questWriter: RepositoryItemWriter<Quest>
+    private lateinit var questWriter: JdbcBatchItemWriter<Quest>
 
     @MockBean
     private lateinit var resetStepListener: ResetStepListener
@@ -0,0 +1,73 @@
+package dailyquest.batch
+
+import dailyquest.batch.job.QuestResetBulkStepListener
+import dailyquest.properties.ElasticBulkProperties
+import dailyquest.quest.entity.QuestState
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.springframework.batch.core.StepExecution
+import org.springframework.batch.core.scope.context.ChunkContext
+import java.time.LocalDateTime
+
+@DisplayName("집합 기반 리셋 스텝 리스너 단위 테스트")
+class QuestResetBulkStepListenerUnitTest {
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer = mock<QuestDocumentBulkIndexer>()
+    private val elasticBulkProperties = ElasticBulkProperties(stateUpdateBatchSize = 2)
+    private val chunkContext = mock<ChunkContext>()
+    private val modifiedDate = LocalDateTime.of(2022, 12, 1, 6, 0, 1)
+
+    @DisplayName("범위 트랜잭션이 커밋되기 전에는 실패 처리한 퀘스트가 배치 크기에 도달해도 업데이트하지 않는다")
+    @Test
+    fun `범위 트랜잭션이 커밋되기 전에는 실패 처리한 퀘스트가 배치 크기에 도달해도 업데이트하지 않는다`() {
+        //given
+        val listener = QuestResetBulkStepListener(questDocumentBulkIndexer, elasticBulkProperties)
+
+        //when
+        listener.afterFail(listOf(1L, 2L), modifiedDate)
+
+        //then
+        verify(questDocumentBulkIndexer, never()).bulkUpdateState(any(), any())
+    }
+
+    @DisplayName("범위 트랜잭션이 커밋된 뒤 모인 퀘스트가 배치 크기에 도달하면 수정 시각과 함께 업데이트한다")
+    @Test
+    fun `범위 트랜잭션이 커밋된 뒤 모인 퀘스트가 배치 크기에 도달하면 수정 시각과 함께 업데이트한다`() {
+        //given
+        val listener = QuestResetBulkStepListener(questDocumentBulkIndexer, elasticBulkProperties)
+        whenever(questDocumentBulkIndexer.bulkUpdateState(any(), any())).thenReturn(emptyList())
+
+        //when
+        listener.afterFail(listOf(1L, 2L), modifiedDate)
+        listener.afterChunk(chunkContext)
+        listener.afterStep(StepExecution("questResetBulkStep", null))
+
+        //then
+        verify(questDocumentBulkIndexer, times(1)).bulkUpdateState(eq(mapOf(1L to modifiedDate, 2L to modifiedDate)), eq(QuestState.FAIL))
+    }
+
+    @DisplayName("범위 트랜잭션이 롤백되면 해당 범위의 퀘스트는 업데이트하지 않는다")
+    @Test
+    fun `범위 트랜잭션이 롤백되면 해당 범위의 퀘스트는 업데이트하지 않는다`() {
+        //given
+        val listener = QuestResetBulkStepListener(questDocumentBulkIndexer, elasticBulkProperties)
+        whenever(questDocumentBulkIndexer.bulkUpdateState(any(), any())).thenReturn(emptyList())
+
+        //when
+        listener.afterFail(listOf(1L), modifiedDate)
+        listener.afterChunkError(chunkContext)
+        listener.afterFail(listOf(2L), modifiedDate)
+        listener.afterChunk(chunkContext)
+        listener.afterStep(StepExecution("questResetBulkStep", null))
+
+        //then
+        verify(questDocumentBulkIndexer, times(1)).bulkUpdateState(eq(mapOf(2L to modifiedDate)), eq(QuestState.FAIL))
+    }
+}
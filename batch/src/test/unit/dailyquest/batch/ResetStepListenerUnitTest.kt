@@ -1,28 +1,42 @@
 package dailyquest.batch
 
 import dailyquest.batch.job.ResetStepListener
+import dailyquest.properties.ElasticBulkProperties
 import dailyquest.quest.entity.Quest
 import dailyquest.quest.entity.QuestLog
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
 import dailyquest.quest.repository.QuestLogRepository
-import dailyquest.search.repository.QuestIndexRepository
+import dailyquest.search.service.QuestDocumentBulkIndexer
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.mockito.Answers
 import org.mockito.Mockito
+import org.mockito.kotlin.any
 import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.springframework.batch.core.StepExecution
+import org.springframework.batch.core.scope.context.ChunkContext
 import org.springframework.batch.item.Chunk
 import java.time.LocalDate
+import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
 
 @DisplayName("리셋 스텝 리스너 단위 테스트")
 class ResetStepListenerUnitTest {
     private val questLogRepository: QuestLogRepository = mock<QuestLogRepository>()
-    private val questIndexRepository: QuestIndexRepository = mock<QuestIndexRepository>()
+    private val questLogDailyRollupRepository: QuestLogDailyRollupRepository = mock<QuestLogDailyRollupRepository>()
+    private val questLogLifetimeCountRepository: QuestLogLifetimeCountRepository = mock<QuestLogLifetimeCountRepository>()
+    private val questDocumentBulkIndexer: QuestDocumentBulkIndexer = mock<QuestDocumentBulkIndexer>()
+    private val elasticBulkProperties = ElasticBulkProperties(stateUpdateBatchSize = 2)
 
     @DisplayName("afterWrite 동작 시")
     @Nested
@@ -37,9 +51,9 @@ class ResetStepListenerUnitTest {
             val loggedDate = LocalDate.parse(resetDateTimeStr1, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
                 .minusDays(1)
 
-            val resetStepListener1 = ResetStepListener(questLogRepository, questIndexRepository, resetDateTimeStr1)
-            val resetStepListener2 = ResetStepListener(questLogRepository, questIndexRepository, resetDateTimeStr2)
-            val resetStepListener3 = ResetStepListener(questLogRepository, questIndexRepository, resetDateTimeStr3)
+            val resetStepListener1 = ResetStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, resetDateTimeStr1)
+            val resetStepListener2 = ResetStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, resetDateTimeStr2)
+            val resetStepListener3 = ResetStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, resetDateTimeStr3)
 
             val questLogListArgumentCaptor = argumentCaptor<MutableList<QuestLog>>()
 
@@ -56,4 +70,85 @@ class ResetStepListenerUnitTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("검색 문서 상태 업데이트 시")
+    @Nested
+    inner class TestDocumentStateUpdate {
+        private val resetDateTimeStr = "2022-12-01 06:00:00"
+        private val chunkContext = mock<ChunkContext>()
+        private val modifiedDate = LocalDateTime.of(2022, 12, 1, 6, 0, 1)
+
+        private fun questOf(id: Long): Quest {
+            val quest = Mockito.mock(Quest::class.java, Answers.RETURNS_DEEP_STUBS)
+            whenever(quest.id).thenReturn(id)
+            whenever(quest.lastModifiedDate).thenReturn(modifiedDate)
+            return quest
+        }
+
+        @DisplayName("청크 커밋 후 ID가 배치 크기보다 적게 모이면 스텝 종료 시 한 번에 업데이트한다")
+        @Test
+        fun `청크 커밋 후 ID가 배치 크기보다 적게 모이면 스텝 종료 시 한 번에 업데이트한다`() {
+            //given
+            val resetStepListener = ResetStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, resetDateTimeStr)
+            whenever(questDocumentBulkIndexer.bulkUpdateState(any(), any())).thenReturn(emptyList())
+
+            //when
+            resetStepListener.afterWrite(Chunk<Quest>(questOf(1L)))
+            resetStepListener.afterChunk(chunkContext)
+
+            //then
+            verify(questDocumentBulkIndexer, never()).bulkUpdateState(any(), any())
+            resetStepListener.afterStep(StepExecution("questResetStep", null))
+            verify(questDocumentBulkIndexer).bulkUpdateState(eq(mapOf(1L to modifiedDate)), eq(QuestState.FAIL))
+        }
+
+        @DisplayName("모인 ID가 배치 크기에 도달하면 바로 업데이트한다")
+        @Test
+        fun `모인 ID가 배치 크기에 도달하면 바로 업데이트한다`() {
+            //given
+            val resetStepListener = ResetStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, resetDateTimeStr)
+            whenever(questDocumentBulkIndexer.bulkUpdateState(any(), any())).thenReturn(emptyList())
+
+            //when
+            resetStepListener.afterWrite(Chunk<Quest>(questOf(1L)))
+            resetStepListener.afterChunk(chunkContext)
+            resetStepListener.afterWrite(Chunk<Quest>(questOf(2L)))
+            resetStepListener.afterChunk(chunkContext)
+            resetStepListener.afterStep(StepExecution("questResetStep", null))
+
+            //then
+            verify(questDocumentBulkIndexer, times(1)).bulkUpdateState(eq(mapOf(1L to modifiedDate, 2L to modifiedDate)), eq(QuestState.FAIL))
+        }
+
+        @DisplayName("청크 커밋 전에는 모인 ID가 배치 크기에 도달해도 업데이트하지 않는다")
+        @Test
+        fun `청크 커밋 전에는 모인 ID가 배치 크기에 도달해도 업데이트하지 않는다`() {
+            //given
+            val resetStepListener = ResetStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, resetDateTimeStr)
+
+            //when
+            resetStepListener.afterWrite(Chunk<Quest>(questOf(1L), questOf(2L)))
+
+            //then
+            verify(questDocumentBulkIndexer, never()).bulkUpdateState(any(), any())
+        }
+
+        @DisplayName("청크가 롤백되면 해당 청크의 ID는 업데이트하지 않는다")
+        @Test
+        fun `청크가 롤백되면 해당 청크의 ID는 업데이트하지 않는다`() {
+            //given
+            val resetStepListener = ResetStepListener(questLogRepository, questLogDailyRollupRepository, questLogLifetimeCountRepository, questDocumentBulkIndexer, elasticBulkProperties, resetDateTimeStr)
+            whenever(questDocumentBulkIndexer.bulkUpdateState(any(), any())).thenReturn(emptyList())
+
+            //when
+            resetStepListener.afterWrite(Chunk<Quest>(questOf(1L)))
+            resetStepListener.afterChunkError(chunkContext)
+            resetStepListener.afterWrite(Chunk<Quest>(questOf(2L)))
+            resetStepListener.afterChunk(chunkContext)
+            resetStepListener.afterStep(StepExecution("questResetStep", null))
+
+            //then
+            verify(questDocumentBulkIndexer, times(1)).bulkUpdateState(eq(mapOf(2L to modifiedDate)), eq(QuestState.FAIL))
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dailyquest.batch.job
+
+import com.ninjasquad.springmockk.MockkBean
+import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.achievement.repository.BatchAchievementAchieveLogRepository
+import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.notification.entity.NotificationType
+import dailyquest.notification.repository.BatchNotificationRepository
+import dailyquest.properties.CheckAndAchieveProperties
+import dailyquest.user.record.repository.BatchUserRecordRepository
+import io.mockk.every
+import io.mockk.junit5.MockKExtension
+import io.mockk.slot
+import io.mockk.verify
+import io.mockk.verifyOrder
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.batch.core.BatchStatus
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.JobParameters
+import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.test.JobLauncherTestUtils
+import org.springframework.batch.test.JobRepositoryTestUtils
+import org.springframework.batch.test.context.SpringBatchTest
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
+import org.springframework.context.annotation.Import
+import org.springframework.data.repository.findByIdOrNull
+import java.time.LocalDateTime
+
+@ExtendWith(MockKExtension::class)
+@Import(
+    CheckAndAchieveBulkBatchConfig::class,
+    MockSqsClientTestContextConfig::class
+)
+@EnableConfigurationProperties(CheckAndAchieveProperties::class)
+@EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
+@SpringBatchTest
+@DisplayName("집합 기반 업적 달성 확인 작업 유닛 테스트")
+class CheckAndAchieveBulkJobUnitTest @Autowired constructor(
+    private val jobLauncherTestUtils: JobLauncherTestUtils,
+    private val jobRepositoryTestUtils: JobRepositoryTestUtils,
+    private val checkAndAchieveBulkBatchJob: Job,
+    private val checkAndAchieveProperties: CheckAndAchieveProperties,
+) {
+    @MockkBean(relaxed = true)
+    private lateinit var achievementRepository: AchievementRepository
+    @MockkBean(relaxed = true)
+    private lateinit var batchUserRecordRepository: BatchUserRecordRepository
+    @MockkBean(relaxed = true)
+    private lateinit var batchAchievementAchieveLogRepository: BatchAchievementAchieveLogRepository
+    @MockkBean(relaxed = true)
+    private lateinit var batchNotificationRepository: BatchNotificationRepository
+
+    private val achievementId = 1L
+    private val achievement = Achievement("title", "desc", AchievementType.QUEST_COMPLETION, 10)
+    private val jobParameters: JobParameters =
+        JobParametersBuilder().addLong("targetAchievementId", achievementId).toJobParameters()
+
+    @BeforeEach
+    fun init() {
+        jobRepositoryTestUtils.removeJobExecutions()
+        jobLauncherTestUtils.job = checkAndAchieveBulkBatchJob
+        every { achievementRepository.findByIdOrNull(achievementId) } returns achievement
+    }
+
+    @DisplayName("최소 유저 id 부터 최대 유저 id 까지 고정된 id 범위 단위로 처리한다")
+    @Test
+    fun `최소 유저 id 부터 최대 유저 id 까지 고정된 id 범위 단위로 처리한다`() {
+        //given
+        val rangeSize = checkAndAchieveProperties.idRangeSize
+        every { batchUserRecordRepository.findMinUserId() } returns 1L
+        every { batchUserRecordRepository.findMaxUserId() } returns rangeSize * 2 + 1
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 3) { batchAchievementAchieveLogRepository.insertAchieveLogsBetween(any(), any(), any(), any(), any(), any()) }
+        verify { batchAchievementAchieveLogRepository.insertAchieveLogsBetween(any(), any(), any(), 1L, rangeSize + 1, any()) }
+        verify { batchAchievementAchieveLogRepository.insertAchieveLogsBetween(any(), any(), any(), rangeSize + 1, rangeSize * 2 + 1, any()) }
+        verify { batchAchievementAchieveLogRepository.insertAchieveLogsBetween(any(), any(), any(), rangeSize * 2 + 1, rangeSize * 3 + 1, any()) }
+    }
+
+    @DisplayName("범위마다 달성 로그를 먼저 저장하고, 같은 시각으로 저장된 달성 로그에 업적 달성 알림을 저장한다")
+    @Test
+    fun `범위마다 달성 로그를 먼저 저장하고, 같은 시각으로 저장된 달성 로그에 업적 달성 알림을 저장한다`() {
+        //given
+        every { batchUserRecordRepository.findMinUserId() } returns 1L
+        every { batchUserRecordRepository.findMaxUserId() } returns 1L
+        val logCreatedDate = slot<LocalDateTime>()
+        every {
+            batchAchievementAchieveLogRepository.insertAchieveLogsBetween(any(), any(), any(), any(), any(), capture(logCreatedDate))
+        } returns 1
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verifyOrder {
+            batchAchievementAchieveLogRepository.insertAchieveLogsBetween(achievement.id, achievement.type.name, achievement.targetValue, 1L, any(), any())
+            batchNotificationRepository.insertAchieveNotificationsOfLogsBetween(
+                achievement.id, 1L, any(),
+                NotificationType.ACHIEVEMENT_ACHIEVE.name, NotificationType.ACHIEVEMENT_ACHIEVE.title, any(), any(), logCreatedDate.captured
+            )
+        }
+    }
+
+    @DisplayName("범위에서 저장된 달성 로그가 없으면 알림을 저장하지 않는다")
+    @Test
+    fun `범위에서 저장된 달성 로그가 없으면 알림을 저장하지 않는다`() {
+        //given
+        every { batchUserRecordRepository.findMinUserId() } returns 1L
+        every { batchUserRecordRepository.findMaxUserId() } returns 1L
+        every { batchAchievementAchieveLogRepository.insertAchieveLogsBetween(any(), any(), any(), any(), any(), any()) } returns 0
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 0) { batchNotificationRepository.insertAchieveNotificationsOfLogsBetween(any(), any(), any(), any(), any(), any(), any(), any()) }
+    }
+
+    @DisplayName("저장된 달성 로그 수를 스텝의 쓰기 건수로 남기고, 처리한 유저 목록은 실행 컨텍스트에 남기지 않는다")
+    @Test
+    fun `저장된 달성 로그 수를 스텝의 쓰기 건수로 남기고, 처리한 유저 목록은 실행 컨텍스트에 남기지 않는다`() {
+        //given
+        every { batchUserRecordRepository.findMinUserId() } returns 1L
+        every { batchUserRecordRepository.findMaxUserId() } returns 1L
+        every { batchAchievementAchieveLogRepository.insertAchieveLogsBetween(any(), any(), any(), any(), any(), any()) } returns 3
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        val stepExecution = jobExecution.stepExecutions.single()
+        assertThat(stepExecution.writeCount).isEqualTo(3)
+        assertThat(stepExecution.executionContext.containsKey("achievedLogs")).isFalse()
+        assertThat(jobExecution.executionContext.containsKey("achievedLogs")).isFalse()
+    }
+
+    @DisplayName("업적이 없으면 아무 범위도 처리하지 않는다")
+    @Test
+    fun `업적이 없으면 아무 범위도 처리하지 않는다`() {
+        //given
+        every { achievementRepository.findByIdOrNull(achievementId) } returns null
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 0) { batchUserRecordRepository.findMinUserId() }
+        verify(exactly = 0) { batchNotificationRepository.insertAchieveNotificationsOfLogsBetween(any(), any(), any(), any(), any(), any(), any(), any()) }
+    }
+}
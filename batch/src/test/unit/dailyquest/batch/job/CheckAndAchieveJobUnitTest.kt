@@ -6,11 +6,13 @@ import dailyquest.achievement.entity.AchievementAchieveLog
 import dailyquest.achievement.entity.AchievementType
 import dailyquest.achievement.repository.AchievementAchieveLogRepository
 import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.achievement.repository.BatchAchievementAchieveLogRepository
+import dailyquest.batch.listener.job.BatchStagingCleanupJobListener
 import dailyquest.batch.listener.job.CheckAndAchieveJobListener
-import dailyquest.batch.listener.step.AchievementAchieveNotificationStepListener
 import dailyquest.batch.listener.step.CheckAndAchieveStepListener
 import dailyquest.batch.step.AchievementAchieveNotificationStepConfig
 import dailyquest.batch.step.CheckAndAchieveStepConfig
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.context.MockSqsClientTestContextConfig
 import dailyquest.notification.entity.Notification
 import dailyquest.notification.repository.NotificationRepository
@@ -36,8 +38,6 @@ import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
 import org.springframework.context.annotation.Import
-import org.springframework.data.domain.Page
-import org.springframework.data.domain.PageImpl
 import org.springframework.data.repository.findByIdOrNull
 
 @ExtendWith(MockKExtension::class)
@@ -46,8 +46,8 @@ import org.springframework.data.repository.findByIdOrNull
     CheckAndAchieveStepConfig::class,
     CheckAndAchieveStepListener::class,
     AchievementAchieveNotificationStepConfig::class,
-    AchievementAchieveNotificationStepListener::class,
     CheckAndAchieveJobListener::class,
+    BatchStagingCleanupJobListener::class,
     MockSqsClientTestContextConfig::class
 )
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
@@ -67,6 +67,10 @@ class CheckAndAchieveJobUnitTest @Autowired constructor(
     @MockkBean(relaxed = true)
     private lateinit var notificationRepository: NotificationRepository
     @MockkBean(relaxed = true)
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
+    @MockkBean(relaxed = true)
+    private lateinit var batchAchievementAchieveLogRepository: BatchAchievementAchieveLogRepository
+    @MockkBean(relaxed = true)
     private lateinit var batchParameterProperties: BatchParameterProperties
     @MockkBean(relaxed = true)
     private lateinit var batchContextProperties: BatchContextProperties
@@ -88,12 +92,14 @@ class CheckAndAchieveJobUnitTest @Autowired constructor(
             achievement.type
         } returns AchievementType.QUEST_REGISTRATION
         every {
-            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any())
-        } returns PageImpl(userIds) andThen Page.empty()
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any(), any())
+        } returns userIds andThen emptyList()
         every { user.id } returnsMany userIds
         every { batchContextProperties.targetAchievementKey } returns "targetAchievement"
         every { batchContextProperties.achievedLogsKey } returns "achievedLogs"
-        every { batchContextProperties.notifiedUserIdsKey } returns "notifiedUserIds"
+        every {
+            batchAchievementAchieveLogRepository.getAllStagedAchieveLogs(any(), "achievedLogs", any(), any())
+        } returns userIds.map { AchievementAchieveLog(achievement, it) } andThen emptyList()
     }
 
     @DisplayName("기록된 유저 레코드가 업적 목표 횟수 이상인 유저를 조회한다")
@@ -104,7 +110,7 @@ class CheckAndAchieveJobUnitTest @Autowired constructor(
         jobLauncherTestUtils.launchJob(jobParameters)
 
         //then
-        verify { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any()) }
+        verify { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any(), any()) }
     }
 
     @DisplayName("조회한 유저에 대해 업적 달성 로그를 저장한다")
@@ -135,4 +141,16 @@ class CheckAndAchieveJobUnitTest @Autowired constructor(
         //then
         verify { notificationRepository.saveAll<Notification>(match { list -> list.all { userIds.contains(it.userId) } }) }
     }
-}
\ No newline at end of file
+
+    @DisplayName("업적 달성 로그를 저장한 유저를 잡 인스턴스 ID로 스테이징 테이블에 저장한다")
+    @Test
+    fun `업적 달성 로그를 저장한 유저를 잡 인스턴스 ID로 스테이징 테이블에 저장한다`() {
+        //given
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        val jobInstanceId = jobExecution.jobInstance.instanceId
+        userIds.forEach { verify { batchStagingItemRepository.stage(jobInstanceId, "achievedLogs", it, any()) } }
+    }
+}
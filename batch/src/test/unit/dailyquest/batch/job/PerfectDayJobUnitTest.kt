@@ -5,24 +5,23 @@ import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
 import dailyquest.achievement.repository.AchievementAchieveLogRepository
 import dailyquest.achievement.repository.AchievementRepository
-import dailyquest.batch.listener.step.AchievementAchieveNotificationStepListener
+import dailyquest.achievement.repository.BatchAchievementAchieveLogRepository
+import dailyquest.batch.listener.job.BatchStagingCleanupJobListener
 import dailyquest.batch.listener.step.IncreasePerfectDayCountStepListener
 import dailyquest.batch.listener.step.PerfectDayAchievementStepListener
-import dailyquest.batch.listener.step.ReadPerfectDayUserIdStepListener
 import dailyquest.batch.step.AchievementAchieveNotificationStepConfig
 import dailyquest.batch.step.IncreasePerfectDayCountStepConfig
 import dailyquest.batch.step.PerfectDayAchievementStepConfig
 import dailyquest.batch.step.ReadPerfectDayUserIdStepConfig
+import dailyquest.batch.staging.entity.BatchStagingItem
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.context.MockSqsClientTestContextConfig
 import dailyquest.notification.entity.Notification
 import dailyquest.notification.repository.NotificationRepository
-import dailyquest.quest.repository.QuestLogRepository
-import dailyquest.user.dto.UserPerfectDayCount
-import dailyquest.user.entity.User
+import dailyquest.properties.BatchContextProperties
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
 import dailyquest.user.record.entity.UserRecord
 import dailyquest.user.record.repository.BatchUserRecordRepository
-import dailyquest.user.record.repository.UserRecordRepository
-import dailyquest.user.repository.UserRepository
 import io.mockk.every
 import io.mockk.junit5.MockKExtension
 import io.mockk.mockk
@@ -36,15 +35,15 @@ import org.springframework.batch.core.BatchStatus
 import org.springframework.batch.core.Job
 import org.springframework.batch.core.JobParameters
 import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.item.database.JdbcBatchItemWriter
 import org.springframework.batch.test.JobLauncherTestUtils
 import org.springframework.batch.test.JobRepositoryTestUtils
 import org.springframework.batch.test.context.SpringBatchTest
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import
-import org.springframework.data.domain.Page
-import org.springframework.data.domain.PageImpl
 import java.time.LocalDate
 
 @ExtendWith(MockKExtension::class)
@@ -54,12 +53,12 @@ import java.time.LocalDate
     IncreasePerfectDayCountStepConfig::class,
     PerfectDayAchievementStepConfig::class,
     AchievementAchieveNotificationStepConfig::class,
-    ReadPerfectDayUserIdStepListener::class,
     IncreasePerfectDayCountStepListener::class,
     PerfectDayAchievementStepListener::class,
-    AchievementAchieveNotificationStepListener::class,
+    BatchStagingCleanupJobListener::class,
     MockSqsClientTestContextConfig::class
 )
+@EnableConfigurationProperties(BatchContextProperties::class)
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
 @SpringBatchTest
 @DisplayName("완벽한 하루 작업 유닛 테스트")
@@ -69,7 +68,7 @@ class PerfectDayJobUnitTest @Autowired constructor(
     private val perfectDayBatchJob: Job
 ) {
     @MockkBean(relaxed = true)
-    private lateinit var questLogRepository: QuestLogRepository
+    private lateinit var questLogDailyRollupRepository: QuestLogDailyRollupRepository
     @MockkBean(relaxed = true)
     private lateinit var userRecordRepository: BatchUserRecordRepository
     @MockkBean(relaxed = true)
@@ -78,55 +77,67 @@ class PerfectDayJobUnitTest @Autowired constructor(
     private lateinit var achievementAchieveLogRepository: AchievementAchieveLogRepository
     @MockkBean(relaxed = true)
     private lateinit var notificationRepository: NotificationRepository
+    @MockkBean(relaxed = true)
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
+    @MockkBean(relaxed = true)
+    private lateinit var batchAchievementAchieveLogRepository: BatchAchievementAchieveLogRepository
+    @MockkBean(name = "userWriter", relaxed = true)
+    private lateinit var userWriter: JdbcBatchItemWriter<UserRecord>
 
     private val jobParameters: JobParameters =
         JobParametersBuilder().addLocalDate("loggedDate", LocalDate.now()).toJobParameters()
     private val perfectDayUserIds = listOf(1L, 2L, 3L)
     private val achievedUserIds = listOf(1L, 2L)
     private val achievement: Achievement = mockk(relaxed = true)
-    private val userRecord: UserRecord = mockk(relaxed = true)
+    private val userRecords: List<UserRecord> = perfectDayUserIds.map { userId ->
+        mockk<UserRecord>(relaxed = true).also { every { it.id } returns userId }
+    }
     private val userIdsKey = "perfectDayLogUserIds"
     private val userPerfectDayCountsKey = "userPerfectDayCounts"
     private val perfectDayAchievementsKey = "perfectDayAchievements"
     private val achievedLogsKey = "achievedLogs"
-    private val notifiedUserIdsKey = "notifiedUserIds"
 
     @BeforeEach
     fun init() {
         jobRepositoryTestUtils.removeJobExecutions()
         jobLauncherTestUtils.job = perfectDayBatchJob
         every {
-            questLogRepository.getAllUserIdsWhoAchievedPerfectDay(any(), any())
-        } returns PageImpl(perfectDayUserIds) andThen Page.empty()
+            questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(any(), any(), any())
+        } returns perfectDayUserIds andThen emptyList()
         every { achievementRepository.getAllActivatedOfType(any()) } returns listOf(achievement, achievement, achievement)
         every {
-            userRecordRepository.findAllByIdIn(any(), any())
-        } returns PageImpl(perfectDayUserIds.map { userRecord }) andThen Page.empty()
-        every { userRecord.id } returnsMany perfectDayUserIds
+            userRecordRepository.getAllStagedUserRecords(any(), userIdsKey, any(), any())
+        } returns userRecords andThen emptyList()
+        every {
+            batchStagingItemRepository.findAllByJobInstanceIdAndStagingKeyAndItemKeyGreaterThanOrderByItemKeyAsc(any(), userPerfectDayCountsKey, any(), any())
+        } returns perfectDayUserIds.map { BatchStagingItem(1L, userPerfectDayCountsKey, it, 1L) } andThen emptyList()
+        every {
+            batchAchievementAchieveLogRepository.getAllStagedAchieveLogs(any(), achievedLogsKey, any(), any())
+        } returns achievedUserIds.map { AchievementAchieveLog(achievement, it) } andThen emptyList()
         every { achievement.canAchieve(any()) } returnsMany achievedUserIds.map { true } andThen false
     }
 
-    @DisplayName("완벽한 하루를 달성한 유저 ID를 JobExecutionContext에 저장한다")
+    @DisplayName("완벽한 하루를 달성한 유저 ID를 잡 인스턴스 ID로 스테이징 테이블에 저장한다")
     @Test
-    fun `완벽한 하루를 달성한 유저 ID를 JobExecutionContext에 저장한다`() {
+    fun `완벽한 하루를 달성한 유저 ID를 잡 인스턴스 ID로 스테이징 테이블에 저장한다`() {
         //given
         //when
         val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
 
         //then
-        val result = jobExecution.executionContext.get(userIdsKey)
-        assertThat(result).isEqualTo(perfectDayUserIds)
+        val jobInstanceId = jobExecution.jobInstance.instanceId
+        verify { batchStagingItemRepository.stageAll(jobInstanceId, userIdsKey, perfectDayUserIds.associateWith { 0L }) }
     }
 
-    @DisplayName("JobExecutionContext에 저장된 완벽한 하루 달성 유저ID로 유저 엔티티를 조회한다")
+    @DisplayName("스테이징 테이블에 저장된 완벽한 하루 달성 유저ID로 유저 엔티티를 조회한다")
     @Test
-    fun `JobExecutionContext에 저장된 완벽한 하루 달성 유저ID로 유저 엔티티를 조회한다`() {
+    fun `스테이징 테이블에 저장된 완벽한 하루 달성 유저ID로 유저 엔티티를 조회한다`() {
         //given
         //when
-        jobLauncherTestUtils.launchJob(jobParameters)
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
 
         //then
-        verify { userRecordRepository.findAllByIdIn(eq(perfectDayUserIds), any()) }
+        verify { userRecordRepository.getAllStagedUserRecords(jobExecution.jobInstance.instanceId, userIdsKey, any(), any()) }
     }
 
     @DisplayName("완벽한 하루 달성 유저ID로 조회한 유저 엔티티의 완벽한 하루 횟수를 증가시킨다")
@@ -137,28 +148,47 @@ class PerfectDayJobUnitTest @Autowired constructor(
         jobLauncherTestUtils.launchJob(jobParameters)
 
         //then
-        verify(exactly = perfectDayUserIds.size) { userRecord.increasePerfectDayCount() }
+        userRecords.forEach { verify(exactly = 1) { it.increasePerfectDayCount() } }
     }
 
-    @DisplayName("완벽한 하루 횟수를 증가시킨 유저 정보를 JobExecutionContext에 담는다")
+    @DisplayName("완벽한 하루 횟수를 증가시킨 유저 엔티티를 유저 writer 로 저장한다")
     @Test
-    fun `완벽한 하루 횟수를 증가시킨 유저 정보를 JobExecutionContext에 담는다`() {
+    fun `완벽한 하루 횟수를 증가시킨 유저 엔티티를 유저 writer 로 저장한다`() {
         //given
         //when
-        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+        jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        verify { userWriter.write(match { chunk -> chunk.items == userRecords }) }
+    }
+
+    @DisplayName("완벽한 하루 횟수를 증가시킨 유저 정보를 스테이징 테이블에 저장한다")
+    @Test
+    fun `완벽한 하루 횟수를 증가시킨 유저 정보를 스테이징 테이블에 저장한다`() {
+        //given
+        //when
+        jobLauncherTestUtils.launchJob(jobParameters)
 
         //then
-        val result = jobExecution.executionContext.get(userPerfectDayCountsKey) as List<UserPerfectDayCount>
-        assertThat(result.size).isEqualTo(perfectDayUserIds.size)
+        verify { batchStagingItemRepository.stageAll(any(), userPerfectDayCountsKey, match { it.keys == perfectDayUserIds.toSet() }) }
     }
 
-    @DisplayName("JobExecutionContext에 담긴 유저 ID가 없어도 Job이 성공한다")
+    @DisplayName("스테이징 테이블에 저장된 유저 ID가 없어도 Job이 성공한다")
     @Test
-    fun `JobExecutionContext에 담긴 유저 ID가 없어도 Job이 성공한다`() {
+    fun `스테이징 테이블에 저장된 유저 ID가 없어도 Job이 성공한다`() {
         //given
         every {
-            questLogRepository.getAllUserIdsWhoAchievedPerfectDay(any(), any())
-        } returns Page.empty()
+            questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(any(), any(), any())
+        } returns emptyList()
+        every {
+            userRecordRepository.getAllStagedUserRecords(any(), any(), any(), any())
+        } returns emptyList()
+        every {
+            batchStagingItemRepository.findAllByJobInstanceIdAndStagingKeyAndItemKeyGreaterThanOrderByItemKeyAsc(any(), any(), any(), any())
+        } returns emptyList()
+        every {
+            batchAchievementAchieveLogRepository.getAllStagedAchieveLogs(any(), any(), any(), any())
+        } returns emptyList()
 
         //when
         val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
@@ -188,4 +218,18 @@ class PerfectDayJobUnitTest @Autowired constructor(
         //then
         verify { notificationRepository.saveAll<Notification>(match { list -> list.all { achievedUserIds.contains(it.userId) } }) }
     }
-}
\ No newline at end of file
+
+    @DisplayName("Job이 완료되면 스테이징 테이블의 항목을 삭제하고 JobExecutionContext에는 처리 대상을 남기지 않는다")
+    @Test
+    fun `Job이 완료되면 스테이징 테이블의 항목을 삭제하고 JobExecutionContext에는 처리 대상을 남기지 않는다`() {
+        //given
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        verify { batchStagingItemRepository.deleteAllOfJobInstance(jobExecution.jobInstance.instanceId, any()) }
+        listOf(userIdsKey, userPerfectDayCountsKey, perfectDayAchievementsKey, achievedLogsKey).forEach {
+            assertThat(jobExecution.executionContext.containsKey(it)).isFalse()
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dailyquest.batch.job
+
+import com.ninjasquad.springmockk.MockkBean
+import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
+import dailyquest.quest.repository.QuestLogRepository
+import io.mockk.every
+import io.mockk.junit5.MockKExtension
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.batch.core.BatchStatus
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.JobParameters
+import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.test.JobLauncherTestUtils
+import org.springframework.batch.test.JobRepositoryTestUtils
+import org.springframework.batch.test.context.SpringBatchTest
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.context.annotation.Import
+import java.time.LocalDate
+
+@ExtendWith(MockKExtension::class)
+@Import(
+    QuestLogLifetimeCountReconcileBatchConfig::class,
+    MockSqsClientTestContextConfig::class
+)
+@EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
+@SpringBatchTest
+@DisplayName("누적 상태 카운트 정합성 작업 유닛 테스트")
+class QuestLogLifetimeCountReconcileJobUnitTest @Autowired constructor(
+    private val jobLauncherTestUtils: JobLauncherTestUtils,
+    private val jobRepositoryTestUtils: JobRepositoryTestUtils,
+    private val questLogLifetimeCountReconcileBatchJob: Job
+) {
+    @MockkBean(relaxed = true)
+    private lateinit var questLogRepository: QuestLogRepository
+    @MockkBean(relaxed = true)
+    private lateinit var questLogLifetimeCountRepository: QuestLogLifetimeCountRepository
+
+    private val jobParameters: JobParameters =
+        JobParametersBuilder().addLocalDate("reconcileDate", LocalDate.now()).toJobParameters()
+    private val rangeSize = QuestLogLifetimeCountReconcileBatchConfig.USER_ID_RANGE_SIZE
+
+    @BeforeEach
+    fun init() {
+        jobRepositoryTestUtils.removeJobExecutions()
+        jobLauncherTestUtils.job = questLogLifetimeCountReconcileBatchJob
+    }
+
+    @DisplayName("누적 카운트가 일치하지 않는 유저 범위만 다시 집계한다")
+    @Test
+    fun `누적 카운트가 일치하지 않는 유저 범위만 다시 집계한다`() {
+        //given
+        every { questLogRepository.findMaxUserId() } returns rangeSize * 2 + 1
+        every { questLogLifetimeCountRepository.countMismatchedUsersBetween(any(), any()) } returns 0L
+        every { questLogLifetimeCountRepository.countMismatchedUsersBetween(rangeSize, rangeSize * 2) } returns 2L
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 3) { questLogLifetimeCountRepository.countMismatchedUsersBetween(any(), any()) }
+        verify(exactly = 1) { questLogLifetimeCountRepository.recomputeCountsBetween(any(), any()) }
+        verify { questLogLifetimeCountRepository.recomputeCountsBetween(rangeSize, rangeSize * 2) }
+    }
+
+    @DisplayName("퀘스트 로그가 없으면 아무 범위도 확인하지 않는다")
+    @Test
+    fun `퀘스트 로그가 없으면 아무 범위도 확인하지 않는다`() {
+        //given
+        every { questLogRepository.findMaxUserId() } returns null
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 0) { questLogLifetimeCountRepository.countMismatchedUsersBetween(any(), any()) }
+    }
+}
@@ -0,0 +1,173 @@
+package dailyquest.batch.job
+
+import com.ninjasquad.springmockk.MockkBean
+import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.properties.ElasticBulkProperties
+import dailyquest.properties.QuestResetProperties
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository
+import dailyquest.quest.repository.QuestLogRepository
+import dailyquest.quest.repository.QuestRepository
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import io.mockk.every
+import io.mockk.junit5.MockKExtension
+import io.mockk.slot
+import io.mockk.verify
+import io.mockk.verifyOrder
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.batch.core.BatchStatus
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.JobParameters
+import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.test.JobLauncherTestUtils
+import org.springframework.batch.test.JobRepositoryTestUtils
+import org.springframework.batch.test.context.SpringBatchTest
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
+import org.springframework.context.annotation.Import
+import java.time.LocalDateTime
+
+@ExtendWith(MockKExtension::class)
+@Import(
+    QuestResetBulkBatchConfig::class,
+    QuestResetBulkStepListener::class,
+    MockSqsClientTestContextConfig::class
+)
+@EnableConfigurationProperties(QuestResetProperties::class, ElasticBulkProperties::class)
+@EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
+@SpringBatchTest
+@DisplayName("집합 기반 퀘스트 초기화 작업 유닛 테스트")
+class QuestResetBulkJobUnitTest @Autowired constructor(
+    private val jobLauncherTestUtils: JobLauncherTestUtils,
+    private val jobRepositoryTestUtils: JobRepositoryTestUtils,
+    private val questResetBulkBatchJob: Job,
+    private val questResetProperties: QuestResetProperties,
+) {
+    @MockkBean(relaxed = true)
+    private lateinit var questRepository: QuestRepository
+    @MockkBean(relaxed = true)
+    private lateinit var questLogRepository: QuestLogRepository
+    @MockkBean(relaxed = true)
+    private lateinit var questLogDailyRollupRepository: QuestLogDailyRollupRepository
+    @MockkBean(relaxed = true)
+    private lateinit var questLogLifetimeCountRepository: QuestLogLifetimeCountRepository
+    @MockkBean(relaxed = true)
+    private lateinit var questDocumentBulkIndexer: QuestDocumentBulkIndexer
+
+    private val resetDateTime = LocalDateTime.of(2022, 12, 1, 6, 0)
+    private val jobParameters: JobParameters =
+        JobParametersBuilder().addString("resetDateTime", "2022-12-01 06:00:00").toJobParameters()
+
+    @BeforeEach
+    fun init() {
+        jobRepositoryTestUtils.removeJobExecutions()
+        jobLauncherTestUtils.job = questResetBulkBatchJob
+    }
+
+    @DisplayName("초기화 대상의 최소 id 부터 최대 id 까지 고정된 id 범위 단위로 처리한다")
+    @Test
+    fun `초기화 대상의 최소 id 부터 최대 id 까지 고정된 id 범위 단위로 처리한다`() {
+        //given
+        val rangeSize = questResetProperties.idRangeSize
+        every { questRepository.findMinQuestIdForReset(resetDateTime) } returns 1L
+        every { questRepository.findMaxQuestIdForReset(resetDateTime) } returns rangeSize * 2 + 1
+        every { questRepository.lockQuestIdsForResetBetween(any(), any(), any()) } returns listOf(1L)
+        every { questDocumentBulkIndexer.bulkUpdateState(any(), any()) } returns emptyList()
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 3) { questRepository.failQuestsForResetBetween(any(), any(), resetDateTime, any()) }
+        verify { questRepository.failQuestsForResetBetween(1L, rangeSize + 1, resetDateTime, any()) }
+        verify { questRepository.failQuestsForResetBetween(rangeSize + 1, rangeSize * 2 + 1, resetDateTime, any()) }
+        verify { questRepository.failQuestsForResetBetween(rangeSize * 2 + 1, rangeSize * 3 + 1, resetDateTime, any()) }
+    }
+
+    @DisplayName("범위마다 상태를 변경하기 전에 로그와 통계 집계를 저장하고, 변경 후 검색 문서 상태를 업데이트한다")
+    @Test
+    fun `범위마다 상태를 변경하기 전에 로그와 통계 집계를 저장하고, 변경 후 검색 문서 상태를 업데이트한다`() {
+        //given
+        val questIds = listOf(1L, 2L)
+        val loggedDate = resetDateTime.toLocalDate().minusDays(1)
+        every { questRepository.findMinQuestIdForReset(resetDateTime) } returns 1L
+        every { questRepository.findMaxQuestIdForReset(resetDateTime) } returns 2L
+        every { questRepository.lockQuestIdsForResetBetween(any(), any(), any()) } returns questIds
+        val modifiedDate = slot<LocalDateTime>()
+        every { questRepository.failQuestsForResetBetween(any(), any(), any(), capture(modifiedDate)) } returns questIds.size
+        every { questDocumentBulkIndexer.bulkUpdateState(any(), any()) } returns emptyList()
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verifyOrder {
+            questRepository.lockQuestIdsForResetBetween(1L, any(), resetDateTime)
+            questLogRepository.insertFailLogsForResetBetween(1L, any(), resetDateTime, loggedDate, any())
+            questLogDailyRollupRepository.increaseFailCountsForResetBetween(1L, any(), resetDateTime, loggedDate)
+            questLogLifetimeCountRepository.increaseFailCountsForResetBetween(1L, any(), resetDateTime)
+            questRepository.failQuestsForResetBetween(1L, any(), resetDateTime, any())
+            questDocumentBulkIndexer.bulkUpdateState(any(), QuestState.FAIL)
+        }
+        verify { questDocumentBulkIndexer.bulkUpdateState(questIds.associateWith { modifiedDate.captured }, QuestState.FAIL) }
+    }
+
+    @DisplayName("범위 트랜잭션이 롤백되면 검색 문서 상태를 업데이트하지 않는다")
+    @Test
+    fun `범위 트랜잭션이 롤백되면 검색 문서 상태를 업데이트하지 않는다`() {
+        //given
+        every { questRepository.findMinQuestIdForReset(resetDateTime) } returns 1L
+        every { questRepository.findMaxQuestIdForReset(resetDateTime) } returns 2L
+        every { questRepository.lockQuestIdsForResetBetween(any(), any(), any()) } returns listOf(1L, 2L)
+        every { questRepository.failQuestsForResetBetween(any(), any(), any(), any()) } returns 2
+        every { questLogLifetimeCountRepository.increaseFailCountsForResetBetween(any(), any(), any()) } throws RuntimeException()
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.FAILED)
+        verify(exactly = 0) { questDocumentBulkIndexer.bulkUpdateState(any(), any()) }
+    }
+
+    @DisplayName("범위 내 초기화 대상이 없으면 로그를 저장하지 않고 다음 범위로 넘어간다")
+    @Test
+    fun `범위 내 초기화 대상이 없으면 로그를 저장하지 않고 다음 범위로 넘어간다`() {
+        //given
+        every { questRepository.findMinQuestIdForReset(resetDateTime) } returns 1L
+        every { questRepository.findMaxQuestIdForReset(resetDateTime) } returns 1L
+        every { questRepository.lockQuestIdsForResetBetween(any(), any(), any()) } returns emptyList()
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 0) { questLogRepository.insertFailLogsForResetBetween(any(), any(), any(), any(), any()) }
+        verify(exactly = 0) { questRepository.failQuestsForResetBetween(any(), any(), any(), any()) }
+        verify(exactly = 0) { questDocumentBulkIndexer.bulkUpdateState(any(), any()) }
+    }
+
+    @DisplayName("초기화 대상 퀘스트가 없으면 아무 범위도 처리하지 않는다")
+    @Test
+    fun `초기화 대상 퀘스트가 없으면 아무 범위도 처리하지 않는다`() {
+        //given
+        every { questRepository.findMinQuestIdForReset(resetDateTime) } returns null
+
+        //when
+        val jobExecution = jobLauncherTestUtils.launchJob(jobParameters)
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        verify(exactly = 0) { questRepository.lockQuestIdsForResetBetween(any(), any(), any()) }
+    }
+}
@@ -0,0 +1,63 @@
+package dailyquest.batch.listener.job
+
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
+import io.mockk.every
+import io.mockk.impl.annotations.InjectMockKs
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.verify
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.batch.core.BatchStatus
+import org.springframework.batch.core.JobExecution
+import org.springframework.batch.core.JobInstance
+import org.springframework.batch.core.JobParameters
+
+@ExtendWith(MockKExtension::class)
+class BatchStagingCleanupJobListenerUnitTest {
+    @InjectMockKs
+    private lateinit var listener: BatchStagingCleanupJobListener
+    @RelaxedMockK
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
+    private lateinit var jobExecution: JobExecution
+    private val jobInstanceId = 1L
+
+    @BeforeEach
+    fun init() {
+        jobExecution = JobExecution(JobInstance(jobInstanceId, "job"), 1L, JobParameters())
+    }
+
+    @DisplayName("afterJob 요청시")
+    @Nested
+    inner class TestAfterJob {
+        @DisplayName("잡이 완료되면 잡 인스턴스의 항목을 삭제할 항목이 없을 때까지 나눠서 삭제한다")
+        @Test
+        fun `잡이 완료되면 잡 인스턴스의 항목을 삭제할 항목이 없을 때까지 나눠서 삭제한다`() {
+            //given
+            jobExecution.status = BatchStatus.COMPLETED
+            every { batchStagingItemRepository.deleteAllOfJobInstance(any(), any()) } returnsMany listOf(10000, 10000, 3)
+
+            //when
+            listener.afterJob(jobExecution)
+
+            //then
+            verify(exactly = 3) { batchStagingItemRepository.deleteAllOfJobInstance(jobInstanceId, any()) }
+        }
+
+        @DisplayName("잡이 완료되지 않으면 재시작을 위해 항목을 삭제하지 않는다")
+        @Test
+        fun `잡이 완료되지 않으면 재시작을 위해 항목을 삭제하지 않는다`() {
+            //given
+            jobExecution.status = BatchStatus.FAILED
+
+            //when
+            listener.afterJob(jobExecution)
+
+            //then
+            verify(exactly = 0) { batchStagingItemRepository.deleteAllOfJobInstance(any(), any()) }
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package dailyquest.batch.listener.step
 
+import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
-import dailyquest.common.util.ExecutionContextUtil
-import dailyquest.notification.entity.Notification
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.properties.BatchContextProperties
 import io.mockk.every
 import io.mockk.impl.annotations.InjectMockKs
 import io.mockk.impl.annotations.RelaxedMockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.mockk
-import io.mockk.mockkObject
 import io.mockk.verify
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -17,7 +16,6 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.springframework.batch.core.StepExecution
-import org.springframework.batch.core.scope.context.ChunkContext
 import org.springframework.batch.item.Chunk
 
 @ExtendWith(MockKExtension::class)
@@ -26,102 +24,41 @@ class CheckAndAchieveStepListenerUnitTest {
     @RelaxedMockK
     private lateinit var stepExecution: StepExecution
     @RelaxedMockK
-    private lateinit var executionContextUtil: ExecutionContextUtil
-    @RelaxedMockK
     private lateinit var batchContextProperties: BatchContextProperties
+    @RelaxedMockK
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
     @InjectMockKs
     private lateinit var listener: CheckAndAchieveStepListener
+    private val jobInstanceId = 1L
+    private val achievedLogsKey = "achievedLogs"
 
     @BeforeEach
     fun init() {
-        mockkObject(ExecutionContextUtil)
-        every { ExecutionContextUtil.from(any()) } returns executionContextUtil
+        every { stepExecution.jobExecution.jobInstance.instanceId } returns jobInstanceId
+        every { batchContextProperties.achievedLogsKey } returns achievedLogsKey
         listener.beforeStep(stepExecution)
     }
 
-    @DisplayName("afterStep 호출 시")
-    @Nested
-    inner class TestAfterStep {
-        @DisplayName("stepExecutionContext에 담긴 처리한 데이터 제거를 요청한다")
-        @Test
-        fun `stepExecutionContext에 담긴 처리한 데이터 제거를 요청한다`() {
-            //given
-            //when
-            listener.afterStep(stepExecution)
-
-            //then
-            verify { executionContextUtil.removeFromStepContext(any()) }
-        }
-    }
-
     @DisplayName("afterWrite 호출 시")
     @Nested
     inner class TestAfterWrite {
 
-        @DisplayName("chunk에서 userId를 추출해 StepExecutionContex에 저장 요청한다")
+        @DisplayName("chunk에 담긴 업적 달성 로그의 유저 ID와 업적 ID를 스테이징 테이블에 저장 요청한다")
         @Test
-        fun `chunk에서 userId를 추출해 StepExecutionContext에 저장 요청한다`() {
+        fun `chunk에 담긴 업적 달성 로그의 유저 ID와 업적 ID를 스테이징 테이블에 저장 요청한다`() {
             //given
-            val achievementAchieveLog = mockk<AchievementAchieveLog>()
-            val userId = 1L
-            val chunk = Chunk(listOf(achievementAchieveLog))
+            val achievement = mockk<Achievement>()
+            every { achievement.id } returns 3L
+            val chunk = Chunk(listOf(AchievementAchieveLog(achievement, 1L), AchievementAchieveLog(achievement, 2L)))
 
             //when
             listener.afterWrite(chunk)
 
             //then
             verify {
-                executionContextUtil.putToStepContext(
-                    any(),
-                    match<List<AchievementAchieveLog>> { it.contains(achievementAchieveLog) })
+                batchStagingItemRepository.stage(jobInstanceId, achievedLogsKey, 1L, 3L)
+                batchStagingItemRepository.stage(jobInstanceId, achievedLogsKey, 2L, 3L)
             }
         }
     }
-
-    @DisplayName("afterChunk 호출 시")
-    @Nested
-    inner class TestAfterChunk {
-        @DisplayName("ChunkContext가 완료 상태면 mergeList 메서드가 호출된다")
-        @Test
-        fun `ChunkContext가 완료 상태면 mergeList 메서드가 호출된다`() {
-            //given
-            val chunkContext = mockk<ChunkContext>()
-            every { chunkContext.isComplete } returns true
-
-            //when
-            listener.afterChunk(chunkContext)
-
-            //then
-            verify { executionContextUtil.mergeListFromStepContextToJobContext<AchievementAchieveLog>(any()) }
-        }
-
-        @DisplayName("ChunkContext가 완료 상태가 아니면 mergeList 메서드가 호출되지 않는다")
-        @Test
-        fun `ChunkContext가 완료 상태가 아니면 mergeList 메서드가 호출되지 않는다`() {
-            //given
-            val chunkContext = mockk<ChunkContext>()
-            every { chunkContext.isComplete } returns false
-
-            //when
-            listener.afterChunk(chunkContext)
-
-            //then
-            verify(inverse = true) { executionContextUtil.mergeListFromStepContextToJobContext<AchievementAchieveLog>(any()) }
-        }
-
-        @DisplayName("ChunkContext의 완료 여부와 관계 없이 removeFromStep이 호출된다")
-        @Test
-        fun `ChunkContext의 완료 여부와 관계 없이 removeFromStep이 호출된다`() {
-            //given
-            val chunkContext = mockk<ChunkContext>()
-            every { chunkContext.isComplete } returns true andThen false
-
-            //when
-            listener.afterChunk(chunkContext)
-            listener.afterChunk(chunkContext)
-
-            //then
-            verify(exactly = 2) { executionContextUtil.removeFromStepContext(any()) }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -1,9 +1,12 @@
 package dailyquest.batch.listener.step
 
+import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
 import dailyquest.achievement.entity.AchievementType
 import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.common.util.ExecutionContextUtil
+import dailyquest.properties.BatchContextProperties
 import io.mockk.every
 import io.mockk.impl.annotations.InjectMockKs
 import io.mockk.impl.annotations.RelaxedMockK
@@ -17,7 +20,6 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.springframework.batch.core.StepExecution
-import org.springframework.batch.core.scope.context.ChunkContext
 import org.springframework.batch.item.Chunk
 
 @ExtendWith(MockKExtension::class)
@@ -30,15 +32,22 @@ class PerfectDayAchievementStepListenerUnitTest {
     private lateinit var executionContextUtil: ExecutionContextUtil
     @RelaxedMockK
     private lateinit var achievementRepository: AchievementRepository
+    @RelaxedMockK
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
+    @RelaxedMockK
+    private lateinit var batchContextProperties: BatchContextProperties
     @InjectMockKs
     private lateinit var perfectDayLogStepListener: PerfectDayAchievementStepListener
     private val perfectDayAchievementsKey = "perfectDayAchievements"
     private val achievedLogsKey = "achievedLogs"
+    private val jobInstanceId = 1L
 
     @BeforeEach
     fun init() {
         mockkObject(ExecutionContextUtil)
         every { ExecutionContextUtil.from(any()) } returns executionContextUtil
+        every { stepExecution.jobExecution.jobInstance.instanceId } returns jobInstanceId
+        every { batchContextProperties.achievedLogsKey } returns achievedLogsKey
     }
 
     @DisplayName("beforeStep 호출 시")
@@ -67,17 +76,6 @@ class PerfectDayAchievementStepListenerUnitTest {
             perfectDayLogStepListener.beforeStep(stepExecution)
         }
 
-        @DisplayName("stepExecutionContext에 담긴 달성한 업적 로그 제거를 요청한다")
-        @Test
-        fun `stepExecutionContext에 담긴 달성한 업적 로그 제거를 요청한다`() {
-            //given
-            //when
-            perfectDayLogStepListener.afterStep(stepExecution)
-
-            //then
-            verify { executionContextUtil.removeFromStepContext(achievedLogsKey) }
-        }
-
         @DisplayName("stepExecutionContext에 담긴 업적 목록 제거를 요청한다")
         @Test
         fun `stepExecutionContext에 담긴 업적 목록 제거를 요청한다`() {
@@ -98,69 +96,19 @@ class PerfectDayAchievementStepListenerUnitTest {
             perfectDayLogStepListener.beforeStep(stepExecution)
         }
 
-        @DisplayName("처리한 청크를 StepExecutionContex에 저장 요청한다")
+        @DisplayName("처리한 청크의 유저 ID와 업적 ID를 스테이징 테이블에 저장 요청한다")
         @Test
-        fun `처리한 청크를 StepExecutionContext에 저장 요청한다`() {
+        fun `처리한 청크의 유저 ID와 업적 ID를 스테이징 테이블에 저장 요청한다`() {
             //given
-            val achievementAchieveLog = mockk<AchievementAchieveLog>()
-            val chunk = Chunk(listOf(achievementAchieveLog))
+            val achievement = mockk<Achievement>()
+            every { achievement.id } returns 3L
+            val chunk = Chunk(listOf(AchievementAchieveLog(achievement, 1L)))
 
             //when
             perfectDayLogStepListener.afterWrite(chunk)
 
             //then
-            verify {
-                executionContextUtil.putToStepContext(
-                    achievedLogsKey,
-                    match<List<AchievementAchieveLog>> { list -> list.all { it == achievementAchieveLog } })
-            }
-        }
-    }
-
-    @DisplayName("afterChunk 호출 시")
-    @Nested
-    inner class TestAfterChunk {
-        @DisplayName("ChunkContext가 완료 상태면 mergeList 메서드가 호출된다")
-        @Test
-        fun `ChunkContext가 완료 상태면 mergeList 메서드가 호출된다`() {
-            //given
-            val chunkContext = mockk<ChunkContext>()
-            every { chunkContext.isComplete } returns true
-
-            //when
-            perfectDayLogStepListener.afterChunk(chunkContext)
-
-            //then
-            verify { executionContextUtil.mergeListFromStepContextToJobContext<AchievementAchieveLog>(achievedLogsKey) }
-        }
-
-        @DisplayName("ChunkContext가 완료 상태가 아니면 mergeList 메서드가 호출되지 않는다")
-        @Test
-        fun `ChunkContext가 완료 상태가 아니면 mergeList 메서드가 호출되지 않는다`() {
-            //given
-            val chunkContext = mockk<ChunkContext>()
-            every { chunkContext.isComplete } returns false
-
-            //when
-            perfectDayLogStepListener.afterChunk(chunkContext)
-
-            //then
-            verify(inverse = true) { executionContextUtil.mergeListFromStepContextToJobContext<AchievementAchieveLog>(achievedLogsKey) }
-        }
-
-        @DisplayName("ChunkContext의 완료 여부와 관계 없이 removeFromStep이 호출된다")
-        @Test
-        fun `ChunkContext의 완료 여부와 관계 없이 removeFromStep이 호출된다`() {
-            //given
-            val chunkContext = mockk<ChunkContext>()
-            every { chunkContext.isComplete } returns true andThen false
-
-            //when
-            perfectDayLogStepListener.afterChunk(chunkContext)
-            perfectDayLogStepListener.afterChunk(chunkContext)
-
-            //then
-            verify(exactly = 2) { executionContextUtil.removeFromStepContext(achievedLogsKey) }
+            verify { batchStagingItemRepository.stage(jobInstanceId, achievedLogsKey, 1L, 3L) }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package dailyquest.batch.partition
+
+import dailyquest.batch.partition.UserIdRangePartitioner.Companion.MAX_USER_ID_KEY
+import dailyquest.batch.partition.UserIdRangePartitioner.Companion.MIN_USER_ID_KEY
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("유저 id 범위 파티셔너 유닛 테스트")
+class UserIdRangePartitionerUnitTest {
+
+    @DisplayName("유저 id 구간을 빈틈과 겹침 없이 gridSize 개의 범위로 나눈다")
+    @Test
+    fun `유저 id 구간을 빈틈과 겹침 없이 gridSize 개의 범위로 나눈다`() {
+        //given
+        val partitioner = UserIdRangePartitioner(1L, 10L)
+
+        //when
+        val partitions = partitioner.partition(3)
+
+        //then
+        val ranges = partitions.values.map { it.getLong(MIN_USER_ID_KEY) to it.getLong(MAX_USER_ID_KEY) }
+        assertThat(ranges).containsExactly(1L to 4L, 5L to 8L, 9L to 10L)
+    }
+
+    @DisplayName("유저 수보다 gridSize 가 크면 유저 수만큼만 나눈다")
+    @Test
+    fun `유저 수보다 gridSize 가 크면 유저 수만큼만 나눈다`() {
+        //given
+        val partitioner = UserIdRangePartitioner(5L, 6L)
+
+        //when
+        val partitions = partitioner.partition(4)
+
+        //then
+        val ranges = partitions.values.map { it.getLong(MIN_USER_ID_KEY) to it.getLong(MAX_USER_ID_KEY) }
+        assertThat(ranges).containsExactly(5L to 5L, 6L to 6L)
+    }
+
+    @DisplayName("대상 유저가 없으면 파티션을 만들지 않는다")
+    @Test
+    fun `대상 유저가 없으면 파티션을 만들지 않는다`() {
+        //given
+        val partitioner = UserIdRangePartitioner(null, null)
+
+        //when
+        val partitions = partitioner.partition(4)
+
+        //then
+        assertThat(partitions).isEmpty()
+    }
+}
@@ -0,0 +1,87 @@
+package dailyquest.batch.reader
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.batch.item.ExecutionContext
+
+@DisplayName("키셋 아이템 리더 유닛 테스트")
+class KeysetItemReaderUnitTest {
+
+    private val items = (1L..5L).toList()
+    private val fetchedLastKeys = mutableListOf<Long>()
+
+    private fun reader(pageSize: Int): KeysetItemReader<Long> {
+        return KeysetItemReader("testReader", pageSize, { it }) { lastKey, size ->
+            fetchedLastKeys.add(lastKey)
+            items.filter { it > lastKey }.take(size)
+        }
+    }
+
+    private fun KeysetItemReader<Long>.readAll(): List<Long> = generateSequence { read() }.toList()
+
+    @DisplayName("마지막으로 읽은 키 다음부터 페이지 단위로 모든 항목을 읽는다")
+    @Test
+    fun `마지막으로 읽은 키 다음부터 페이지 단위로 모든 항목을 읽는다`() {
+        //given
+        val reader = reader(2)
+        reader.open(ExecutionContext())
+
+        //when
+        val result = reader.readAll()
+
+        //then
+        assertThat(result).containsExactlyElementsOf(items)
+        assertThat(fetchedLastKeys).containsExactly(0L, 2L, 4L)
+    }
+
+    @DisplayName("페이지 크기보다 적게 조회되면 다음 페이지를 조회하지 않는다")
+    @Test
+    fun `페이지 크기보다 적게 조회되면 다음 페이지를 조회하지 않는다`() {
+        //given
+        val reader = reader(10)
+        reader.open(ExecutionContext())
+
+        //when
+        reader.readAll()
+        val afterEnd = reader.read()
+
+        //then
+        assertThat(afterEnd).isNull()
+        assertThat(fetchedLastKeys).containsExactly(0L)
+    }
+
+    @DisplayName("update 시 마지막으로 읽은 키를 ExecutionContext 에 저장한다")
+    @Test
+    fun `update 시 마지막으로 읽은 키를 ExecutionContext 에 저장한다`() {
+        //given
+        val reader = reader(2)
+        val executionContext = ExecutionContext()
+        reader.open(executionContext)
+        reader.read()
+        reader.read()
+        reader.read()
+
+        //when
+        reader.update(executionContext)
+
+        //then
+        assertThat(executionContext.getLong("testReader.lastKey")).isEqualTo(3L)
+    }
+
+    @DisplayName("ExecutionContext 에 저장된 키가 있으면 그 다음 항목부터 읽는다")
+    @Test
+    fun `ExecutionContext 에 저장된 키가 있으면 그 다음 항목부터 읽는다`() {
+        //given
+        val reader = reader(2)
+        val executionContext = ExecutionContext().apply { putLong("testReader.lastKey", 3L) }
+
+        //when
+        reader.open(executionContext)
+        val result = reader.readAll()
+
+        //then
+        assertThat(result).containsExactly(4L, 5L)
+        assertThat(fetchedLastKeys.first()).isEqualTo(3L)
+    }
+}
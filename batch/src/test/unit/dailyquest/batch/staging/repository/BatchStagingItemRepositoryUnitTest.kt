@@ -0,0 +1,40 @@
+package dailyquest.batch.staging.repository
+
+import dailyquest.config.QueryDslConfig
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.data.domain.PageRequest
+
+@Import(QueryDslConfig::class)
+@DisplayName("배치 스테이징 리포지토리 유닛 테스트")
+@DataJpaTest
+class BatchStagingItemRepositoryUnitTest @Autowired constructor(
+    private val batchStagingItemRepository: BatchStagingItemRepository,
+) {
+    private val jobInstanceId = 1L
+    private val stagingKey = "stagingKey"
+
+    @DisplayName("stageAll 호출 시")
+    @Nested
+    inner class TestStageAll {
+        @DisplayName("전달한 항목을 모두 저장하고, 이미 저장된 항목은 값만 갱신한다")
+        @Test
+        fun `전달한 항목을 모두 저장하고, 이미 저장된 항목은 값만 갱신한다`() {
+            //given
+            batchStagingItemRepository.stageAll(jobInstanceId, stagingKey, mapOf(1L to 1L, 2L to 1L))
+
+            //when
+            batchStagingItemRepository.stageAll(jobInstanceId, stagingKey, mapOf(2L to 2L, 3L to 2L))
+
+            //then
+            val stagedItems = batchStagingItemRepository
+                .findAllByJobInstanceIdAndStagingKeyAndItemKeyGreaterThanOrderByItemKeyAsc(jobInstanceId, stagingKey, 0L, PageRequest.ofSize(10))
+            assertThat(stagedItems.map { it.itemKey to it.itemValue }).containsExactly(1L to 1L, 2L to 2L, 3L to 2L)
+        }
+    }
+}
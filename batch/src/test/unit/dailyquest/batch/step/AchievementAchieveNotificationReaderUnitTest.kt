@@ -3,10 +3,12 @@ package dailyquest.batch.step
 import com.ninjasquad.springmockk.MockkBean
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
-import dailyquest.batch.listener.step.AchievementAchieveNotificationStepListener
+import dailyquest.achievement.repository.BatchAchievementAchieveLogRepository
 import dailyquest.context.MockSqsClientTestContextConfig
 import dailyquest.notification.entity.Notification
 import dailyquest.notification.repository.NotificationRepository
+import dailyquest.properties.BatchContextProperties
+import io.mockk.every
 import io.mockk.junit5.MockKExtension
 import io.mockk.verify
 import org.junit.jupiter.api.BeforeEach
@@ -20,15 +22,16 @@ import org.springframework.batch.item.ItemReader
 import org.springframework.batch.item.ItemWriter
 import org.springframework.batch.item.function.FunctionItemProcessor
 import org.springframework.batch.test.JobLauncherTestUtils
-import org.springframework.batch.test.MetaDataInstanceFactory
 import org.springframework.batch.test.context.SpringBatchTest
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import
 
 @ExtendWith(MockKExtension::class)
 @Import(AchievementAchieveNotificationStepConfig::class, MockSqsClientTestContextConfig::class)
+@EnableConfigurationProperties(BatchContextProperties::class)
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
 @SpringBatchTest
 @DisplayName("업적 달성 알림 스텝 리더 유닛 테스트")
@@ -42,7 +45,7 @@ class AchievementAchieveNotificationReaderUnitTest @Autowired constructor(
     @MockkBean(name = "achievementAchieveNotificationWriter", relaxed = true)
     private lateinit var achievementAchieveNotificationWriter: ItemWriter<Notification>
     @MockkBean(relaxed = true)
-    private lateinit var achievementNotificationStepListener: AchievementAchieveNotificationStepListener
+    private lateinit var batchAchievementAchieveLogRepository: BatchAchievementAchieveLogRepository
     @MockkBean(relaxed = true)
     private lateinit var notificationRepository: NotificationRepository
 
@@ -58,24 +61,27 @@ class AchievementAchieveNotificationReaderUnitTest @Autowired constructor(
         jobLauncherTestUtils.job = job
     }
 
-    @DisplayName("JobExecutionContext에 담긴 값이 Reader에 제대로 전달된다")
+    @DisplayName("스테이징 테이블에 저장된 업적 달성 로그를 유저 ID 순서로 나눠 읽는다")
     @Test
-    fun `JobExecutionContext에 담긴 값이 Reader에 제대로 전달된다`() {
+    fun `스테이징 테이블에 저장된 업적 달성 로그를 유저 ID 순서로 나눠 읽는다`() {
         //given
-        val jobExecution = MetaDataInstanceFactory.createJobExecution()
-        val jobExecutionContext = jobExecution.executionContext
         val achieveLogs = mutableListOf<AchievementAchieveLog>()
         val listSize = 30
         val chunkSize = 10
         for (i in 1..listSize) {
             achieveLogs.add(AchievementAchieveLog(achievement, i.toLong()))
         }
-        jobExecutionContext.put("achievedLogs", achieveLogs)
+        every {
+            batchAchievementAchieveLogRepository.getAllStagedAchieveLogs(any(), "achievedLogs", any(), any())
+        } returnsMany achieveLogs.chunked(chunkSize) andThen emptyList()
 
         //when
-        jobLauncherTestUtils.launchStep("achievementAchieveNotificationStep", jobExecutionContext)
+        val jobExecution = jobLauncherTestUtils.launchStep("achievementAchieveNotificationStep")
 
         //then
+        val jobInstanceId = jobExecution.jobInstance.instanceId
+        verify { batchAchievementAchieveLogRepository.getAllStagedAchieveLogs(jobInstanceId, "achievedLogs", 0L, any()) }
+        verify { batchAchievementAchieveLogRepository.getAllStagedAchieveLogs(jobInstanceId, "achievedLogs", chunkSize.toLong(), any()) }
         verify(exactly = listSize) {
             achievementAchieveNotificationProcessor.process(match { it.achievement == achievement })
         }
@@ -83,4 +89,4 @@ class AchievementAchieveNotificationReaderUnitTest @Autowired constructor(
             achievementAchieveNotificationWriter.write(any())
         }
     }
-}
\ No newline at end of file
+}
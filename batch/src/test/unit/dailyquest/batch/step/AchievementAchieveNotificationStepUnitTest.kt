@@ -4,7 +4,6 @@ import com.ninjasquad.springmockk.MockkBean
 import com.ninjasquad.springmockk.SpykBean
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
-import dailyquest.batch.listener.step.AchievementAchieveNotificationStepListener
 import dailyquest.context.MockSqsClientTestContextConfig
 import dailyquest.notification.entity.Notification
 import dailyquest.notification.repository.NotificationRepository
@@ -21,7 +20,6 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.springframework.batch.core.BatchStatus
 import org.springframework.batch.core.Job
-import org.springframework.batch.core.JobParameters
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.job.SimpleJob
 import org.springframework.batch.item.ItemReader
@@ -38,7 +36,7 @@ import org.springframework.transaction.TransactionTimedOutException
 
 
 @ExtendWith(MockKExtension::class)
-@Import(AchievementAchieveNotificationStepConfig::class, AchievementAchieveNotificationStepListener::class, MockSqsClientTestContextConfig::class)
+@Import(AchievementAchieveNotificationStepConfig::class, MockSqsClientTestContextConfig::class)
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
 @SpringBatchTest
 @DisplayName("업적 달성 알림 스텝 유닛 테스트")
@@ -62,7 +60,6 @@ class AchievementAchieveNotificationStepUnitTest @Autowired constructor(
     private lateinit var job: Job
     private lateinit var achieveLogs: MutableList<AchievementAchieveLog>
     private val stepName = "achievementAchieveNotificationStep"
-    private val notifiedUserIdsKey = "notifiedUserIds"
 
     @BeforeEach
     fun init() {
@@ -81,68 +78,44 @@ class AchievementAchieveNotificationStepUnitTest @Autowired constructor(
     @DisplayName("스텝이 종료 됐을 때")
     @Nested
     inner class TestStepEnd {
-        @DisplayName("실패 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다")
+        @DisplayName("성공 상태로 종료됐다면 읽은 업적 달성 로그 수만큼 알림이 저장되어야 한다")
         @Test
-        fun `실패 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다`() {
+        fun `성공 상태로 종료됐다면 읽은 업적 달성 로그 수만큼 알림이 저장되어야 한다`() {
             //given
-            every { achievementAchieveLogReader.read() } throws IllegalStateException()
-
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val stepExecutionContext = stepExecution.executionContext
-            val result = stepExecutionContext.get(notifiedUserIdsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.FAILED)
-            assertThat(result).isNull()
-        }
-
-        @DisplayName("성공 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다")
-        @Test
-        fun `성공 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다`() {
-            //given
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName)
             val stepExecution = jobExecution.stepExecutions.first()
-            val stepExecutionContext = stepExecution.executionContext
-            val result = stepExecutionContext.get(notifiedUserIdsKey)
-
-            //then
             assertThat(stepExecution.status).isEqualTo(BatchStatus.COMPLETED)
-            assertThat(result).isNull()
+            assertThat(stepExecution.writeCount).isEqualTo(userIds.size.toLong())
         }
 
-        @DisplayName("성공 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있어야 한다")
+        @DisplayName("실행 컨텍스트에 처리한 유저 목록이 담겨 있지 않아야 한다")
         @Test
-        fun `성공 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있어야 한다`() {
+        fun `실행 컨텍스트에 처리한 유저 목록이 담겨 있지 않아야 한다`() {
             //given
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(notifiedUserIdsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.COMPLETED)
-            assertThat(result).isNotNull()
+            assertThat(jobExecution.stepExecutions.first().executionContext.get("notifiedUserIds")).isNull()
+            assertThat(jobExecution.executionContext.get("notifiedUserIds")).isNull()
         }
 
-        @DisplayName("실패 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다")
+        @DisplayName("실패 상태로 종료됐다면 알림이 저장되지 않아야 한다")
         @Test
-        fun `실패 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다`() {
+        fun `실패 상태로 종료됐다면 알림이 저장되지 않아야 한다`() {
             //given
             every { achievementAchieveLogReader.read() } throws IllegalStateException()
 
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(notifiedUserIdsKey)
 
             //then
+            val stepExecution = jobExecution.stepExecutions.first()
             assertThat(stepExecution.status).isEqualTo(BatchStatus.FAILED)
-            assertThat(result).isNull()
+            assertThat(stepExecution.writeCount).isZero()
         }
     }
 
@@ -166,47 +139,6 @@ class AchievementAchieveNotificationStepUnitTest @Autowired constructor(
             }
         }
 
-        @DisplayName("StepExecutionContext에 처리한 데이터가 담겨있지 않아야 한다")
-        @Test
-        fun `StepExecutionContext에 처리한 데이터가 담겨있지 않아야 한다`() {
-            //given
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-
-            //then
-            val stepExecutionContext = jobExecution.stepExecutions.first().executionContext
-            assertThat(stepExecutionContext.get(notifiedUserIdsKey)).isNull()
-        }
-
-        @DisplayName("JobExecutionContext에 처리한 데이터가 담겨있지 않아야 한다")
-        @Test
-        fun `JobExecutionContext에 처리한 데이터가 담겨있지 않아야 한다`() {
-            //given
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-
-            //then
-            val jobExecutionContext = jobExecution.executionContext
-            assertThat(jobExecutionContext.get(notifiedUserIdsKey)).isNull()
-        }
-
-        @DisplayName("동일한 파라미터로 다시 스텝을 실행하면 JobExecutionContext에 처리한 데이터가 담겨야 한다")
-        @Test
-        fun `동일한 파라미터로 다시 스텝을 실행하면 JobExecutionContext에 처리한 데이터가 담겨야 한다`() {
-            //given
-            val jobParameters = JobParameters()
-            jobLauncherTestUtils.launchStep(stepName, jobParameters)
-            every { achievementAchieveLogReader.read() } returnsMany achieveLogs andThen null
-
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName, jobParameters)
-
-            //then
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(notifiedUserIdsKey) as List<Long>
-            assertThat(result).containsExactlyElementsOf(userIds)
-        }
-
         @DisplayName("fault-tolerant에 의해 재실행 되지 않는다")
         @Test
         fun `fault-tolerant에 의해 재실행 되지 않는다`() {
@@ -33,8 +33,6 @@ import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
 import org.springframework.context.annotation.Import
-import org.springframework.data.domain.Page
-import org.springframework.data.domain.PageImpl
 
 
 @Import(CheckAndAchieveStepConfig::class, MockSqsClientTestContextConfig::class)
@@ -84,7 +82,7 @@ class CheckAndAchieveStepComponentUnitTest @Autowired constructor(
             val jobExecution = jobLauncherTestUtils.launchStep(stepName, jobExecutionContext)
 
             //then
-            verify { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any()) }
+            verify { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any(), any()) }
         }
     }
 
@@ -98,7 +96,7 @@ class CheckAndAchieveStepComponentUnitTest @Autowired constructor(
             mockkObject(AchievementAchieveLog)
             val user = mockk<User>(relaxed = true)
             every { targetAchievement.type } returns QUEST_REGISTRATION
-            every { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any()) } returns PageImpl(listOf(user.id)) andThen Page.empty()
+            every { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any(), any()) } returns listOf(user.id) andThen emptyList()
 
             //when
             jobLauncherTestUtils.launchStep(stepName, jobExecutionContext)
@@ -118,7 +116,7 @@ class CheckAndAchieveStepComponentUnitTest @Autowired constructor(
             mockkObject(AchievementAchieveLog)
             val user = mockk<User>(relaxed = true)
             every { targetAchievement.type } returns QUEST_REGISTRATION
-            every { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any()) } returns PageImpl(listOf(user.id)) andThen Page.empty()
+            every { batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(any(), any(), any()) } returns listOf(user.id) andThen emptyList()
 
             //when
             jobLauncherTestUtils.launchStep(stepName, jobExecutionContext)
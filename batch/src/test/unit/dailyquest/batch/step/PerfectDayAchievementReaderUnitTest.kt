@@ -3,11 +3,13 @@ package dailyquest.batch.step
 import com.ninjasquad.springmockk.MockkBean
 import dailyquest.achievement.entity.AchievementAchieveLog
 import dailyquest.batch.listener.step.PerfectDayAchievementStepListener
+import dailyquest.batch.staging.entity.BatchStagingItem
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.properties.BatchContextProperties
 import dailyquest.user.dto.UserPerfectDayCount
-import dailyquest.user.repository.UserRepository
+import io.mockk.every
 import io.mockk.junit5.MockKExtension
-import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -20,16 +22,17 @@ import org.springframework.batch.item.ItemReader
 import org.springframework.batch.item.data.RepositoryItemWriter
 import org.springframework.batch.item.function.FunctionItemProcessor
 import org.springframework.batch.test.JobLauncherTestUtils
-import org.springframework.batch.test.MetaDataInstanceFactory
 import org.springframework.batch.test.context.SpringBatchTest
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import
 
 
 @ExtendWith(MockKExtension::class)
 @Import(PerfectDayAchievementStepConfig::class, MockSqsClientTestContextConfig::class)
+@EnableConfigurationProperties(BatchContextProperties::class)
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
 @SpringBatchTest
 @DisplayName("완벽한 하루 업적 스텝 리더 유닛 테스트")
@@ -45,7 +48,7 @@ class PerfectDayAchievementReaderUnitTest @Autowired constructor(
     @MockkBean(relaxed = true)
     private lateinit var perfectDayAchievementStepListener: PerfectDayAchievementStepListener
     @MockkBean(relaxed = true)
-    private lateinit var userRepository: UserRepository
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
     private lateinit var job: Job
 
     @BeforeEach
@@ -55,27 +58,26 @@ class PerfectDayAchievementReaderUnitTest @Autowired constructor(
         job = simpleJob
     }
 
-    @DisplayName("JobExecutionContext에 담긴 값이 Reader에 제대로 전달된다")
+    @DisplayName("스테이징 테이블에 저장된 유저별 완벽한 하루 횟수를 유저 ID 순서로 나눠 읽는다")
     @Test
-    fun `JobExecutionContext에 담긴 값이 Reader에 제대로 전달된다`() {
+    fun `스테이징 테이블에 저장된 유저별 완벽한 하루 횟수를 유저 ID 순서로 나눠 읽는다`() {
         //given
         jobLauncherTestUtils.job = job
-        val jobExecution = MetaDataInstanceFactory.createJobExecution()
-        val jobExecutionContext = jobExecution.executionContext
-        val userPerfectDayCount = mockk<UserPerfectDayCount>(relaxed = true)
-        val userPerfectDayCounts = mutableListOf<UserPerfectDayCount>()
         val listSize = 30
-        for (i in 1..listSize) {
-            userPerfectDayCounts.add(userPerfectDayCount)
-        }
-        jobExecutionContext.put("userPerfectDayCounts", userPerfectDayCounts)
+        val stagedItems = (1..listSize).map { BatchStagingItem(1L, "userPerfectDayCounts", it.toLong(), 2L) }
+        every {
+            batchStagingItemRepository.findAllByJobInstanceIdAndStagingKeyAndItemKeyGreaterThanOrderByItemKeyAsc(any(), "userPerfectDayCounts", any(), any())
+        } returnsMany stagedItems.chunked(10) andThen emptyList()
 
         //when
-        jobLauncherTestUtils.launchStep("perfectDayAchievementStep", jobExecutionContext)
+        jobLauncherTestUtils.launchStep("perfectDayAchievementStep")
 
         //then
         verify(exactly = listSize) {
-            perfectDayAchievementProcessor.process(eq(userPerfectDayCount))
+            perfectDayAchievementProcessor.process(match { it.perfectDayCount == 2L })
+        }
+        stagedItems.forEach { item ->
+            verify { perfectDayAchievementProcessor.process(match { it.userId == item.itemKey }) }
         }
     }
-}
\ No newline at end of file
+}
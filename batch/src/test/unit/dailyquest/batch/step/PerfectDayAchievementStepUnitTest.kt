@@ -6,13 +6,16 @@ import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementAchieveLog
 import dailyquest.achievement.repository.AchievementRepository
 import dailyquest.batch.listener.step.PerfectDayAchievementStepListener
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.properties.BatchContextProperties
 import dailyquest.user.dto.UserPerfectDayCount
 import io.mockk.Runs
 import io.mockk.every
 import io.mockk.junit5.MockKExtension
 import io.mockk.just
 import io.mockk.mockk
+import io.mockk.verify
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -20,7 +23,6 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.springframework.batch.core.BatchStatus
-import org.springframework.batch.core.JobParameters
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.job.SimpleJob
 import org.springframework.batch.item.ItemProcessor
@@ -31,6 +33,7 @@ import org.springframework.batch.test.context.SpringBatchTest
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import
 import org.springframework.transaction.PlatformTransactionManager
 import org.springframework.transaction.TransactionStatus
@@ -39,6 +42,7 @@ import org.springframework.transaction.TransactionTimedOutException
 
 @ExtendWith(MockKExtension::class)
 @Import(PerfectDayAchievementStepListener::class, PerfectDayAchievementStepConfig::class, MockSqsClientTestContextConfig::class)
+@EnableConfigurationProperties(BatchContextProperties::class)
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
 @SpringBatchTest
 @DisplayName("완벽한 하루 업적 스텝 유닛 테스트")
@@ -54,11 +58,13 @@ class PerfectDayAchievementStepUnitTest @Autowired constructor(
     private lateinit var perfectDayAchievementWriter: ItemWriter<AchievementAchieveLog>
     @MockkBean(relaxed = true)
     private lateinit var achievementRepository: AchievementRepository
+    @MockkBean(relaxed = true)
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
 
     @SpykBean
     private lateinit var transactionManager: PlatformTransactionManager
     private val perfectDayCounts = listOf(UserPerfectDayCount(1L, 1), UserPerfectDayCount(2L, 1), UserPerfectDayCount(3L, 1))
-    private val achievement = mockk<Achievement>(relaxed = true)
+    private val achievement = mockk<Achievement>(relaxed = true).also { every { it.id } returns 1L }
     private val achievedLogsKey = "achievedLogs"
     private val stepName = "perfectDayAchievementStep"
 
@@ -75,68 +81,47 @@ class PerfectDayAchievementStepUnitTest @Autowired constructor(
     @DisplayName("스텝이 종료 됐을 때")
     @Nested
     inner class TestStepEnd {
-        @DisplayName("실패 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다")
+        @DisplayName("성공 상태로 종료됐다면 처리한 업적 달성 로그가 스테이징 테이블에 저장되어 있어야 한다")
         @Test
-        fun `실패 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다`() {
+        fun `성공 상태로 종료됐다면 처리한 업적 달성 로그가 스테이징 테이블에 저장되어 있어야 한다`() {
             //given
-            every { perfectDayCountReader.read() } throws IllegalStateException()
-
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val stepExecutionContext = stepExecution.executionContext
-            val result = stepExecutionContext.get(achievedLogsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.FAILED)
-            assertThat(result).isNull()
+            val jobInstanceId = jobExecution.jobInstance.instanceId
+            assertThat(jobExecution.stepExecutions.first().status).isEqualTo(BatchStatus.COMPLETED)
+            perfectDayCounts.forEach {
+                verify { batchStagingItemRepository.stage(jobInstanceId, achievedLogsKey, it.userId, achievement.id) }
+            }
         }
 
-        @DisplayName("성공 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다")
+        @DisplayName("성공 상태로 종료됐다면 실행 컨텍스트에 처리한 업적 달성 로그가 담겨 있지 않아야 한다")
         @Test
-        fun `성공 상태로 종료됐다면 StepExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다`() {
+        fun `성공 상태로 종료됐다면 실행 컨텍스트에 처리한 업적 달성 로그가 담겨 있지 않아야 한다`() {
             //given
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val stepExecutionContext = stepExecution.executionContext
-            val result = stepExecutionContext.get(achievedLogsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.COMPLETED)
-            assertThat(result).isNull()
-        }
-
-        @DisplayName("성공 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있어야 한다")
-        @Test
-        fun `성공 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있어야 한다`() {
-            //given
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName)
             val stepExecution = jobExecution.stepExecutions.first()
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(achievedLogsKey)
-
-            //then
             assertThat(stepExecution.status).isEqualTo(BatchStatus.COMPLETED)
-            assertThat(result).isNotNull()
+            assertThat(stepExecution.executionContext.get(achievedLogsKey)).isNull()
+            assertThat(jobExecution.executionContext.get(achievedLogsKey)).isNull()
         }
 
-        @DisplayName("실패 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다")
+        @DisplayName("실패 상태로 종료됐다면 스테이징 테이블에 저장하지 않는다")
         @Test
-        fun `실패 상태로 종료됐다면 JobExecutionContext에 처리한 업적 달성 로그가 담겨 있지 않아야 한다`() {
+        fun `실패 상태로 종료됐다면 스테이징 테이블에 저장하지 않는다`() {
             //given
             every { perfectDayCountReader.read() } throws IllegalStateException()
 
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(achievedLogsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.FAILED)
-            assertThat(result).isNull()
+            assertThat(jobExecution.stepExecutions.first().status).isEqualTo(BatchStatus.FAILED)
+            verify(exactly = 0) { batchStagingItemRepository.stage(any(), any(), any(), any()) }
         }
     }
 
@@ -160,48 +145,6 @@ class PerfectDayAchievementStepUnitTest @Autowired constructor(
             }
         }
 
-        @DisplayName("StepExecutionContext에 처리한 데이터가 담겨있지 않아야 한다")
-        @Test
-        fun `StepExecutionContext에 처리한 데이터가 담겨있지 않아야 한다`() {
-            //given
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-
-            //then
-            val stepExecutionContext = jobExecution.stepExecutions.first().executionContext
-            assertThat(stepExecutionContext.get(achievedLogsKey)).isNull()
-        }
-
-        @DisplayName("JobExecutionContext에 처리한 데이터가 담겨있지 않아야 한다")
-        @Test
-        fun `JobExecutionContext에 처리한 데이터가 담겨있지 않아야 한다`() {
-            //given
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-
-            //then
-            val jobExecutionContext = jobExecution.executionContext
-            assertThat(jobExecutionContext.get(achievedLogsKey)).isNull()
-        }
-
-        @DisplayName("동일한 파라미터로 다시 스텝을 실행하면 JobExecutionContext에 처리한 데이터가 담겨야 한다")
-        @Test
-        fun `동일한 파라미터로 다시 스텝을 실행하면 JobExecutionContext에 처리한 데이터가 담겨야 한다`() {
-            //given
-            val jobParameters = JobParameters()
-            jobLauncherTestUtils.launchStep(stepName, jobParameters)
-            every { perfectDayCountReader.read() } returnsMany perfectDayCounts andThen null
-            every { perfectDayAchievementProcessor.process(any()) } returnsMany perfectDayCounts.map { AchievementAchieveLog(achievement, it.userId) }
-
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName, jobParameters)
-
-            //then
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(achievedLogsKey) as List<AchievementAchieveLog>
-            assertThat(result).allMatch { it.achievement == achievement }
-        }
-
         @DisplayName("fault-tolerant에 의해 재실행 되지 않는다")
         @Test
         fun `fault-tolerant에 의해 재실행 되지 않는다`() {
@@ -1,9 +1,11 @@
 package dailyquest.batch.step
 
 import com.ninjasquad.springmockk.MockkBean
-import dailyquest.batch.listener.step.ReadPerfectDayUserIdStepListener
+import dailyquest.batch.reader.KeysetItemReader
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.context.MockSqsClientTestContextConfig
-import dailyquest.quest.repository.QuestLogRepository
+import dailyquest.properties.BatchContextProperties
+import dailyquest.quest.repository.QuestLogDailyRollupRepository
 import io.mockk.junit5.MockKExtension
 import io.mockk.verify
 import org.junit.jupiter.api.BeforeEach
@@ -14,31 +16,32 @@ import org.springframework.batch.core.Job
 import org.springframework.batch.core.JobParametersBuilder
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.job.SimpleJob
-import org.springframework.batch.item.data.RepositoryItemReader
 import org.springframework.batch.test.JobLauncherTestUtils
 import org.springframework.batch.test.context.SpringBatchTest
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import
 
 import java.time.LocalDate
 
 @ExtendWith(MockKExtension::class)
 @Import(ReadPerfectDayUserIdStepConfig::class, MockSqsClientTestContextConfig::class)
+@EnableConfigurationProperties(BatchContextProperties::class)
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
 @SpringBatchTest
 @DisplayName("완벽한 하루 로그 스텝 리더 유닛 테스트")
 class ReadPerfectDayUserIdReaderUnitTest @Autowired constructor(
     private val jobLauncherTestUtils: JobLauncherTestUtils,
     private val perfectDayLogStep: Step,
-    private val perfectDayUserIdReader: RepositoryItemReader<Long>,
+    private val perfectDayUserIdReader: KeysetItemReader<Long>,
 ) {
     @MockkBean(relaxed = true)
-    private lateinit var perfectDayLogStepListener: ReadPerfectDayUserIdStepListener
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
 
     @MockkBean(relaxed = true)
-    private lateinit var questLogRepository: QuestLogRepository
+    private lateinit var questLogDailyRollupRepository: QuestLogDailyRollupRepository
     private lateinit var job: Job
     private val stepName = "readPerfectDayUserIdStep"
 
@@ -62,7 +65,7 @@ class ReadPerfectDayUserIdReaderUnitTest @Autowired constructor(
 
         //then
         verify {
-            questLogRepository.getAllUserIdsWhoAchievedPerfectDay(eq(loggedDate), any())
+            questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(eq(loggedDate), any(), any())
         }
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package dailyquest.batch.step
 
 import com.ninjasquad.springmockk.MockkBean
-import dailyquest.batch.listener.step.ReadPerfectDayUserIdStepListener
+import dailyquest.batch.reader.KeysetItemReader
+import dailyquest.batch.staging.repository.BatchStagingItemRepository
 import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.properties.BatchContextProperties
 import io.mockk.every
 import io.mockk.junit5.MockKExtension
+import io.mockk.verify
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -14,17 +17,18 @@ import org.junit.jupiter.api.extension.ExtendWith
 import org.springframework.batch.core.BatchStatus
 import org.springframework.batch.core.Step
 import org.springframework.batch.core.job.SimpleJob
-import org.springframework.batch.item.data.RepositoryItemReader
 import org.springframework.batch.test.JobLauncherTestUtils
 import org.springframework.batch.test.context.SpringBatchTest
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration
 import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration
+import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Import
 
 
 @ExtendWith(MockKExtension::class)
-@Import(ReadPerfectDayUserIdStepListener::class, ReadPerfectDayUserIdStepConfig::class, MockSqsClientTestContextConfig::class)
+@Import(ReadPerfectDayUserIdStepConfig::class, MockSqsClientTestContextConfig::class)
+@EnableConfigurationProperties(BatchContextProperties::class)
 @EnableAutoConfiguration(exclude = [ElasticsearchDataAutoConfiguration::class])
 @SpringBatchTest
 @DisplayName("완벽한 하루 로그 스텝 유닛 테스트")
@@ -33,7 +37,9 @@ class ReadPerfectDayUserIdStepUnitTest @Autowired constructor(
     private val readPerfectDayUserIdStep: Step
 ) {
     @MockkBean(name = "perfectDayUserIdReader", relaxed = true)
-    private lateinit var perfectDayUserIdReader: RepositoryItemReader<Long>
+    private lateinit var perfectDayUserIdReader: KeysetItemReader<Long>
+    @MockkBean(relaxed = true)
+    private lateinit var batchStagingItemRepository: BatchStagingItemRepository
 
     private val perfectDayLogUserIdsKey = "perfectDayLogUserIds"
     private val userIds = listOf(1L, 2L, 3L)
@@ -50,68 +56,45 @@ class ReadPerfectDayUserIdStepUnitTest @Autowired constructor(
     @DisplayName("스텝이 종료 됐을 때")
     @Nested
     inner class TestStepEnd {
-        @DisplayName("실패 상태로 종료됐다면 StepExecutionContext에 처리한 유저 목록이 담겨 있지 않아야 한다")
+        @DisplayName("성공 상태로 종료됐다면 처리한 유저 ID가 잡 인스턴스 기준으로 스테이징 테이블에 저장되어 있어야 한다")
         @Test
-        fun `실패 상태로 종료됐다면 StepExecutionContext에 처리한 유저 목록이 담겨 있지 않아야 한다`() {
+        fun `성공 상태로 종료됐다면 처리한 유저 ID가 잡 인스턴스 기준으로 스테이징 테이블에 저장되어 있어야 한다`() {
             //given
-            every { perfectDayUserIdReader.read() } throws IllegalStateException()
-
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val stepExecutionContext = stepExecution.executionContext
-            val result = stepExecutionContext.get(perfectDayLogUserIdsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.FAILED)
-            assertThat(result).isNull()
+            val jobInstanceId = jobExecution.jobInstance.instanceId
+            assertThat(jobExecution.stepExecutions.first().status).isEqualTo(BatchStatus.COMPLETED)
+            verify { batchStagingItemRepository.stageAll(jobInstanceId, perfectDayLogUserIdsKey, userIds.associateWith { 0L }) }
         }
 
-        @DisplayName("성공 상태로 종료됐다면 StepExecutionContext에 처리한 유저 목록이 담겨 있지 않아야 한다")
+        @DisplayName("성공 상태로 종료됐다면 실행 컨텍스트에 처리한 유저 목록이 담겨 있지 않아야 한다")
         @Test
-        fun `성공 상태로 종료됐다면 StepExecutionContext에 처리한 유저 목록이 담겨 있지 않아야 한다`() {
+        fun `성공 상태로 종료됐다면 실행 컨텍스트에 처리한 유저 목록이 담겨 있지 않아야 한다`() {
             //given
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val stepExecutionContext = stepExecution.executionContext
-            val result = stepExecutionContext.get(perfectDayLogUserIdsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.COMPLETED)
-            assertThat(result).isNull()
-        }
-
-        @DisplayName("성공 상태로 종료됐다면 JobExecutionContext에 처리한 유저 목록이 담겨 있어야 한다")
-        @Test
-        fun `성공 상태로 종료됐다면 JobExecutionContext에 처리한 유저 목록이 담겨 있어야 한다`() {
-            //given
-            //when
-            val jobExecution = jobLauncherTestUtils.launchStep(stepName)
             val stepExecution = jobExecution.stepExecutions.first()
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(perfectDayLogUserIdsKey)
-
-            //then
             assertThat(stepExecution.status).isEqualTo(BatchStatus.COMPLETED)
-            assertThat(result).isNotNull()
+            assertThat(stepExecution.executionContext.get(perfectDayLogUserIdsKey)).isNull()
+            assertThat(jobExecution.executionContext.get(perfectDayLogUserIdsKey)).isNull()
         }
 
-        @DisplayName("실패 상태로 종료됐다면 JobExecutionContext에 처리한 유저 목록이 담겨 있지 않아야 한다")
+        @DisplayName("실패 상태로 종료됐다면 스테이징 테이블에 저장하지 않는다")
         @Test
-        fun `실패 상태로 종료됐다면 JobExecutionContext에 처리한 유저 목록이 담겨 있지 않아야 한다`() {
+        fun `실패 상태로 종료됐다면 스테이징 테이블에 저장하지 않는다`() {
             //given
             every { perfectDayUserIdReader.read() } throws IllegalStateException()
 
             //when
             val jobExecution = jobLauncherTestUtils.launchStep(stepName)
-            val stepExecution = jobExecution.stepExecutions.first()
-            val jobExecutionContext = jobExecution.executionContext
-            val result = jobExecutionContext.get(perfectDayLogUserIdsKey)
 
             //then
-            assertThat(stepExecution.status).isEqualTo(BatchStatus.FAILED)
-            assertThat(result).isNull()
+            assertThat(jobExecution.stepExecutions.first().status).isEqualTo(BatchStatus.FAILED)
+            verify(exactly = 0) { batchStagingItemRepository.stageAll(any(), any(), any()) }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,6 @@
 package dailyquest.common.util
 
 import io.mockk.junit5.MockKExtension
-import io.mockk.mockk
-import io.mockk.verify
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.extension.ExtendWith
@@ -78,69 +76,4 @@ class ExecutionContextUtilUnitTest {
         //then
         assertThat(fromJobContext).isEqualTo(value)
     }
-
-    @DisplayName("mergeListFromStepContextToJobContext 호출 시")
-    @Nested
-    inner class TestMergeListFromStepContextToJobContext {
-        @DisplayName("JobContext에서 조회한 리스트가 null이 아니면 toMutableList를 호출한다")
-        @Test
-        fun `JobContext에서 조회한 리스트가 null이 아니면 toMutableList를 호출한다`() {
-            //given
-            val key = "key"
-            val list = mockk<List<Long>>(relaxed = true)
-            contextUtil.putToJobContext(key, list)
-
-            //when
-            contextUtil.mergeListFromStepContextToJobContext<Long>(key)
-
-            //then
-            verify { list.toMutableList() }
-        }
-
-        @DisplayName("JobContext에서 조회한 리스트가 null이면 새로운 mutableList를 생성한다")
-        @Test
-        fun `JobContext에서 조회한 리스트가 null이면 새로운 mutableList를 생성한다`() {
-            //given
-            val key = "key"
-
-            //when
-            contextUtil.mergeListFromStepContextToJobContext<Long>(key)
-
-            //then
-            val list = contextUtil.getFromJobContext<List<Long>>(key)
-            assertThat(list).isNotNull.isInstanceOf(MutableList::class.java)
-        }
-
-        @DisplayName("StepContext에서 조회한 리스트가 null이 아니면, JobContext에서 조회한 리스트에 addAll을 호출한다")
-        @Test
-        fun `StepContext에서 조회한 리스트가 null이 아니면, JobContext에서 조회한 리스트에 addAll을 호출한다`() {
-            //given
-            val key = "key"
-            val mutableList = mutableListOf(1L, 2L)
-            val list = listOf(3L, 4L)
-            contextUtil.putToJobContext(key, mutableList)
-            contextUtil.putToStepContext(key, list)
-
-            //when
-            contextUtil.mergeListFromStepContextToJobContext<Long>(key)
-
-            //then
-            val result = contextUtil.getFromJobContext<List<Long>>(key)
-            assertThat(result).containsAll(mutableList).containsAll(list)
-        }
-
-        @DisplayName("JobContext에 mutableList를 삽입한다")
-        @Test
-        fun `JobContext에 mutableList를 삽입한다`() {
-            //given
-            val key = "key"
-
-            //when
-            contextUtil.mergeListFromStepContextToJobContext<Long>(key)
-
-            //then
-            val result = contextUtil.getFromJobContext<List<Long>>(key)
-            assertThat(result).isNotNull
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package dailyquest.context
+
+import org.hibernate.resource.jdbc.spi.StatementInspector
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * 하이버네이트가 실행하는 SQL 을 순서대로 기록하는 StatementInspector.
+ * hibernate.session_factory.statement_inspector 프로퍼티에 클래스 이름을 지정해 사용한다.
+ */
+class SqlCaptureStatementInspector : StatementInspector {
+
+    override fun inspect(sql: String): String {
+        capturedSqls.add(sql)
+        return sql
+    }
+
+    companion object {
+        const val PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector=dailyquest.context.SqlCaptureStatementInspector"
+
+        private val capturedSqls = CopyOnWriteArrayList<String>()
+
+        fun clear() = capturedSqls.clear()
+
+        fun capturedSqls(): List<String> = capturedSqls.toList()
+    }
+}
@@ -0,0 +1,148 @@
+package dailyquest.quest.deadline
+
+import dailyquest.properties.QuestDeadLineProperties
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.repository.QuestRepository
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@DisplayName("퀘스트 데드라인 스케줄러 유닛 테스트")
+class QuestDeadLineSchedulerUnitTest {
+
+    private lateinit var questDeadLineQueue: QuestDeadLineQueue
+    private lateinit var questDeadLineProcessor: QuestDeadLineProcessor
+    private lateinit var questRepository: QuestRepository
+    private lateinit var questDocumentBulkIndexer: QuestDocumentBulkIndexer
+    private lateinit var questDeadLineScheduler: QuestDeadLineScheduler
+    private val pollSize = 2
+
+    @BeforeEach
+    fun init() {
+        questDeadLineQueue = mockk(relaxed = true)
+        questDeadLineProcessor = mockk()
+        questRepository = mockk()
+        questDocumentBulkIndexer = mockk()
+        every { questDocumentBulkIndexer.bulkUpdateState(any(), any()) } returns emptyList()
+        val properties = QuestDeadLineProperties(engine = QuestDeadLineProperties.Engine.SCHEDULER, pollSize = pollSize, loadPageSize = 2)
+        questDeadLineScheduler = QuestDeadLineScheduler(
+            questDeadLineQueue, questDeadLineProcessor, questRepository, questDocumentBulkIndexer, properties
+        )
+    }
+
+    @DisplayName("데드라인이 지난 퀘스트를 실패 처리하고 문서 상태를 변경한 뒤 스케줄에서 제거한다")
+    @Test
+    fun `데드라인이 지난 퀘스트를 실패 처리하고 문서 상태를 변경한 뒤 스케줄에서 제거한다`() {
+        //given
+        val dueQuestIds = listOf(1L)
+        val failedQuests = mapOf(1L to LocalDateTime.of(2022, 12, 1, 12, 0))
+        every { questDeadLineQueue.getDueQuestIds(any(), pollSize) } returns dueQuestIds
+        every { questDeadLineProcessor.failQuests(dueQuestIds, any()) } returns failedQuests
+
+        //when
+        questDeadLineScheduler.poll()
+
+        //then
+        verify { questDocumentBulkIndexer.bulkUpdateState(failedQuests, QuestState.FAIL) }
+        verify { questDeadLineQueue.removeDue(dueQuestIds, any()) }
+    }
+
+    @DisplayName("꺼낸 퀘스트 수가 pollSize 와 같으면 남은 퀘스트가 없을 때까지 다시 꺼낸다")
+    @Test
+    fun `꺼낸 퀘스트 수가 pollSize 와 같으면 남은 퀘스트가 없을 때까지 다시 꺼낸다`() {
+        //given
+        every { questDeadLineQueue.getDueQuestIds(any(), pollSize) } returnsMany listOf(listOf(1L, 2L), listOf(3L), emptyList())
+        every { questDeadLineProcessor.failQuests(any(), any()) } answers { firstArg<List<Long>>().associateWith { secondArg() } }
+
+        //when
+        questDeadLineScheduler.poll()
+
+        //then
+        verify(exactly = 2) { questDeadLineQueue.getDueQuestIds(any(), pollSize) }
+        verify { questDeadLineQueue.removeDue(listOf(1L, 2L), any()) }
+        verify { questDeadLineQueue.removeDue(listOf(3L), any()) }
+    }
+
+    @DisplayName("실패 처리된 퀘스트가 없으면 문서 상태를 변경하지 않고 스케줄에서만 제거한다")
+    @Test
+    fun `실패 처리된 퀘스트가 없으면 문서 상태를 변경하지 않고 스케줄에서만 제거한다`() {
+        //given
+        val dueQuestIds = listOf(1L)
+        every { questDeadLineQueue.getDueQuestIds(any(), pollSize) } returns dueQuestIds
+        every { questDeadLineProcessor.failQuests(dueQuestIds, any()) } returns emptyMap()
+
+        //when
+        questDeadLineScheduler.poll()
+
+        //then
+        verify(exactly = 0) { questDocumentBulkIndexer.bulkUpdateState(any(), any()) }
+        verify { questDeadLineQueue.removeDue(dueQuestIds, any()) }
+    }
+
+    @DisplayName("시작 시 진행 중인 데드라인 퀘스트를 id 순으로 나누어 스케줄에 추가한다")
+    @Test
+    fun `시작 시 진행 중인 데드라인 퀘스트를 id 순으로 나누어 스케줄에 추가한다`() {
+        //given
+        val deadLine = LocalDateTime.of(2022, 12, 1, 12, 0)
+        val quests = (1L..3L).map { id ->
+            mockk<Quest>().also {
+                every { it.id } returns id
+                every { it.deadLine } returns deadLine
+            }
+        }
+        every { questRepository.getQuestsWithDeadLine(0L, any()) } returns quests.subList(0, 2)
+        every { questRepository.getQuestsWithDeadLine(2L, any()) } returns quests.subList(2, 3)
+
+        //when
+        questDeadLineScheduler.loadSchedule()
+
+        //then
+        verify { questDeadLineQueue.addAllIfAbsent(mapOf(1L to deadLine, 2L to deadLine)) }
+        verify { questDeadLineQueue.addAllIfAbsent(mapOf(3L to deadLine)) }
+    }
+
+    @DisplayName("시작 후 reloadIntervalMillis 주기로 스케줄을 다시 채운다")
+    @Test
+    fun `시작 후 reloadIntervalMillis 주기로 스케줄을 다시 채운다`() {
+        //given
+        every { questRepository.getQuestsWithDeadLine(any(), any()) } returns emptyList()
+        val properties = QuestDeadLineProperties(engine = QuestDeadLineProperties.Engine.SCHEDULER, pollIntervalMillis = 60_000, reloadIntervalMillis = 10)
+        val scheduler = QuestDeadLineScheduler(questDeadLineQueue, questDeadLineProcessor, questRepository, questDocumentBulkIndexer, properties)
+
+        //when
+        scheduler.start()
+
+        //then
+        verify(timeout = 1000, atLeast = 2) { questRepository.getQuestsWithDeadLine(0L, any()) }
+        scheduler.stop()
+    }
+
+    @DisplayName("스케줄을 다시 채우는 동안에도 데드라인 처리는 주기대로 실행된다")
+    @Test
+    fun `스케줄을 다시 채우는 동안에도 데드라인 처리는 주기대로 실행된다`() {
+        //given
+        val reloadLatch = CountDownLatch(1)
+        every { questRepository.getQuestsWithDeadLine(any(), any()) } answers {
+            reloadLatch.await(5, TimeUnit.SECONDS)
+            emptyList()
+        }
+        val properties = QuestDeadLineProperties(engine = QuestDeadLineProperties.Engine.SCHEDULER, pollIntervalMillis = 10)
+        val scheduler = QuestDeadLineScheduler(questDeadLineQueue, questDeadLineProcessor, questRepository, questDocumentBulkIndexer, properties)
+
+        //when
+        scheduler.start()
+
+        //then
+        verify(timeout = 1000, atLeast = 2) { questDeadLineQueue.getDueQuestIds(any(), any()) }
+        reloadLatch.countDown()
+        scheduler.stop()
+    }
+}
@@ -18,10 +18,10 @@ import java.time.LocalDate
 
 @Import(QueryDslConfig::class)
 @ExtendWith(MockKExtension::class)
-@DisplayName("퀘스트 로그 리포지토리 유닛 테스트")
+@DisplayName("퀘스트 로그 일별 집계 리포지토리 유닛 테스트")
 @DataJpaTest
-class QuestLogRepositoryUnitTest @Autowired constructor(
-    private val questLogRepository: QuestLogRepository,
+class QuestLogDailyRollupRepositoryUnitTest @Autowired constructor(
+    private val questLogDailyRollupRepository: QuestLogDailyRollupRepository,
     private val entityManager: EntityManager
 ) {
 
@@ -38,9 +38,10 @@ class QuestLogRepositoryUnitTest @Autowired constructor(
             saveQuestLog(shouldBeContainedUserId, 1L, COMPLETE, loggedDate)
 
             saveQuestLog(2L, 2L, PROCEED, loggedDate)
+            recompute(loggedDate)
 
             //when
-            val result = questLogRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, Pageable.unpaged())
+            val result = questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, 0L, Pageable.unpaged())
 
             //then
             assertThat(result).containsExactly(shouldBeContainedUserId)
@@ -56,9 +57,10 @@ class QuestLogRepositoryUnitTest @Autowired constructor(
             saveQuestLog(shouldNotBeContainedUserId, 1L, COMPLETE, loggedDate.plusDays(1))
             saveQuestLog(shouldNotBeContainedUserId, 2L, PROCEED, loggedDate.minusDays(1))
             saveQuestLog(shouldNotBeContainedUserId, 2L, COMPLETE, loggedDate)
+            recompute(loggedDate.minusDays(1), loggedDate, loggedDate.plusDays(1))
 
             //when
-            val result = questLogRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, Pageable.unpaged())
+            val result = questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, 0L, Pageable.unpaged())
 
             //then
             assertThat(result).doesNotContain(shouldNotBeContainedUserId)
@@ -74,9 +76,10 @@ class QuestLogRepositoryUnitTest @Autowired constructor(
             saveQuestLog(shouldNotBeContainedUserId, 1L, DISCARD, loggedDate)
             saveQuestLog(shouldNotBeContainedUserId, 2L, PROCEED, loggedDate)
             saveQuestLog(shouldNotBeContainedUserId, 2L, COMPLETE, loggedDate)
+            recompute(loggedDate)
 
             //when
-            val result = questLogRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, Pageable.unpaged())
+            val result = questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, 0L, Pageable.unpaged())
 
             //then
             assertThat(result).doesNotContain(shouldNotBeContainedUserId)
@@ -92,22 +95,45 @@ class QuestLogRepositoryUnitTest @Autowired constructor(
             saveQuestLog(shouldNotBeContainedUserId, 1L, DELETE, loggedDate)
             saveQuestLog(shouldNotBeContainedUserId, 2L, PROCEED, loggedDate)
             saveQuestLog(shouldNotBeContainedUserId, 2L, COMPLETE, loggedDate)
+            recompute(loggedDate)
 
             //when
-            val result = questLogRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, Pageable.unpaged())
+            val result = questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, 0L, Pageable.unpaged())
 
             //then
             assertThat(result).doesNotContain(shouldNotBeContainedUserId)
         }
 
+        @DisplayName("lastUserId 보다 큰 유저 아이디만 오름차순으로 조회된다")
+        @Test
+        fun `lastUserId 보다 큰 유저 아이디만 오름차순으로 조회된다`() {
+            //given
+            val loggedDate = LocalDate.of(2020, 1, 1)
+            listOf(3L, 1L, 2L).forEach {
+                saveQuestLog(it, it, PROCEED, loggedDate)
+                saveQuestLog(it, it, COMPLETE, loggedDate)
+            }
+            recompute(loggedDate)
+
+            //when
+            val result = questLogDailyRollupRepository.getAllUserIdsWhoAchievedPerfectDay(loggedDate, 1L, Pageable.unpaged())
+
+            //then
+            assertThat(result).containsExactly(2L, 3L)
+        }
+
+        private fun recompute(vararg loggedDates: LocalDate) {
+            loggedDates.forEach { questLogDailyRollupRepository.recomputeCountsOf(it) }
+        }
+
         private fun saveQuestLog(userId: Long, questId: Long, state: QuestState, loggedDate: LocalDate) {
             val query =
                 entityManager.createNativeQuery("insert into quest_log (quest_id, user_id, state, logged_date, type, created_date, last_modified_date) values (?, ?, ?, ?, 'MAIN', now(), now())")
-            query.setParameter(1, userId)
-            query.setParameter(2, questId)
+            query.setParameter(1, questId)
+            query.setParameter(2, userId)
             query.setParameter(3, state.name)
             query.setParameter(4, loggedDate)
             query.executeUpdate()
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package dailyquest.quest.repository
+
+import dailyquest.batch.reader.KeysetItemReader
+import dailyquest.config.QueryDslConfig
+import dailyquest.context.SqlCaptureStatementInspector
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.entity.QuestType
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.springframework.batch.item.ExecutionContext
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.data.domain.PageRequest
+import java.time.LocalDateTime
+
+@Import(QueryDslConfig::class)
+@DisplayName("배치 퀘스트 리포지토리 유닛 테스트")
+@DataJpaTest(properties = [SqlCaptureStatementInspector.PROPERTY])
+class QuestRepositoryUnitTest @Autowired constructor(
+    private val questRepository: QuestRepository,
+    private val entityManager: EntityManager
+) {
+
+    @DisplayName("getQuestsForResetBatch 로 키셋 리더를 구성했을 때")
+    @Nested
+    inner class TestGetQuestsForResetBatch {
+        private val resetDateTime = LocalDateTime.now().plusDays(1)
+        private val pageSize = 2
+
+        @DisplayName("초기화 대상 퀘스트를 id 순으로 모두 읽는다")
+        @Test
+        fun `초기화 대상 퀘스트를 id 순으로 모두 읽는다`() {
+            //given
+            val targetQuestIds = saveQuests()
+            val reader = resetQuestReader()
+            reader.open(ExecutionContext())
+
+            //when
+            val readQuestIds = generateSequence { reader.read() }.map { it.id }.toList()
+
+            //then
+            assertThat(readQuestIds).containsExactlyElementsOf(targetQuestIds)
+        }
+
+        @DisplayName("페이지마다 count 쿼리와 OFFSET 없이 조회 쿼리 하나만 실행된다")
+        @Test
+        fun `페이지마다 count 쿼리와 OFFSET 없이 조회 쿼리 하나만 실행된다`() {
+            //given
+            saveQuests()
+            val reader = resetQuestReader()
+            reader.open(ExecutionContext())
+            SqlCaptureStatementInspector.clear()
+
+            //when
+            generateSequence { reader.read() }.count()
+
+            //then
+            val executedSqls = SqlCaptureStatementInspector.capturedSqls()
+            assertThat(executedSqls).hasSize(3)
+            assertThat(executedSqls).allSatisfy { assertThat(it.lowercase()).doesNotContain("count(", "offset") }
+        }
+
+        private fun resetQuestReader(): KeysetItemReader<Quest> {
+            return KeysetItemReader("questResetReader", pageSize, Quest::id) { lastQuestId, size ->
+                questRepository.getQuestsForResetBatch(resetDateTime, lastQuestId, PageRequest.ofSize(size))
+            }
+        }
+
+        /**
+         * 초기화 대상 퀘스트 5개와 대상이 아닌 완료 퀘스트 1개를 저장하고, 대상 퀘스트의 id 를 반환한다.
+         */
+        private fun saveQuests(): List<Long> {
+            val targetQuestIds = (1..5).map { questRepository.save(Quest("", "", 1L, it.toLong(), QuestState.PROCEED, QuestType.MAIN)).id }
+            questRepository.save(Quest("", "", 1L, 6L, QuestState.COMPLETE, QuestType.MAIN))
+            entityManager.flush()
+            entityManager.clear()
+            return targetQuestIds
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package dailyquest.search.service
+
+import dailyquest.properties.ElasticBulkProperties
+import dailyquest.properties.ElasticSyncConsumerProperties
+import dailyquest.quest.entity.QuestState
+import dailyquest.sqs.dto.ElasticSyncMessage
+import dailyquest.sqs.dto.ElasticSyncRequestType
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.opensearch.action.bulk.BulkItemResponse
+import org.opensearch.action.bulk.BulkRequest
+import org.opensearch.action.bulk.BulkResponse
+import org.opensearch.action.delete.DeleteRequest
+import org.opensearch.action.get.MultiGetItemResponse
+import org.opensearch.action.get.MultiGetRequest
+import org.opensearch.action.index.IndexRequest
+import org.opensearch.client.RestHighLevelClient
+import org.opensearch.index.VersionType
+import org.opensearch.rest.RestStatus
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates
+import java.io.IOException
+import java.time.LocalDateTime
+
+@DisplayName("퀘스트 문서 bulk 인덱서 유닛 테스트")
+class QuestDocumentBulkIndexerUnitTest {
+
+    private lateinit var restHighLevelClient: RestHighLevelClient
+    private lateinit var questDocumentBulkIndexer: QuestDocumentBulkIndexer
+    private val indexName = "quests"
+    private val requests = mutableListOf<BulkRequest>()
+
+    @BeforeEach
+    fun init() {
+        restHighLevelClient = mockk()
+        val elasticsearchOperations = mockk<ElasticsearchOperations>()
+        every { elasticsearchOperations.getIndexCoordinatesFor(any()) } returns IndexCoordinates.of(indexName)
+        questDocumentBulkIndexer = QuestDocumentBulkIndexer(
+            restHighLevelClient,
+            ElasticSyncConsumerProperties(maxItemRetries = 2, retryBackoffMillis = 0),
+            ElasticBulkProperties(stateUpdateBatchSize = 2),
+            elasticsearchOperations
+        )
+    }
+
+    private fun stubBulkResponses(vararg failedStatusesPerCall: Map<Int, RestStatus>) {
+        val request = slot<BulkRequest>()
+        val responses = failedStatusesPerCall.map { failedStatuses -> bulkResponseOf(failedStatuses) }
+        var call = 0
+        every { restHighLevelClient.bulk(capture(request), any()) } answers {
+            requests.add(request.captured)
+            responses[minOf(call++, responses.lastIndex)]
+        }
+    }
+
+    private fun stubMultiGetResponses(existingIds: Set<Long>) {
+        val request = slot<MultiGetRequest>()
+        every { restHighLevelClient.mget(capture(request), any()) } answers {
+            val responses = request.captured.items.map { item ->
+                mockk<MultiGetItemResponse> {
+                    every { isFailed } returns false
+                    every { id } returns item.id()
+                    every { response.isExists } returns existingIds.contains(item.id().toLong())
+                    every { response.sourceAsMap } returns mapOf<String, Any>("title" to "title", "state" to QuestState.PROCEED.name)
+                }
+            }
+            mockk { every { this@mockk.responses } returns responses.toTypedArray() }
+        }
+    }
+
+    private fun bulkResponseOf(failedStatuses: Map<Int, RestStatus>): BulkResponse {
+        val items = failedStatuses.map { (itemId, status) ->
+            mockk<BulkItemResponse> {
+                every { this@mockk.itemId } returns itemId
+                every { isFailed } returns true
+                every { failure.status } returns status
+            }
+        }
+        return mockk {
+            every { hasFailures() } returns items.isNotEmpty()
+            every { this@mockk.items } returns items.toTypedArray()
+        }
+    }
+
+    @DisplayName("PERSIST 는 색인 요청, DELETE 는 삭제 요청으로 외부 버전과 함께 한 번의 bulk 로 요청된다")
+    @Test
+    fun `PERSIST 는 색인 요청, DELETE 는 삭제 요청으로 외부 버전과 함께 한 번의 bulk 로 요청된다`() {
+        //given
+        stubBulkResponses(emptyMap())
+        val messages = listOf(
+            ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, 1L, "{\"title\":\"title\"}", 100L),
+            ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 2L, "", 200L),
+        )
+
+        //when
+        val failedMessages = questDocumentBulkIndexer.bulkApply(messages)
+
+        //then
+        assertThat(failedMessages).isEmpty()
+        assertThat(requests).hasSize(1)
+        val (indexRequest, deleteRequest) = requests[0].requests()
+        assertThat(indexRequest).isInstanceOf(IndexRequest::class.java)
+        assertThat(indexRequest.id()).isEqualTo("1")
+        assertThat(indexRequest.versionType()).isEqualTo(VersionType.EXTERNAL_GTE)
+        assertThat(indexRequest.version()).isEqualTo(100L)
+        assertThat(deleteRequest).isInstanceOf(DeleteRequest::class.java)
+        assertThat(deleteRequest.version()).isEqualTo(200L)
+    }
+
+    @DisplayName("버전이 없는 메시지는 외부 버전 없이 요청된다")
+    @Test
+    fun `버전이 없는 메시지는 외부 버전 없이 요청된다`() {
+        //given
+        stubBulkResponses(emptyMap())
+
+        //when
+        questDocumentBulkIndexer.bulkApply(listOf(ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L)))
+
+        //then
+        assertThat(requests[0].requests()[0].versionType()).isEqualTo(VersionType.INTERNAL)
+    }
+
+    @DisplayName("버전 충돌로 실패한 항목은 더 최신 문서가 있는 것이므로 재시도하지 않는다")
+    @Test
+    fun `버전 충돌로 실패한 항목은 더 최신 문서가 있는 것이므로 재시도하지 않는다`() {
+        //given
+        stubBulkResponses(mapOf(0 to RestStatus.CONFLICT))
+
+        //when
+        val failedMessages = questDocumentBulkIndexer.bulkApply(listOf(ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L, "", 1L)))
+
+        //then
+        assertThat(failedMessages).isEmpty()
+        assertThat(requests).hasSize(1)
+    }
+
+    @DisplayName("버전 충돌이 아닌 이유로 실패한 항목만 다시 요청된다")
+    @Test
+    fun `버전 충돌이 아닌 이유로 실패한 항목만 다시 요청된다`() {
+        //given
+        val messages = (1L..3L).map { ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, it, "", it) }
+        stubBulkResponses(mapOf(1 to RestStatus.TOO_MANY_REQUESTS), emptyMap())
+
+        //when
+        val failedMessages = questDocumentBulkIndexer.bulkApply(messages)
+
+        //then
+        assertThat(failedMessages).isEmpty()
+        assertThat(requests).hasSize(2)
+        assertThat(requests[1].requests()).extracting<String> { it.id() }.containsExactly("2")
+    }
+
+    @DisplayName("재시도 횟수를 모두 사용해도 실패한 항목은 실패 목록으로 반환된다")
+    @Test
+    fun `재시도 횟수를 모두 사용해도 실패한 항목은 실패 목록으로 반환된다`() {
+        //given
+        val messages = (1L..2L).map { ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, it, "", it) }
+        stubBulkResponses(mapOf(0 to RestStatus.SERVICE_UNAVAILABLE))
+
+        //when
+        val failedMessages = questDocumentBulkIndexer.bulkApply(messages)
+
+        //then
+        assertThat(failedMessages).containsExactly(messages[0])
+        assertThat(requests).hasSize(3)
+    }
+
+    @DisplayName("bulk 요청 자체가 실패하면 모든 메시지가 실패 목록으로 반환된다")
+    @Test
+    fun `bulk 요청 자체가 실패하면 모든 메시지가 실패 목록으로 반환된다`() {
+        //given
+        val messages = (1L..2L).map { ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, it, "", it) }
+        every { restHighLevelClient.bulk(any(), any()) } throws IOException()
+
+        //when
+        val failedMessages = questDocumentBulkIndexer.bulkApply(messages)
+
+        //then
+        assertThat(failedMessages).containsExactlyElementsOf(messages)
+        verify(exactly = 3) { restHighLevelClient.bulk(any(), any()) }
+    }
+
+    @DisplayName("상태 업데이트는 원본 문서의 state 만 바꿔 퀘스트 수정 시각을 외부 버전으로 배치 크기 단위로 색인한다")
+    @Test
+    fun `상태 업데이트는 원본 문서의 state 만 바꿔 퀘스트 수정 시각을 외부 버전으로 배치 크기 단위로 색인한다`() {
+        //given
+        stubMultiGetResponses(existingIds = setOf(1L, 2L, 3L))
+        stubBulkResponses(emptyMap())
+        val modifiedDate = LocalDateTime.of(2022, 12, 1, 6, 0, 1)
+
+        //when
+        questDocumentBulkIndexer.bulkUpdateState((1L..3L).associateWith { modifiedDate }, QuestState.FAIL)
+
+        //then
+        assertThat(requests.map { it.numberOfActions() }).containsExactly(2, 1)
+        val indexRequest = requests[0].requests()[0] as IndexRequest
+        assertThat(indexRequest.id()).isEqualTo("1")
+        assertThat(indexRequest.sourceAsMap()).isEqualTo(mapOf("title" to "title", "state" to QuestState.FAIL.name))
+        assertThat(indexRequest.versionType()).isEqualTo(VersionType.EXTERNAL_GTE)
+        assertThat(indexRequest.version()).isEqualTo(ElasticSyncMessage.versionOf(modifiedDate))
+    }
+
+    @DisplayName("색인되지 않은 문서는 상태 업데이트 요청에서 제외된다")
+    @Test
+    fun `색인되지 않은 문서는 상태 업데이트 요청에서 제외된다`() {
+        //given
+        stubMultiGetResponses(existingIds = setOf(2L))
+        stubBulkResponses(emptyMap())
+        val modifiedDate = LocalDateTime.of(2022, 12, 1, 6, 0, 1)
+
+        //when
+        val notUpdatedIds = questDocumentBulkIndexer.bulkUpdateState(mapOf(1L to modifiedDate, 2L to modifiedDate), QuestState.FAIL)
+
+        //then
+        assertThat(notUpdatedIds).isEmpty()
+        assertThat(requests).hasSize(1)
+        assertThat(requests[0].requests().map { it.id() }).containsExactly("2")
+    }
+
+    @DisplayName("더 최신 버전의 문서와 충돌한 상태 업데이트는 재시도하지 않는다")
+    @Test
+    fun `더 최신 버전의 문서와 충돌한 상태 업데이트는 재시도하지 않는다`() {
+        //given
+        stubMultiGetResponses(existingIds = setOf(1L))
+        stubBulkResponses(mapOf(0 to RestStatus.CONFLICT))
+
+        //when
+        val notUpdatedIds = questDocumentBulkIndexer.bulkUpdateState(mapOf(1L to LocalDateTime.of(2022, 12, 1, 6, 0, 1)), QuestState.FAIL)
+
+        //then
+        assertThat(notUpdatedIds).isEmpty()
+        assertThat(requests).hasSize(1)
+    }
+}
@@ -1,13 +1,14 @@
 package dailyquest.sqs.listener
 
 import dailyquest.properties.BatchParameterProperties
+import dailyquest.properties.CheckAndAchieveProperties
 import io.awspring.cloud.sqs.listener.acknowledgement.Acknowledgement
 import io.mockk.Called
 import io.mockk.every
-import io.mockk.impl.annotations.InjectMockKs
 import io.mockk.impl.annotations.RelaxedMockK
 import io.mockk.junit5.MockKExtension
 import io.mockk.verify
+import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
@@ -27,14 +28,30 @@ class AchievementRegQueueListenerUnitTest {
     @RelaxedMockK
     lateinit var checkAndAchieveBatchJob: Job
     @RelaxedMockK
+    lateinit var checkAndAchieveBulkBatchJob: Job
+    @RelaxedMockK
     lateinit var batchParameterProperties: BatchParameterProperties
-    @InjectMockKs
     lateinit var achievementRegQueueListener: AchievementRegQueueListener
     @RelaxedMockK
     lateinit var jobExecution: JobExecution
     @RelaxedMockK
     lateinit var acknowledgement: Acknowledgement
 
+    @BeforeEach
+    fun init() {
+        achievementRegQueueListener = listenerOf(CheckAndAchieveProperties.Engine.CHUNK)
+    }
+
+    private fun listenerOf(engine: CheckAndAchieveProperties.Engine): AchievementRegQueueListener {
+        return AchievementRegQueueListener(
+            jobLauncher,
+            checkAndAchieveBatchJob,
+            checkAndAchieveBulkBatchJob,
+            batchParameterProperties,
+            CheckAndAchieveProperties(engine = engine)
+        )
+    }
+
     @DisplayName("리스너 호출 시")
     @Nested
     inner class WhenListenerCalled {
@@ -57,6 +74,20 @@ class AchievementRegQueueListenerUnitTest {
             }
         }
 
+        @DisplayName("집합 기반 엔진을 사용하면 집합 기반 배치 작업을 실행한다")
+        @Test
+        fun `집합 기반 엔진을 사용하면 집합 기반 배치 작업을 실행한다`() {
+            //given
+            achievementRegQueueListener = listenerOf(CheckAndAchieveProperties.Engine.BULK)
+
+            //when
+            achievementRegQueueListener.consumeMessage(achievementId, acknowledgement)
+
+            //then
+            verify { jobLauncher.run(eq(checkAndAchieveBulkBatchJob), any()) }
+            verify(exactly = 0) { jobLauncher.run(eq(checkAndAchieveBatchJob), any()) }
+        }
+
         @DisplayName("배치 작업의 종료 상태가 COMPLETE로 끝나면 acknowledge가 호출된다")
         @Test
         fun `배치 작업의 종료 상태가 COMPLETE로 끝나면 acknowledge가 호출된다`() {
@@ -0,0 +1,72 @@
+package dailyquest.sqs.listener
+
+import dailyquest.search.service.QuestDocumentBulkIndexer
+import dailyquest.sqs.dto.ElasticSyncMessage
+import dailyquest.sqs.dto.ElasticSyncRequestType
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement
+import io.mockk.every
+import io.mockk.impl.annotations.InjectMockKs
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.verify
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.messaging.Message
+import org.springframework.messaging.support.MessageBuilder
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("검색 문서 동기화 큐 리스너 유닛 테스트")
+class ElasticSyncQueueListenerUnitTest {
+
+    @RelaxedMockK
+    lateinit var questDocumentBulkIndexer: QuestDocumentBulkIndexer
+    @InjectMockKs
+    lateinit var elasticSyncQueueListener: ElasticSyncQueueListener
+    @RelaxedMockK
+    lateinit var acknowledgement: BatchAcknowledgement<ElasticSyncMessage>
+
+    private val messages = (1L..3L).map {
+        MessageBuilder.withPayload(ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, it, "", it)).build()
+    }
+
+    @DisplayName("받은 메시지를 한 번의 bulk 반영으로 넘긴다")
+    @Test
+    fun `받은 메시지를 한 번의 bulk 반영으로 넘긴다`() {
+        //given
+        every { questDocumentBulkIndexer.bulkApply(any()) } returns emptyList()
+
+        //when
+        elasticSyncQueueListener.consumeMessages(messages, acknowledgement)
+
+        //then
+        verify(exactly = 1) { questDocumentBulkIndexer.bulkApply(messages.map { it.payload }) }
+        verify { acknowledgement.acknowledge(messages) }
+    }
+
+    @DisplayName("반영에 실패한 메시지는 acknowledge 하지 않는다")
+    @Test
+    fun `반영에 실패한 메시지는 acknowledge 하지 않는다`() {
+        //given
+        every { questDocumentBulkIndexer.bulkApply(any()) } returns listOf(messages[1].payload)
+
+        //when
+        elasticSyncQueueListener.consumeMessages(messages, acknowledgement)
+
+        //then
+        verify { acknowledgement.acknowledge(listOf(messages[0], messages[2])) }
+    }
+
+    @DisplayName("모든 메시지 반영에 실패하면 acknowledge 가 호출되지 않는다")
+    @Test
+    fun `모든 메시지 반영에 실패하면 acknowledge 가 호출되지 않는다`() {
+        //given
+        every { questDocumentBulkIndexer.bulkApply(any()) } returns messages.map { it.payload }
+
+        //when
+        elasticSyncQueueListener.consumeMessages(messages, acknowledgement)
+
+        //then
+        verify(exactly = 0) { acknowledgement.acknowledge(any<Collection<Message<ElasticSyncMessage>>>()) }
+    }
+}
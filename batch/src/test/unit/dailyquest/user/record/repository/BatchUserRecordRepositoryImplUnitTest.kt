@@ -15,7 +15,6 @@ import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
-import org.springframework.data.domain.Pageable
 
 @ExtendWith(MockKExtension::class)
 @DisplayName("배치 유저 리포지토리 구현체 유닛 테스트")
@@ -26,27 +25,22 @@ class BatchUserRecordRepositoryImplUnitTest {
     private lateinit var jpaQueryFactory: JPAQueryFactory
     @RelaxedMockK
     private lateinit var userIdQuery: JPAQuery<Long>
-    @RelaxedMockK
-    private lateinit var countQuery: JPAQuery<Long>
 
     @BeforeEach
     fun beforeEach() {
         every { jpaQueryFactory.select(userRecord.id) } returns userIdQuery
         every { userIdQuery.from(userRecord) } returns userIdQuery
-        every { userIdQuery.where(any()) } returns userIdQuery
-        every { userIdQuery.offset(any()) } returns userIdQuery
+        every { userIdQuery.where(*anyVararg()) } returns userIdQuery
+        every { userIdQuery.orderBy(*anyVararg()) } returns userIdQuery
         every { userIdQuery.limit(any()) } returns userIdQuery
-
-        every { jpaQueryFactory.select(userRecord.count()) } returns countQuery
-        every { countQuery.from(any()) } returns countQuery
-        every { countQuery.where(any()) } returns countQuery
-        every { countQuery.fetchFirst() } returns 1
     }
 
     @DisplayName("업적 달성 가능 유저 ID 조회 시")
     @Nested
     inner class TestGetAllUserIdCanAchieveOf {
-        private val pageable = Pageable.ofSize(1)
+        private val lastUserId = 0L
+        private val pageSize = 1
+
         @DisplayName("업적 타입 인자가 퀘스트 등록이면 퀘스트 등록 횟수가 조건으로 사용된다")
         @Test
         fun `업적 타입 인자가 퀘스트 등록이면 퀘스트 등록 횟수가 조건으로 사용된다`() {
@@ -56,10 +50,10 @@ class BatchUserRecordRepositoryImplUnitTest {
             val achievement = Achievement(type = achievementType, targetValue = targetValue)
 
             //when
-            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, pageable)
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, lastUserId, pageSize)
 
             //then
-            verify { userIdQuery.where(userRecord.questRegistrationCount.goe(targetValue)) }
+            verify { userIdQuery.where(userRecord.questRegistrationCount.goe(targetValue), userRecord.id.gt(lastUserId)) }
         }
 
         @DisplayName("업적 타입 인자가 퀘스트 완료면 퀘스트 완료 횟수가 조건으로 사용된다")
@@ -71,11 +65,11 @@ class BatchUserRecordRepositoryImplUnitTest {
             val achievement = Achievement(type = achievementType, targetValue = targetValue)
 
             //when
-            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, pageable)
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, lastUserId, pageSize)
 
 
             //then
-            verify { userIdQuery.where(userRecord.questCompletionCount.goe(targetValue)) }
+            verify { userIdQuery.where(userRecord.questCompletionCount.goe(targetValue), userRecord.id.gt(lastUserId)) }
         }
 
         @DisplayName("업적 타입 인자가 퀘스트 연속 등록이면 최대 퀘스트 연속 등록일이 조건으로 사용된다")
@@ -87,11 +81,11 @@ class BatchUserRecordRepositoryImplUnitTest {
             val achievement = Achievement(type = achievementType, targetValue = targetValue)
 
             //when
-            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, pageable)
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, lastUserId, pageSize)
 
 
             //then
-            verify { userIdQuery.where(userRecord.maxQuestContinuousRegistrationDays.goe(targetValue)) }
+            verify { userIdQuery.where(userRecord.maxQuestContinuousRegistrationDays.goe(targetValue), userRecord.id.gt(lastUserId)) }
         }
 
         @DisplayName("업적 타입 인자가 퀘스트 연속 완료면 최대 퀘스트 연속 완료일이 조건으로 사용된다")
@@ -103,11 +97,11 @@ class BatchUserRecordRepositoryImplUnitTest {
             val achievement = Achievement(type = achievementType, targetValue = targetValue)
 
             //when
-            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, pageable)
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, lastUserId, pageSize)
 
 
             //then
-            verify { userIdQuery.where(userRecord.maxQuestContinuousCompletionDays.goe(targetValue)) }
+            verify { userIdQuery.where(userRecord.maxQuestContinuousCompletionDays.goe(targetValue), userRecord.id.gt(lastUserId)) }
         }
 
         @DisplayName("업적 타입 인자가 골드 획득이면 골드 총 획득량이 조건으로 사용된다")
@@ -119,11 +113,11 @@ class BatchUserRecordRepositoryImplUnitTest {
             val achievement = Achievement(type = achievementType, targetValue = targetValue)
 
             //when
-            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, pageable)
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, lastUserId, pageSize)
 
 
             //then
-            verify { userIdQuery.where(userRecord.goldEarnAmount.goe(targetValue)) }
+            verify { userIdQuery.where(userRecord.goldEarnAmount.goe(targetValue), userRecord.id.gt(lastUserId)) }
         }
 
         @DisplayName("업적 타입 인자가 완벽한 하루면 완벽한 하루 횟수가 조건으로 사용된다")
@@ -135,11 +129,11 @@ class BatchUserRecordRepositoryImplUnitTest {
             val achievement = Achievement(type = achievementType, targetValue = targetValue)
 
             //when
-            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, pageable)
+            batchUserRecordRepository.getAllUserIdWhoCanAchieveOf(achievement, lastUserId, pageSize)
 
 
             //then
-            verify { userIdQuery.where(userRecord.perfectDayCount.goe(targetValue)) }
+            verify { userIdQuery.where(userRecord.perfectDayCount.goe(targetValue), userRecord.id.gt(lastUserId)) }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+-- 배치 잡의 스텝 사이에 넘기는 항목을 잡 인스턴스와 키 단위로 보관한다. batch 만 사용한다.
+-- 항목은 on duplicate key update 로 저장하므로 (job_instance_id, staging_key, item_key) 유니크 키가 필요하고,
+-- 다음 스텝은 같은 키의 항목을 item_key 순서로 읽으므로 이 키로 처리된다.
+-- 잡이 완료되면 BatchStagingCleanupJobListener 가 잡 인스턴스의 항목을 나누어 삭제하고, 실패한 잡의 항목은 재시작을 위해 남겨 둔다.
+create table batch_staging_item
+(
+    batch_staging_item_id bigint      not null auto_increment,
+    job_instance_id       bigint      not null,
+    staging_key           varchar(50) not null,
+    item_key              bigint      not null,
+    item_value            bigint      not null,
+    primary key (batch_staging_item_id),
+    unique key unique_staging_item (job_instance_id, staging_key, item_key)
+) engine = InnoDB;
@@ -0,0 +1,18 @@
+-- 유저별, 날짜별 퀘스트 로그 집계. 로그 저장 시 on duplicate key update 로 증가시키므로 (user_id, logged_date) 가 기본 키여야 한다.
+-- 통계 조회는 유저의 날짜 범위를 읽으므로 기본 키 순서로 처리된다.
+-- 완벽한 하루 배치는 하루치 집계를 유저 id 순으로 읽으므로 (logged_date, user_id) 인덱스를 사용한다.
+-- 기존 로그의 집계는 테이블 생성 후 questLogRollupBackfillJob 으로 채운다.
+create table quest_log_daily_rollup
+(
+    user_id                   bigint not null,
+    logged_date               date   not null,
+    registered_count          bigint not null,
+    complete_count            bigint not null,
+    fail_count                bigint not null,
+    discard_count             bigint not null,
+    main_count                bigint not null,
+    sub_count                 bigint not null,
+    registered_complete_count bigint not null default 0,
+    primary key (user_id, logged_date),
+    index idx_quest_log_daily_rollup_logged_date (logged_date, user_id)
+) engine = InnoDB;
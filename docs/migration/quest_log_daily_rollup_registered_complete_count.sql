@@ -0,0 +1,6 @@
+-- quest_log_daily_rollup.sql 로 이미 생성된 테이블에 완벽한 하루 판정용 컬럼과 인덱스를 추가한다.
+-- registered_complete_count 는 같은 날 등록하고 완료한 퀘스트 수로, 배포 이후의 완료 로그부터 증가한다.
+-- 기존 날짜의 값은 questLogRollupBackfillJob 으로 다시 계산한다.
+alter table quest_log_daily_rollup
+    add column registered_complete_count bigint not null default 0,
+    add index idx_quest_log_daily_rollup_logged_date (logged_date, user_id);
@@ -0,0 +1,11 @@
+-- 유저별 누적 퀘스트 로그 상태 카운트. 로그 저장 시 on duplicate key update 로 증가시키므로 user_id 가 기본 키여야 한다.
+-- 기존 로그의 카운트는 테이블 생성 후 questLogLifetimeCountReconcileJob 으로 채운다.
+create table quest_log_lifetime_count
+(
+    user_id          bigint not null,
+    registered_count bigint not null,
+    complete_count   bigint not null,
+    fail_count       bigint not null,
+    discard_count    bigint not null,
+    primary key (user_id)
+) engine = InnoDB;
@@ -0,0 +1,8 @@
+-- 유저별 마지막 퀘스트 SEQ 카운터. 등록 시 on duplicate key update 로 초기화하므로 user_id 가 기본 키여야 한다.
+-- 기존 유저의 카운터는 첫 등록 시 MAX(user_quest_seq) 로 채워지므로 별도의 백필은 필요 없다.
+create table quest_seq
+(
+    user_id  bigint not null,
+    last_seq bigint not null,
+    primary key (user_id)
+) engine = InnoDB;
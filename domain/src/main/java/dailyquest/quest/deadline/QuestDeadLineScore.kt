@@ -0,0 +1,15 @@
+package dailyquest.quest.deadline
+
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+/**
+ * 데드라인 스케줄 sorted set 의 점수(데드라인 시각의 epoch millis).
+ * 웹 서버가 추가하는 점수와 배치 서버가 조회하는 점수 범위가 같은 기준을 쓰도록 공통 모듈에 둔다.
+ */
+object QuestDeadLineScore {
+    @JvmStatic
+    fun of(dateTime: LocalDateTime): Double {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli().toDouble()
+    }
+}
@@ -4,6 +4,7 @@ import dailyquest.common.BaseTimeEntity
 import dailyquest.preferencequest.entity.PreferenceQuest
 import dailyquest.quest.dto.QuestRequest
 import jakarta.persistence.*
+import org.hibernate.annotations.BatchSize
 import java.time.LocalDateTime
 
 @Entity
@@ -47,6 +48,10 @@ class Quest(
 
     var deadLine: LocalDateTime? = deadline
 
+    /**
+     * 목록 조회 시 퀘스트마다 세부 퀘스트를 따로 조회하지 않도록, 처음 접근할 때 영속성 컨텍스트에 있는 퀘스트들의 세부 퀘스트를 IN 절로 한 번에 불러온다.
+     */
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "quest", cascade = [CascadeType.ALL], orphanRemoval = true)
     private val _detailQuests: MutableList<DetailQuest> = mutableListOf()
     val detailQuests : List<DetailQuest>
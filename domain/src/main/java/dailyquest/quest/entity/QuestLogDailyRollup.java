@@ -0,0 +1,98 @@
+package dailyquest.quest.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 유저의 하루치 퀘스트 로그를 상태별, 타입별로 집계한 엔티티.
+ * 퀘스트 로그를 저장하는 시점에 함께 증가시켜 통계 조회 시 quest_log 를 집계하지 않도록 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(QuestLogDailyRollupId.class)
+@Table(name = "quest_log_daily_rollup", indexes = @Index(name = "idx_quest_log_daily_rollup_logged_date", columnList = "logged_date, user_id"))
+@Entity
+public class QuestLogDailyRollup {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "logged_date")
+    private LocalDate loggedDate;
+
+    @Column(nullable = false)
+    private long registeredCount = 0;
+
+    @Column(nullable = false)
+    private long completeCount = 0;
+
+    @Column(nullable = false)
+    private long failCount = 0;
+
+    @Column(nullable = false)
+    private long discardCount = 0;
+
+    @Column(nullable = false)
+    private long mainCount = 0;
+
+    @Column(nullable = false)
+    private long subCount = 0;
+
+    /**
+     * 이 날짜에 등록해 같은 날짜에 완료한 퀘스트 수. 등록 수와 같으면 완벽한 하루를 달성한 것이다.
+     */
+    @Column(nullable = false)
+    private long registeredCompleteCount = 0;
+
+    public QuestLogDailyRollup(Long userId, LocalDate loggedDate) {
+        this.userId = userId;
+        this.loggedDate = loggedDate;
+    }
+
+    /**
+     * 상태 카운트는 통계에 사용되는 상태만 증가시키고, 타입 카운트는 모든 로그에 대해 증가시킨다.
+     */
+    public void addLog(QuestState state, QuestType type) {
+        if (state != null) {
+            switch (state) {
+                case PROCEED -> registeredCount++;
+                case COMPLETE -> completeCount++;
+                case FAIL -> failCount++;
+                case DISCARD -> discardCount++;
+            }
+        }
+        if (type != null) {
+            switch (type) {
+                case MAIN -> mainCount++;
+                case SUB -> subCount++;
+            }
+        }
+    }
+
+    /**
+     * 완료한 퀘스트가 완료한 날짜에 등록된 퀘스트인 경우 호출한다.
+     */
+    public void addRegisteredCompletion() {
+        registeredCompleteCount++;
+    }
+
+    /**
+     * 퀘스트 로그 목록을 유저와 날짜별 증가분으로 묶는다.
+     */
+    public static List<QuestLogDailyRollup> aggregate(Collection<QuestLog> questLogs) {
+        Map<QuestLogDailyRollupId, QuestLogDailyRollup> rollups = new LinkedHashMap<>();
+        for (QuestLog questLog : questLogs) {
+            QuestLogDailyRollupId id = new QuestLogDailyRollupId(questLog.getUserId(), questLog.getLoggedDate());
+            rollups.computeIfAbsent(id, key -> new QuestLogDailyRollup(questLog.getUserId(), questLog.getLoggedDate()))
+                    .addLog(questLog.getState(), questLog.getType());
+        }
+        return new ArrayList<>(rollups.values());
+    }
+}
@@ -0,0 +1,17 @@
+package dailyquest.quest.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuestLogDailyRollupId implements Serializable {
+    private Long userId;
+    private LocalDate loggedDate;
+}
@@ -0,0 +1,44 @@
+package dailyquest.quest.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저가 지금까지 남긴 퀘스트 로그를 상태별로 누적한 엔티티.
+ * 퀘스트 로그를 저장하는 시점에 함께 증가시켜 상태창 조회 시 유저의 모든 quest_log 를 집계하지 않도록 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "quest_log_lifetime_count")
+@Entity
+public class QuestLogLifetimeCount {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long registeredCount = 0;
+
+    @Column(nullable = false)
+    private long completeCount = 0;
+
+    @Column(nullable = false)
+    private long failCount = 0;
+
+    @Column(nullable = false)
+    private long discardCount = 0;
+
+    public QuestLogLifetimeCount(Long userId, long registeredCount, long completeCount, long failCount, long discardCount) {
+        this.userId = userId;
+        this.registeredCount = registeredCount;
+        this.completeCount = completeCount;
+        this.failCount = failCount;
+        this.discardCount = discardCount;
+    }
+}
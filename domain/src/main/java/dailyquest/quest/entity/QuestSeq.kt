@@ -0,0 +1,24 @@
+package dailyquest.quest.entity
+
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.Id
+import jakarta.persistence.Table
+
+/**
+ * 유저별로 마지막으로 할당된 퀘스트 SEQ 를 저장하는 카운터 엔티티
+ */
+@Table(name = "quest_seq")
+@Entity
+class QuestSeq(
+    userId: Long,
+    lastSeq: Long = 0,
+) {
+    @Id
+    @Column(name = "user_id")
+    val userId: Long = userId
+
+    @Column(name = "last_seq", nullable = false)
+    var lastSeq: Long = lastSeq
+        protected set
+}
@@ -6,4 +6,5 @@ import org.springframework.boot.context.properties.ConfigurationProperties
 class SqsQueueProperties(
     val batchJobQueueUrl: String = "",
     val elasticSyncQueueUrl: String = "",
+    val elasticSyncMessageGroupCount: Int = 16,
 )
\ No newline at end of file
@@ -1,23 +1,41 @@
 package dailyquest.sqs.dto
 
+import com.fasterxml.jackson.annotation.JsonCreator
+import com.fasterxml.jackson.annotation.JsonProperty
 import org.springframework.util.DigestUtils
 import java.io.Serializable
+import java.time.LocalDateTime
+import java.time.ZoneId
 
-class ElasticSyncMessage private constructor(
-    val requestType: ElasticSyncRequestType,
-    val documentId: Long,
-    val documentJson: String,
+/**
+ * 검색 문서 동기화 메시지. version 은 문서의 마지막 수정 시각(epoch millis)으로,
+ * 소비 측에서 외부 버전으로 사용해 늦게 도착한 메시지가 더 최신 문서를 덮어쓰지 못하게 한다.
+ */
+class ElasticSyncMessage @JsonCreator private constructor(
+    @JsonProperty("requestType") val requestType: ElasticSyncRequestType,
+    @JsonProperty("documentId") val documentId: Long,
+    @JsonProperty("documentJson") val documentJson: String,
+    @JsonProperty("version") val version: Long = NO_VERSION,
 ): Serializable {
 
     fun createUniqueId(): String {
-        val jsonToMd5 = DigestUtils.md5DigestAsHex(documentJson.toByteArray())
+        val jsonToMd5 = DigestUtils.md5DigestAsHex("$documentId:$version:$documentJson".toByteArray())
         return requestType.name + jsonToMd5
     }
 
+    fun hasVersion(): Boolean = version > NO_VERSION
+
     companion object {
+        const val NO_VERSION = 0L
+
+        @JvmStatic
+        fun of(requestType: ElasticSyncRequestType, documentId: Long, documentJson: String = "", version: Long = NO_VERSION): ElasticSyncMessage {
+            return ElasticSyncMessage(requestType, documentId, documentJson, version)
+        }
+
         @JvmStatic
-        fun of(requestType: ElasticSyncRequestType, documentId: Long, documentJson: String = ""): ElasticSyncMessage {
-            return ElasticSyncMessage(requestType, documentId, documentJson)
+        fun versionOf(lastModifiedDate: LocalDateTime): Long {
+            return lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
         }
     }
-}
\ No newline at end of file
+}
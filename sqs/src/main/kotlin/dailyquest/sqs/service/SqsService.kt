@@ -1,8 +1,11 @@
 package dailyquest.sqs.service
 
+import com.fasterxml.jackson.databind.ObjectMapper
 import dailyquest.properties.SqsQueueProperties
 import dailyquest.sqs.dto.ElasticSyncMessage
+import io.awspring.cloud.sqs.listener.SqsHeaders
 import io.awspring.cloud.sqs.operations.SqsTemplate
+import org.springframework.messaging.support.MessageBuilder
 import org.springframework.stereotype.Service
 
 @Service
@@ -20,13 +23,45 @@ class SqsService(
         }
     }
 
-    fun publishElasticSyncMessage(elasticSyncMessage: ElasticSyncMessage) {
-        val uniqueId = elasticSyncMessage.createUniqueId()
-        sqsTemplate.sendAsync {
-            it.queue(sqsQueueProperties.elasticSyncQueueUrl)
-                .payload(elasticSyncMessage)
-                .messageGroupId(uniqueId)
-                .messageDeduplicationId(uniqueId)
+    /**
+     * 배치 전송 API 로 한 번에 최대 [MAX_BATCH_SIZE] 개, 전체 [MAX_BATCH_PAYLOAD_BYTES] 이하의 메시지를 전송한다.
+     * 같은 문서에 대한 메시지는 순서가 유지되도록 문서 ID 로 나눈 샤드를 메시지 그룹 ID 로 사용한다.
+     * FIFO 배치 리스너는 메시지 그룹 단위로 배치를 전달하므로, 그룹 수를 제한해야 한 배치에 여러 문서가 담긴다.
+     */
+    fun publishElasticSyncMessages(elasticSyncMessages: Collection<ElasticSyncMessage>) {
+        require(elasticSyncMessages.size <= MAX_BATCH_SIZE) { "SQS 배치 전송은 최대 $MAX_BATCH_SIZE 개까지 가능합니다." }
+        require(elasticSyncMessages.size == 1 || elasticSyncMessages.sumOf { payloadBytesOf(it) } <= MAX_BATCH_PAYLOAD_BYTES) {
+            "SQS 배치 전송은 전체 ${MAX_BATCH_PAYLOAD_BYTES}바이트까지 가능합니다."
+        }
+        val messages = elasticSyncMessages.map {
+            MessageBuilder.withPayload(it)
+                .setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, this.messageGroupIdOf(it.documentId))
+                .setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_DEDUPLICATION_ID_HEADER, it.createUniqueId())
+                .build()
+        }
+        sqsTemplate.sendMany(sqsQueueProperties.elasticSyncQueueUrl, messages)
+    }
+
+    private fun messageGroupIdOf(documentId: Long): String {
+        return Math.floorMod(documentId, sqsQueueProperties.elasticSyncMessageGroupCount.toLong()).toString()
+    }
+
+    companion object {
+        const val MAX_BATCH_SIZE = 10
+        const val MAX_BATCH_PAYLOAD_BYTES = 256 * 1024
+
+        /**
+         * 메시지 그룹 ID, 중복 제거 ID, 타입 헤더 등 메시지 속성이 차지하는 크기의 여유분
+         */
+        private const val MESSAGE_ATTRIBUTE_BYTES = 1024
+        private val objectMapper = ObjectMapper()
+
+        /**
+         * 메시지 본문을 JSON 으로 직렬화한 크기에 메시지 속성 여유분을 더한 값을 반환한다.
+         */
+        @JvmStatic
+        fun payloadBytesOf(elasticSyncMessage: ElasticSyncMessage): Int {
+            return objectMapper.writeValueAsBytes(elasticSyncMessage).size + MESSAGE_ATTRIBUTE_BYTES
         }
     }
 }
\ No newline at end of file
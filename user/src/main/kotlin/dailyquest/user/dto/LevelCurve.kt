@@ -0,0 +1,58 @@
+package dailyquest.user.dto
+
+/**
+ * 경험치 테이블을 레벨 계산용으로 미리 컴파일한 불변 구조.
+ * 레벨별 필요 경험치의 누적 합 배열을 이진 탐색해 O(log n)에 레벨을 계산한다.
+ */
+class LevelCurve private constructor(
+    private val requiredExp: LongArray,
+    private val cumulativeExp: LongArray,
+    private val lastRequiredExp: Long,
+) {
+
+    /**
+     * @return 현재 레벨, 현재 레벨에서 쌓은 경험치, 다음 레벨까지 필요한 경험치
+     */
+    fun calculateLevel(exp: Long): Triple<Int, Long, Long> {
+        val passedCount = this.countPassedLevels(exp)
+        val remainingExp = if (passedCount == 0) exp else exp - cumulativeExp[passedCount - 1]
+        val nextRequiredExp = if (passedCount < requiredExp.size) requiredExp[passedCount] else lastRequiredExp
+        return Triple(passedCount + 1, remainingExp, nextRequiredExp)
+    }
+
+    /**
+     * 누적 경험치가 exp 이하인 레벨의 수를 반환한다.
+     */
+    private fun countPassedLevels(exp: Long): Int {
+        var low = 0
+        var high = cumulativeExp.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (cumulativeExp[mid] <= exp) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    companion object {
+        @JvmField
+        val EMPTY = LevelCurve(LongArray(0), LongArray(0), 0)
+
+        /**
+         * 필요 경험치가 0인 레벨은 건너뛴다. 마지막 레벨의 0은 최대 레벨을 의미한다.
+         */
+        @JvmStatic
+        fun from(expTable: Map<Int, Long>): LevelCurve {
+            if (expTable.isEmpty()) return EMPTY
+
+            val sortedRequiredExp = expTable.toSortedMap().values
+            val requiredExp = sortedRequiredExp.filter { it != 0L }.toLongArray()
+            val cumulativeExp = LongArray(requiredExp.size)
+            var sum = 0L
+            for (i in requiredExp.indices) {
+                sum += requiredExp[i]
+                cumulativeExp[i] = sum
+            }
+            return LevelCurve(requiredExp, cumulativeExp, sortedRequiredExp.last())
+        }
+    }
+}
@@ -16,6 +16,10 @@ class UserResponse @JvmOverloads constructor(
     val gold: Long = 0,
     val role: RoleType = RoleType.USER,
 ) {
+    fun calculateLevel(levelCurve: LevelCurve): Triple<Int, Long, Long> {
+        return levelCurve.calculateLevel(exp)
+    }
+
     fun calculateLevel(expTable: Map<Int, Long>): Triple<Int, Long, Long> {
         var level = 1
         var remainingExp = exp
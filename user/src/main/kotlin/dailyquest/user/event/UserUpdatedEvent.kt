@@ -0,0 +1,8 @@
+package dailyquest.user.event
+
+/**
+ * 유저 정보가 변경되었음을 알리는 이벤트. 유저 정보를 캐싱하는 쪽에서 무효화에 사용한다.
+ */
+class UserUpdatedEvent(
+    val userId: Long,
+)
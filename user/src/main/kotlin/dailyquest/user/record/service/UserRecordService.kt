@@ -2,10 +2,12 @@ package dailyquest.user.record.service
 
 import dailyquest.achievement.dto.SimpleAchievementAchieveRequest
 import dailyquest.achievement.entity.AchievementType.*
-import dailyquest.achievement.service.AchievementService
+import dailyquest.achievement.dto.AchievementAchieveRequest
+import dailyquest.achievement.event.AchievementCheckRequestedEvent
 import dailyquest.user.dto.UserUpdateRequest
 import dailyquest.user.record.entity.UserRecord
 import dailyquest.user.record.repository.UserRecordRepository
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.data.repository.findByIdOrNull
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -15,7 +17,7 @@ import java.time.LocalDate
 @Service
 class UserRecordService(
     private val userRecordRepository: UserRecordRepository,
-    private val achievementService: AchievementService,
+    private val eventPublisher: ApplicationEventPublisher,
 ) {
     @Transactional
     fun saveNewRecordEntity(userId: Long) {
@@ -28,7 +30,7 @@ class UserRecordService(
         val userRecord = userRecordRepository.findByIdOrNull(userId)!!
         userRecord.recordGoldEarn(updateRequest.earnedGold)
         val goldEarnAchieveRequest = SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, userRecord.goldEarnAmount)
-        achievementService.checkAndAchieveAchievement(goldEarnAchieveRequest)
+        this.requestAchievementCheck(listOf(goldEarnAchieveRequest))
     }
 
     @Transactional
@@ -36,18 +38,32 @@ class UserRecordService(
         val userRecord = userRecordRepository.findByIdOrNull(userId)!!
         userRecord.increaseQuestRegistrationCount(registrationDate)
         val questRegAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_REGISTRATION, userId, userRecord.questRegistrationCount)
-        achievementService.checkAndAchieveAchievement(questRegAchieveRequest)
         val questContRegAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_REGISTRATION, userId, userRecord.currentQuestContinuousRegistrationDays)
-        achievementService.checkAndAchieveAchievement(questContRegAchieveRequest)
+        this.requestAchievementCheck(listOf(questRegAchieveRequest, questContRegAchieveRequest))
     }
 
+    /**
+     * 퀘스트 완료로 변경되는 완료 횟수, 연속 완료 일수, 골드 획득량을 한 번의 조회로 기록하고, 영향받는 업적의 확인을 한 번에 요청한다.
+     */
     @Transactional
-    fun recordQuestCompletion(userId: Long, completionDate: LocalDate) {
+    fun recordQuestCompletion(userId: Long, completionDate: LocalDate, earnedGold: Long = 0) {
         val userRecord = userRecordRepository.findByIdOrNull(userId)!!
         userRecord.increaseQuestCompletionCount(completionDate)
-        val questCompAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, userRecord.questCompletionCount)
-        achievementService.checkAndAchieveAchievement(questCompAchieveRequest)
-        val questContCompAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, userId, userRecord.currentQuestContinuousCompletionDays)
-        achievementService.checkAndAchieveAchievement(questContCompAchieveRequest)
+        val achieveRequests = mutableListOf(
+            SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, userRecord.questCompletionCount),
+            SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, userId, userRecord.currentQuestContinuousCompletionDays),
+        )
+        if (earnedGold > 0) {
+            userRecord.recordGoldEarn(earnedGold)
+            achieveRequests.add(SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, userRecord.goldEarnAmount))
+        }
+        this.requestAchievementCheck(achieveRequests)
+    }
+
+    /**
+     * 업적 달성 확인은 이벤트로 요청해 퀘스트 요청 트랜잭션에서 업적 조회가 일어나지 않도록 한다.
+     */
+    private fun requestAchievementCheck(achieveRequests: List<AchievementAchieveRequest>) {
+        eventPublisher.publishEvent(AchievementCheckRequestedEvent(achieveRequests))
     }
 }
\ No newline at end of file
@@ -6,13 +6,16 @@ import dailyquest.user.dto.UserResponse
 import dailyquest.user.dto.UserSaveRequest
 import dailyquest.user.dto.UserUpdateRequest
 import dailyquest.user.entity.User
+import dailyquest.user.event.UserUpdatedEvent
 import dailyquest.user.record.service.UserRecordService
 import dailyquest.user.repository.UserRepository
 import jakarta.persistence.EntityNotFoundException
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.context.MessageSource
 import org.springframework.context.support.MessageSourceAccessor
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDate
 import java.time.LocalDateTime
 import kotlin.jvm.optionals.getOrNull
 
@@ -21,6 +24,7 @@ import kotlin.jvm.optionals.getOrNull
 class UserService(
     private val userRepository: UserRepository,
     private val userRecordService: UserRecordService,
+    private val eventPublisher: ApplicationEventPublisher,
     messageSource: MessageSource
 ) {
     private val messageSourceAccessor: MessageSourceAccessor = MessageSourceAccessor(messageSource)
@@ -63,11 +67,25 @@ class UserService(
             val errorMessage: String = messageSourceAccessor.getMessage("user.coreTime.updateLimit", arrayOf(timeSinceNowUntilAvailable))
             throw IllegalStateException(errorMessage)
         }
+        eventPublisher.publishEvent(UserUpdatedEvent(userId))
     }
 
     @Transactional
     fun addUserExpAndGold(userId: Long, updateRequest: UserUpdateRequest) {
         val updateTarget = this.findUser(userId)
         updateTarget.addExpAndGold(updateRequest.earnedExp, updateRequest.earnedGold)
+        eventPublisher.publishEvent(UserUpdatedEvent(userId))
+    }
+
+    /**
+     * 퀘스트 완료 보상과 유저 기록을 함께 반영한다.
+     * 유저와 유저 기록을 각각 한 번씩만 조회하고, 변경 사항은 커밋 시점에 엔티티별로 한 번씩 반영되어 행 잠금 유지 시간이 짧아진다.
+     */
+    @Transactional
+    fun applyQuestCompletion(userId: Long, updateRequest: UserUpdateRequest, completionDate: LocalDate) {
+        val updateTarget = this.findUser(userId)
+        updateTarget.addExpAndGold(updateRequest.earnedExp, updateRequest.earnedGold)
+        userRecordService.recordQuestCompletion(userId, completionDate, updateRequest.earnedGold)
+        eventPublisher.publishEvent(UserUpdatedEvent(userId))
     }
 }
@@ -0,0 +1,98 @@
+package dailyquest.user.dto
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+import kotlin.random.Random
+
+@DisplayName("레벨 곡선 유닛 테스트")
+class LevelCurveUnitTest {
+
+    @DisplayName("레벨 계산 시")
+    @Nested
+    inner class TestCalculateLevel {
+        private val levelCurve = LevelCurve.from(mapOf(1 to 10L, 2 to 20L, 3 to 30L, 4 to 0L))
+
+        @DisplayName("누적 경험치에 도달하지 못한 레벨과 남은 경험치, 필요 경험치가 반환된다")
+        @Test
+        fun `누적 경험치에 도달하지 못한 레벨과 남은 경험치, 필요 경험치가 반환된다`() {
+            //given
+            val exp = 35L
+
+            //when
+            val result = levelCurve.calculateLevel(exp)
+
+            //then
+            assertThat(result).isEqualTo(Triple(3, 5L, 30L))
+        }
+
+        @DisplayName("누적 경험치와 정확히 같다면 다음 레벨로 계산된다")
+        @Test
+        fun `누적 경험치와 정확히 같다면 다음 레벨로 계산된다`() {
+            //given
+            val exp = 30L
+
+            //when
+            val result = levelCurve.calculateLevel(exp)
+
+            //then
+            assertThat(result).isEqualTo(Triple(3, 0L, 30L))
+        }
+
+        @DisplayName("최대 레벨에 도달하면 마지막 레벨의 필요 경험치가 반환된다")
+        @Test
+        fun `최대 레벨에 도달하면 마지막 레벨의 필요 경험치가 반환된다`() {
+            //given
+            val exp = 100L
+
+            //when
+            val result = levelCurve.calculateLevel(exp)
+
+            //then
+            assertThat(result).isEqualTo(Triple(4, 40L, 0L))
+        }
+
+        @DisplayName("빈 테이블이라면 1레벨과 전체 경험치가 반환된다")
+        @Test
+        fun `빈 테이블이라면 1레벨과 전체 경험치가 반환된다`() {
+            //given
+            val exp = 100L
+
+            //when
+            val result = LevelCurve.from(emptyMap()).calculateLevel(exp)
+
+            //then
+            assertThat(result).isEqualTo(Triple(1, 100L, 0L))
+        }
+    }
+
+    @DisplayName("기존 경험치 테이블 순회 방식과 비교 시")
+    @Nested
+    inner class TestCompareWithExpTable {
+        @DisplayName("레벨 수와 무관하게 같은 결과가 반환된다")
+        @ParameterizedTest(name = "레벨 수 : {0}")
+        @ValueSource(ints = [100, 1000, 10000])
+        fun `레벨 수와 무관하게 같은 결과가 반환된다`(levelCount: Int) {
+            //given
+            val random = Random(levelCount)
+            val expTable = (1..levelCount).associateWith { if (it == levelCount) 0L else random.nextLong(1, 1000) }
+            val levelCurve = LevelCurve.from(expTable)
+            val totalExp = expTable.values.sum()
+            val exps = List(1000) { random.nextLong(0, totalExp + 1000) } + listOf(0L, totalExp)
+
+            exps.forEach { exp ->
+                val userResponse = UserResponse(1, "", exp = exp)
+
+                //when
+                val expected = userResponse.calculateLevel(expTable)
+                val result = userResponse.calculateLevel(levelCurve)
+
+                //then
+                assertThat(result).isEqualTo(expected)
+            }
+        }
+    }
+}
@@ -2,7 +2,7 @@ package dailyquest.user.record.service
 
 import dailyquest.achievement.dto.SimpleAchievementAchieveRequest
 import dailyquest.achievement.entity.AchievementType.*
-import dailyquest.achievement.service.AchievementService
+import dailyquest.achievement.event.AchievementCheckRequestedEvent
 import dailyquest.user.dto.UserUpdateRequest
 import dailyquest.user.record.entity.UserRecord
 import dailyquest.user.record.repository.UserRecordRepository
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.data.repository.findByIdOrNull
 import java.time.LocalDate
 
@@ -28,7 +29,7 @@ class UserRecordServiceUnitTest {
     @RelaxedMockK
     private lateinit var userRecordRepository: UserRecordRepository
     @RelaxedMockK
-    private lateinit var achievementService: AchievementService
+    private lateinit var eventPublisher: ApplicationEventPublisher
     @RelaxedMockK
     private lateinit var userRecord: UserRecord
 
@@ -56,9 +57,9 @@ class UserRecordServiceUnitTest {
             verify { userRecord.recordGoldEarn(eq(earnedGold)) }
         }
 
-        @DisplayName("총 골드 획득 업적 달성 확인 로직이 호출된다")
+        @DisplayName("총 골드 획득 업적 달성 확인 요청 이벤트가 발행된다")
         @Test
-        fun `총 골드 획득 업적 달성 확인 로직이 호출된다`() {
+        fun `총 골드 획득 업적 달성 확인 요청 이벤트가 발행된다`() {
             //given
             val userId = 1L
             val totalEarnGold = 1L
@@ -70,7 +71,7 @@ class UserRecordServiceUnitTest {
             userRecordService.recordGoldEarn(userId, updateRequest)
 
             //then
-            verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
+            verify { eventPublisher.publishEvent(match<AchievementCheckRequestedEvent> { it.achieveRequests.contains(achieveRequest) }) }
         }
     }
 
@@ -90,9 +91,9 @@ class UserRecordServiceUnitTest {
             verify { userRecord.increaseQuestRegistrationCount(any()) }
         }
 
-        @DisplayName("퀘스트 등록 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("퀘스트 등록 횟수 업적 달성 확인 요청 이벤트가 발행된다")
         @Test
-        fun `퀘스트 등록 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `퀘스트 등록 횟수 업적 달성 확인 요청 이벤트가 발행된다`() {
             //given
             val userId = 1L
             val questRegistrationCount = 1L
@@ -103,12 +104,12 @@ class UserRecordServiceUnitTest {
             userRecordService.recordQuestRegistration(userId, LocalDate.now())
 
             //then
-            verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
+            verify { eventPublisher.publishEvent(match<AchievementCheckRequestedEvent> { it.achieveRequests.contains(achieveRequest) }) }
         }
 
-        @DisplayName("퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("퀘스트 연속 등록 횟수 업적 달성 확인 요청 이벤트가 발행된다")
         @Test
-        fun `퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `퀘스트 연속 등록 횟수 업적 달성 확인 요청 이벤트가 발행된다`() {
             //given
             val userId = 1L
             val questContinuousRegistrationDays = 1L
@@ -119,7 +120,7 @@ class UserRecordServiceUnitTest {
             userRecordService.recordQuestRegistration(userId, LocalDate.now())
 
             //then
-            verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
+            verify { eventPublisher.publishEvent(match<AchievementCheckRequestedEvent> { it.achieveRequests.contains(achieveRequest) }) }
         }
     }
 
@@ -139,9 +140,9 @@ class UserRecordServiceUnitTest {
             verify { userRecord.increaseQuestCompletionCount(any()) }
         }
 
-        @DisplayName("퀘스트 완료 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("퀘스트 완료 횟수 업적 달성 확인 요청 이벤트가 발행된다")
         @Test
-        fun `퀘스트 완료 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `퀘스트 완료 횟수 업적 달성 확인 요청 이벤트가 발행된다`() {
             //given
             val userId = 1L
             val questCompletionCount = 1L
@@ -152,12 +153,12 @@ class UserRecordServiceUnitTest {
             userRecordService.recordQuestCompletion(userId, LocalDate.now())
 
             //then
-            verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
+            verify { eventPublisher.publishEvent(match<AchievementCheckRequestedEvent> { it.achieveRequests.contains(achieveRequest) }) }
         }
 
-        @DisplayName("퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("퀘스트 연속 등록 횟수 업적 달성 확인 요청 이벤트가 발행된다")
         @Test
-        fun `퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `퀘스트 연속 등록 횟수 업적 달성 확인 요청 이벤트가 발행된다`() {
             //given
             val userId = 1L
             val questContinuousCompletionDays = 1L
@@ -168,7 +169,38 @@ class UserRecordServiceUnitTest {
             userRecordService.recordQuestCompletion(userId, LocalDate.now())
 
             //then
-            verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
+            verify { eventPublisher.publishEvent(match<AchievementCheckRequestedEvent> { it.achieveRequests.contains(achieveRequest) }) }
+        }
+
+        @DisplayName("획득한 골드가 있으면 골드 획득을 기록하고 총 골드 획득 업적 확인도 함께 요청한다")
+        @Test
+        fun `획득한 골드가 있으면 골드 획득을 기록하고 총 골드 획득 업적 확인도 함께 요청한다`() {
+            //given
+            val userId = 1L
+            val earnedGold = 10L
+            every { userRecord.goldEarnAmount } returns earnedGold
+            val achieveRequest = SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, earnedGold)
+
+            //when
+            userRecordService.recordQuestCompletion(userId, LocalDate.now(), earnedGold)
+
+            //then
+            verify { userRecord.recordGoldEarn(eq(earnedGold)) }
+            verify(exactly = 1) { eventPublisher.publishEvent(match<AchievementCheckRequestedEvent> { it.achieveRequests.contains(achieveRequest) && it.achieveRequests.size == 3 }) }
+        }
+
+        @DisplayName("획득한 골드가 없으면 총 골드 획득 업적 확인은 요청하지 않는다")
+        @Test
+        fun `획득한 골드가 없으면 총 골드 획득 업적 확인은 요청하지 않는다`() {
+            //given
+            val userId = 1L
+
+            //when
+            userRecordService.recordQuestCompletion(userId, LocalDate.now())
+
+            //then
+            verify(inverse = true) { userRecord.recordGoldEarn(any()) }
+            verify { eventPublisher.publishEvent(match<AchievementCheckRequestedEvent> { event -> event.achieveRequests.none { it.type == GOLD_EARN } }) }
         }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import dailyquest.user.dto.UserResponse
 import dailyquest.user.dto.UserSaveRequest
 import dailyquest.user.dto.UserUpdateRequest
 import dailyquest.user.entity.User
+import dailyquest.user.event.UserUpdatedEvent
 import dailyquest.user.record.service.UserRecordService
 import dailyquest.user.repository.UserRepository
 import io.mockk.every
@@ -16,8 +17,10 @@ import jakarta.persistence.EntityNotFoundException
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.context.MessageSource
 import org.springframework.data.repository.findByIdOrNull
+import java.time.LocalDate
 import java.time.LocalDateTime
 
 @ExtendWith(MockKExtension::class)
@@ -31,6 +34,8 @@ class UserServiceUnitTest {
     @RelaxedMockK
     private lateinit var userRecordService: UserRecordService
     @RelaxedMockK
+    private lateinit var eventPublisher: ApplicationEventPublisher
+    @RelaxedMockK
     private lateinit var messageSource: MessageSource
     @RelaxedMockK
     private lateinit var user: User
@@ -149,6 +154,20 @@ class UserServiceUnitTest {
             assertDoesNotThrow { function.invoke() }
         }
 
+        @DisplayName("변경에 성공하면 유저 변경 이벤트를 발행한다")
+        @Test
+        fun `변경에 성공하면 유저 변경 이벤트를 발행한다`() {
+            //given
+            val userId = 1L
+            every { user.updateUser(any()) } returns true
+
+            //when
+            userService.updateUser(userId, updateRequest)
+
+            //then
+            verify { eventPublisher.publishEvent(match<UserUpdatedEvent> { it.userId == userId }) }
+        }
+
         @DisplayName("user 엔티티의 updateUser 반환 결과가 false면 IllegalStateException 예외가 발생한다")
         @Test
         fun `user 엔티티의 updateUser 반환 결과가 false면 IllegalStateException 예외가 발생한다`() {
@@ -160,6 +179,7 @@ class UserServiceUnitTest {
 
             //then
             assertThrows<IllegalStateException> { function.invoke() }
+            verify(inverse = true) { eventPublisher.publishEvent(any<Any>()) }
         }
     }
 
@@ -184,5 +204,55 @@ class UserServiceUnitTest {
             //then
             verify { user.addExpAndGold(any(), eq(earnedGold)) }
         }
+
+        @DisplayName("유저 변경 이벤트를 발행한다")
+        @Test
+        fun `유저 변경 이벤트를 발행한다`() {
+            //given
+            val userId = 1L
+
+            //when
+            userService.addUserExpAndGold(userId, updateRequest)
+
+            //then
+            verify { eventPublisher.publishEvent(match<UserUpdatedEvent> { it.userId == userId }) }
+        }
+    }
+
+    @DisplayName("퀘스트 완료 반영 로직 호출 시")
+    @Nested
+    inner class TestApplyQuestCompletion {
+        @RelaxedMockK
+        private lateinit var updateRequest: UserUpdateRequest
+
+        @DisplayName("조회한 유저의 경험치 골드 추가 로직과 유저 기록의 퀘스트 완료 기록 로직이 호출된다")
+        @Test
+        fun `조회한 유저의 경험치 골드 추가 로직과 유저 기록의 퀘스트 완료 기록 로직이 호출된다`() {
+            //given
+            val userId = 1L
+            val earnedGold = 1L
+            val completionDate = LocalDate.of(2022, 12, 1)
+            every { updateRequest.earnedGold } returns earnedGold
+
+            //when
+            userService.applyQuestCompletion(userId, updateRequest, completionDate)
+
+            //then
+            verify { user.addExpAndGold(any(), eq(earnedGold)) }
+            verify { userRecordService.recordQuestCompletion(eq(userId), eq(completionDate), eq(earnedGold)) }
+        }
+
+        @DisplayName("유저 변경 이벤트를 발행한다")
+        @Test
+        fun `유저 변경 이벤트를 발행한다`() {
+            //given
+            val userId = 1L
+
+            //when
+            userService.applyQuestCompletion(userId, updateRequest, LocalDate.of(2022, 12, 1))
+
+            //then
+            verify { eventPublisher.publishEvent(match<UserUpdatedEvent> { it.userId == userId }) }
+        }
     }
-}
\ No newline at end of file
+}
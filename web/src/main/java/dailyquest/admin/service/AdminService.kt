@@ -6,11 +6,13 @@ import dailyquest.admin.dto.SystemSettingsRequest
 import dailyquest.admin.dto.SystemSettingsResponse
 import dailyquest.common.MessageUtil
 import dailyquest.properties.RedisKeyProperties
+import dailyquest.redis.repository.RedisRepository
 
 @Service
 class AdminService(
     private val redisKeyProperties: RedisKeyProperties,
-    private val redisTemplate: RedisTemplate<String, String>
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val redisRepository: RedisRepository,
 ) {
 
     fun getSystemSettings(): SystemSettingsResponse {
@@ -29,6 +31,7 @@ class AdminService(
         ops.put(redisKeyProperties.questClearGold, settingsRequest.questClearGold)
         ops.put(redisKeyProperties.questClearExp, settingsRequest.questClearExp)
         ops.put(redisKeyProperties.maxRewardCount, settingsRequest.maxRewardCount)
+        redisRepository.increaseConfigVersion()
     }
 
     fun getExpTable(): Map<Int, Long> {
@@ -46,6 +49,7 @@ class AdminService(
 
         redisTemplate.delete(redisKeyProperties.expTable)
         redisTemplate.boundHashOps<Int, Long>(redisKeyProperties.expTable).putAll(expTable)
+        redisRepository.increaseConfigVersion()
     }
 
 
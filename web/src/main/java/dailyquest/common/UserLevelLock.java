@@ -1,87 +0,0 @@
-package dailyquest.common;
-
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Component;
-
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.function.Supplier;
-
-/**
- * DataSource 에서 직접 Connection 을 얻어 USER LEVEL LOCK 을 사용하는 클래스
- */
-@Slf4j
-@Component
-public class UserLevelLock {
-    
-    private static final String GET_LOCK = "SELECT GET_LOCK(?, ?)";
-    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
-    private static final String EXCEPTION_MESSAGE = "LOCK 을 수행하는 중에 오류가 발생하였습니다.";
-
-    private final DataSource dataSource;
-
-    public UserLevelLock(@Qualifier("userLockDataSource") DataSource userLockDataSource) {
-        this.dataSource = userLockDataSource;
-    }
-
-    public <T> T executeWithLock(String userLockName,
-                                 int timeoutSeconds,
-                                 Supplier<T> supplier) {
-
-        try (Connection connection = dataSource.getConnection()) {
-            try {
-                log.info("start getLock=[{}], timeoutSeconds : [{}], connection=[{}]", userLockName, timeoutSeconds, connection);
-                getLock(connection, userLockName, timeoutSeconds);
-                log.info("success getLock=[{}], timeoutSeconds : [{}], connection=[{}]", userLockName, timeoutSeconds, connection);
-                return supplier.get();
-            } finally {
-                log.info("start releaseLock=[{}], connection=[{}]", userLockName, connection);
-                releaseLock(connection, userLockName);
-                log.info("success releaseLock=[{}], connection=[{}]", userLockName, connection);
-            }
-        } catch (SQLException | RuntimeException e) {
-            throw new RuntimeException(e.getMessage(), e);
-        }
-    }
-
-    private void getLock(Connection connection,
-                         String userLockName,
-                         int timeoutseconds) throws SQLException {
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(GET_LOCK)) {
-            preparedStatement.setString(1, userLockName);
-            preparedStatement.setInt(2, timeoutseconds);
-
-            checkResultSet(userLockName, preparedStatement, "GetLock_");
-        }
-    }
-
-    private void releaseLock(Connection connection,
-                             String userLockName) throws SQLException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(RELEASE_LOCK)) {
-            preparedStatement.setString(1, userLockName);
-
-            checkResultSet(userLockName, preparedStatement, "ReleaseLock_");
-        }
-    }
-
-    private void checkResultSet(String userLockName,
-                                PreparedStatement preparedStatement,
-                                String type) throws SQLException {
-        try (ResultSet resultSet = preparedStatement.executeQuery()) {
-            if (!resultSet.next()) {
-                log.error("USER LEVEL LOCK 쿼리 결과 값이 없습니다. type = [{}], userLockName : [{}], connection=[{}]", type, userLockName, preparedStatement.getConnection());
-                throw new RuntimeException(EXCEPTION_MESSAGE);
-            }
-            int result = resultSet.getInt(1);
-            if (result != 1) {
-                log.error("USER LEVEL LOCK 쿼리 결과 값이 1이 아닙니다. type = [{}], result : [{}] userLockName : [{}], connection=[{}]", type, result, userLockName, preparedStatement.getConnection());
-                throw new RuntimeException(EXCEPTION_MESSAGE);
-            }
-        }
-    }
-}
\ No newline at end of file
@@ -19,10 +19,4 @@ public class DataSourceConfig {
         return DataSourceBuilder.create().type(HikariDataSource.class).build();
     }
 
-    @Bean
-    @ConfigurationProperties("spring.datasource.userlock")
-    public DataSource userLockDataSource() {
-        return DataSourceBuilder.create().type(HikariDataSource.class).build();
-    }
-
 }
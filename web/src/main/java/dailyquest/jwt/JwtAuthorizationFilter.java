@@ -3,9 +3,10 @@ package dailyquest.jwt;
 import dailyquest.properties.JwtTokenProperties;
 import dailyquest.properties.SecurityUrlProperties;
 import dailyquest.redis.service.RedisService;
+import dailyquest.user.cache.UserResponseCache;
+import dailyquest.user.dto.LevelCurve;
 import dailyquest.user.dto.UserPrincipal;
 import dailyquest.user.dto.UserResponse;
-import dailyquest.user.service.UserService;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,7 +22,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
@@ -29,7 +29,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProperties jwtTokenProperties;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserService userService;
+    private final UserResponseCache userResponseCache;
     private final AntPathMatcher antPathMatcher = new AntPathMatcher();
     private final SecurityUrlProperties securityUrlProperties;
     private final RedisService redisService;
@@ -76,9 +76,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     protected void parseAndSetAuthentication(String accessToken) {
         Long userId = jwtTokenProvider.getUserIdFromToken(accessToken);
-        UserResponse userResponse = userService.getUserById(userId);
-        Map<Integer, Long> expTable = redisService.getExpTable();
-        UserPrincipal userDetails = UserPrincipal.from(userResponse, expTable);
+        UserResponse userResponse = userResponseCache.getUser(userId);
+        LevelCurve levelCurve = redisService.getLevelCurve();
+        UserPrincipal userDetails = UserPrincipal.from(userResponse, levelCurve);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
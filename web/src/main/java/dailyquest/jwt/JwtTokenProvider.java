@@ -11,7 +11,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import dailyquest.common.MessageUtil;
+import dailyquest.jwt.VerifiedTokenCache.VerifiedToken;
 
+import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.time.Duration;
 import java.util.Date;
@@ -20,12 +22,18 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10000;
+
     public final JwtTokenProperties jwtTokenProperties;
     private final RedisTemplate<String, String> redisTemplate;
 
     @Value("${spring.jwt.secret}")
     private String secretKey;
 
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
+
     public String createAccessToken(Long userPk) {
         Date now = new Date();
         return Jwts.builder()
@@ -33,7 +41,7 @@ public class JwtTokenProvider {
                 .claim("token_type", jwtTokenProperties.getAccessTokenName())
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + jwtTokenProperties.getAccessTokenExpirationMilliseconds()))
-                .signWith(new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName()))
+                .signWith(getSigningKey())
                 .compact();
 
     }
@@ -46,43 +54,62 @@ public class JwtTokenProvider {
                 .claim("token_type", jwtTokenProperties.getRefreshTokenName())
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + jwtTokenProperties.getRefreshTokenExpirationMilliseconds()))
-                .signWith(new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName()))
+                .signWith(getSigningKey())
                 .compact();
     }
 
     public boolean isValidToken(String jwtToken, String tokenType) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(Decoders.BASE64.decode(secretKey))
-                    .build()
-                    .parseClaimsJws(jwtToken);
-
-            Claims body = claims.getBody();
-            String token_type = body.get("token_type", String.class);
-
-            return token_type.equals(tokenType);
+            return verify(jwtToken).tokenType().equals(tokenType);
         } catch (Exception e) {
             return false;
         }
     }
 
     public Long getUserIdFromToken(String jwtToken) throws ExpiredJwtException {
+        return verify(jwtToken).userId();
+    }
 
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(Decoders.BASE64.decode(secretKey))
-                .build()
-                .parseClaimsJws(jwtToken);
+    public Date getExpiredDateFromToken(String jwtToken) throws ExpiredJwtException {
+        return verify(jwtToken).expiration();
+    }
 
-        return claims.getBody().get("id", Long.class);
+    /**
+     * 서명 검증에 성공한 토큰은 만료 시간까지 캐싱해 같은 토큰을 반복해서 파싱하지 않는다.
+     */
+    private VerifiedToken verify(String jwtToken) throws JwtException {
+        VerifiedToken cached = verifiedTokenCache.get(jwtToken);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims body = getJwtParser().parseClaimsJws(jwtToken).getBody();
+        VerifiedToken verifiedToken = new VerifiedToken(body.get("id", Long.class), body.get("token_type", String.class), body.getExpiration());
+        verifiedTokenCache.put(jwtToken, verifiedToken);
+        return verifiedToken;
     }
 
-    public Date getExpiredDateFromToken(String jwtToken) throws ExpiredJwtException {
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(Decoders.BASE64.decode(secretKey))
-                .build()
-                .parseClaimsJws(jwtToken);
+    /**
+     * 시크릿 키는 한 번만 디코딩하고, 파서와 서명 키는 생성 후 재사용한다.
+     */
+    private SecretKey getSigningKey() {
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+            signingKey = key;
+        }
+        return key;
+    }
 
-        return claims.getBody().getExpiration();
+    private JwtParser getJwtParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 
     public String getJwtFromCookies(@Nullable Cookie[] cookies, String tokenType){
@@ -0,0 +1,47 @@
+package dailyquest.jwt;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임을 토큰 만료 시간까지 보관하는 캐시
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final ConcurrentMap<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    VerifiedToken get(String jwtToken) {
+        VerifiedToken verifiedToken = cache.get(jwtToken);
+        if (verifiedToken == null) {
+            return null;
+        }
+        if (verifiedToken.isExpired(System.currentTimeMillis())) {
+            cache.remove(jwtToken, verifiedToken);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    void put(String jwtToken, VerifiedToken verifiedToken) {
+        if (cache.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            cache.values().removeIf(token -> token.isExpired(now));
+            if (cache.size() >= maxSize) {
+                cache.clear();
+            }
+        }
+        cache.put(jwtToken, verifiedToken);
+    }
+
+    record VerifiedToken(Long userId, String tokenType, Date expiration) {
+        boolean isExpired(long now) {
+            return expiration == null || expiration.getTime() <= now;
+        }
+    }
+}
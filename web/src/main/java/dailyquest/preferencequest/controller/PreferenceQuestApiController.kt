@@ -1,7 +1,6 @@
 package dailyquest.preferencequest.controller
 
 import dailyquest.common.ResponseData
-import dailyquest.common.UserLevelLock
 import dailyquest.preferencequest.dto.PreferenceQuestRequest
 import dailyquest.preferencequest.dto.PreferenceQuestResponse
 import dailyquest.preferencequest.service.PreferenceQuestService
@@ -20,7 +19,6 @@ import org.springframework.web.bind.annotation.*
 @RestController
 class PreferenceQuestApiController(
     private val preferenceQuestService: PreferenceQuestService,
-    private val userLevelLock: UserLevelLock,
     private val questIndexService: QuestIndexService
 ) {
 
@@ -71,9 +69,7 @@ class PreferenceQuestApiController(
         @Min(1) @PathVariable("preferenceQuestId") preferenceQuestId: Long,
         @AuthenticationPrincipal principal: UserPrincipal
     ): ResponseEntity<ResponseData<QuestResponse>> {
-        val questResponse = userLevelLock.executeWithLock("QUEST_SEQ" + principal.id, 3) {
-            preferenceQuestService.registerQuestByPreferenceQuest(preferenceQuestId, principal.id)
-        }
+        val questResponse = preferenceQuestService.registerQuestByPreferenceQuest(preferenceQuestId, principal.id)
         questIndexService.saveDocument(questResponse, principal.id)
         return ResponseEntity.ok(ResponseData.of(questResponse))
     }
@@ -0,0 +1,13 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import org.springframework.stereotype.Component
+
+@Component
+@ConfigurationProperties(prefix = "elastic.sync.publisher")
+class ElasticSyncPublisherProperties {
+    var flushIntervalMillis: Long = 200
+    var maxPendingMessages: Int = 10000
+    var offerTimeoutMillis: Long = 1000
+    var maxSendAttempts: Int = 5
+}
@@ -17,4 +17,10 @@ class RedisKeyProperties {
     var questClearGold: String = ""
     var maxRewardCount: String = ""
 
+    var configVersion: String = ""
+
+    var questDeadLine: String = "quest:dead-line"
+
+    var achievementIndexVersion: String = "achievement:index-version"
+
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import org.springframework.stereotype.Component
+
+@Component
+@ConfigurationProperties(prefix = "redis.near-cache")
+class RedisNearCacheProperties {
+    var versionCheckIntervalMillis: Long = 3000
+}
@@ -0,0 +1,15 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import org.springframework.stereotype.Component
+
+@Component
+@ConfigurationProperties(prefix = "user.cache")
+class UserCacheProperties {
+    var localTtlMillis: Long = 3000
+    var localMaxSize: Int = 10000
+    var redisEnabled: Boolean = false
+    var redisTtlSeconds: Long = 60
+    var redisDelayedEvictMillis: Long = 500
+    var redisKeyPrefix: String = "uc:"
+}
@@ -1,11 +1,13 @@
 package dailyquest.quest.controller;
 
+import dailyquest.common.MessageUtil;
 import dailyquest.common.ResponseData;
 import dailyquest.common.RestPage;
-import dailyquest.common.UserLevelLock;
 import dailyquest.quest.dto.*;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.service.QuestService;
+import dailyquest.search.dto.QuestSearchHits;
+import dailyquest.search.dto.QuestSearchResponse;
 import dailyquest.search.service.QuestIndexService;
 import dailyquest.user.dto.UserPrincipal;
 import jakarta.validation.Valid;
@@ -13,6 +15,7 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,7 +33,6 @@ import java.util.List;
 @RestController
 public class QuestApiController {
     private final QuestService questService;
-    private final UserLevelLock userLevelLock;
     private final QuestIndexService questIndexService;
 
     @Value("${quest.page.size}")
@@ -53,14 +55,45 @@ public class QuestApiController {
         RestPage<QuestResponse> questList;
         PageRequest pageable = PageRequest.of(searchCondition.page(), pageSize);
         if(searchCondition.isKeywordSearch()) {
-            List<Long> searchedIds = questIndexService.searchDocuments(searchCondition, principal.getId(), pageable);
-            questList = new RestPage<>(questService.searchQuest(searchedIds, pageable));
+            QuestSearchHits searchHits = questIndexService.searchDocuments(searchCondition, principal.getId(), pageable);
+            questList = new RestPage<>(questService.searchQuest(searchHits, pageable));
         } else {
             questList = new RestPage<>(questService.searchQuest(principal.getId(), searchCondition, pageable));
         }
         return ResponseEntity.ok(new ResponseData<>(questList));
     }
 
+    @GetMapping("/search/documents")
+    public ResponseEntity<ResponseData<RestPage<QuestSearchResponse>>> searchQuestDocuments(
+            @Valid QuestSearchCondition searchCondition,
+            @RequestParam(name = "hydrate", defaultValue = "false") boolean hydrate,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        if(!searchCondition.isKeywordSearch()) {
+            throw new IllegalArgumentException(MessageUtil.getMessage("quest.error.search.documents-keyword"));
+        }
+        PageRequest pageable = PageRequest.of(searchCondition.page(), pageSize);
+        Page<QuestSearchResponse> searchedQuests = questIndexService.searchSourceDocuments(searchCondition, principal.getId(), pageable);
+        if(hydrate) {
+            searchedQuests = questService.hydrateSearchedQuests(searchedQuests);
+        }
+        return ResponseEntity.ok(new ResponseData<>(new RestPage<>(searchedQuests)));
+    }
+
+    @GetMapping("/search/cursor")
+    public ResponseEntity<ResponseData<QuestSliceResponse>> searchQuestAfter(
+            @Valid QuestSearchCondition searchCondition,
+            @Min(1) @RequestParam(name = "lastQuestId", required = false) Long lastQuestId,
+            @RequestParam(name = "withCount", defaultValue = "false") boolean withCount,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        if(searchCondition.isKeywordSearch()) {
+            throw new IllegalArgumentException(MessageUtil.getMessage("quest.error.search.cursor-keyword"));
+        }
+        QuestSliceResponse questSlice = questService.searchQuestAfter(principal.getId(), searchCondition, lastQuestId, pageSize, withCount);
+        return ResponseEntity.ok(new ResponseData<>(questSlice));
+    }
+
     @GetMapping("/{questId}")
     public ResponseEntity<ResponseData<QuestResponse>> getQuest(
             @Min(1) @PathVariable("questId") Long questId,
@@ -79,11 +112,7 @@ public class QuestApiController {
             dto.toMainQuest();
         }
 
-        QuestResponse savedQuest = userLevelLock.executeWithLock(
-                "QUEST_SEQ" + principal.getId(),
-                3,
-                () -> questService.saveQuest(dto, principal.getId())
-        );
+        QuestResponse savedQuest = questService.saveQuest(dto, principal.getId());
         questIndexService.saveDocument(savedQuest, principal.getId());
         return ResponseEntity.ok(new ResponseData<>(savedQuest));
     }
@@ -0,0 +1,38 @@
+package dailyquest.quest.deadline
+
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.quest.event.QuestDeadLineChangedEvent
+import org.slf4j.LoggerFactory
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+
+/**
+ * 진행 중인 퀘스트의 데드라인을 Redis sorted set 에 데드라인 시각(epoch millis) 점수로 유지한다.
+ * 배치 서버의 데드라인 스케줄러가 이 sorted set 에서 데드라인이 지난 퀘스트를 꺼내 실패 처리한다.
+ *
+ * 커밋 이후에 반영하며, Redis 장애로 반영하지 못한 변경은 배치 서버가 주기적으로 DB 기준으로 다시 채운다.
+ */
+@Component
+class QuestDeadLineSchedule(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val redisKeyProperties: RedisKeyProperties,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    @TransactionalEventListener(fallbackExecution = true)
+    fun update(event: QuestDeadLineChangedEvent) {
+        val key = redisKeyProperties.questDeadLine
+        val member = event.questId.toString()
+        try {
+            val deadLine = event.deadLine
+            if (deadLine == null) {
+                redisTemplate.opsForZSet().remove(key, member)
+            } else {
+                redisTemplate.opsForZSet().add(key, member, QuestDeadLineScore.of(deadLine))
+            }
+        } catch (e: RuntimeException) {
+            log.warn("퀘스트 데드라인 스케줄 반영 중 오류가 발생했습니다. questId : [{}]", event.questId, e)
+        }
+    }
+}
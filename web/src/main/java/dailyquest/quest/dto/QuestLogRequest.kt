@@ -5,6 +5,7 @@ import dailyquest.quest.entity.QuestLog
 import dailyquest.quest.entity.QuestState
 import dailyquest.quest.entity.QuestType
 import java.time.LocalDate
+import java.time.LocalDateTime
 import java.time.LocalTime
 
 class QuestLogRequest private constructor(
@@ -13,11 +14,19 @@ class QuestLogRequest private constructor(
     val state: QuestState,
     val type: QuestType,
     val loggedDate: LocalDate,
+    val registeredDate: LocalDate,
 ) {
     fun mapToEntity(): QuestLog {
         return QuestLog(userId, questId, state, type, loggedDate)
     }
 
+    /**
+     * 퀘스트를 등록한 날짜에 완료한 로그인지 확인한다. 완벽한 하루 집계에 사용한다.
+     */
+    fun isCompletedOnRegisteredDate(): Boolean {
+        return state == QuestState.COMPLETE && loggedDate == registeredDate
+    }
+
     override fun equals(other: Any?): Boolean {
         if (this === other) return true
         if (javaClass != other?.javaClass) return false
@@ -45,11 +54,14 @@ class QuestLogRequest private constructor(
     companion object {
         @JvmStatic
         fun from(quest: Quest): QuestLogRequest {
-            val lastModifiedDate = quest.lastModifiedDate.toLocalDate()
-            val baseTime = quest.lastModifiedDate.toLocalTime()
+            val loggedDate = loggedDateOf(quest.lastModifiedDate)
+            val registeredDate = loggedDateOf(quest.createdDate)
+            return QuestLogRequest(quest.userId, quest.id, quest.state, quest.type, loggedDate, registeredDate)
+        }
+
+        private fun loggedDateOf(dateTime: LocalDateTime): LocalDate {
             val resetTime = LocalTime.of(6, 0)
-            val loggedDate = if (baseTime.isBefore(resetTime)) lastModifiedDate.minusDays(1L) else lastModifiedDate
-            return QuestLogRequest(quest.userId, quest.id, quest.state, quest.type, loggedDate)
+            return if (dateTime.toLocalTime().isBefore(resetTime)) dateTime.toLocalDate().minusDays(1L) else dateTime.toLocalDate()
         }
     }
 }
\ No newline at end of file
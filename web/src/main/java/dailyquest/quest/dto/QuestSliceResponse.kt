@@ -0,0 +1,21 @@
+package dailyquest.quest.dto
+
+/**
+ * 커서 기반 퀘스트 조회 결과.
+ * 다음 요청 시 nextCursor 를 lastQuestId 로 넘기면 이어서 조회된다.
+ * approximateCount 는 개수 조회를 요청한 경우에만 채워지며, 상한을 넘는 경우 상한 값이 담긴다.
+ */
+data class QuestSliceResponse(
+    val content: List<QuestResponse> = emptyList(),
+    val nextCursor: Long? = null,
+    val hasNext: Boolean = false,
+    val approximateCount: Long? = null,
+) {
+    companion object {
+        @JvmStatic
+        fun of(content: List<QuestResponse>, hasNext: Boolean, approximateCount: Long?): QuestSliceResponse {
+            val nextCursor = if (hasNext) content.lastOrNull()?.id else null
+            return QuestSliceResponse(content, nextCursor, hasNext, approximateCount)
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dailyquest.quest.dto;
 
+import dailyquest.quest.entity.QuestLogDailyRollup;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.entity.QuestType;
 import lombok.Getter;
@@ -26,6 +27,17 @@ public class QuestStatisticsResponse {
         this.loggedDate = loggedDate;
     }
 
+    public static QuestStatisticsResponse from(QuestLogDailyRollup rollup) {
+        QuestStatisticsResponse response = new QuestStatisticsResponse(rollup.getLoggedDate());
+        response.registeredCount = rollup.getRegisteredCount();
+        response.completeCount = rollup.getCompleteCount();
+        response.failCount = rollup.getFailCount();
+        response.discardCount = rollup.getDiscardCount();
+        response.mainCount = rollup.getMainCount();
+        response.subCount = rollup.getSubCount();
+        return response;
+    }
+
     public void addStateCount(String state, long count) {
         switch (QuestState.valueOf(state)) {
             case PROCEED -> registeredCount += count;
@@ -0,0 +1,20 @@
+package dailyquest.quest.event
+
+import dailyquest.quest.entity.Quest
+import java.time.LocalDateTime
+
+/**
+ * 퀘스트의 데드라인 처리 대상 여부나 데드라인이 바뀌었음을 알리는 이벤트.
+ * 진행 중이 아니거나 데드라인이 없는 퀘스트는 deadLine 이 null 이며, 데드라인 스케줄에서 제거된다.
+ */
+class QuestDeadLineChangedEvent(
+    val questId: Long,
+    val deadLine: LocalDateTime?,
+) {
+    companion object {
+        @JvmStatic
+        fun from(quest: Quest): QuestDeadLineChangedEvent {
+            return QuestDeadLineChangedEvent(quest.id, if (quest.isProceed()) quest.deadLine else null)
+        }
+    }
+}
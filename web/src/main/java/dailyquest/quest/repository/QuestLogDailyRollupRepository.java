@@ -0,0 +1,47 @@
+package dailyquest.quest.repository;
+
+import dailyquest.quest.entity.QuestLogDailyRollup;
+import dailyquest.quest.entity.QuestLogDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface QuestLogDailyRollupRepository extends JpaRepository<QuestLogDailyRollup, QuestLogDailyRollupId> {
+
+    List<QuestLogDailyRollup> findAllByUserIdAndLoggedDateBetweenOrderByLoggedDate(Long userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 집계 행이 없으면 증가분으로 생성하고, 있으면 증가분만큼 더한다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_daily_rollup (user_id, logged_date, registered_count, complete_count, fail_count, discard_count, main_count, sub_count, registered_complete_count) " +
+            "values (:userId, :loggedDate, :registeredCount, :completeCount, :failCount, :discardCount, :mainCount, :subCount, :registeredCompleteCount) " +
+            "on duplicate key update " +
+            "registered_count = registered_count + :registeredCount, " +
+            "complete_count = complete_count + :completeCount, " +
+            "fail_count = fail_count + :failCount, " +
+            "discard_count = discard_count + :discardCount, " +
+            "main_count = main_count + :mainCount, " +
+            "sub_count = sub_count + :subCount, " +
+            "registered_complete_count = registered_complete_count + :registeredCompleteCount", nativeQuery = true)
+    int increaseCounts(@Param("userId") Long userId,
+                       @Param("loggedDate") LocalDate loggedDate,
+                       @Param("registeredCount") long registeredCount,
+                       @Param("completeCount") long completeCount,
+                       @Param("failCount") long failCount,
+                       @Param("discardCount") long discardCount,
+                       @Param("mainCount") long mainCount,
+                       @Param("subCount") long subCount,
+                       @Param("registeredCompleteCount") long registeredCompleteCount);
+
+    default void increaseCounts(QuestLogDailyRollup increment) {
+        increaseCounts(increment.getUserId(), increment.getLoggedDate(),
+                increment.getRegisteredCount(), increment.getCompleteCount(), increment.getFailCount(),
+                increment.getDiscardCount(), increment.getMainCount(), increment.getSubCount(),
+                increment.getRegisteredCompleteCount());
+    }
+}
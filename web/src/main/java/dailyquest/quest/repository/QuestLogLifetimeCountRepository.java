@@ -0,0 +1,33 @@
+package dailyquest.quest.repository;
+
+import dailyquest.quest.entity.QuestLogDailyRollup;
+import dailyquest.quest.entity.QuestLogLifetimeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface QuestLogLifetimeCountRepository extends JpaRepository<QuestLogLifetimeCount, Long> {
+
+    /**
+     * 누적 행이 없으면 증가분으로 생성하고, 있으면 증가분만큼 더한다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_log_lifetime_count (user_id, registered_count, complete_count, fail_count, discard_count) " +
+            "values (:userId, :registeredCount, :completeCount, :failCount, :discardCount) " +
+            "on duplicate key update " +
+            "registered_count = registered_count + :registeredCount, " +
+            "complete_count = complete_count + :completeCount, " +
+            "fail_count = fail_count + :failCount, " +
+            "discard_count = discard_count + :discardCount", nativeQuery = true)
+    int increaseCounts(@Param("userId") Long userId,
+                       @Param("registeredCount") long registeredCount,
+                       @Param("completeCount") long completeCount,
+                       @Param("failCount") long failCount,
+                       @Param("discardCount") long discardCount);
+
+    default void increaseCounts(QuestLogDailyRollup increment) {
+        increaseCounts(increment.getUserId(), increment.getRegisteredCount(), increment.getCompleteCount(),
+                increment.getFailCount(), increment.getDiscardCount());
+    }
+}
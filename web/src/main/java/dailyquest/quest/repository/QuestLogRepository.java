@@ -8,7 +8,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 
-public interface QuestLogRepository extends JpaRepository<QuestLog, Long>, QuestLogRepositoryCustom {
+public interface QuestLogRepository extends JpaRepository<QuestLog, Long> {
 
     Integer countByUserIdAndState(Long userId, QuestState state);
 
@@ -1,7 +1,6 @@
 package dailyquest.quest.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,16 +8,18 @@ import org.springframework.stereotype.Repository;
 import dailyquest.quest.entity.Quest;
 import dailyquest.quest.entity.QuestState;
 
-import javax.annotation.Nullable;
+import jakarta.annotation.Nullable;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuestRepository extends JpaRepository<Quest, Long>, QuestRepositoryCustom {
 
-    @Query("select q from Quest q where q.id in :searchedIds order by q.id desc")
-    Page<Quest> getSearchedQuests(@Param("searchedIds") List<Long> searchedIds, Pageable pageable);
+    @EntityGraph(attributePaths = "_detailQuests")
+    List<Quest> findAllByIdIn(Collection<Long> ids);
 
+    @EntityGraph(attributePaths = "_detailQuests")
     @Query("select q from Quest q where q.userId = :userId and q.state= :state and (q.createdDate between :prevReset and :nextReset or q.deadLine > now())")
     List<Quest> getCurrentQuests(@Param("userId") Long userId, @Param("state") QuestState state, @Param("prevReset") LocalDateTime prevReset, @Param("nextReset") LocalDateTime nextReset);
 
@@ -5,8 +5,13 @@ import dailyquest.quest.entity.Quest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import jakarta.annotation.Nullable;
+import java.util.List;
+
 public interface QuestRepositoryCustom {
 
     Long getNextSeqOfUser(Long userId);
     Page<Quest> findQuestsByCondition(Long userId, QuestSearchCondition searchCondition, Pageable pageable);
+    List<Quest> findQuestsByConditionAfter(Long userId, QuestSearchCondition searchCondition, @Nullable Long lastQuestId, int limit);
+    long countQuestsByConditionUpTo(Long userId, QuestSearchCondition searchCondition, long maxCount);
 }
@@ -7,8 +7,10 @@ import dailyquest.quest.entity.Quest;
 import dailyquest.quest.entity.QuestState;
 import lombok.RequiredArgsConstructor;
 
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -32,7 +34,7 @@ public class QuestRepositoryImpl implements QuestRepositoryCustom {
 
     /**
      * 유저별 MAX(SEQ) 값을 가져와 +1 해서 돌려준다.
-     * 동시성 문제로 인해 네임드 락을 사용한 환경에서만 호출하도록 해야함
+     * 퀘스트 등록 시에는 QuestSeqRepository 의 카운터를 사용하며, 이 메서드는 카운터 초기화 용도로만 호출해야함
      */
     @Override
     public Long getNextSeqOfUser(Long userId) {
@@ -45,6 +47,67 @@ public class QuestRepositoryImpl implements QuestRepositoryCustom {
 
     @Override
     public Page<Quest> findQuestsByCondition(Long userId, QuestSearchCondition condition, Pageable pageable) {
+        BooleanExpression wherePredicate = searchConditionPredicate(userId, condition);
+
+        List<Quest> fetch = query.select(quest)
+                .from(quest)
+                .where(wherePredicate)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(quest.id.desc())
+                .fetch();
+
+        Long total = query.select(quest.count())
+                .from(quest)
+                .where(wherePredicate)
+                .fetchOne();
+
+        return new PageImpl<>(fetch, pageable, total);
+    }
+
+    /**
+     * 마지막으로 조회한 퀘스트 id 보다 작은 퀘스트를 id 내림차순으로 limit 개 조회한다.
+     * OFFSET 없이 (user_id, id) 인덱스에서 바로 시작 위치를 찾기 때문에 뒤쪽 페이지도 조회 비용이 같다.
+     */
+    @Override
+    public List<Quest> findQuestsByConditionAfter(Long userId, QuestSearchCondition condition, @Nullable Long lastQuestId, int limit) {
+        BooleanExpression wherePredicate = searchConditionPredicate(userId, condition);
+        if(lastQuestId != null) wherePredicate = wherePredicate.and(quest.id.lt(lastQuestId));
+
+        return query.select(quest)
+                .from(quest)
+                .where(wherePredicate)
+                .limit(limit)
+                .orderBy(quest.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 조건에 맞는 퀘스트 수를 maxCount 까지만 센다. 전체 개수가 maxCount 를 넘으면 maxCount 를 반환한다.
+     * JPQL 은 FROM 절 서브쿼리를 지원하지 않아, LIMIT 으로 자른 서브쿼리의 행 수를 네이티브 쿼리로 센다.
+     */
+    @Override
+    public long countQuestsByConditionUpTo(Long userId, QuestSearchCondition condition, long maxCount) {
+        QuestState state = condition.state();
+        LocalDateTime startDateTime = condition.getStartResetTime();
+        LocalDateTime endDateTime = condition.getEndResetTime();
+
+        StringBuilder where = new StringBuilder("q.user_id = :userId");
+        if(state != null) where.append(" and q.state = :state");
+        if(startDateTime != null) where.append(" and q.created_date >= :startDateTime");
+        if(endDateTime != null) where.append(" and q.created_date <= :endDateTime");
+
+        Query countQuery = em.createNativeQuery("select count(*) from (select 1 from quest q where " + where + " limit :maxCount) limited_quest")
+                .setParameter("userId", userId)
+                .setParameter("maxCount", maxCount);
+        if(state != null) countQuery.setParameter("state", state.name());
+        if(startDateTime != null) countQuery.setParameter("startDateTime", startDateTime);
+        if(endDateTime != null) countQuery.setParameter("endDateTime", endDateTime);
+
+        return ((Number) countQuery.getSingleResult()).longValue();
+    }
+
+    private BooleanExpression searchConditionPredicate(Long userId, QuestSearchCondition condition) {
         QuestState state = condition.state();
 
         LocalDateTime startDateTime = condition.getStartResetTime();
@@ -61,20 +124,6 @@ public class QuestRepositoryImpl implements QuestRepositoryCustom {
         if(startDateTime == null && endDateTime != null) {
             wherePredicate = wherePredicate.and(quest.createdDate.loe(endDateTime));
         }
-
-        List<Quest> fetch = query.select(quest)
-                .from(quest)
-                .where(wherePredicate)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(quest.id.desc())
-                .fetch();
-
-        Long total = query.select(quest.count())
-                .from(quest)
-                .where(wherePredicate)
-                .fetchOne();
-
-        return new PageImpl<>(fetch, pageable, total);
+        return wherePredicate;
     }
 }
@@ -0,0 +1,24 @@
+package dailyquest.quest.repository;
+
+import dailyquest.quest.entity.QuestSeq;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface QuestSeqRepository extends JpaRepository<QuestSeq, Long> {
+
+    @Modifying
+    @Query("update QuestSeq qs set qs.lastSeq = qs.lastSeq + 1 where qs.userId = :userId")
+    int increaseLastSeq(@Param("userId") Long userId);
+
+    /**
+     * 카운터가 없으면 initialSeq 로 생성하고, 동시에 다른 트랜잭션이 먼저 생성했다면 카운터를 증가시킨다.
+     */
+    @Modifying
+    @Query(value = "insert into quest_seq (user_id, last_seq) values (:userId, :initialSeq) on duplicate key update last_seq = last_seq + 1", nativeQuery = true)
+    int initializeLastSeq(@Param("userId") Long userId, @Param("initialSeq") Long initialSeq);
+
+    @Query("select qs.lastSeq from QuestSeq qs where qs.userId = :userId")
+    Long getLastSeq(@Param("userId") Long userId);
+}
@@ -3,53 +3,87 @@ package dailyquest.quest.service;
 import dailyquest.quest.dto.*;
 import dailyquest.quest.entity.DetailQuest;
 import dailyquest.quest.entity.Quest;
+import dailyquest.quest.event.QuestDeadLineChangedEvent;
 import dailyquest.quest.repository.QuestRepository;
+import dailyquest.quest.repository.QuestSeqRepository;
 import dailyquest.redis.service.RedisService;
 import dailyquest.user.record.service.UserRecordService;
 import dailyquest.user.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Transactional
 @Service
 public class QuestCommandService {
     private final QuestRepository questRepository;
+    private final QuestSeqRepository questSeqRepository;
     private final UserService userService;
     private final UserRecordService userRecordService;
     private final QuestLogService questLogService;
     private final RedisService redisService;
     private final MessageSourceAccessor messageSourceAccessor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public QuestCommandService(QuestRepository questRepository, UserService userService, UserRecordService userRecordService, QuestLogService questLogService, RedisService redisService, MessageSource messageSource) {
+    public QuestCommandService(QuestRepository questRepository, QuestSeqRepository questSeqRepository, UserService userService, UserRecordService userRecordService, QuestLogService questLogService, RedisService redisService, MessageSource messageSource, ApplicationEventPublisher eventPublisher) {
         this.questRepository = questRepository;
+        this.questSeqRepository = questSeqRepository;
         this.userService = userService;
         this.userRecordService = userRecordService;
         this.questLogService = questLogService;
         this.redisService = redisService;
         this.messageSourceAccessor = new MessageSourceAccessor(messageSource);
+        this.eventPublisher = eventPublisher;
     }
 
     public QuestResponse saveQuest(WebQuestRequest dto, Long userId) {
-        Long nextSeq = questRepository.getNextSeqOfUser(userId);
+        Long nextSeq = this.allocateNextSeq(userId);
         Quest quest = dto.mapToEntity(nextSeq, userId);
         questRepository.save(quest);
         QuestLogRequest questLogRequest = QuestLogRequest.from(quest);
         questLogService.saveQuestLog(questLogRequest);
         userRecordService.recordQuestRegistration(userId, questLogRequest.getLoggedDate());
+        this.publishDeadLineChanged(quest, null);
         return QuestResponse.createDto(quest);
     }
 
+    /**
+     * 유저별 SEQ 카운터를 증가시켜 다음 SEQ 를 할당한다.
+     * 카운터 row 의 행 잠금이 트랜잭션 종료 시까지 유지되므로 네임드 락 없이도 같은 유저의 등록 요청이 직렬화된다.
+     * 카운터가 없는 유저에 한해 최초 1회만 MAX(SEQ) 를 조회해 카운터를 초기화한다.
+     */
+    private Long allocateNextSeq(Long userId) {
+        if (questSeqRepository.increaseLastSeq(userId) == 0) {
+            Long initialSeq = questRepository.getNextSeqOfUser(userId);
+            questSeqRepository.initializeLastSeq(userId, initialSeq);
+        }
+        return questSeqRepository.getLastSeq(userId);
+    }
+
     public QuestResponse updateQuest(WebQuestRequest updateRequest, Long questId, Long userId) {
         Quest quest = this.getProceedEntityOfUser(questId, userId);
+        LocalDateTime previousDeadLine = quest.getDeadLine();
         quest.updateQuestEntity(updateRequest);
+        questRepository.saveAndFlush(quest);
+        this.publishDeadLineChanged(quest, previousDeadLine);
         return QuestResponse.createDto(quest);
     }
 
+    /**
+     * 데드라인이 있었거나 새로 생긴 퀘스트만 데드라인 스케줄에 반영되도록 이벤트를 발행한다.
+     */
+    private void publishDeadLineChanged(Quest quest, LocalDateTime previousDeadLine) {
+        if (previousDeadLine == null && quest.getDeadLine() == null) return;
+        eventPublisher.publishEvent(QuestDeadLineChangedEvent.from(quest));
+    }
+
     private Quest getProceedEntityOfUser(Long questId, Long userId) {
         Quest quest = this.getEntityOfUser(questId, userId);
         if(!quest.isProceed())
@@ -69,6 +103,8 @@ public class QuestCommandService {
     public QuestResponse deleteQuest(Long questId, Long userId) {
         Quest quest = this.getEntityOfUser(questId, userId);
         quest.deleteQuest();
+        questRepository.saveAndFlush(quest);
+        this.publishDeadLineChanged(quest, quest.getDeadLine());
         return QuestResponse.createDto(quest);
     }
 
@@ -82,9 +118,8 @@ public class QuestCommandService {
                 questLogService.saveQuestLog(questLogRequest);
                 QuestCompletionUserUpdateRequest questCompletionUserUpdateRequest
                         = new QuestCompletionUserUpdateRequest(redisService.getQuestClearExp(), redisService.getQuestClearGold(), quest.getType());
-                userService.addUserExpAndGold(userId, questCompletionUserUpdateRequest);
-                userRecordService.recordGoldEarn(userId, questCompletionUserUpdateRequest);
-                userRecordService.recordQuestCompletion(userId, questLogRequest.getLoggedDate());
+                userService.applyQuestCompletion(userId, questCompletionUserUpdateRequest, questLogRequest.getLoggedDate());
+                this.publishDeadLineChanged(quest, quest.getDeadLine());
             }
             case DELETE -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.deleted"));
             case PROCEED -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.complete.detail"));
@@ -101,6 +136,7 @@ public class QuestCommandService {
                 quest = questRepository.saveAndFlush(quest);
                 QuestLogRequest questLogRequest = QuestLogRequest.from(quest);
                 questLogService.saveQuestLog(questLogRequest);
+                this.publishDeadLineChanged(quest, quest.getDeadLine());
             }
             case DELETE -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.deleted"));
             default -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.not-proceed"));
@@ -4,7 +4,11 @@ import dailyquest.common.DateTimeExtensionKt;
 import dailyquest.quest.dto.QuestLogRequest;
 import dailyquest.quest.dto.QuestLogSearchCondition;
 import dailyquest.quest.dto.QuestStatisticsResponse;
+import dailyquest.quest.entity.QuestLog;
+import dailyquest.quest.entity.QuestLogDailyRollup;
 import dailyquest.quest.entity.QuestState;
+import dailyquest.quest.repository.QuestLogDailyRollupRepository;
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository;
 import dailyquest.quest.repository.QuestLogRepository;
 import dailyquest.status.dto.StatusResponse;
 import lombok.RequiredArgsConstructor;
@@ -22,14 +26,28 @@ import java.util.function.Function;
 @Service
 public class QuestLogService {
     private final QuestLogRepository questLogRepository;
+    private final QuestLogDailyRollupRepository questLogDailyRollupRepository;
+    private final QuestLogLifetimeCountRepository questLogLifetimeCountRepository;
 
     public void saveQuestLog(QuestLogRequest questLogRequest) {
-        questLogRepository.save(questLogRequest.mapToEntity());
+        QuestLog questLog = questLogRequest.mapToEntity();
+        questLogRepository.save(questLog);
+        for (QuestLogDailyRollup increment : QuestLogDailyRollup.aggregate(List.of(questLog))) {
+            if (questLogRequest.isCompletedOnRegisteredDate()) {
+                increment.addRegisteredCompletion();
+            }
+            questLogDailyRollupRepository.increaseCounts(increment);
+            questLogLifetimeCountRepository.increaseCounts(increment);
+        }
     }
 
     public Map<LocalDate, QuestStatisticsResponse> getQuestStatistic(Long userId, QuestLogSearchCondition condition) {
 
-        List<QuestStatisticsResponse> groupedLogs = questLogRepository.getGroupedQuestLogs(userId, condition);
+        List<QuestStatisticsResponse> groupedLogs = questLogDailyRollupRepository
+                .findAllByUserIdAndLoggedDateBetweenOrderByLoggedDate(userId, condition.getStartDateOfSearchRange(), condition.getEndDateOfSearchRange())
+                .stream()
+                .map(QuestStatisticsResponse::from)
+                .toList();
 
         Function<LocalDate, LocalDate> dateKeyTransformFunction =
             switch (condition.getSearchType()) {
@@ -60,7 +78,9 @@ public class QuestLogService {
     }
 
     public StatusResponse getTotalStatistics(Long userId) {
-        return questLogRepository.getTotalStatisticsOfUser(userId);
+        return questLogLifetimeCountRepository.findById(userId)
+                .map(count -> new StatusResponse(count.getRegisteredCount(), count.getCompleteCount(), count.getDiscardCount(), count.getFailCount()))
+                .orElseGet(() -> new StatusResponse(0L, 0L, 0L, 0L));
     }
 
     public Integer getTotalRegistrationCount(Long userId) {
@@ -2,26 +2,37 @@ package dailyquest.quest.service;
 
 import dailyquest.quest.dto.QuestResponse;
 import dailyquest.quest.dto.QuestSearchCondition;
+import dailyquest.quest.dto.QuestSliceResponse;
 import dailyquest.quest.entity.Quest;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.repository.QuestRepository;
+import dailyquest.search.dto.QuestSearchHits;
+import dailyquest.search.dto.QuestSearchResponse;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.annotation.Nullable;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Transactional(readOnly = true)
 @Service
 public class QuestQueryService {
 
+    static final long APPROXIMATE_COUNT_LIMIT = 10000L;
+
     private final QuestRepository questRepository;
     private final MessageSourceAccessor messageSourceAccessor;
 
@@ -52,9 +63,52 @@ public class QuestQueryService {
                 .map(QuestResponse::createDto);
     }
 
-    public Page<QuestResponse> getSearchedQuests(List<Long> searchedIds,Pageable pageable) {
-        return questRepository.getSearchedQuests(searchedIds, pageable)
-                .map(QuestResponse::createDto);
+    public QuestSliceResponse getQuestsByConditionAfter(Long userId, QuestSearchCondition condition, @Nullable Long lastQuestId, int size, boolean withCount) {
+        List<Quest> quests = questRepository.findQuestsByConditionAfter(userId, condition, lastQuestId, size + 1);
+        boolean hasNext = quests.size() > size;
+        List<QuestResponse> content = quests.stream()
+                .limit(size)
+                .map(QuestResponse::createDto)
+                .toList();
+        Long approximateCount = withCount ? questRepository.countQuestsByConditionUpTo(userId, condition, APPROXIMATE_COUNT_LIMIT) : null;
+        return QuestSliceResponse.of(content, hasNext, approximateCount);
+    }
+
+    /**
+     * 검색 엔진이 반환한 순위를 유지한 채로 퀘스트를 조회한다.
+     * 퀘스트와 세부 퀘스트는 한 번의 쿼리로 불러오고, 전체 개수는 검색 결과의 전체 히트 수를 사용한다.
+     */
+    public Page<QuestResponse> getSearchedQuests(QuestSearchHits searchHits, Pageable pageable) {
+        if (searchHits.getIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, searchHits.getTotalHits());
+        }
+        Map<Long, Quest> questsById = questRepository.findAllByIdIn(searchHits.getIds())
+                .stream()
+                .collect(Collectors.toMap(Quest::getId, Function.identity()));
+        List<QuestResponse> content = searchHits.getIds()
+                .stream()
+                .map(questsById::get)
+                .filter(Objects::nonNull)
+                .map(QuestResponse::createDto)
+                .toList();
+        return new PageImpl<>(content, pageable, searchHits.getTotalHits());
+    }
+
+    /**
+     * 문서만으로 만든 검색 결과에 인덱스에 없는 필드를 채운다. 퀘스트와 세부 퀘스트는 한 번의 쿼리로 불러온다.
+     */
+    public Page<QuestSearchResponse> hydrateSearchedQuests(Page<QuestSearchResponse> searchedQuests) {
+        if (searchedQuests.isEmpty()) {
+            return searchedQuests;
+        }
+        List<Long> ids = searchedQuests.map(QuestSearchResponse::getId).getContent();
+        Map<Long, QuestResponse> questsById = questRepository.findAllByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Quest::getId, QuestResponse::createDto));
+        return searchedQuests.map(searchedQuest -> {
+            QuestResponse quest = questsById.get(searchedQuest.getId());
+            return quest == null ? searchedQuest : searchedQuest.hydrate(quest);
+        });
     }
 
     public QuestResponse getQuestInfo(Long questId, Long userId) {
@@ -2,6 +2,8 @@ package dailyquest.quest.service;
 
 import dailyquest.quest.dto.*;
 import dailyquest.quest.entity.QuestState;
+import dailyquest.search.dto.QuestSearchHits;
+import dailyquest.search.dto.QuestSearchResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -26,8 +28,16 @@ public class QuestService {
         return questQueryService.getQuestsByCondition(userId, searchCondition, pageable);
     }
 
-    public Page<QuestResponse> searchQuest(List<Long> searchedIds, Pageable pageable) {
-        return questQueryService.getSearchedQuests(searchedIds, pageable);
+    public QuestSliceResponse searchQuestAfter(Long userId, QuestSearchCondition searchCondition, Long lastQuestId, int size, boolean withCount) {
+        return questQueryService.getQuestsByConditionAfter(userId, searchCondition, lastQuestId, size, withCount);
+    }
+
+    public Page<QuestResponse> searchQuest(QuestSearchHits searchHits, Pageable pageable) {
+        return questQueryService.getSearchedQuests(searchHits, pageable);
+    }
+
+    public Page<QuestSearchResponse> hydrateSearchedQuests(Page<QuestSearchResponse> searchedQuests) {
+        return questQueryService.hydrateSearchedQuests(searchedQuests);
     }
 
     public QuestResponse getQuestInfo(Long questId, Long userId) {
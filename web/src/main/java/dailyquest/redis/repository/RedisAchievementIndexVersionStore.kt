@@ -0,0 +1,24 @@
+package dailyquest.redis.repository
+
+import dailyquest.achievement.cache.AchievementIndexVersionStore
+import dailyquest.properties.RedisKeyProperties
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Repository
+
+/**
+ * 업적 목표값 인덱스 버전을 Redis 키에 보관해 모든 웹 서버 노드가 업적 변경을 알 수 있게 한다.
+ */
+@Repository
+class RedisAchievementIndexVersionStore(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val redisKeyProperties: RedisKeyProperties,
+) : AchievementIndexVersionStore {
+
+    override fun getVersion(): Long {
+        return redisTemplate.opsForValue().get(redisKeyProperties.achievementIndexVersion)?.toLongOrNull() ?: 0L
+    }
+
+    override fun increaseVersion() {
+        redisTemplate.opsForValue().increment(redisKeyProperties.achievementIndexVersion)
+    }
+}
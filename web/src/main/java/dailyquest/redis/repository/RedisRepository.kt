@@ -3,17 +3,34 @@ package dailyquest.redis.repository
 import dailyquest.common.MessageUtil
 import dailyquest.exception.RedisDataNotFoundException
 import dailyquest.properties.RedisKeyProperties
+import dailyquest.properties.RedisNearCacheProperties
+import dailyquest.user.dto.LevelCurve
 import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.stereotype.Repository
 
 @Repository
 class RedisRepository(
     val redisTemplate: RedisTemplate<String, String>,
-    val redisKeyProperties: RedisKeyProperties
+    val redisKeyProperties: RedisKeyProperties,
+    val redisNearCacheProperties: RedisNearCacheProperties,
 ) {
 
+    /**
+     * 경험치 테이블과 시스템 설정값의 로컬 사본.
+     * 설정 버전 키를 일정 주기로 확인해 버전이 바뀐 경우에만 Redis 에서 다시 읽는다.
+     */
+    @Volatile
+    private var snapshot: ConfigSnapshot? = null
+
     fun getExpTable(): Map<Int, Long> {
-        return redisTemplate.opsForHash<Int, Long>().entries(redisKeyProperties.expTable)
+        return this.getSnapshot().expTable
+    }
+
+    /**
+     * 경험치 테이블 버전마다 한 번 컴파일한 레벨 곡선을 반환한다.
+     */
+    fun getLevelCurve(): LevelCurve {
+        return this.getSnapshot().levelCurve
     }
 
     fun getQuestClearExp(): Long {
@@ -21,12 +38,56 @@ class RedisRepository(
     }
 
     fun getQuestClearGold(): Long {
-        return this.getSettingValue(redisKeyProperties.questClearExp)
+        return this.getSettingValue(redisKeyProperties.questClearGold)
     }
 
     private fun getSettingValue(key: String): Long {
-        val boundHashOps = redisTemplate.boundHashOps<String, Long>(redisKeyProperties.settings)
-        return boundHashOps.get(key) ?: throw RedisDataNotFoundException(MessageUtil.getMessage("exception.server.error"))
+        return this.getSnapshot().settings[key] ?: throw RedisDataNotFoundException(MessageUtil.getMessage("exception.server.error"))
+    }
+
+    /**
+     * 경험치 테이블이나 시스템 설정값을 변경한 뒤 호출한다.
+     * 설정 버전을 올려 다른 노드의 로컬 사본을 무효화하고, 현재 노드의 사본은 즉시 버린다.
+     */
+    fun increaseConfigVersion() {
+        redisTemplate.opsForValue().increment(redisKeyProperties.configVersion)
+        snapshot = null
+    }
+
+    private fun getSnapshot(): ConfigSnapshot {
+        val now = System.currentTimeMillis()
+        val cached = snapshot
+        if (cached != null && !cached.isExpired(now)) return cached
+
+        synchronized(this) {
+            val current = snapshot
+            if (current != null && !current.isExpired(now)) return current
+
+            val version = this.getConfigVersion()
+            val refreshed = if (current != null && current.version == version) {
+                current.checkedAt(now)
+            } else {
+                this.loadSnapshot(version, now)
+            }
+            snapshot = refreshed
+            return refreshed
+        }
+    }
+
+    private fun getConfigVersion(): Long {
+        return redisTemplate.opsForValue().get(redisKeyProperties.configVersion)?.toLongOrNull() ?: 0L
+    }
+
+    private fun loadSnapshot(version: Long, now: Long): ConfigSnapshot {
+        val expTable = redisTemplate.opsForHash<Int, Long>().entries(redisKeyProperties.expTable).toSortedMap()
+
+        val settingKeys = listOf(redisKeyProperties.questClearExp, redisKeyProperties.questClearGold, redisKeyProperties.maxRewardCount)
+        val settingValues = redisTemplate.boundHashOps<String, Long>(redisKeyProperties.settings).multiGet(settingKeys) ?: emptyList()
+        val settings = settingKeys.zip(settingValues)
+            .filter { (_, value) -> value != null }
+            .associate { (key, value) -> key to value!! }
+
+        return ConfigSnapshot(version, expTable, settings, now, redisNearCacheProperties.versionCheckIntervalMillis)
     }
 
     fun getRandomNicknamePrefix(): String {
@@ -41,6 +102,21 @@ class RedisRepository(
         return redisTemplate.opsForSet().randomMember(setKey)
     }
 
+    private class ConfigSnapshot(
+        val version: Long,
+        val expTable: Map<Int, Long>,
+        val settings: Map<String, Long>,
+        private val checkedAt: Long,
+        private val checkIntervalMillis: Long,
+        val levelCurve: LevelCurve = LevelCurve.from(expTable),
+    ) {
 
+        fun isExpired(now: Long): Boolean {
+            return now - checkedAt >= checkIntervalMillis
+        }
 
-}
\ No newline at end of file
+        fun checkedAt(now: Long): ConfigSnapshot {
+            return ConfigSnapshot(version, expTable, settings, now, checkIntervalMillis, levelCurve)
+        }
+    }
+}
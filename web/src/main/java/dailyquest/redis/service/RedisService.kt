@@ -1,6 +1,7 @@
 package dailyquest.redis.service
 
 import dailyquest.redis.repository.RedisRepository
+import dailyquest.user.dto.LevelCurve
 import org.springframework.stereotype.Service
 import java.util.*
 
@@ -13,6 +14,10 @@ class RedisService(
         return redisTemplate.getExpTable()
     }
 
+    fun getLevelCurve(): LevelCurve {
+        return redisTemplate.getLevelCurve()
+    }
+
     fun getQuestClearExp(): Long {
         return redisTemplate.getQuestClearExp()
     }
@@ -0,0 +1,9 @@
+package dailyquest.search.dto
+
+/**
+ * 키워드 검색 결과. ids 는 검색 엔진이 매긴 순위 순서이며, totalHits 는 조건에 맞는 전체 문서 수이다.
+ */
+data class QuestSearchHits(
+    val ids: List<Long> = emptyList(),
+    val totalHits: Long = 0,
+)
@@ -0,0 +1,54 @@
+package dailyquest.search.dto
+
+import dailyquest.quest.dto.DetailResponse
+import dailyquest.quest.dto.QuestResponse
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.entity.QuestType
+import dailyquest.search.document.QuestDocument
+import org.springframework.data.elasticsearch.core.SearchHit
+import java.time.LocalDateTime
+
+/**
+ * 검색 엔진의 문서만으로 만든 키워드 검색 결과. 필드 이름은 QuestResponse 와 같다.
+ * 인덱스에 없는 필드(seq, type, deadLine, canComplete, detailQuests)는 DB 조회로 채운 경우에만 값이 있다.
+ */
+data class QuestSearchResponse(
+    val id: Long = 0,
+    val title: String = "",
+    val description: String = "",
+    val state: QuestState = QuestState.PROCEED,
+    val createdDate: LocalDateTime? = null,
+    val detailTitles: List<String> = emptyList(),
+    val highlights: Map<String, List<String>> = emptyMap(),
+    val seq: Long? = null,
+    val type: QuestType? = null,
+    val deadLine: LocalDateTime? = null,
+    val canComplete: Boolean? = null,
+    val detailQuests: List<DetailResponse>? = null,
+) {
+    companion object {
+        @JvmStatic
+        fun from(searchHit: SearchHit<QuestDocument>): QuestSearchResponse {
+            val document = searchHit.content
+            return QuestSearchResponse(
+                id = searchHit.id?.toLong() ?: document.id,
+                title = document.title ?: "",
+                description = document.description ?: "",
+                state = QuestState.valueOf(document.state),
+                createdDate = document.createdDate,
+                detailTitles = document.detailTitles ?: emptyList(),
+                highlights = searchHit.highlightFields,
+            )
+        }
+    }
+
+    fun hydrate(quest: QuestResponse): QuestSearchResponse {
+        return copy(
+            seq = quest.seq,
+            type = quest.type,
+            deadLine = quest.deadLine,
+            canComplete = quest.canComplete,
+            detailQuests = quest.detailQuests,
+        )
+    }
+}
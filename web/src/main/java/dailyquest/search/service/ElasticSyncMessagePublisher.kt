@@ -0,0 +1,185 @@
+package dailyquest.search.service
+
+import dailyquest.properties.ElasticSyncPublisherProperties
+import dailyquest.sqs.dto.ElasticSyncMessage
+import dailyquest.sqs.service.SqsService
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.stereotype.Component
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 검색 문서 동기화 메시지를 문서 ID 별로 모아 두었다가 SQS 배치 전송 API 로 한 번에 발행한다.
+ * 배치는 메시지 수와 전체 페이로드 크기 제한을 모두 넘지 않도록 나눈다.
+ *
+ * 같은 문서에 대한 메시지가 전송 전에 다시 들어오면 버전이 같거나 더 높은 메시지만 남긴다.
+ * 대기 중인 문서 수가 상한에 도달하면 발행 요청 스레드는 자리가 날 때까지 기다리고,
+ * 대기 시간이 초과되면 예외가 발생한다.
+ * 전송에 실패한 메시지는 다음 전송 때 다시 시도하고, 최대 시도 횟수만큼 실패하면 로그를 남기고 버린다.
+ */
+@Component
+class ElasticSyncMessagePublisher(
+    private val sqsService: SqsService,
+    private val properties: ElasticSyncPublisherProperties,
+    meterRegistry: MeterRegistry,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val lock = ReentrantLock()
+    private val notFull = lock.newCondition()
+    private val pendingMessages = LinkedHashMap<Long, PendingMessage>()
+    private var scheduler: ScheduledExecutorService? = null
+
+    private val flushTimer = Timer.builder(FLUSH_METRIC_NAME).register(meterRegistry)
+    private val latencyTimer = Timer.builder(LATENCY_METRIC_NAME).register(meterRegistry)
+    private val coalescedCounter = Counter.builder(COALESCED_METRIC_NAME).register(meterRegistry)
+    private val failedCounter = Counter.builder(FAILED_METRIC_NAME).register(meterRegistry)
+    private val droppedCounter = Counter.builder(DROPPED_METRIC_NAME).register(meterRegistry)
+
+    init {
+        Gauge.builder(PENDING_METRIC_NAME, this) { it.pendingCount().toDouble() }.register(meterRegistry)
+    }
+
+    @PostConstruct
+    fun start() {
+        val executor = Executors.newSingleThreadScheduledExecutor {
+            Thread(it, "elastic-sync-publisher").apply { isDaemon = true }
+        }
+        executor.scheduleWithFixedDelay(
+            { runCatching { flush() }.onFailure { log.error("검색 문서 동기화 메시지 발행 중 오류가 발생했습니다.", it) } },
+            properties.flushIntervalMillis,
+            properties.flushIntervalMillis,
+            TimeUnit.MILLISECONDS
+        )
+        scheduler = executor
+    }
+
+    @PreDestroy
+    fun stop() {
+        scheduler?.shutdown()
+        scheduler?.awaitTermination(properties.flushIntervalMillis, TimeUnit.MILLISECONDS)
+        flush()
+    }
+
+    fun publish(message: ElasticSyncMessage) {
+        lock.withLock {
+            val previous = pendingMessages[message.documentId]
+            if (previous != null) {
+                pendingMessages[message.documentId] = previous.supersededBy(message)
+                coalescedCounter.increment()
+                return
+            }
+            var remainingNanos = TimeUnit.MILLISECONDS.toNanos(properties.offerTimeoutMillis)
+            while (pendingMessages.size >= properties.maxPendingMessages) {
+                check(remainingNanos > 0) { "검색 문서 동기화 대기열이 가득 찼습니다. documentId : [${message.documentId}]" }
+                remainingNanos = notFull.awaitNanos(remainingNanos)
+            }
+            pendingMessages[message.documentId] = PendingMessage(message, System.nanoTime())
+        }
+    }
+
+    fun flush() {
+        val drainedMessages = drain()
+        if (drainedMessages.isEmpty()) return
+
+        val flushStartedAt = System.nanoTime()
+        splitIntoBatches(drainedMessages).forEach { send(it) }
+        flushTimer.record(System.nanoTime() - flushStartedAt, TimeUnit.NANOSECONDS)
+    }
+
+    fun pendingCount(): Int = lock.withLock { pendingMessages.size }
+
+    private fun drain(): List<PendingMessage> {
+        return lock.withLock {
+            val drainedMessages = pendingMessages.values.toList()
+            pendingMessages.clear()
+            notFull.signalAll()
+            drainedMessages
+        }
+    }
+
+    /**
+     * 한 배치의 메시지 수가 [SqsService.MAX_BATCH_SIZE] 를, 전체 페이로드 크기가 [SqsService.MAX_BATCH_PAYLOAD_BYTES] 를 넘지 않도록 나눈다.
+     */
+    private fun splitIntoBatches(messages: List<PendingMessage>): List<List<PendingMessage>> {
+        val batches = mutableListOf<List<PendingMessage>>()
+        var batch = mutableListOf<PendingMessage>()
+        var batchBytes = 0
+        messages.forEach {
+            val messageBytes = SqsService.payloadBytesOf(it.message)
+            val exceedsLimit = batch.size >= SqsService.MAX_BATCH_SIZE || batchBytes + messageBytes > SqsService.MAX_BATCH_PAYLOAD_BYTES
+            if (batch.isNotEmpty() && exceedsLimit) {
+                batches.add(batch)
+                batch = mutableListOf()
+                batchBytes = 0
+            }
+            batch.add(it)
+            batchBytes += messageBytes
+        }
+        if (batch.isNotEmpty()) batches.add(batch)
+        return batches
+    }
+
+    private fun send(batch: List<PendingMessage>) {
+        try {
+            sqsService.publishElasticSyncMessages(batch.map { it.message })
+            val sentAt = System.nanoTime()
+            batch.forEach { latencyTimer.record(sentAt - it.enqueuedAt, TimeUnit.NANOSECONDS) }
+        } catch (e: RuntimeException) {
+            log.warn("검색 문서 동기화 메시지 배치 전송에 실패했습니다. 다음 전송 때 다시 시도합니다. size : [{}]", batch.size, e)
+            failedCounter.increment(batch.size.toDouble())
+            val (retryMessages, exhaustedMessages) = batch.map { it.failed() }.partition { it.attempts < properties.maxSendAttempts }
+            exhaustedMessages.forEach {
+                log.error("검색 문서 동기화 메시지를 {}번 전송하지 못해 버립니다. documentId : [{}], version : [{}]",
+                    it.attempts, it.message.documentId, it.message.version)
+            }
+            droppedCounter.increment(exhaustedMessages.size.toDouble())
+            requeue(retryMessages)
+        }
+    }
+
+    /**
+     * 전송에 실패한 메시지를 다시 대기열에 넣는다. 그 사이 같은 문서에 버전이 같거나 더 높은 메시지가 들어왔다면 새 메시지를 유지한다.
+     */
+    private fun requeue(retryMessages: List<PendingMessage>) {
+        lock.withLock {
+            retryMessages.forEach { retryMessage ->
+                pendingMessages.merge(retryMessage.message.documentId, retryMessage) { pending, failed ->
+                    if (pending.message.version >= failed.message.version) pending else failed
+                }
+            }
+        }
+    }
+
+    private class PendingMessage(
+        val message: ElasticSyncMessage,
+        val enqueuedAt: Long,
+        val attempts: Int = 0,
+    ) {
+        /**
+         * 새 메시지의 버전이 같거나 더 높을 때만 교체한다. 늦게 도착한 이전 버전의 메시지는 버린다.
+         */
+        fun supersededBy(newMessage: ElasticSyncMessage): PendingMessage {
+            return if (newMessage.version >= message.version) PendingMessage(newMessage, enqueuedAt) else this
+        }
+
+        fun failed(): PendingMessage = PendingMessage(message, enqueuedAt, attempts + 1)
+    }
+
+    companion object {
+        const val FLUSH_METRIC_NAME = "elastic.sync.publisher.flush"
+        const val LATENCY_METRIC_NAME = "elastic.sync.publisher.latency"
+        const val COALESCED_METRIC_NAME = "elastic.sync.publisher.coalesced"
+        const val FAILED_METRIC_NAME = "elastic.sync.publisher.failed"
+        const val DROPPED_METRIC_NAME = "elastic.sync.publisher.dropped"
+        const val PENDING_METRIC_NAME = "elastic.sync.publisher.pending"
+    }
+}
@@ -4,25 +4,33 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dailyquest.quest.dto.QuestResponse;
 import dailyquest.quest.dto.QuestSearchCondition;
+import dailyquest.quest.dto.QuestSearchKeywordType.FieldType;
 import dailyquest.search.document.QuestDocument;
+import dailyquest.search.dto.QuestSearchHits;
+import dailyquest.search.dto.QuestSearchResponse;
 import dailyquest.sqs.dto.ElasticSyncMessage;
 import dailyquest.sqs.dto.ElasticSyncRequestType;
-import dailyquest.sqs.service.SqsService;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.data.client.orhlc.NativeSearchQuery;
+import org.opensearch.data.client.orhlc.NativeSearchQueryBuilder;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MultiMatchQueryBuilder;
 import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchOperations;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,42 +40,77 @@ import static org.opensearch.index.query.QueryBuilders.*;
 @RequiredArgsConstructor
 @Service
 public class QuestIndexService {
+    private static final String[] SOURCE_FIELDS = {
+            FieldType.TITLE, FieldType.DESCRIPTION, FieldType.DETAIL_TITLES, "state", "createdDate"
+    };
+
     private final SearchOperations operations;
     private final ObjectMapper objectMapper;
-    private final SqsService sqsService;
+    private final ElasticSyncMessagePublisher elasticSyncMessagePublisher;
 
     @Retryable(retryFor = RuntimeException.class)
-    @Async
     public void saveDocument(QuestResponse questResponse, Long userId) {
         QuestDocument questDocument = questResponse.mapToDocument(userId);
         try {
             String documentJson = objectMapper.writeValueAsString(questDocument);
-            ElasticSyncMessage elasticSyncMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, questDocument.getId(), documentJson);
-            sqsService.publishElasticSyncMessage(elasticSyncMessage);
+            ElasticSyncMessage elasticSyncMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, questDocument.getId(), documentJson, ElasticSyncMessage.versionOf(questResponse.getLastModifiedDate()));
+            elasticSyncMessagePublisher.publish(elasticSyncMessage);
         } catch (JsonProcessingException ignored) {
         }
     }
 
     @Retryable(retryFor = RuntimeException.class)
-    @Async
     public void deleteDocument(QuestResponse deletedQuest) {
-        ElasticSyncMessage elasticSyncMessage = ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, deletedQuest.getId(), "");
-        sqsService.publishElasticSyncMessage(elasticSyncMessage);
+        ElasticSyncMessage elasticSyncMessage = ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, deletedQuest.getId(), "", ElasticSyncMessage.versionOf(deletedQuest.getLastModifiedDate()));
+        elasticSyncMessagePublisher.publish(elasticSyncMessage);
     }
 
     @Retryable(retryFor = RuntimeException.class)
-    @Async
     public void updateQuestStateOfDocument(QuestResponse questResponse, Long userId) {
         QuestDocument questDocument = questResponse.mapToDocument(userId);
         try {
             String documentJson = objectMapper.writeValueAsString(questDocument);
-            ElasticSyncMessage elasticSyncMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, questDocument.getId(), documentJson);
-            sqsService.publishElasticSyncMessage(elasticSyncMessage);
+            ElasticSyncMessage elasticSyncMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, questDocument.getId(), documentJson, ElasticSyncMessage.versionOf(questResponse.getLastModifiedDate()));
+            elasticSyncMessagePublisher.publish(elasticSyncMessage);
         } catch (JsonProcessingException ignored) {
         }
     }
 
-    public List<Long> searchDocuments(QuestSearchCondition searchCondition, Long userId, Pageable pageable) {
+    public QuestSearchHits searchDocuments(QuestSearchCondition searchCondition, Long userId, Pageable pageable) {
+        NativeSearchQuery nativeSearchQuery = new NativeSearchQuery(this.buildSearchQuery(searchCondition, userId));
+        nativeSearchQuery.setPageable(pageable);
+
+        SearchHits<QuestDocument> searchHits = operations.search(nativeSearchQuery, QuestDocument.class);
+        List<Long> ids = searchHits.stream()
+                .map(h -> Long.parseLong(Objects.requireNonNull(h.getId())))
+                .toList();
+        return new QuestSearchHits(ids, searchHits.getTotalHits());
+    }
+
+    /**
+     * DB 를 조회하지 않고 문서의 _source 만으로 검색 결과를 만든다.
+     * 응답에 필요한 필드만 가져오고, 검색한 필드의 일치 구간을 하이라이트로 함께 반환한다.
+     */
+    public Page<QuestSearchResponse> searchSourceDocuments(QuestSearchCondition searchCondition, Long userId, Pageable pageable) {
+        HighlightBuilder.Field[] highlightFields = Arrays.stream(searchCondition.keywordType().fieldNames)
+                .map(HighlightBuilder.Field::new)
+                .toArray(HighlightBuilder.Field[]::new);
+
+        NativeSearchQuery nativeSearchQuery = new NativeSearchQueryBuilder()
+                .withQuery(this.buildSearchQuery(searchCondition, userId))
+                .withSourceFilter(new FetchSourceFilter(SOURCE_FIELDS, null))
+                .withHighlightFields(highlightFields)
+                .withPageable(pageable)
+                .build();
+
+        SearchHits<QuestDocument> searchHits = operations.search(nativeSearchQuery, QuestDocument.class);
+        List<QuestSearchResponse> content = searchHits.stream()
+                .map(QuestSearchResponse::from)
+                .toList();
+        return new PageImpl<>(content, pageable, searchHits.getTotalHits());
+    }
+
+    private BoolQueryBuilder buildSearchQuery(QuestSearchCondition searchCondition, Long userId) {
         BoolQueryBuilder boolQueryBuilder = new BoolQueryBuilder();
         boolQueryBuilder.must(multiMatchQuery(searchCondition.keyword(), searchCondition.keywordType().fieldNames));
         boolQueryBuilder.filter(termQuery("userId", userId));
@@ -78,14 +121,7 @@ public class QuestIndexService {
         if(rangeQuery != null) {
             boolQueryBuilder.filter(rangeQuery);
         }
-
-        NativeSearchQuery nativeSearchQuery = new NativeSearchQuery(boolQueryBuilder);
-        nativeSearchQuery.setPageable(pageable);
-
-        return operations.search(nativeSearchQuery, QuestDocument.class)
-                .stream()
-                .map(h -> Long.parseLong(Objects.requireNonNull(h.getId())))
-                .toList();
+        return boolQueryBuilder;
     }
 
     private RangeQueryBuilder getCreateDateRangeQueryIfNotNull(QuestSearchCondition searchCondition) {
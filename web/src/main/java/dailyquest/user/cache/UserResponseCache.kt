@@ -0,0 +1,161 @@
+package dailyquest.user.cache
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import com.fasterxml.jackson.module.kotlin.readValue
+import dailyquest.properties.UserCacheProperties
+import dailyquest.user.dto.UserResponse
+import dailyquest.user.event.UserUpdatedEvent
+import dailyquest.user.service.UserService
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * 인증 필터에서 매 요청마다 유저 정보를 조회하지 않도록 유저 정보를 짧게 캐싱한다.
+ * 로컬 캐시 다음으로 선택적인 Redis 캐시를 확인하고, 모두 없으면 DB 에서 조회한다.
+ *
+ * 유저 정보가 변경되면 커밋 이후 현재 노드의 로컬 캐시와 Redis 캐시를 함께 비운다.
+ * 커밋 전에 DB 를 읽은 조회가 캐시를 비운 뒤에 이전 값을 다시 저장하지 않도록,
+ * 현재 노드에서는 조회하는 동안 캐시가 비워졌다면 조회한 값을 저장하지 않고,
+ * 다른 노드의 조회가 저장한 이전 값은 잠시 후 Redis 캐시를 한 번 더 비워 제거한다.
+ * 다른 노드의 로컬 캐시는 TTL 이 지나야 갱신되므로 로컬 TTL 은 짧게 유지한다.
+ */
+@Component
+class UserResponseCache(
+    private val userService: UserService,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val userCacheProperties: UserCacheProperties,
+    meterRegistry: MeterRegistry,
+) {
+    private val log = LoggerFactory.getLogger(this.javaClass)
+    private val objectMapper = jacksonObjectMapper().registerModule(JavaTimeModule())
+    private val localCache = ConcurrentHashMap<Long, CachedUser>()
+    private val evictGenerations = AtomicLongArray(GENERATION_STRIPES)
+    private val delayedEvictScheduler = Executors.newSingleThreadScheduledExecutor {
+        Thread(it, "user-cache-delayed-evict").apply { isDaemon = true }
+    }
+
+    private val localHit = counter(meterRegistry, "local", "hit")
+    private val localMiss = counter(meterRegistry, "local", "miss")
+    private val redisHit = counter(meterRegistry, "redis", "hit")
+    private val redisMiss = counter(meterRegistry, "redis", "miss")
+
+    fun getUser(userId: Long): UserResponse {
+        val now = System.currentTimeMillis()
+        val cached = localCache[userId]
+        if (cached != null && cached.expiresAt > now) {
+            localHit.increment()
+            return cached.userResponse
+        }
+        localMiss.increment()
+
+        val generation = this.evictGenerationOf(userId)
+        val redisCached = this.getFromRedis(userId)
+        val userResponse = redisCached ?: userService.getUserById(userId)
+        if (this.evictGenerationOf(userId) != generation) return userResponse
+
+        if (redisCached == null) this.putToRedis(userResponse)
+        this.putToLocal(userResponse, now)
+        return userResponse
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    fun evict(event: UserUpdatedEvent) {
+        evictGenerations.incrementAndGet(this.generationIndexOf(event.userId))
+        localCache.remove(event.userId)
+        if (userCacheProperties.redisEnabled) {
+            this.deleteFromRedis(event.userId)
+            delayedEvictScheduler.schedule(
+                { this.deleteFromRedis(event.userId) },
+                userCacheProperties.redisDelayedEvictMillis,
+                TimeUnit.MILLISECONDS
+            )
+        }
+    }
+
+    @PreDestroy
+    fun stop() {
+        delayedEvictScheduler.shutdownNow()
+    }
+
+    private fun evictGenerationOf(userId: Long): Long {
+        return evictGenerations.get(this.generationIndexOf(userId))
+    }
+
+    private fun generationIndexOf(userId: Long): Int {
+        return Math.floorMod(userId, GENERATION_STRIPES)
+    }
+
+    private fun putToLocal(userResponse: UserResponse, now: Long) {
+        if (localCache.size >= userCacheProperties.localMaxSize) {
+            localCache.values.removeIf { it.expiresAt <= now }
+            if (localCache.size >= userCacheProperties.localMaxSize) localCache.clear()
+        }
+        localCache[userResponse.id] = CachedUser(userResponse, now + userCacheProperties.localTtlMillis)
+    }
+
+    private fun getFromRedis(userId: Long): UserResponse? {
+        if (!userCacheProperties.redisEnabled) return null
+
+        val userResponse = this.runIgnoringRedisFailure {
+            redisTemplate.opsForValue().get(this.redisKey(userId))?.let { objectMapper.readValue<UserResponse>(it) }
+        }
+        if (userResponse == null) redisMiss.increment() else redisHit.increment()
+        return userResponse
+    }
+
+    private fun deleteFromRedis(userId: Long) {
+        this.runIgnoringRedisFailure { redisTemplate.delete(this.redisKey(userId)) }
+    }
+
+    private fun putToRedis(userResponse: UserResponse) {
+        if (!userCacheProperties.redisEnabled) return
+
+        val value = objectMapper.writeValueAsString(userResponse)
+        val ttl = Duration.ofSeconds(userCacheProperties.redisTtlSeconds)
+        this.runIgnoringRedisFailure { redisTemplate.opsForValue().set(this.redisKey(userResponse.id), value, ttl) }
+    }
+
+    /**
+     * Redis 캐시는 보조 수단이므로 장애가 발생해도 DB 조회로 이어지도록 예외를 삼킨다.
+     */
+    private fun <T> runIgnoringRedisFailure(block: () -> T): T? {
+        return try {
+            block()
+        } catch (e: RuntimeException) {
+            log.warn("유저 정보 Redis 캐시 처리 중 오류가 발생했습니다.", e)
+            null
+        }
+    }
+
+    private fun redisKey(userId: Long): String {
+        return userCacheProperties.redisKeyPrefix + userId
+    }
+
+    private fun counter(meterRegistry: MeterRegistry, tier: String, result: String): Counter {
+        return Counter.builder("user.cache.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(meterRegistry)
+    }
+
+    private class CachedUser(
+        val userResponse: UserResponse,
+        val expiresAt: Long,
+    )
+
+    companion object {
+        private const val GENERATION_STRIPES = 1024
+    }
+}
@@ -69,8 +69,8 @@ class UserPrincipal(
 
     companion object {
         @JvmStatic
-        fun from(userResponse: UserResponse, expTable: Map<Int, Long>): UserPrincipal {
-            val (currentLevel, currentExp, requireExp) = userResponse.calculateLevel(expTable)
+        fun from(userResponse: UserResponse, levelCurve: LevelCurve): UserPrincipal {
+            val (currentLevel, currentExp, requireExp) = userResponse.calculateLevel(levelCurve)
             return UserPrincipal(
                 id = userResponse.id,
                 nickname = userResponse.nickname,
@@ -0,0 +1,214 @@
+package dailyquest.quest.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dailyquest.context.IntegrationTestContext;
+import dailyquest.context.MockElasticsearchTestContextConfig;
+import dailyquest.context.MockRedisTestContextConfig;
+import dailyquest.quest.dto.QuestLogRequest;
+import dailyquest.quest.dto.WebQuestRequest;
+import dailyquest.quest.entity.Quest;
+import dailyquest.quest.repository.QuestRepository;
+import dailyquest.user.dto.UserSaveRequest;
+import dailyquest.user.entity.ProviderType;
+import dailyquest.user.record.service.UserRecordService;
+import dailyquest.user.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네임드 락 안에서 MAX(SEQ) 로 SEQ 를 할당하던 기존 등록 경로와 SEQ 카운터를 사용하는 현재 등록 경로의 처리량을 비교한다.
+ * 기존 경로는 제거된 UserLevelLock 과 QuestCommandService.saveQuest 의 이전 구현을 테스트 안에 그대로 옮겨 실행한다.
+ * H2 에는 GET_LOCK 이 없으므로 이름별 락으로 동작하는 같은 이름의 함수를 등록하고, 락 전용 커넥션 풀도 기존처럼 따로 둔다.
+ */
+@Import({MockRedisTestContextConfig.class, MockElasticsearchTestContextConfig.class})
+@Slf4j
+@DisplayName("퀘스트 SEQ 할당 부하 테스트")
+public class QuestSeqAllocationTest extends IntegrationTestContext {
+
+    private static final int THREAD_COUNT = 10;
+    private static final int REQUEST_COUNT_PER_THREAD = 20;
+    private static final Map<String, ReentrantLock> NAMED_LOCKS = new ConcurrentHashMap<>();
+
+    @Autowired
+    QuestService questService;
+
+    @Autowired
+    QuestRepository questRepository;
+
+    @Autowired
+    QuestLogService questLogService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRecordService userRecordService;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private HikariDataSource userLockDataSource;
+
+    @BeforeEach
+    void init() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ALIAS IF NOT EXISTS GET_LOCK FOR 'dailyquest.quest.service.QuestSeqAllocationTest.getLock'");
+            statement.execute("CREATE ALIAS IF NOT EXISTS RELEASE_LOCK FOR 'dailyquest.quest.service.QuestSeqAllocationTest.releaseLock'");
+        }
+        userLockDataSource = new HikariDataSource();
+        userLockDataSource.setJdbcUrl(((HikariDataSource) dataSource).getJdbcUrl());
+        userLockDataSource.setUsername(((HikariDataSource) dataSource).getUsername());
+        userLockDataSource.setPassword(((HikariDataSource) dataSource).getPassword());
+        userLockDataSource.setMaximumPoolSize(THREAD_COUNT);
+    }
+
+    @AfterEach
+    void close() {
+        userLockDataSource.close();
+    }
+
+    @DisplayName("동시 등록 시 SEQ 가 중복 없이 할당되고, 기존 네임드 락 경로와 처리량이 비교된다")
+    @Test
+    public void measureCreateThroughput() throws Exception {
+        //given
+        WebQuestRequest dto = new WebQuestRequest("test", "test", Collections.emptyList(), null, null);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        Long lockUserId = executorService.submit(() -> userService.saveUser(new UserSaveRequest("lockUser", "lockUser", ProviderType.GOOGLE))).get();
+        Long counterUserId = executorService.submit(() -> userService.saveUser(new UserSaveRequest("counterUser", "counterUser", ProviderType.GOOGLE))).get();
+
+        //when
+        long lockElapsedNanos = runConcurrently(executorService, () -> executeWithLock(
+                "QUEST_SEQ" + lockUserId,
+                3,
+                () -> transactionTemplate.execute(status -> saveQuestWithMaxSeq(dto, lockUserId))
+        ));
+        long counterElapsedNanos = runConcurrently(executorService, () -> questService.saveQuest(dto, counterUserId));
+        executorService.shutdown();
+
+        //then
+        int totalCount = THREAD_COUNT * REQUEST_COUNT_PER_THREAD;
+        log.info("named lock + MAX(seq) : {} quests in {} ms ({} ops/s)", totalCount, TimeUnit.NANOSECONDS.toMillis(lockElapsedNanos), toOpsPerSecond(totalCount, lockElapsedNanos));
+        log.info("seq counter : {} quests in {} ms ({} ops/s)", totalCount, TimeUnit.NANOSECONDS.toMillis(counterElapsedNanos), toOpsPerSecond(totalCount, counterElapsedNanos));
+
+        List<Long> expectedSeqs = LongStream.rangeClosed(1, totalCount).boxed().toList();
+        assertThat(getSeqsOf(lockUserId)).containsExactlyInAnyOrderElementsOf(expectedSeqs);
+        assertThat(getSeqsOf(counterUserId)).containsExactlyInAnyOrderElementsOf(expectedSeqs);
+    }
+
+    /**
+     * SEQ 카운터 도입 전 QuestCommandService.saveQuest 의 구현. 네임드 락 안에서만 호출해야 한다.
+     */
+    private Long saveQuestWithMaxSeq(WebQuestRequest dto, Long userId) {
+        Long nextSeq = questRepository.getNextSeqOfUser(userId);
+        Quest quest = dto.mapToEntity(nextSeq, userId);
+        questRepository.save(quest);
+        QuestLogRequest questLogRequest = QuestLogRequest.from(quest);
+        questLogService.saveQuestLog(questLogRequest);
+        userRecordService.recordQuestRegistration(userId, questLogRequest.getLoggedDate());
+        return quest.getId();
+    }
+
+    /**
+     * 제거된 UserLevelLock.executeWithLock 의 구현. 락 전용 풀에서 커넥션을 빌려 GET_LOCK 과 RELEASE_LOCK 을 실행한다.
+     */
+    private <T> T executeWithLock(String userLockName, int timeoutSeconds, Supplier<T> supplier) {
+        try (Connection connection = userLockDataSource.getConnection()) {
+            try {
+                executeLockQuery(connection, "SELECT GET_LOCK(?, ?)", userLockName, timeoutSeconds);
+                return supplier.get();
+            } finally {
+                executeLockQuery(connection, "SELECT RELEASE_LOCK(?)", userLockName, null);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private void executeLockQuery(Connection connection, String query, String userLockName, Integer timeoutSeconds) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setString(1, userLockName);
+            if (timeoutSeconds != null) {
+                preparedStatement.setInt(2, timeoutSeconds);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                    throw new IllegalStateException("LOCK 을 수행하는 중에 오류가 발생하였습니다.");
+                }
+            }
+        }
+    }
+
+    public static int getLock(String userLockName, int timeoutSeconds) throws InterruptedException {
+        ReentrantLock lock = NAMED_LOCKS.computeIfAbsent(userLockName, key -> new ReentrantLock());
+        return lock.tryLock(timeoutSeconds, TimeUnit.SECONDS) ? 1 : 0;
+    }
+
+    public static int releaseLock(String userLockName) {
+        ReentrantLock lock = NAMED_LOCKS.get(userLockName);
+        if (lock == null || !lock.isHeldByCurrentThread()) {
+            return 0;
+        }
+        lock.unlock();
+        return 1;
+    }
+
+    private List<Long> getSeqsOf(Long userId) {
+        return questRepository.findAll().stream()
+                .filter(quest -> quest.getUserId() == userId)
+                .map(Quest::getSeq)
+                .toList();
+    }
+
+    private long runConcurrently(ExecutorService executorService, Runnable request) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        long start = System.nanoTime();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.execute(() -> {
+                try {
+                    for (int j = 0; j < REQUEST_COUNT_PER_THREAD; j++) {
+                        request.run();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        return System.nanoTime() - start;
+    }
+
+    private long toOpsPerSecond(int count, long elapsedNanos) {
+        return count * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+    }
+}
@@ -6,8 +6,10 @@ import dailyquest.context.MockElasticsearchTestContextConfig;
 import dailyquest.context.MockRedisTestContextConfig;
 import dailyquest.quest.dto.QuestLogSearchType;
 import dailyquest.quest.entity.QuestLog;
+import dailyquest.quest.entity.QuestLogDailyRollup;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.entity.QuestType;
+import dailyquest.quest.repository.QuestLogDailyRollupRepository;
 import dailyquest.quest.repository.QuestLogRepository;
 import dailyquest.user.service.UserService;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +44,9 @@ public class StatusApiControllerTest extends IntegrationTestContext {
     @Autowired
     QuestLogRepository questLogRepository;
 
+    @Autowired
+    QuestLogDailyRollupRepository questLogDailyRollupRepository;
+
     @DisplayName("상태창 조회 요청 시")
     @Nested
     class TestGetStatus {
@@ -63,6 +68,7 @@ public class StatusApiControllerTest extends IntegrationTestContext {
             QuestLogSearchType searchType = QuestLogSearchType.DAILY;
 
             questLogRepository.save(log);
+            QuestLogDailyRollup.aggregate(List.of(log)).forEach(questLogDailyRollupRepository::increaseCounts);
 
             //when
             ResultActions request = mvc
@@ -102,6 +108,7 @@ public class StatusApiControllerTest extends IntegrationTestContext {
 
 
             questLogRepository.save(log);
+            QuestLogDailyRollup.aggregate(List.of(log)).forEach(questLogDailyRollupRepository::increaseCounts);
 
             //when
             ResultActions request = mvc
@@ -14,6 +14,7 @@ import org.springframework.data.redis.core.RedisTemplate
 import dailyquest.admin.dto.SystemSettingsRequest
 import dailyquest.common.MessageUtil
 import dailyquest.properties.RedisKeyProperties
+import dailyquest.redis.repository.RedisRepository
 
 @ExtendWith(MockitoExtension::class)
 @DisplayName("관리자 서비스 유닛 테스트")
@@ -29,6 +30,9 @@ class AdminServiceUnitTest {
     @Mock
     lateinit var redisTemplate: RedisTemplate<String, String>
 
+    @Mock
+    lateinit var redisRepository: RedisRepository
+
     private lateinit var messageUtil: MockedStatic<MessageUtil>
 
     @BeforeEach
@@ -123,6 +127,23 @@ class AdminServiceUnitTest {
             verify(mockOps).put(maxRewardCountKey, maxRewardCount)
         }
 
+        @DisplayName("설정값 업데이트 후 설정 버전을 올린다")
+        @Test
+        fun `설정값 업데이트 후 설정 버전을 올린다`() {
+            //given
+            val mockOps = mock<BoundHashOperations<String, String, Long>>()
+            doReturn(mockOps).`when`(redisTemplate).boundHashOps<String, Long>(anyOrNull())
+            val mockRequest = mock<SystemSettingsRequest>()
+
+            //when
+            adminService.updateSystemSettings(mockRequest)
+
+            //then
+            val inOrder = inOrder(mockOps, redisRepository)
+            inOrder.verify(mockOps, atLeastOnce()).put(anyOrNull(), anyOrNull())
+            inOrder.verify(redisRepository).increaseConfigVersion()
+        }
+
     }
 
     @DisplayName("경험치 테이블 조회 시")
@@ -165,6 +186,7 @@ class AdminServiceUnitTest {
             //then
             assertThatThrownBy(run).isInstanceOf(IllegalArgumentException::class.java)
             verify(redisTemplate, times(0)).delete(anyOrNull<String>())
+            verify(redisRepository, times(0)).increaseConfigVersion()
         }
 
         @DisplayName("마지막이 아닌 레벨의 필요 경험치가 0인 경우 오류가 발생한다")
@@ -182,6 +204,7 @@ class AdminServiceUnitTest {
             //then
             assertThatThrownBy(run).isInstanceOf(IllegalArgumentException::class.java)
             verify(redisTemplate, times(0)).delete(anyOrNull<String>())
+            verify(redisRepository, times(0)).increaseConfigVersion()
         }
 
         @DisplayName("마지막 레벨의 필요 경험치만 0인 경우 정상 호출된다")
@@ -212,6 +235,7 @@ class AdminServiceUnitTest {
             verify(redisTemplate, times(1)).delete(expTableKey)
             verify(redisTemplate, times(1)).boundHashOps<String, Long>(expTableKey)
             verify(mockOps, times(1)).putAll(mockTable)
+            verify(redisRepository, times(1)).increaseConfigVersion()
         }
 
     }
@@ -3,10 +3,10 @@ package dailyquest.jwt
 import dailyquest.properties.JwtTokenProperties
 import dailyquest.properties.SecurityUrlProperties
 import dailyquest.redis.service.RedisService
+import dailyquest.user.cache.UserResponseCache
 import dailyquest.user.dto.UserPrincipal
 import dailyquest.user.dto.UserResponse
 import dailyquest.user.entity.RoleType
-import dailyquest.user.service.UserService
 import io.mockk.*
 import io.mockk.impl.annotations.InjectMockKs
 import io.mockk.impl.annotations.RelaxedMockK
@@ -31,7 +31,7 @@ class JwtAuthorizationFilterUnitTest {
     @RelaxedMockK
     lateinit var jwtTokenProvider: JwtTokenProvider
     @RelaxedMockK
-    lateinit var userService: UserService
+    lateinit var userResponseCache: UserResponseCache
     @RelaxedMockK
     lateinit var securityUrlProperties: SecurityUrlProperties
     @RelaxedMockK
@@ -148,14 +148,14 @@ class JwtAuthorizationFilterUnitTest {
             val userId = 1L
             every { jwtTokenProvider.getUserIdFromToken(any()) } returns userId
             val userResponse = mockk<UserResponse>(relaxed = true)
-            every { userService.getUserById(any()) } returns userResponse
+            every { userResponseCache.getUser(any()) } returns userResponse
             every { userResponse.role } returns RoleType.USER
 
             //when
             jwtAuthorizationFilter.doFilterInternal(request, response, filterChain)
 
             //then
-            verify { userService.getUserById(eq(userId)) }
+            verify { userResponseCache.getUser(eq(userId)) }
         }
 
         @DisplayName("조회한 유저 정보로 SecurityContext에 인증 정보를 담는다")
@@ -163,7 +163,7 @@ class JwtAuthorizationFilterUnitTest {
         fun `조회한 유저 정보로 SecurityContext에 인증 정보를 담는다`() {
             //given
             val userResponse: UserResponse = mockk(relaxed = true)
-            every { userService.getUserById(any()) } returns userResponse
+            every { userResponseCache.getUser(any()) } returns userResponse
             mockkObject(UserPrincipal)
             val userPrincipal: UserPrincipal = mockk(relaxed = true)
             every { UserPrincipal.from(any(), any()) } returns userPrincipal
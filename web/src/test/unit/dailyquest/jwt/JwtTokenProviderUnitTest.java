@@ -322,6 +322,87 @@ public class JwtTokenProviderUnitTest {
             //then
             assertThat(isValidToken).isTrue();
         }
+
+        @DisplayName("이미 검증한 토큰이라도 요청 타입과 실제 타입이 다를 경우 false 를 반환한다")
+        @Test
+        public void doReturnFalseWhenIncorrectTypeOfVerifiedToken() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_NAME).when(jwtTokenProperties).getRefreshTokenName();
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+
+            String validToken = jwtTokenProvider.createRefreshToken(1L);
+            jwtTokenProvider.isValidToken(validToken, REFRESH_TOKEN_NAME);
+
+            //when
+            boolean isValidToken = jwtTokenProvider.isValidToken(validToken, ACCESS_TOKEN_NAME);
+
+            //then
+            assertThat(isValidToken).isFalse();
+        }
+
+        @DisplayName("이미 검증한 토큰에서 조회한 유저 ID는 토큰에 담긴 ID와 같다")
+        @Test
+        public void returnSameIdFromVerifiedToken() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_NAME).when(jwtTokenProperties).getRefreshTokenName();
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+
+            Long userId = 3L;
+            String validToken = jwtTokenProvider.createRefreshToken(userId);
+            jwtTokenProvider.isValidToken(validToken, REFRESH_TOKEN_NAME);
+
+            //when
+            Long result = jwtTokenProvider.getUserIdFromToken(validToken);
+
+            //then
+            assertThat(result).isEqualTo(userId);
+        }
+
+        @DisplayName("서로 다른 토큰을 여러 번 검증해도 파서와 서명 키는 한 번만 생성된다")
+        @Test
+        public void buildParserAndKeyOnlyOnce() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_NAME).when(jwtTokenProperties).getRefreshTokenName();
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+
+            try (MockedStatic<Jwts> jwts = mockStatic(Jwts.class, CALLS_REAL_METHODS)) {
+                String firstToken = jwtTokenProvider.createRefreshToken(1L);
+                String secondToken = jwtTokenProvider.createRefreshToken(2L);
+                Object signingKey = ReflectionTestUtils.getField(jwtTokenProvider, "signingKey");
+
+                //when
+                jwtTokenProvider.isValidToken(firstToken, REFRESH_TOKEN_NAME);
+                jwtTokenProvider.isValidToken(secondToken, REFRESH_TOKEN_NAME);
+                jwtTokenProvider.getUserIdFromToken(secondToken);
+
+                //then
+                jwts.verify(Jwts::parserBuilder, times(1));
+                assertThat(ReflectionTestUtils.getField(jwtTokenProvider, "signingKey")).isSameAs(signingKey);
+            }
+        }
+
+        @DisplayName("이미 검증한 토큰은 다시 파싱하지 않는다")
+        @Test
+        public void doNotParseVerifiedTokenAgain() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_NAME).when(jwtTokenProperties).getRefreshTokenName();
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+
+            String validToken = jwtTokenProvider.createRefreshToken(1L);
+            jwtTokenProvider.isValidToken(validToken, REFRESH_TOKEN_NAME);
+
+            JwtParser jwtParser = mock(JwtParser.class);
+            ReflectionTestUtils.setField(jwtTokenProvider, "jwtParser", jwtParser);
+
+            //when
+            boolean isValidToken = jwtTokenProvider.isValidToken(validToken, REFRESH_TOKEN_NAME);
+            Long userId = jwtTokenProvider.getUserIdFromToken(validToken);
+
+            //then
+            assertThat(isValidToken).isTrue();
+            assertThat(userId).isEqualTo(1L);
+            verifyNoInteractions(jwtParser);
+        }
     }
 
     @DisplayName("createAccessTokenCookie 요청 시 httpOnly, path=/ 인 쿠키가 반환된다")
@@ -0,0 +1,59 @@
+package dailyquest.jwt;
+
+import dailyquest.jwt.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검증된 토큰 캐시 단위 테스트")
+public class VerifiedTokenCacheUnitTest {
+
+    @DisplayName("만료 시간이 지나지 않은 토큰은 캐시에서 조회된다")
+    @Test
+    public void returnNotExpiredToken() throws Exception {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        VerifiedToken verifiedToken = new VerifiedToken(1L, "access", new Date(System.currentTimeMillis() + 10000));
+        cache.put("token", verifiedToken);
+
+        //when
+        VerifiedToken result = cache.get("token");
+
+        //then
+        assertThat(result).isEqualTo(verifiedToken);
+    }
+
+    @DisplayName("만료 시간이 지난 토큰은 캐시에서 조회되지 않는다")
+    @Test
+    public void doNotReturnExpiredToken() throws Exception {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token", new VerifiedToken(1L, "access", new Date(System.currentTimeMillis() - 1)));
+
+        //when
+        VerifiedToken result = cache.get("token");
+
+        //then
+        assertThat(result).isNull();
+    }
+
+    @DisplayName("최대 크기에 도달하면 만료된 토큰부터 제거한다")
+    @Test
+    public void removeExpiredTokensWhenFull() throws Exception {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        VerifiedToken validToken = new VerifiedToken(1L, "access", new Date(System.currentTimeMillis() + 10000));
+        cache.put("valid", validToken);
+        cache.put("expired", new VerifiedToken(2L, "access", new Date(System.currentTimeMillis() - 1)));
+
+        //when
+        cache.put("new", validToken);
+
+        //then
+        assertThat(cache.get("valid")).isEqualTo(validToken);
+        assertThat(cache.get("new")).isEqualTo(validToken);
+    }
+}
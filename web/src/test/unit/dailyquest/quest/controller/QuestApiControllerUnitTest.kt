@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
 import dailyquest.annotation.WebMvcUnitTest
 import dailyquest.common.MessageUtil
-import dailyquest.common.UserLevelLock
 import dailyquest.common.unitTestDefaultConfiguration
 import dailyquest.quest.dto.*
 import dailyquest.quest.entity.DetailQuestType
@@ -12,6 +11,7 @@ import dailyquest.quest.entity.QuestState
 import dailyquest.quest.entity.QuestType
 import dailyquest.quest.service.QuestService
 import dailyquest.redis.service.RedisService
+import dailyquest.search.dto.QuestSearchResponse
 import dailyquest.search.service.QuestIndexService
 import dailyquest.user.dto.UserPrincipal
 import io.mockk.every
@@ -28,6 +28,7 @@ import org.mockito.Mockito.mockStatic
 import org.mockito.Mockito.`when`
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.mock.mockito.MockBean
@@ -43,7 +44,6 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.*
 import java.math.BigInteger
 import java.time.LocalDateTime
-import java.util.function.Supplier
 import java.util.stream.Stream
 
 @DisplayName("퀘스트 API 컨트롤러 유닛 테스트")
@@ -55,9 +55,6 @@ class QuestApiControllerUnitTest {
     @MockBean
     lateinit var questService: QuestService
 
-    @MockBean
-    lateinit var userLevelLock: UserLevelLock
-
     @MockBean
     lateinit var questIndexService: QuestIndexService
 
@@ -232,6 +229,129 @@ class QuestApiControllerUnitTest {
 
     }
 
+    @DisplayName("커서 기반 퀘스트 검색 시")
+    @Nested
+    inner class QuestCursorSearchTest {
+        private val url = "$URI_PREFIX/search/cursor"
+
+        @DisplayName("마지막 퀘스트 ID와 개수 조회 여부가 서비스로 전달되고 다음 커서가 반환된다")
+        @Test
+        fun `마지막 퀘스트 ID와 개수 조회 여부가 서비스로 전달되고 다음 커서가 반환된다`() {
+            //given
+            val questSlice = QuestSliceResponse(currentQuests, 10L, true, 100L)
+            doReturn(questSlice).`when`(questService).searchQuestAfter(any(), any(), anyLong(), anyInt(), anyBoolean())
+
+            //when
+            val result = mvc.perform(
+                get(url)
+                    .queryParam("lastQuestId", "20")
+                    .queryParam("withCount", "true")
+            )
+
+            //then
+            result
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.data.content.size()").value(currentQuests.size))
+                .andExpect(jsonPath("$.data.nextCursor").value(10L))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.approximateCount").value(100L))
+            verify(questService).searchQuestAfter(any(), any(), eq(20L), anyInt(), eq(true))
+        }
+
+        @DisplayName("키워드 검색 조건이 있으면 400 BAD_REQUEST가 반환된다")
+        @Test
+        fun `키워드 검색 조건이 있으면 400 BAD_REQUEST가 반환된다`() {
+            //given
+            //when
+            val result = mvc.perform(
+                get(url)
+                    .queryParam("keywordType", QuestSearchKeywordType.ALL.name)
+                    .queryParam("keyword", "keyword")
+            )
+
+            //then
+            result
+                .andExpect(status().isBadRequest)
+                .andExpect(jsonPath("$.data").doesNotExist())
+        }
+
+        @DisplayName("마지막 퀘스트 ID가 1보다 작으면 400 BAD_REQUEST가 반환된다")
+        @Test
+        fun `마지막 퀘스트 ID가 1보다 작으면 400 BAD_REQUEST가 반환된다`() {
+            //given
+            //when
+            val result = mvc.perform(
+                get(url)
+                    .queryParam("lastQuestId", "0")
+            )
+
+            //then
+            result
+                .andExpect(status().isBadRequest)
+                .andExpect(jsonPath("$.data").doesNotExist())
+        }
+    }
+
+    @DisplayName("문서 원본 퀘스트 검색 시")
+    @Nested
+    inner class QuestDocumentSearchTest {
+        private val url = "$URI_PREFIX/search/documents"
+        private val searchedDocuments: Page<QuestSearchResponse> = PageImpl(listOf(QuestSearchResponse(id = 1L)))
+
+        @DisplayName("보충 요청이 없으면 DB 조회 없이 문서 검색 결과가 반환된다")
+        @Test
+        fun `보충 요청이 없으면 DB 조회 없이 문서 검색 결과가 반환된다`() {
+            //given
+            doReturn(searchedDocuments).`when`(questIndexService).searchSourceDocuments(any(), any(), any())
+
+            //when
+            val result = mvc.perform(
+                get(url)
+                    .queryParam("keywordType", QuestSearchKeywordType.ALL.name)
+                    .queryParam("keyword", "keyword")
+            )
+
+            //then
+            result
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.data.content.size()").value(1))
+            verify(questService, never()).hydrateSearchedQuests(any())
+        }
+
+        @DisplayName("보충 요청이 있으면 문서 검색 결과를 DB 값으로 보충한다")
+        @Test
+        fun `보충 요청이 있으면 문서 검색 결과를 DB 값으로 보충한다`() {
+            //given
+            doReturn(searchedDocuments).`when`(questIndexService).searchSourceDocuments(any(), any(), any())
+            doReturn(searchedDocuments).`when`(questService).hydrateSearchedQuests(any())
+
+            //when
+            val result = mvc.perform(
+                get(url)
+                    .queryParam("keywordType", QuestSearchKeywordType.ALL.name)
+                    .queryParam("keyword", "keyword")
+                    .queryParam("hydrate", "true")
+            )
+
+            //then
+            result.andExpect(status().isOk)
+            verify(questService).hydrateSearchedQuests(eq(searchedDocuments))
+        }
+
+        @DisplayName("키워드 검색 조건이 없으면 400 BAD_REQUEST가 반환된다")
+        @Test
+        fun `키워드 검색 조건이 없으면 400 BAD_REQUEST가 반환된다`() {
+            //given
+            //when
+            val result = mvc.perform(get(url))
+
+            //then
+            result
+                .andExpect(status().isBadRequest)
+                .andExpect(jsonPath("$.data").doesNotExist())
+        }
+    }
+
     @DisplayName("퀘스트 조회 시")
     @Nested
     inner class QuestGetTest {
@@ -288,7 +408,7 @@ class QuestApiControllerUnitTest {
         fun init() {
             mockkStatic(LocalDateTime::class)
             every { LocalDateTime.now() } returns now
-            `when`(userLevelLock.executeWithLock(any(), anyInt(), any(Supplier::class.java)))
+            `when`(questService.saveQuest(any(), any()))
                 .thenReturn(questResponse)
         }
 
@@ -0,0 +1,68 @@
+package dailyquest.quest.deadline
+
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.quest.event.QuestDeadLineChangedEvent
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThatCode
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ZSetOperations
+import java.time.LocalDateTime
+
+@DisplayName("퀘스트 데드라인 스케줄 유닛 테스트")
+class QuestDeadLineScheduleUnitTest {
+
+    private lateinit var zSetOperations: ZSetOperations<String, String>
+    private lateinit var questDeadLineSchedule: QuestDeadLineSchedule
+    private val key = "qdl"
+
+    @BeforeEach
+    fun init() {
+        zSetOperations = mockk(relaxed = true)
+        val redisTemplate = mockk<RedisTemplate<String, String>>()
+        every { redisTemplate.opsForZSet() } returns zSetOperations
+        val redisKeyProperties = RedisKeyProperties().apply { questDeadLine = key }
+        questDeadLineSchedule = QuestDeadLineSchedule(redisTemplate, redisKeyProperties)
+    }
+
+    @DisplayName("데드라인이 있으면 데드라인 시각을 점수로 스케줄에 추가한다")
+    @Test
+    fun `데드라인이 있으면 데드라인 시각을 점수로 스케줄에 추가한다`() {
+        //given
+        val deadLine = LocalDateTime.of(2022, 12, 1, 12, 0)
+
+        //when
+        questDeadLineSchedule.update(QuestDeadLineChangedEvent(1L, deadLine))
+
+        //then
+        verify { zSetOperations.add(key, "1", QuestDeadLineScore.of(deadLine)) }
+    }
+
+    @DisplayName("데드라인이 없으면 스케줄에서 제거한다")
+    @Test
+    fun `데드라인이 없으면 스케줄에서 제거한다`() {
+        //given
+        //when
+        questDeadLineSchedule.update(QuestDeadLineChangedEvent(1L, null))
+
+        //then
+        verify { zSetOperations.remove(key, "1") }
+    }
+
+    @DisplayName("Redis 처리 중 오류가 발생해도 예외를 던지지 않는다")
+    @Test
+    fun `Redis 처리 중 오류가 발생해도 예외를 던지지 않는다`() {
+        //given
+        every { zSetOperations.remove(any(), *anyVararg()) } throws RuntimeException()
+
+        //when
+        val run = { questDeadLineSchedule.update(QuestDeadLineChangedEvent(1L, null)) }
+
+        //then
+        assertThatCode { run() }.doesNotThrowAnyException()
+    }
+}
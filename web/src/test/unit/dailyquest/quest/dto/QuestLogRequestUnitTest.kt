@@ -1,10 +1,12 @@
 package dailyquest.quest.dto
 
 import dailyquest.quest.entity.Quest
+import dailyquest.quest.entity.QuestState
 import io.mockk.every
 import io.mockk.impl.annotations.RelaxedMockK
 import io.mockk.junit5.MockKExtension
 import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
@@ -24,6 +26,11 @@ class QuestLogRequestUnitTest {
         private lateinit var quest: Quest
         private val lastModifiedDate = LocalDate.of(2020, 12, 12)
 
+        @BeforeEach
+        fun init() {
+            every { quest.createdDate } returns LocalDateTime.of(lastModifiedDate, LocalTime.of(6, 0))
+        }
+
         @DisplayName("최종 수정일 시간이 오전 6시 1분이라면, loggedDate가 최종 수정일과 동일하다")
         @Test
         fun `최종 수정일 시간이 오전 6시 1분이라면, loggedDate가 최종 수정일과 동일하다`() {
@@ -107,5 +114,33 @@ class QuestLogRequestUnitTest {
             //then
             assertThat(questLogRequest.loggedDate).isEqualTo(lastModifiedDate.minusDays(1))
         }
+
+        @DisplayName("등록일과 같은 날짜에 완료한 로그면 등록일 완료 로그로 판단한다")
+        @Test
+        fun `등록일과 같은 날짜에 완료한 로그면 등록일 완료 로그로 판단한다`() {
+            //given
+            every { quest.state } returns QuestState.COMPLETE
+            every { quest.lastModifiedDate } returns LocalDateTime.of(lastModifiedDate.plusDays(1), LocalTime.of(5, 59))
+
+            //when
+            val questLogRequest = QuestLogRequest.from(quest)
+
+            //then
+            assertThat(questLogRequest.isCompletedOnRegisteredDate()).isTrue()
+        }
+
+        @DisplayName("등록일 다음 날짜에 완료한 로그면 등록일 완료 로그가 아니다")
+        @Test
+        fun `등록일 다음 날짜에 완료한 로그면 등록일 완료 로그가 아니다`() {
+            //given
+            every { quest.state } returns QuestState.COMPLETE
+            every { quest.lastModifiedDate } returns LocalDateTime.of(lastModifiedDate.plusDays(1), LocalTime.of(6, 0))
+
+            //when
+            val questLogRequest = QuestLogRequest.from(quest)
+
+            //then
+            assertThat(questLogRequest.isCompletedOnRegisteredDate()).isFalse()
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package dailyquest.quest.repository;
+
+import dailyquest.config.JpaAuditingConfiguration;
+import dailyquest.quest.entity.QuestLogDailyRollup;
+import dailyquest.quest.entity.QuestState;
+import dailyquest.quest.entity.QuestType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("퀘스트 로그 일별 집계 리포지토리 유닛 테스트")
+@DataJpaTest
+@Import(JpaAuditingConfiguration.class)
+public class QuestLogDailyRollupRepositoryUnitTest {
+
+    @Autowired
+    QuestLogDailyRollupRepository questLogDailyRollupRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @DisplayName("집계 행이 없으면 증가분으로 생성되고, 있으면 증가분만큼 더해진다")
+    @Test
+    public void testIncreaseCounts() throws Exception {
+        //given
+        Long userId = 1L;
+        LocalDate loggedDate = LocalDate.of(2022, 3, 5);
+
+        QuestLogDailyRollup first = new QuestLogDailyRollup(userId, loggedDate);
+        first.addLog(QuestState.PROCEED, QuestType.MAIN);
+        first.addLog(QuestState.COMPLETE, QuestType.MAIN);
+        first.addRegisteredCompletion();
+
+        QuestLogDailyRollup second = new QuestLogDailyRollup(userId, loggedDate);
+        second.addLog(QuestState.PROCEED, QuestType.SUB);
+        second.addLog(QuestState.DISCARD, QuestType.SUB);
+        second.addLog(QuestState.FAIL, QuestType.MAIN);
+
+        //when
+        questLogDailyRollupRepository.increaseCounts(first);
+        questLogDailyRollupRepository.increaseCounts(second);
+        em.clear();
+
+        //then
+        List<QuestLogDailyRollup> rollups = questLogDailyRollupRepository
+                .findAllByUserIdAndLoggedDateBetweenOrderByLoggedDate(userId, loggedDate, loggedDate);
+        assertThat(rollups).hasSize(1);
+        QuestLogDailyRollup rollup = rollups.get(0);
+        assertThat(rollup.getRegisteredCount()).isEqualTo(2);
+        assertThat(rollup.getCompleteCount()).isEqualTo(1);
+        assertThat(rollup.getDiscardCount()).isEqualTo(1);
+        assertThat(rollup.getFailCount()).isEqualTo(1);
+        assertThat(rollup.getMainCount()).isEqualTo(3);
+        assertThat(rollup.getSubCount()).isEqualTo(2);
+        assertThat(rollup.getRegisteredCompleteCount()).isEqualTo(1);
+    }
+
+    @DisplayName("범위 조회 시 해당 유저의 범위 내 집계만 날짜 순으로 조회된다")
+    @Test
+    public void testFindInRange() throws Exception {
+        //given
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2022, 3, 1);
+        LocalDate endDate = LocalDate.of(2022, 3, 31);
+
+        List.of(endDate, startDate, startDate.minusDays(1), endDate.plusDays(1)).forEach(date -> {
+            QuestLogDailyRollup rollup = new QuestLogDailyRollup(userId, date);
+            rollup.addLog(QuestState.COMPLETE, QuestType.MAIN);
+            questLogDailyRollupRepository.increaseCounts(rollup);
+        });
+        QuestLogDailyRollup otherUserRollup = new QuestLogDailyRollup(2L, startDate);
+        otherUserRollup.addLog(QuestState.COMPLETE, QuestType.MAIN);
+        questLogDailyRollupRepository.increaseCounts(otherUserRollup);
+
+        //when
+        List<QuestLogDailyRollup> rollups = questLogDailyRollupRepository
+                .findAllByUserIdAndLoggedDateBetweenOrderByLoggedDate(userId, startDate, endDate);
+
+        //then
+        assertThat(rollups).extracting(QuestLogDailyRollup::getLoggedDate).containsExactly(startDate, endDate);
+        assertThat(rollups).allMatch(rollup -> rollup.getUserId().equals(userId));
+    }
+
+    @DisplayName("범위 내 집계가 없으면 빈 리스트가 반환된다")
+    @Test
+    public void testEmptyRollup() throws Exception {
+        //given
+        LocalDate date = LocalDate.of(2022, 3, 5);
+
+        //when
+        List<QuestLogDailyRollup> rollups = questLogDailyRollupRepository
+                .findAllByUserIdAndLoggedDateBetweenOrderByLoggedDate(1L, date, date);
+
+        //then
+        assertThat(rollups).isEmpty();
+    }
+}
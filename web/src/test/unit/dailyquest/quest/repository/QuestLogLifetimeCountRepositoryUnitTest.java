@@ -0,0 +1,43 @@
+package dailyquest.quest.repository;
+
+import dailyquest.config.JpaAuditingConfiguration;
+import dailyquest.quest.entity.QuestLogLifetimeCount;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("퀘스트 로그 누적 카운트 리포지토리 유닛 테스트")
+@DataJpaTest
+@Import(JpaAuditingConfiguration.class)
+public class QuestLogLifetimeCountRepositoryUnitTest {
+
+    @Autowired
+    QuestLogLifetimeCountRepository questLogLifetimeCountRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @DisplayName("누적 행이 없으면 증가분으로 생성되고, 있으면 증가분만큼 더해진다")
+    @Test
+    public void testIncreaseCounts() throws Exception {
+        //given
+        Long userId = 1L;
+
+        //when
+        questLogLifetimeCountRepository.increaseCounts(userId, 1, 1, 0, 0);
+        questLogLifetimeCountRepository.increaseCounts(userId, 2, 0, 1, 1);
+        em.clear();
+
+        //then
+        QuestLogLifetimeCount lifetimeCount = questLogLifetimeCountRepository.findById(userId).orElseThrow();
+        assertThat(lifetimeCount.getRegisteredCount()).isEqualTo(3);
+        assertThat(lifetimeCount.getCompleteCount()).isEqualTo(1);
+        assertThat(lifetimeCount.getFailCount()).isEqualTo(1);
+        assertThat(lifetimeCount.getDiscardCount()).isEqualTo(1);
+    }
+}
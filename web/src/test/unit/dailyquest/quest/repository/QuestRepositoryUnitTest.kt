@@ -1,7 +1,11 @@
 package dailyquest.quest.repository
 
 import dailyquest.config.JpaAuditingConfiguration
+import dailyquest.context.SqlCaptureStatementInspector
 import dailyquest.quest.dto.QuestSearchCondition
+import dailyquest.quest.entity.DetailQuest
+import dailyquest.quest.entity.DetailQuestState
+import dailyquest.quest.entity.DetailQuestType
 import dailyquest.quest.entity.Quest
 import dailyquest.quest.entity.QuestState
 import dailyquest.quest.entity.QuestType
@@ -26,7 +30,7 @@ import java.time.LocalDateTime
 import java.time.LocalTime
 
 @DisplayName("퀘스트 리포지토리 유닛 테스트")
-@DataJpaTest
+@DataJpaTest(properties = [SqlCaptureStatementInspector.PROPERTY])
 @Import(JpaAuditingConfiguration::class)
 class QuestRepositoryUnitTest {
 
@@ -51,9 +55,9 @@ class QuestRepositoryUnitTest {
         userRepository.saveAndFlush(anotherUser)
     }
 
-    @DisplayName("getSearchedQuests 호출 시")
+    @DisplayName("findAllByIdIn 호출 시")
     @Nested
-    inner class TestForGetSearchedQuests {
+    inner class TestForFindAllByIdIn {
 
         @DisplayName("인자로 주어진 ID의 퀘스트만 조회된다")
         @Test
@@ -68,33 +72,35 @@ class QuestRepositoryUnitTest {
             val listOfQuestIds = listOf(savedQuest1.id, savedQuest2.id, savedQuest3.id)
 
             //when
-            val questsList = questRepository.getSearchedQuests(listOfQuestIds, Pageable.ofSize(100))
+            val questsList = questRepository.findAllByIdIn(listOfQuestIds)
 
             //then
             assertThat(questsList).containsExactlyInAnyOrder(savedQuest1, savedQuest2, savedQuest3)
             assertThat(questsList).doesNotContain(savedQuest4, savedQuest5)
-            assertThat(questsList).hasSize(3)
         }
 
-        @DisplayName("ID 역순으로 정렬되어 조회된다")
+        @DisplayName("세부 퀘스트가 함께 조회된다")
         @Test
-        fun getQuestsOrderByIdDesc() {
+        fun getQuestsWithDetailQuests() {
             //given
-            val savedQuest1 = questRepository.save(Quest("", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN))
-            val savedQuest2 = questRepository.save(Quest("", "", user.id, 1L, QuestState.FAIL, QuestType.MAIN))
-            val savedQuest3 = questRepository.save(Quest("", "", user.id, 1L, QuestState.DISCARD, QuestType.MAIN))
-            val savedQuest4 = questRepository.save(Quest("", "", user.id, 1L, QuestState.DELETE, QuestType.MAIN))
-            val savedQuest5 = questRepository.save(Quest("", "", user.id, 1L, QuestState.COMPLETE, QuestType.MAIN))
-
-            val listOfQuestIds = listOf(savedQuest5.id, savedQuest1.id, savedQuest4.id, savedQuest2.id, savedQuest3.id)
+            val quest = Quest("", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN)
+            quest.replaceDetailQuests(listOf(
+                DetailQuest.of("detail1", 1, DetailQuestType.CHECK, DetailQuestState.PROCEED, quest),
+                DetailQuest.of("detail2", 1, DetailQuestType.CHECK, DetailQuestState.PROCEED, quest),
+            ))
+            val savedQuest = questRepository.save(quest)
+            entityManager.flush()
+            entityManager.clear()
 
             //when
-            val questsList = questRepository.getSearchedQuests(listOfQuestIds, Pageable.ofSize(100))
+            val questsList = questRepository.findAllByIdIn(listOf(savedQuest.id))
 
             //then
-            assertThat(questsList).containsExactly(savedQuest5, savedQuest4, savedQuest3, savedQuest2, savedQuest1)
+            assertThat(questsList).hasSize(1)
+            val persistenceUnitUtil = entityManager.entityManagerFactory.persistenceUnitUtil
+            assertThat(persistenceUnitUtil.isLoaded(questsList[0], "_detailQuests")).isTrue()
+            assertThat(questsList[0].detailQuests).hasSize(2)
         }
-
     }
 
     @DisplayName("getCurrentQuests 호출 시")
@@ -439,4 +445,93 @@ class QuestRepositoryUnitTest {
             assertThat(findQuests).hasSize(savedQuest.size)
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("findQuestsByConditionAfter 메서드 호출 시")
+    @Nested
+    inner class TestForFindQuestsByConditionAfter {
+
+        private val searchCondition = QuestSearchCondition(null, null, null, null, null, null)
+
+        @DisplayName("마지막 퀘스트 ID가 null이면 가장 최근 퀘스트부터 limit 개가 조회된다")
+        @Test
+        fun `마지막 퀘스트 ID가 null이면 가장 최근 퀘스트부터 limit 개가 조회된다`() {
+            //given
+            val savedQuests = (1..5).map { questRepository.save(Quest("", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN)) }
+
+            //when
+            val findQuests = questRepository.findQuestsByConditionAfter(user.id, searchCondition, null, 3)
+
+            //then
+            assertThat(findQuests).containsExactlyElementsOf(savedQuests.reversed().take(3))
+        }
+
+        @DisplayName("마지막 퀘스트 ID보다 작은 ID의 퀘스트만 ID 역순으로 조회된다")
+        @Test
+        fun `마지막 퀘스트 ID보다 작은 ID의 퀘스트만 ID 역순으로 조회된다`() {
+            //given
+            val savedQuests = (1..5).map { questRepository.save(Quest("", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN)) }
+            val lastQuestId = savedQuests[3].id
+
+            //when
+            val findQuests = questRepository.findQuestsByConditionAfter(user.id, searchCondition, lastQuestId, 10)
+
+            //then
+            assertThat(findQuests).containsExactlyElementsOf(savedQuests.take(3).reversed())
+        }
+
+        @DisplayName("커서로 끝까지 조회한 결과가 오프셋 페이지로 조회한 결과와 같다")
+        @Test
+        fun `커서로 끝까지 조회한 결과가 오프셋 페이지로 조회한 결과와 같다`() {
+            //given
+            val pageSize = 3
+            repeat(10) { questRepository.save(Quest("", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN)) }
+            repeat(3) { questRepository.save(Quest("", "", anotherUser.id, 1L, QuestState.PROCEED, QuestType.MAIN)) }
+
+            //when
+            val cursorResult = mutableListOf<Quest>()
+            var lastQuestId: Long? = null
+            do {
+                val slice = questRepository.findQuestsByConditionAfter(user.id, searchCondition, lastQuestId, pageSize)
+                cursorResult.addAll(slice)
+                lastQuestId = slice.lastOrNull()?.id
+            } while (slice.size == pageSize)
+
+            //then
+            val offsetResult = questRepository.findQuestsByCondition(user.id, searchCondition, Pageable.ofSize(1000)).content
+            assertThat(cursorResult).containsExactlyElementsOf(offsetResult)
+        }
+
+        @DisplayName("count 쿼리와 OFFSET 없이 조회 쿼리 하나만 실행된다")
+        @Test
+        fun `count 쿼리와 OFFSET 없이 조회 쿼리 하나만 실행된다`() {
+            //given
+            val savedQuests = (1..5).map { questRepository.save(Quest("", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN)) }
+            entityManager.flush()
+            entityManager.clear()
+            SqlCaptureStatementInspector.clear()
+
+            //when
+            questRepository.findQuestsByConditionAfter(user.id, searchCondition, savedQuests[3].id, 2)
+
+            //then
+            val executedSqls = SqlCaptureStatementInspector.capturedSqls()
+            assertThat(executedSqls).hasSize(1)
+            assertThat(executedSqls.single().lowercase()).doesNotContain("count(", "offset")
+        }
+
+        @DisplayName("개수 조회 시 전체 개수가 상한보다 많으면 상한 값이 반환된다")
+        @Test
+        fun `개수 조회 시 전체 개수가 상한보다 많으면 상한 값이 반환된다`() {
+            //given
+            repeat(5) { questRepository.save(Quest("", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN)) }
+
+            //when
+            val cappedCount = questRepository.countQuestsByConditionUpTo(user.id, searchCondition, 3)
+            val exactCount = questRepository.countQuestsByConditionUpTo(user.id, searchCondition, 10)
+
+            //then
+            assertThat(cappedCount).isEqualTo(3)
+            assertThat(exactCount).isEqualTo(5)
+        }
+    }
+}
@@ -5,7 +5,9 @@ import dailyquest.quest.entity.DetailQuest;
 import dailyquest.quest.entity.Quest;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.entity.QuestType;
+import dailyquest.quest.event.QuestDeadLineChangedEvent;
 import dailyquest.quest.repository.QuestRepository;
+import dailyquest.quest.repository.QuestSeqRepository;
 import dailyquest.redis.service.RedisService;
 import dailyquest.user.record.service.UserRecordService;
 import dailyquest.user.service.UserService;
@@ -14,13 +16,16 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.Answers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,11 +39,13 @@ public class QuestCommandServiceUnitTest {
 
     @InjectMocks QuestCommandService questCommandService;
     @Mock(answer = Answers.RETURNS_SMART_NULLS) QuestRepository questRepository;
+    @Mock QuestSeqRepository questSeqRepository;
     @Mock UserService userService;
     @Mock UserRecordService userRecordService;
     @Mock QuestLogService questLogService;
     @Mock MessageSource messageSource;
     @Mock RedisService redisService;
+    @Mock ApplicationEventPublisher eventPublisher;
     MockedStatic<QuestLogRequest> mockedStatic;
     MockedStatic<QuestResponse> mockedQuestResponse;
 
@@ -67,7 +74,43 @@ public class QuestCommandServiceUnitTest {
         @BeforeEach
         void init() {
             doReturn(saveEntity).when(saveRequest).mapToEntity(anyLong(), anyLong());
-            doReturn(1L).when(questRepository).getNextSeqOfUser(any());
+            lenient().doReturn(1).when(questSeqRepository).increaseLastSeq(any());
+            lenient().doReturn(1L).when(questSeqRepository).getLastSeq(any());
+        }
+
+        @DisplayName("SEQ 카운터가 있으면 MAX(SEQ) 조회 없이 증가된 카운터 값으로 퀘스트가 생성된다")
+        @Test
+        public void useIncreasedCounterIfExists() {
+            //given
+            Long userId = 1L;
+            Long lastSeq = 5L;
+            doReturn(lastSeq).when(questSeqRepository).getLastSeq(eq(userId));
+
+            //when
+            questCommandService.saveQuest(saveRequest, userId);
+
+            //then
+            verify(questSeqRepository).increaseLastSeq(eq(userId));
+            verify(questRepository, never()).getNextSeqOfUser(any());
+            verify(questSeqRepository, never()).initializeLastSeq(any(), any());
+            verify(saveRequest).mapToEntity(eq(lastSeq), eq(userId));
+        }
+
+        @DisplayName("SEQ 카운터가 없으면 MAX(SEQ)+1 값으로 카운터를 초기화한다")
+        @Test
+        public void initializeCounterIfNotExists() {
+            //given
+            Long userId = 1L;
+            Long initialSeq = 3L;
+            doReturn(0).when(questSeqRepository).increaseLastSeq(eq(userId));
+            doReturn(initialSeq).when(questRepository).getNextSeqOfUser(eq(userId));
+
+            //when
+            questCommandService.saveQuest(saveRequest, userId);
+
+            //then
+            verify(questSeqRepository).initializeLastSeq(eq(userId), eq(initialSeq));
+            verify(questSeqRepository).getLastSeq(eq(userId));
         }
 
         @DisplayName("유저의 퀘스트 등록 횟수 증가 로직이 호출된다")
@@ -82,6 +125,34 @@ public class QuestCommandServiceUnitTest {
             //then
             verify(userRecordService).recordQuestRegistration(eq(userId), any());
         }
+
+        @DisplayName("데드라인이 있는 퀘스트면 데드라인 변경 이벤트가 발행된다")
+        @Test
+        public void publishDeadLineChangedEventIfHasDeadLine() {
+            //given
+            Long userId = 1L;
+            doReturn(LocalDateTime.now().plusHours(1)).when(saveEntity).getDeadLine();
+
+            //when
+            questCommandService.saveQuest(saveRequest, userId);
+
+            //then
+            verify(eventPublisher).publishEvent(any(QuestDeadLineChangedEvent.class));
+        }
+
+        @DisplayName("데드라인이 없는 퀘스트면 데드라인 변경 이벤트가 발행되지 않는다")
+        @Test
+        public void notPublishDeadLineChangedEventIfNoDeadLine() {
+            //given
+            Long userId = 1L;
+            doReturn(null).when(saveEntity).getDeadLine();
+
+            //when
+            questCommandService.saveQuest(saveRequest, userId);
+
+            //then
+            verify(eventPublisher, never()).publishEvent(any(QuestDeadLineChangedEvent.class));
+        }
     }
 
     @DisplayName("퀘스트 수정 시")
@@ -136,6 +207,24 @@ public class QuestCommandServiceUnitTest {
             verify(updateTarget, times(1))
                     .updateQuestEntity(eq(requestDto));
         }
+
+        @DisplayName("변경 사항을 flush 한 뒤 DTO를 생성해 수정 시각이 반영된 응답을 반환한다")
+        @Test
+        void flushBeforeCreateDto() {
+            //given
+            doReturn(updateTarget).when(questRepository).findByIdAndUserId(any(), any());
+            doReturn(true).when(updateTarget).isProceed();
+            WebQuestRequest requestDto = new WebQuestRequest("title", "desc", List.of(), null, null);
+
+            //when
+            questCommandService.updateQuest(requestDto, 1L, 1L);
+
+            //then
+            InOrder inOrder = inOrder(questRepository, updateTarget);
+            inOrder.verify(updateTarget).updateQuestEntity(eq(requestDto));
+            inOrder.verify(questRepository).saveAndFlush(eq(updateTarget));
+            mockedQuestResponse.verify(() -> QuestResponse.createDto(eq(updateTarget)));
+        }
     }
 
     @DisplayName("퀘스트 삭제 시")
@@ -170,6 +259,23 @@ public class QuestCommandServiceUnitTest {
             //then
             verify(deleteTarget, times(1)).deleteQuest();
         }
+
+        @DisplayName("변경 사항을 flush 한 뒤 DTO를 생성해 수정 시각이 반영된 응답을 반환한다")
+        @Test
+        void flushBeforeCreateDto() {
+            //given
+            Quest deleteTarget = mock(Quest.class, Answers.RETURNS_SMART_NULLS);
+            doReturn(deleteTarget).when(questRepository).findByIdAndUserId(any(), any());
+
+            //when
+            questCommandService.deleteQuest(1L, 1L);
+
+            //then
+            InOrder inOrder = inOrder(questRepository, deleteTarget);
+            inOrder.verify(deleteTarget).deleteQuest();
+            inOrder.verify(questRepository).saveAndFlush(eq(deleteTarget));
+            mockedQuestResponse.verify(() -> QuestResponse.createDto(eq(deleteTarget)));
+        }
     }
 
     @DisplayName("퀘스트 완료 시")
@@ -277,7 +383,7 @@ public class QuestCommandServiceUnitTest {
                 questCommandService.completeQuest(userId, questId);
 
                 //then
-                verify(userService, times(1)).addUserExpAndGold(eq(userId), eq(userUpdateRequest));
+                verify(userService, times(1)).applyQuestCompletion(eq(userId), eq(userUpdateRequest), any());
             }
 
             @DisplayName("saveAndFlush를 통해 반환된 퀘스트 정보로 DTO를 생성해 퀘스트 로그 저장 요청을 한다")
@@ -305,7 +411,7 @@ public class QuestCommandServiceUnitTest {
                 questCommandService.completeQuest(userId, questId);
 
                 //then
-                verify(userRecordService).recordQuestCompletion(eq(userId), eq(loggedDate));
+                verify(userService).applyQuestCompletion(eq(userId), any(), eq(loggedDate));
             }
         }
     }
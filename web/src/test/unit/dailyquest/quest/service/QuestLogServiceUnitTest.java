@@ -1,11 +1,18 @@
 package dailyquest.quest.service;
 
+import dailyquest.quest.dto.QuestLogRequest;
 import dailyquest.quest.dto.QuestLogSearchCondition;
 import dailyquest.quest.dto.QuestLogSearchType;
 import dailyquest.quest.dto.QuestStatisticsResponse;
+import dailyquest.quest.entity.QuestLog;
+import dailyquest.quest.entity.QuestLogDailyRollup;
+import dailyquest.quest.entity.QuestLogLifetimeCount;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.entity.QuestType;
+import dailyquest.quest.repository.QuestLogDailyRollupRepository;
+import dailyquest.quest.repository.QuestLogLifetimeCountRepository;
 import dailyquest.quest.repository.QuestLogRepository;
+import dailyquest.status.dto.StatusResponse;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -16,13 +23,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +44,12 @@ public class QuestLogServiceUnitTest {
     @Mock
     QuestLogRepository questLogRepository;
 
+    @Mock
+    QuestLogDailyRollupRepository questLogDailyRollupRepository;
+
+    @Mock
+    QuestLogLifetimeCountRepository questLogLifetimeCountRepository;
+
     @DisplayName("일별 퀘스트 로그 조회 테스트")
     @Test
     public void 일별_퀘스트_로그_조회_테스트() throws Exception {
@@ -53,41 +67,27 @@ public class QuestLogServiceUnitTest {
         int todayComplete = 3;
         int todayMain = 2;
 
-        List<QuestStatisticsResponse> groupedLogs = new ArrayList<>();
-
         LocalDate yesterday = LocalDate.of(year, month, day - 1);
-        QuestStatisticsResponse e = new QuestStatisticsResponse(yesterday);
-        e.addStateCount(QuestState.COMPLETE.name(), yesterdayComplete);
-        groupedLogs.add(e);
-
-        e = new QuestStatisticsResponse(yesterday);
-        e.addStateCount(QuestState.FAIL.name(), yesterdayFail);
-        groupedLogs.add(e);
+        QuestLogDailyRollup yesterdayRollup = new QuestLogDailyRollup(1L, yesterday);
+        addLogs(yesterdayRollup, QuestState.COMPLETE, null, yesterdayComplete);
+        addLogs(yesterdayRollup, QuestState.FAIL, null, yesterdayFail);
+        addLogs(yesterdayRollup, QuestState.DISCARD, null, yesterdayDiscard);
 
-        e = new QuestStatisticsResponse(yesterday);
-        e.addStateCount(QuestState.DISCARD.name(), yesterdayDiscard);
-        groupedLogs.add(e);
-
-        e = new QuestStatisticsResponse(today);
-        e.addStateCount(QuestState.COMPLETE.name(), todayComplete);
-        groupedLogs.add(e);
-
-        e = new QuestStatisticsResponse(today);
-        e.addStateCount(QuestState.PROCEED.name(), todayRegister);
-        groupedLogs.add(e);
-
-        e = new QuestStatisticsResponse(today);
-        e.addTypeCount(QuestType.MAIN.name(), todayMain);
-        groupedLogs.add(e);
+        QuestLogDailyRollup todayRollup = new QuestLogDailyRollup(1L, today);
+        addLogs(todayRollup, QuestState.COMPLETE, null, todayComplete);
+        addLogs(todayRollup, QuestState.PROCEED, null, todayRegister);
+        addLogs(todayRollup, null, QuestType.MAIN, todayMain);
 
         QuestLogSearchCondition condition = new QuestLogSearchCondition(QuestLogSearchType.DAILY, today);
-        doReturn(groupedLogs).when(questLogRepository).getGroupedQuestLogs(any(), eq(condition));
+        doReturn(List.of(yesterdayRollup, todayRollup)).when(questLogDailyRollupRepository)
+                .findAllByUserIdAndLoggedDateBetweenOrderByLoggedDate(any(), any(), any());
 
         //when
         Map<LocalDate, QuestStatisticsResponse> questStatistic = questLogService.getQuestStatistic(1L, condition);
 
         //then
-        verify(questLogRepository, times(1)).getGroupedQuestLogs(eq(1L), eq(condition));
+        verify(questLogDailyRollupRepository, times(1)).findAllByUserIdAndLoggedDateBetweenOrderByLoggedDate(
+                eq(1L), eq(condition.getStartDateOfSearchRange()), eq(condition.getEndDateOfSearchRange()));
 
         assertThat(questStatistic.keySet().size()).isEqualTo(today.lengthOfMonth());
 
@@ -107,6 +107,86 @@ public class QuestLogServiceUnitTest {
         assertThat(questStatistic.get(today).getStateRatio()).isEqualTo(100);
     }
 
+    @DisplayName("퀘스트 로그 저장 시 해당 날짜의 집계 카운트도 함께 증가한다")
+    @Test
+    public void increaseRollupWhenSaveQuestLog() throws Exception {
+        //given
+        LocalDate loggedDate = LocalDate.of(2022, 3, 5);
+        QuestLogRequest questLogRequest = mock(QuestLogRequest.class);
+        QuestLog questLog = new QuestLog(1L, 2L, QuestState.COMPLETE, QuestType.MAIN, loggedDate);
+        doReturn(questLog).when(questLogRequest).mapToEntity();
+
+        //when
+        questLogService.saveQuestLog(questLogRequest);
+
+        //then
+        verify(questLogRepository).save(eq(questLog));
+        verify(questLogDailyRollupRepository).increaseCounts(argThat((QuestLogDailyRollup rollup) ->
+                rollup.getUserId().equals(1L)
+                        && rollup.getLoggedDate().equals(loggedDate)
+                        && rollup.getCompleteCount() == 1
+                        && rollup.getMainCount() == 1
+                        && rollup.getRegisteredCount() == 0
+        ));
+        verify(questLogLifetimeCountRepository).increaseCounts(argThat((QuestLogDailyRollup rollup) ->
+                rollup.getUserId().equals(1L) && rollup.getCompleteCount() == 1
+        ));
+    }
+
+    @DisplayName("등록일에 완료한 퀘스트 로그 저장 시 등록일 완료 카운트도 함께 증가한다")
+    @Test
+    public void increaseRegisteredCompleteCountWhenCompletedOnRegisteredDate() throws Exception {
+        //given
+        LocalDate loggedDate = LocalDate.of(2022, 3, 5);
+        QuestLogRequest questLogRequest = mock(QuestLogRequest.class);
+        QuestLog questLog = new QuestLog(1L, 2L, QuestState.COMPLETE, QuestType.MAIN, loggedDate);
+        doReturn(questLog).when(questLogRequest).mapToEntity();
+        doReturn(true).when(questLogRequest).isCompletedOnRegisteredDate();
+
+        //when
+        questLogService.saveQuestLog(questLogRequest);
+
+        //then
+        verify(questLogDailyRollupRepository).increaseCounts(argThat((QuestLogDailyRollup rollup) ->
+                rollup.getCompleteCount() == 1 && rollup.getRegisteredCompleteCount() == 1
+        ));
+    }
+
+    @DisplayName("누적 상태 조회 시 유저의 누적 카운트가 반환된다")
+    @Test
+    public void getTotalStatisticsFromLifetimeCount() throws Exception {
+        //given
+        Long userId = 1L;
+        QuestLogLifetimeCount lifetimeCount = new QuestLogLifetimeCount(userId, 10, 5, 3, 2);
+        doReturn(Optional.of(lifetimeCount)).when(questLogLifetimeCountRepository).findById(eq(userId));
+
+        //when
+        StatusResponse totalStatistics = questLogService.getTotalStatistics(userId);
+
+        //then
+        assertThat(totalStatistics).isEqualTo(new StatusResponse(10L, 5L, 2L, 3L));
+    }
+
+    @DisplayName("누적 상태 조회 시 누적 카운트가 없으면 모두 0이 반환된다")
+    @Test
+    public void getTotalStatisticsWhenLifetimeCountNotExist() throws Exception {
+        //given
+        Long userId = 1L;
+        doReturn(Optional.empty()).when(questLogLifetimeCountRepository).findById(eq(userId));
+
+        //when
+        StatusResponse totalStatistics = questLogService.getTotalStatistics(userId);
+
+        //then
+        assertThat(totalStatistics).isEqualTo(new StatusResponse(0L, 0L, 0L, 0L));
+    }
+
+    private void addLogs(QuestLogDailyRollup rollup, QuestState state, QuestType type, int count) {
+        for (int i = 0; i < count; i++) {
+            rollup.addLog(state, type);
+        }
+    }
+
     @DisplayName("getRegistrationDaysSince 호출 시")
     @Nested
     class TestGetRegistrationDaysSince {
@@ -0,0 +1,111 @@
+package dailyquest.quest.service
+
+import dailyquest.config.JpaAuditingConfiguration
+import dailyquest.quest.dto.QuestSearchCondition
+import dailyquest.quest.entity.*
+import dailyquest.quest.repository.QuestRepository
+import dailyquest.search.dto.QuestSearchHits
+import dailyquest.user.entity.ProviderType
+import dailyquest.user.entity.User
+import dailyquest.user.repository.UserRepository
+import jakarta.persistence.EntityManager
+import jakarta.persistence.EntityManagerFactory
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.SessionFactory
+import org.hibernate.stat.Statistics
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.data.domain.PageRequest
+
+@DisplayName("퀘스트 목록 조회 쿼리 수 유닛 테스트")
+@DataJpaTest(properties = ["spring.jpa.properties.hibernate.generate_statistics=true"])
+@Import(JpaAuditingConfiguration::class, QuestQueryService::class)
+class QuestQueryServiceStatementCountUnitTest @Autowired constructor(
+    private val questQueryService: QuestQueryService,
+    private val questRepository: QuestRepository,
+    private val userRepository: UserRepository,
+    private val entityManager: EntityManager,
+    entityManagerFactory: EntityManagerFactory,
+) {
+    private val statistics: Statistics = entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+    private val questCount = 5
+    private val detailCountPerQuest = 2
+    private val searchCondition = QuestSearchCondition(null, null, null, null, null, null)
+    private lateinit var user: User
+    private lateinit var quests: List<Quest>
+
+    @BeforeEach
+    fun init() {
+        user = userRepository.save(User("", "user", ProviderType.GOOGLE))
+        quests = (1..questCount).map {
+            val quest = Quest("title$it", "", user.id, it.toLong(), QuestState.PROCEED, QuestType.MAIN)
+            quest.replaceDetailQuests((1..detailCountPerQuest).map { detailSeq ->
+                DetailQuest.of("detail$detailSeq", 1, DetailQuestType.CHECK, DetailQuestState.PROCEED, quest)
+            })
+            questRepository.save(quest)
+        }
+        entityManager.flush()
+        entityManager.clear()
+        statistics.clear()
+    }
+
+    @DisplayName("조건 검색 시 퀘스트 목록, 개수, 세부 퀘스트 조회로 3번의 쿼리만 실행된다")
+    @Test
+    fun `조건 검색 시 퀘스트 목록, 개수, 세부 퀘스트 조회로 3번의 쿼리만 실행된다`() {
+        //given
+        //when
+        val result = questQueryService.getQuestsByCondition(user.id, searchCondition, PageRequest.of(0, 20))
+
+        //then
+        assertThat(result.content).hasSize(questCount)
+        assertThat(result.content).allMatch { it.detailQuests.size == detailCountPerQuest }
+        assertThat(statistics.prepareStatementCount).isEqualTo(3)
+    }
+
+    @DisplayName("커서 기반 조건 검색 시 퀘스트 목록, 세부 퀘스트 조회로 2번의 쿼리만 실행된다")
+    @Test
+    fun `커서 기반 조건 검색 시 퀘스트 목록, 세부 퀘스트 조회로 2번의 쿼리만 실행된다`() {
+        //given
+        //when
+        val result = questQueryService.getQuestsByConditionAfter(user.id, searchCondition, null, 20, false)
+
+        //then
+        assertThat(result.content).hasSize(questCount)
+        assertThat(result.content).allMatch { it.detailQuests.size == detailCountPerQuest }
+        assertThat(statistics.prepareStatementCount).isEqualTo(2)
+    }
+
+    @DisplayName("검색된 ID로 조회 시 개수 조회 없이 세부 퀘스트까지 1번의 쿼리로 조회되고 검색 순위가 유지된다")
+    @Test
+    fun `검색된 ID로 조회 시 개수 조회 없이 세부 퀘스트까지 1번의 쿼리로 조회되고 검색 순위가 유지된다`() {
+        //given
+        val rankedIds = listOf(quests[2].id, quests[0].id, quests[4].id)
+        val searchHits = QuestSearchHits(rankedIds, 42L)
+
+        //when
+        val result = questQueryService.getSearchedQuests(searchHits, PageRequest.of(0, 3))
+
+        //then
+        assertThat(result.content).extracting<Long> { it.id }.containsExactlyElementsOf(rankedIds)
+        assertThat(result.content).allMatch { it.detailQuests.size == detailCountPerQuest }
+        assertThat(result.totalElements).isEqualTo(42L)
+        assertThat(statistics.prepareStatementCount).isEqualTo(1)
+    }
+
+    @DisplayName("현재 퀘스트 조회 시 세부 퀘스트까지 1번의 쿼리로 조회된다")
+    @Test
+    fun `현재 퀘스트 조회 시 세부 퀘스트까지 1번의 쿼리로 조회된다`() {
+        //given
+        //when
+        val result = questQueryService.getCurrentQuests(user.id, QuestState.PROCEED)
+
+        //then
+        assertThat(result).hasSize(questCount)
+        assertThat(result).allMatch { it.detailQuests.size == detailCountPerQuest }
+        assertThat(statistics.prepareStatementCount).isEqualTo(1)
+    }
+}
@@ -1,8 +1,15 @@
 package dailyquest.quest.service;
 
+import dailyquest.quest.dto.QuestResponse;
+import dailyquest.quest.dto.QuestSearchCondition;
+import dailyquest.quest.dto.QuestSliceResponse;
 import dailyquest.quest.entity.Quest;
 import dailyquest.quest.entity.QuestState;
+import dailyquest.quest.entity.QuestType;
 import dailyquest.quest.repository.QuestRepository;
+import dailyquest.search.dto.QuestSearchHits;
+import dailyquest.search.dto.QuestSearchResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,12 +21,17 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -115,4 +127,192 @@ public class QuestQueryServiceUnitTest {
             }
         }
     }
+
+    @DisplayName("커서 기반 퀘스트 조회 시")
+    @Nested
+    class QuestsByConditionAfterTest {
+        private final Long userId = 1L;
+        private final int size = 2;
+        private final QuestSearchCondition condition = new QuestSearchCondition(null, null, null, null, null, null);
+        private MockedStatic<QuestResponse> questResponseMockedStatic;
+
+        @BeforeEach
+        void init() {
+            questResponseMockedStatic = mockStatic(QuestResponse.class);
+            questResponseMockedStatic.when(() -> QuestResponse.createDto(any()))
+                    .thenAnswer(invocation -> responseOf(((Quest) invocation.getArgument(0)).getId()));
+        }
+
+        @AfterEach
+        void close() {
+            questResponseMockedStatic.close();
+        }
+
+        private QuestResponse responseOf(Long id) {
+            LocalDateTime now = LocalDateTime.now();
+            return new QuestResponse(id, "", "", 1L, QuestState.PROCEED, now, now, List.of(), false, QuestType.MAIN, null);
+        }
+
+        private Quest questOf(Long id) {
+            Quest quest = mock(Quest.class);
+            doReturn(id).when(quest).getId();
+            return quest;
+        }
+
+        @DisplayName("요청 크기보다 하나 더 조회해 다음 페이지 여부를 판단하고, 마지막 퀘스트 ID를 다음 커서로 반환한다")
+        @Test
+        public void returnNextCursorWhenHasNext() {
+            //given
+            doReturn(List.of(questOf(5L), questOf(4L), questOf(3L)))
+                    .when(questRepository).findQuestsByConditionAfter(any(), any(), any(), anyInt());
+
+            //when
+            QuestSliceResponse result = questQueryService.getQuestsByConditionAfter(userId, condition, 6L, size, false);
+
+            //then
+            verify(questRepository).findQuestsByConditionAfter(eq(userId), eq(condition), eq(6L), eq(size + 1));
+            assertThat(result.getContent()).extracting(QuestResponse::getId).containsExactly(5L, 4L);
+            assertThat(result.getHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo(4L);
+        }
+
+        @DisplayName("요청 크기 이하로 조회되면 다음 커서가 null 이다")
+        @Test
+        public void returnNullCursorWhenLastSlice() {
+            //given
+            doReturn(List.of(questOf(2L)))
+                    .when(questRepository).findQuestsByConditionAfter(any(), any(), any(), anyInt());
+
+            //when
+            QuestSliceResponse result = questQueryService.getQuestsByConditionAfter(userId, condition, 3L, size, false);
+
+            //then
+            assertThat(result.getHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @DisplayName("개수 조회를 요청하지 않으면 개수 조회 쿼리가 실행되지 않는다")
+        @Test
+        public void doNotCountWithoutWithCount() {
+            //given
+            doReturn(List.of()).when(questRepository).findQuestsByConditionAfter(any(), any(), any(), anyInt());
+
+            //when
+            QuestSliceResponse result = questQueryService.getQuestsByConditionAfter(userId, condition, null, size, false);
+
+            //then
+            verify(questRepository, never()).countQuestsByConditionUpTo(any(), any(), anyLong());
+            verify(questRepository, never()).findQuestsByCondition(any(), any(), any());
+            assertThat(result.getApproximateCount()).isNull();
+        }
+
+        @DisplayName("개수 조회를 요청하면 상한까지 센 개수가 반환된다")
+        @Test
+        public void countUpToLimitWithCount() {
+            //given
+            doReturn(List.of()).when(questRepository).findQuestsByConditionAfter(any(), any(), any(), anyInt());
+            doReturn(QuestQueryService.APPROXIMATE_COUNT_LIMIT)
+                    .when(questRepository).countQuestsByConditionUpTo(any(), any(), anyLong());
+
+            //when
+            QuestSliceResponse result = questQueryService.getQuestsByConditionAfter(userId, condition, null, size, true);
+
+            //then
+            verify(questRepository).countQuestsByConditionUpTo(eq(userId), eq(condition), eq(QuestQueryService.APPROXIMATE_COUNT_LIMIT));
+            assertThat(result.getApproximateCount()).isEqualTo(QuestQueryService.APPROXIMATE_COUNT_LIMIT);
+        }
+    }
+
+    @DisplayName("검색된 퀘스트 조회 시")
+    @Nested
+    class SearchedQuestsTest {
+        private MockedStatic<QuestResponse> questResponseMockedStatic;
+
+        @BeforeEach
+        void init() {
+            questResponseMockedStatic = mockStatic(QuestResponse.class);
+            questResponseMockedStatic.when(() -> QuestResponse.createDto(any()))
+                    .thenAnswer(invocation -> {
+                        LocalDateTime now = LocalDateTime.now();
+                        Long id = ((Quest) invocation.getArgument(0)).getId();
+                        return new QuestResponse(id, "", "", 1L, QuestState.PROCEED, now, now, List.of(), false, QuestType.MAIN, null);
+                    });
+        }
+
+        @AfterEach
+        void close() {
+            questResponseMockedStatic.close();
+        }
+
+        private Quest questOf(Long id) {
+            Quest quest = mock(Quest.class);
+            doReturn(id).when(quest).getId();
+            return quest;
+        }
+
+        @DisplayName("검색 순위 순서대로 반환되고, 조회되지 않은 퀘스트는 제외된다")
+        @Test
+        public void keepSearchRankOrder() {
+            //given
+            QuestSearchHits searchHits = new QuestSearchHits(List.of(3L, 1L, 4L, 2L), 10L);
+            doReturn(List.of(questOf(1L), questOf(2L), questOf(3L)))
+                    .when(questRepository).findAllByIdIn(any());
+
+            //when
+            Page<QuestResponse> result = questQueryService.getSearchedQuests(searchHits, PageRequest.of(0, 4));
+
+            //then
+            assertThat(result.getContent()).extracting(QuestResponse::getId).containsExactly(3L, 1L, 2L);
+        }
+
+        @DisplayName("전체 개수는 검색 결과의 전체 히트 수가 사용된다")
+        @Test
+        public void useTotalHitsAsTotalElements() {
+            //given
+            QuestSearchHits searchHits = new QuestSearchHits(List.of(1L), 10L);
+            doReturn(List.of(questOf(1L))).when(questRepository).findAllByIdIn(any());
+
+            //when
+            Page<QuestResponse> result = questQueryService.getSearchedQuests(searchHits, PageRequest.of(0, 1));
+
+            //then
+            assertThat(result.getTotalElements()).isEqualTo(10L);
+        }
+
+        @DisplayName("검색된 ID가 없으면 DB를 조회하지 않는다")
+        @Test
+        public void doNotQueryWhenNoHits() {
+            //given
+            QuestSearchHits searchHits = new QuestSearchHits(List.of(), 0L);
+
+            //when
+            Page<QuestResponse> result = questQueryService.getSearchedQuests(searchHits, PageRequest.of(0, 10));
+
+            //then
+            verify(questRepository, never()).findAllByIdIn(any());
+            assertThat(result.getContent()).isEmpty();
+        }
+
+        @DisplayName("문서 검색 결과를 보충하면 인덱스에 없는 필드만 DB 값으로 채워진다")
+        @Test
+        public void hydrateOnlyFieldsMissingInIndex() {
+            //given
+            QuestSearchResponse searchedQuest = new QuestSearchResponse(1L, "indexed title", "", QuestState.PROCEED, null,
+                    List.of(), Map.of(), null, null, null, null, null);
+            QuestSearchResponse notFoundQuest = new QuestSearchResponse(2L, "", "", QuestState.PROCEED, null,
+                    List.of(), Map.of(), null, null, null, null, null);
+            doReturn(List.of(questOf(1L))).when(questRepository).findAllByIdIn(any());
+
+            //when
+            Page<QuestSearchResponse> result = questQueryService.hydrateSearchedQuests(
+                    new PageImpl<>(List.of(searchedQuest, notFoundQuest), PageRequest.of(0, 2), 2));
+
+            //then
+            QuestSearchResponse hydrated = result.getContent().get(0);
+            assertThat(hydrated.getTitle()).isEqualTo("indexed title");
+            assertThat(hydrated.getType()).isEqualTo(QuestType.MAIN);
+            assertThat(hydrated.getDetailQuests()).isEmpty();
+            assertThat(result.getContent().get(1)).isEqualTo(notFoundQuest);
+        }
+    }
 }
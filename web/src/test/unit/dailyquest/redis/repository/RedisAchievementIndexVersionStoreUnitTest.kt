@@ -0,0 +1,52 @@
+package dailyquest.redis.repository
+
+import dailyquest.properties.RedisKeyProperties
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+
+@DisplayName("업적 목표값 인덱스 버전 저장소 유닛 테스트")
+class RedisAchievementIndexVersionStoreUnitTest {
+
+    private lateinit var valueOps: ValueOperations<String, String>
+    private lateinit var store: RedisAchievementIndexVersionStore
+    private val key = "aiv"
+
+    @BeforeEach
+    fun init() {
+        val redisTemplate = mockk<RedisTemplate<String, String>>()
+        valueOps = mockk(relaxed = true)
+        every { redisTemplate.opsForValue() } returns valueOps
+        store = RedisAchievementIndexVersionStore(redisTemplate, RedisKeyProperties().apply { achievementIndexVersion = key })
+    }
+
+    @DisplayName("버전 키가 없으면 0을 반환한다")
+    @Test
+    fun `버전 키가 없으면 0을 반환한다`() {
+        //given
+        every { valueOps.get(key) } returns null
+
+        //when
+        val version = store.getVersion()
+
+        //then
+        assertThat(version).isZero()
+    }
+
+    @DisplayName("버전을 올리면 버전 키의 값을 증가시킨다")
+    @Test
+    fun `버전을 올리면 버전 키의 값을 증가시킨다`() {
+        //given
+        //when
+        store.increaseVersion()
+
+        //then
+        verify { valueOps.increment(key) }
+    }
+}
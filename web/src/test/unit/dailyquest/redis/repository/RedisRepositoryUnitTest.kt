@@ -0,0 +1,162 @@
+package dailyquest.redis.repository
+
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.properties.RedisNearCacheProperties
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.Mock
+import org.mockito.junit.jupiter.MockitoExtension
+import org.mockito.junit.jupiter.MockitoSettings
+import org.mockito.kotlin.*
+import org.mockito.quality.Strictness
+import org.springframework.data.redis.core.BoundHashOperations
+import org.springframework.data.redis.core.HashOperations
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+
+@ExtendWith(MockitoExtension::class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("레디스 리포지토리 유닛 테스트")
+class RedisRepositoryUnitTest {
+
+    @Mock
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @Mock
+    lateinit var valueOps: ValueOperations<String, String>
+    @Mock
+    lateinit var hashOps: HashOperations<String, Int, Long>
+    @Mock
+    lateinit var settingsOps: BoundHashOperations<String, String, Long>
+
+    private val redisKeyProperties = RedisKeyProperties().apply {
+        expTable = "et"
+        settings = "s"
+        questClearExp = "qce"
+        questClearGold = "qcg"
+        maxRewardCount = "mrc"
+        configVersion = "cv"
+    }
+    private val redisNearCacheProperties = RedisNearCacheProperties().apply {
+        versionCheckIntervalMillis = 60000
+    }
+    private lateinit var redisRepository: RedisRepository
+
+    @BeforeEach
+    fun init() {
+        doReturn(valueOps).whenever(redisTemplate).opsForValue()
+        doReturn(hashOps).whenever(redisTemplate).opsForHash<Int, Long>()
+        doReturn(settingsOps).whenever(redisTemplate).boundHashOps<String, Long>("s")
+        doReturn("1").whenever(valueOps).get("cv")
+        doReturn(mapOf(1 to 10L, 2 to 20L, 3 to 30L, 4 to 0L)).whenever(hashOps).entries("et")
+        doReturn(listOf(1L, 2L, 30L)).whenever(settingsOps).multiGet(listOf("qce", "qcg", "mrc"))
+        redisRepository = RedisRepository(redisTemplate, redisKeyProperties, redisNearCacheProperties)
+    }
+
+    @DisplayName("설정값 조회 시")
+    @Nested
+    inner class TestGetSettings {
+        @DisplayName("퀘스트 클리어 경험치와 골드를 각각의 키로 조회한다")
+        @Test
+        fun `퀘스트 클리어 경험치와 골드를 각각의 키로 조회한다`() {
+            //given
+            //when
+            val clearExp = redisRepository.getQuestClearExp()
+            val clearGold = redisRepository.getQuestClearGold()
+
+            //then
+            assertThat(clearExp).isEqualTo(1L)
+            assertThat(clearGold).isEqualTo(2L)
+        }
+
+        @DisplayName("확인 주기 안에서는 Redis 를 다시 조회하지 않는다")
+        @Test
+        fun `확인 주기 안에서는 Redis 를 다시 조회하지 않는다`() {
+            //given
+            //when
+            repeat(10) {
+                redisRepository.getExpTable()
+                redisRepository.getQuestClearExp()
+                redisRepository.getQuestClearGold()
+            }
+
+            //then
+            verify(valueOps, times(1)).get("cv")
+            verify(hashOps, times(1)).entries("et")
+            verify(settingsOps, times(1)).multiGet(any())
+        }
+    }
+
+    @DisplayName("경험치 테이블 조회 시")
+    @Nested
+    inner class TestGetExpTable {
+        @DisplayName("같은 버전에서는 한 번 컴파일한 레벨 곡선을 재사용한다")
+        @Test
+        fun `같은 버전에서는 한 번 컴파일한 레벨 곡선을 재사용한다`() {
+            //given
+            redisNearCacheProperties.versionCheckIntervalMillis = 0
+            val levelCurve = redisRepository.getLevelCurve()
+
+            //when
+            val result = redisRepository.getLevelCurve()
+
+            //then
+            assertThat(result).isSameAs(levelCurve)
+            assertThat(result.calculateLevel(35)).isEqualTo(Triple(3, 5L, 30L))
+        }
+    }
+
+    @DisplayName("설정 버전 확인 시")
+    @Nested
+    inner class TestConfigVersion {
+        @DisplayName("버전이 그대로라면 값을 다시 읽지 않는다")
+        @Test
+        fun `버전이 그대로라면 값을 다시 읽지 않는다`() {
+            //given
+            redisNearCacheProperties.versionCheckIntervalMillis = 0
+            redisRepository.getExpTable()
+
+            //when
+            redisRepository.getExpTable()
+
+            //then
+            verify(valueOps, times(2)).get("cv")
+            verify(hashOps, times(1)).entries("et")
+        }
+
+        @DisplayName("버전이 바뀌었다면 값을 다시 읽는다")
+        @Test
+        fun `버전이 바뀌었다면 값을 다시 읽는다`() {
+            //given
+            redisNearCacheProperties.versionCheckIntervalMillis = 0
+            redisRepository.getExpTable()
+            doReturn("2").whenever(valueOps).get("cv")
+            doReturn(mapOf(1 to 5L)).whenever(hashOps).entries("et")
+
+            //when
+            val expTable = redisRepository.getExpTable()
+
+            //then
+            assertThat(expTable).containsExactlyEntriesOf(mapOf(1 to 5L))
+            verify(hashOps, times(2)).entries("et")
+        }
+
+        @DisplayName("설정 버전을 올리면 현재 노드의 사본도 즉시 버린다")
+        @Test
+        fun `설정 버전을 올리면 현재 노드의 사본도 즉시 버린다`() {
+            //given
+            redisRepository.getExpTable()
+
+            //when
+            redisRepository.increaseConfigVersion()
+            redisRepository.getExpTable()
+
+            //then
+            verify(valueOps).increment("cv")
+            verify(hashOps, times(2)).entries("et")
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package dailyquest.search.service
+
+import dailyquest.properties.ElasticSyncPublisherProperties
+import dailyquest.sqs.dto.ElasticSyncMessage
+import dailyquest.sqs.dto.ElasticSyncRequestType
+import dailyquest.sqs.service.SqsService
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.just
+import io.mockk.mockk
+import io.mockk.runs
+import io.mockk.slot
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("검색 문서 동기화 메시지 발행기 유닛 테스트")
+class ElasticSyncMessagePublisherUnitTest {
+
+    private lateinit var sqsService: SqsService
+    private lateinit var properties: ElasticSyncPublisherProperties
+    private lateinit var meterRegistry: SimpleMeterRegistry
+    private lateinit var publisher: ElasticSyncMessagePublisher
+    private val sentBatches = mutableListOf<List<ElasticSyncMessage>>()
+
+    @BeforeEach
+    fun init() {
+        sqsService = mockk()
+        val batch = slot<Collection<ElasticSyncMessage>>()
+        every { sqsService.publishElasticSyncMessages(capture(batch)) } answers { sentBatches.add(batch.captured.toList()) }
+        properties = ElasticSyncPublisherProperties()
+        meterRegistry = SimpleMeterRegistry()
+        publisher = ElasticSyncMessagePublisher(sqsService, properties, meterRegistry)
+    }
+
+    @DisplayName("전송 전에 같은 문서의 메시지가 다시 들어오면 마지막 메시지만 전송된다")
+    @Test
+    fun `전송 전에 같은 문서의 메시지가 다시 들어오면 마지막 메시지만 전송된다`() {
+        //given
+        val documentId = 1L
+        val lastMessage = ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, documentId)
+        publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, documentId, "{\"title\":\"1\"}"))
+        publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, documentId, "{\"title\":\"2\"}"))
+        publisher.publish(lastMessage)
+
+        //when
+        publisher.flush()
+
+        //then
+        assertThat(sentBatches).containsExactly(listOf(lastMessage))
+        assertThat(meterRegistry.counter(ElasticSyncMessagePublisher.COALESCED_METRIC_NAME).count()).isEqualTo(2.0)
+    }
+
+    @DisplayName("늦게 도착한 이전 버전의 메시지는 대기 중인 최신 버전의 메시지를 교체하지 않는다")
+    @Test
+    fun `늦게 도착한 이전 버전의 메시지는 대기 중인 최신 버전의 메시지를 교체하지 않는다`() {
+        //given
+        val documentId = 1L
+        val newerMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, documentId, "{\"title\":\"2\"}", 2L)
+        publisher.publish(newerMessage)
+        publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, documentId, "{\"title\":\"1\"}", 1L))
+
+        //when
+        publisher.flush()
+
+        //then
+        assertThat(sentBatches).containsExactly(listOf(newerMessage))
+    }
+
+    @DisplayName("대기 중인 메시지는 SQS 배치 전송 크기 단위로 나뉘어 전송된다")
+    @Test
+    fun `대기 중인 메시지는 SQS 배치 전송 크기 단위로 나뉘어 전송된다`() {
+        //given
+        val messageCount = SqsService.MAX_BATCH_SIZE * 2 + 5
+        (1..messageCount).forEach { publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, it.toLong())) }
+
+        //when
+        publisher.flush()
+
+        //then
+        assertThat(sentBatches.map { it.size }).containsExactly(SqsService.MAX_BATCH_SIZE, SqsService.MAX_BATCH_SIZE, 5)
+        assertThat(publisher.pendingCount()).isZero()
+        assertThat(meterRegistry.timer(ElasticSyncMessagePublisher.LATENCY_METRIC_NAME).count()).isEqualTo(messageCount.toLong())
+        assertThat(meterRegistry.timer(ElasticSyncMessagePublisher.FLUSH_METRIC_NAME).count()).isEqualTo(1L)
+    }
+
+    @DisplayName("대기 중인 메시지는 SQS 배치 전송의 전체 페이로드 크기 제한을 넘지 않도록 나뉘어 전송된다")
+    @Test
+    fun `대기 중인 메시지는 SQS 배치 전송의 전체 페이로드 크기 제한을 넘지 않도록 나뉘어 전송된다`() {
+        //given
+        val documentJson = "x".repeat(SqsService.MAX_BATCH_PAYLOAD_BYTES / 3)
+        (1..5).forEach { publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, it.toLong(), documentJson)) }
+
+        //when
+        publisher.flush()
+
+        //then
+        assertThat(sentBatches.map { it.size }).containsExactly(2, 2, 1)
+        assertThat(sentBatches).allSatisfy { batch ->
+            assertThat(batch.sumOf { SqsService.payloadBytesOf(it) }).isLessThanOrEqualTo(SqsService.MAX_BATCH_PAYLOAD_BYTES)
+        }
+    }
+
+    @DisplayName("대기열이 가득 찬 상태로 대기 시간이 지나면 예외가 발생한다")
+    @Test
+    fun `대기열이 가득 찬 상태로 대기 시간이 지나면 예외가 발생한다`() {
+        //given
+        properties.maxPendingMessages = 1
+        properties.offerTimeoutMillis = 10
+        publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L))
+
+        //when
+        val run = { publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 2L)) }
+
+        //then
+        assertThatThrownBy { run() }.isInstanceOf(IllegalStateException::class.java)
+        assertThat(publisher.pendingCount()).isEqualTo(1)
+    }
+
+    @DisplayName("대기열이 가득 차도 이미 대기 중인 문서의 메시지는 바로 교체된다")
+    @Test
+    fun `대기열이 가득 차도 이미 대기 중인 문서의 메시지는 바로 교체된다`() {
+        //given
+        properties.maxPendingMessages = 1
+        properties.offerTimeoutMillis = 0
+        publisher.publish(ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, 1L, "{}"))
+        val lastMessage = ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L)
+
+        //when
+        publisher.publish(lastMessage)
+
+        //then
+        publisher.flush()
+        assertThat(sentBatches).containsExactly(listOf(lastMessage))
+    }
+
+    @DisplayName("전송에 실패한 메시지는 대기열로 돌아가 다음 전송 때 다시 전송된다")
+    @Test
+    fun `전송에 실패한 메시지는 대기열로 돌아가 다음 전송 때 다시 전송된다`() {
+        //given
+        val message = ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L)
+        every { sqsService.publishElasticSyncMessages(any()) } throws RuntimeException() andThen Unit
+        publisher.publish(message)
+
+        //when
+        publisher.flush()
+        publisher.flush()
+
+        //then
+        verify(exactly = 2) { sqsService.publishElasticSyncMessages(listOf(message)) }
+        assertThat(publisher.pendingCount()).isZero()
+        assertThat(meterRegistry.counter(ElasticSyncMessagePublisher.FAILED_METRIC_NAME).count()).isEqualTo(1.0)
+    }
+
+    @DisplayName("전송에 실패한 사이 같은 문서에 새 메시지가 들어오면 새 메시지가 유지된다")
+    @Test
+    fun `전송에 실패한 사이 같은 문서에 새 메시지가 들어오면 새 메시지가 유지된다`() {
+        //given
+        val failedMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, 1L, "{}")
+        val newMessage = ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L)
+        every { sqsService.publishElasticSyncMessages(listOf(failedMessage)) } answers {
+            publisher.publish(newMessage)
+            throw RuntimeException()
+        }
+        every { sqsService.publishElasticSyncMessages(listOf(newMessage)) } just runs
+        publisher.publish(failedMessage)
+
+        //when
+        publisher.flush()
+        publisher.flush()
+
+        //then
+        verify(exactly = 1) { sqsService.publishElasticSyncMessages(listOf(newMessage)) }
+        assertThat(publisher.pendingCount()).isZero()
+    }
+
+    @DisplayName("전송에 실패한 사이 같은 문서에 이전 버전의 메시지가 들어오면 실패한 최신 버전의 메시지가 유지된다")
+    @Test
+    fun `전송에 실패한 사이 같은 문서에 이전 버전의 메시지가 들어오면 실패한 최신 버전의 메시지가 유지된다`() {
+        //given
+        val failedMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, 1L, "{\"title\":\"2\"}", 2L)
+        val olderMessage = ElasticSyncMessage.of(ElasticSyncRequestType.PERSIST, 1L, "{\"title\":\"1\"}", 1L)
+        every { sqsService.publishElasticSyncMessages(listOf(failedMessage)) } answers {
+            publisher.publish(olderMessage)
+            throw RuntimeException()
+        } andThen Unit
+        publisher.publish(failedMessage)
+
+        //when
+        publisher.flush()
+        publisher.flush()
+
+        //then
+        verify(exactly = 2) { sqsService.publishElasticSyncMessages(listOf(failedMessage)) }
+        verify(exactly = 0) { sqsService.publishElasticSyncMessages(listOf(olderMessage)) }
+        assertThat(publisher.pendingCount()).isZero()
+    }
+
+    @DisplayName("최대 시도 횟수만큼 전송에 실패한 메시지는 더 이상 전송하지 않고 버린다")
+    @Test
+    fun `최대 시도 횟수만큼 전송에 실패한 메시지는 더 이상 전송하지 않고 버린다`() {
+        //given
+        properties.maxSendAttempts = 2
+        val message = ElasticSyncMessage.of(ElasticSyncRequestType.DELETE, 1L)
+        every { sqsService.publishElasticSyncMessages(any()) } throws RuntimeException()
+        publisher.publish(message)
+
+        //when
+        repeat(3) { publisher.flush() }
+
+        //then
+        verify(exactly = 2) { sqsService.publishElasticSyncMessages(listOf(message)) }
+        assertThat(publisher.pendingCount()).isZero()
+        assertThat(meterRegistry.counter(ElasticSyncMessagePublisher.DROPPED_METRIC_NAME).count()).isEqualTo(1.0)
+    }
+}
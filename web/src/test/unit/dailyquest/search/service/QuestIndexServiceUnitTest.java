@@ -5,6 +5,8 @@ import dailyquest.quest.dto.QuestSearchKeywordType;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.service.QuestQueryService;
 import dailyquest.search.document.QuestDocument;
+import dailyquest.search.dto.QuestSearchHits;
+import dailyquest.search.dto.QuestSearchResponse;
 import dailyquest.search.repository.QuestIndexRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,15 +19,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.data.client.orhlc.NativeSearchQuery;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.opensearch.index.query.QueryBuilders.*;
@@ -192,6 +202,112 @@ public class QuestIndexServiceUnitTest {
             verify(operations).search(nativeQueryCaptor.capture(), eq(QuestDocument.class));
             assertThat(nativeQueryCaptor.getValue().getPageable()).isEqualTo(pageable);
         }
+
+        @DisplayName("검색 순위 순서의 ID와 전체 히트 수가 반환된다")
+        @Test
+        public void returnRankedIdsAndTotalHits() throws Exception {
+            //given
+            long userId = 1L;
+            QuestSearchCondition searchCondition = new QuestSearchCondition(0, null, QuestSearchKeywordType.ALL, "keyword", null, null);
+            Pageable pageable = PageRequest.of(0, 10);
+
+            SearchHit<QuestDocument> firstHit = mock(SearchHit.class);
+            SearchHit<QuestDocument> secondHit = mock(SearchHit.class);
+            doReturn("3").when(firstHit).getId();
+            doReturn("1").when(secondHit).getId();
+            SearchHits<QuestDocument> searchHits = mock(SearchHits.class);
+            doReturn(Stream.of(firstHit, secondHit)).when(searchHits).stream();
+            doReturn(25L).when(searchHits).getTotalHits();
+            doReturn(searchHits).when(operations).search(any(NativeSearchQuery.class), eq(QuestDocument.class));
+
+            //when
+            QuestSearchHits result = questIndexService.searchDocuments(searchCondition, userId, pageable);
+
+            //then
+            assertThat(result.getIds()).containsExactly(3L, 1L);
+            assertThat(result.getTotalHits()).isEqualTo(25L);
+        }
+    }
+
+    @DisplayName("문서 원본 검색 요청 시")
+    @Nested
+    class SearchSourceDocumentTest {
+        private final long userId = 1L;
+        private final Pageable pageable = PageRequest.of(0, 10);
+
+        private void stubEmptySearchHits() {
+            SearchHits<QuestDocument> searchHits = mock(SearchHits.class);
+            doReturn(Stream.empty()).when(searchHits).stream();
+            doReturn(searchHits).when(operations).search(any(NativeSearchQuery.class), eq(QuestDocument.class));
+        }
+
+        @DisplayName("응답에 필요한 필드만 가져오도록 소스 필터가 추가된다")
+        @Test
+        public void addSourceFilterToQuery() throws Exception {
+            //given
+            QuestSearchCondition searchCondition = new QuestSearchCondition(0, null, QuestSearchKeywordType.ALL, "keyword", null, null);
+            ArgumentCaptor<NativeSearchQuery> nativeQueryCaptor = ArgumentCaptor.forClass(NativeSearchQuery.class);
+            stubEmptySearchHits();
+
+            //when
+            questIndexService.searchSourceDocuments(searchCondition, userId, pageable);
+
+            //then
+            verify(operations).search(nativeQueryCaptor.capture(), eq(QuestDocument.class));
+            assertThat(nativeQueryCaptor.getValue().getSourceFilter().getIncludes())
+                    .containsExactlyInAnyOrder("title", "description", "detailTitles", "state", "createdDate");
+            assertThat(nativeQueryCaptor.getValue().getPageable()).isEqualTo(pageable);
+        }
+
+        @DisplayName("검색 키워드 타입의 필드가 하이라이트 필드로 추가된다")
+        @Test
+        public void addKeywordFieldsAsHighlightFields() throws Exception {
+            //given
+            QuestSearchCondition searchCondition = new QuestSearchCondition(0, null, QuestSearchKeywordType.TITLE_AND_DESCRIPTION, "keyword", null, null);
+            ArgumentCaptor<NativeSearchQuery> nativeQueryCaptor = ArgumentCaptor.forClass(NativeSearchQuery.class);
+            stubEmptySearchHits();
+
+            //when
+            questIndexService.searchSourceDocuments(searchCondition, userId, pageable);
+
+            //then
+            verify(operations).search(nativeQueryCaptor.capture(), eq(QuestDocument.class));
+            assertThat(nativeQueryCaptor.getValue().getHighlightFields())
+                    .extracting(HighlightBuilder.Field::name)
+                    .containsExactly("title", "description");
+        }
+
+        @DisplayName("문서 원본과 하이라이트로 결과가 만들어지고, 전체 개수는 전체 히트 수가 사용된다")
+        @Test
+        public void returnResponsesFromSource() throws Exception {
+            //given
+            QuestSearchCondition searchCondition = new QuestSearchCondition(0, null, QuestSearchKeywordType.ALL, "keyword", null, null);
+            LocalDateTime createdDate = LocalDateTime.of(2022, 12, 12, 12, 0);
+            QuestDocument document = new QuestDocument(null, "title", "description", List.of("detail"), null, QuestState.PROCEED.name(), createdDate, null);
+
+            SearchHit<QuestDocument> searchHit = mock(SearchHit.class);
+            doReturn("7").when(searchHit).getId();
+            doReturn(document).when(searchHit).getContent();
+            doReturn(Map.of("title", List.of("<em>title</em>"))).when(searchHit).getHighlightFields();
+            SearchHits<QuestDocument> searchHits = mock(SearchHits.class);
+            doReturn(Stream.of(searchHit)).when(searchHits).stream();
+            doReturn(25L).when(searchHits).getTotalHits();
+            doReturn(searchHits).when(operations).search(any(NativeSearchQuery.class), eq(QuestDocument.class));
+
+            //when
+            Page<QuestSearchResponse> result = questIndexService.searchSourceDocuments(searchCondition, userId, pageable);
+
+            //then
+            assertThat(result.getTotalElements()).isEqualTo(25L);
+            QuestSearchResponse response = result.getContent().get(0);
+            assertThat(response.getId()).isEqualTo(7L);
+            assertThat(response.getTitle()).isEqualTo("title");
+            assertThat(response.getState()).isEqualTo(QuestState.PROCEED);
+            assertThat(response.getCreatedDate()).isEqualTo(createdDate);
+            assertThat(response.getDetailTitles()).containsExactly("detail");
+            assertThat(response.getHighlights()).containsEntry("title", List.of("<em>title</em>"));
+            assertThat(response.getDetailQuests()).isNull();
+        }
     }
 
 }
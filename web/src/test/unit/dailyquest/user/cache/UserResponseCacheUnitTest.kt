@@ -0,0 +1,216 @@
+package dailyquest.user.cache
+
+import dailyquest.properties.UserCacheProperties
+import dailyquest.user.dto.UserResponse
+import dailyquest.user.event.UserUpdatedEvent
+import dailyquest.user.service.UserService
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.impl.annotations.MockK
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import java.time.Duration
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("유저 정보 캐시 유닛 테스트")
+class UserResponseCacheUnitTest {
+    @RelaxedMockK
+    lateinit var userService: UserService
+    @MockK
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @RelaxedMockK
+    lateinit var valueOps: ValueOperations<String, String>
+
+    private val userCacheProperties = UserCacheProperties()
+    private val meterRegistry = SimpleMeterRegistry()
+    private lateinit var userResponseCache: UserResponseCache
+    private val userId = 1L
+    private val userResponse = UserResponse(userId, "nickname", exp = 10)
+
+    @BeforeEach
+    fun init() {
+        every { userService.getUserById(userId) } returns userResponse
+        every { redisTemplate.opsForValue() } returns valueOps
+        every { redisTemplate.delete(any<String>()) } returns true
+        userResponseCache = UserResponseCache(userService, redisTemplate, userCacheProperties, meterRegistry)
+    }
+
+    @DisplayName("로컬 캐시 사용 시")
+    @Nested
+    inner class TestLocalCache {
+        @DisplayName("TTL 안에서는 유저 정보를 다시 조회하지 않는다")
+        @Test
+        fun `TTL 안에서는 유저 정보를 다시 조회하지 않는다`() {
+            //given
+            userResponseCache.getUser(userId)
+
+            //when
+            val result = userResponseCache.getUser(userId)
+
+            //then
+            assertThat(result).isSameAs(userResponse)
+            verify(exactly = 1) { userService.getUserById(userId) }
+        }
+
+        @DisplayName("TTL 이 지나면 유저 정보를 다시 조회한다")
+        @Test
+        fun `TTL 이 지나면 유저 정보를 다시 조회한다`() {
+            //given
+            userCacheProperties.localTtlMillis = 0
+            userResponseCache.getUser(userId)
+
+            //when
+            userResponseCache.getUser(userId)
+
+            //then
+            verify(exactly = 2) { userService.getUserById(userId) }
+        }
+
+        @DisplayName("유저 변경 이벤트를 받으면 캐시를 비운다")
+        @Test
+        fun `유저 변경 이벤트를 받으면 캐시를 비운다`() {
+            //given
+            userResponseCache.getUser(userId)
+
+            //when
+            userResponseCache.evict(UserUpdatedEvent(userId))
+            userResponseCache.getUser(userId)
+
+            //then
+            verify(exactly = 2) { userService.getUserById(userId) }
+        }
+
+        @DisplayName("유저 정보를 조회하는 동안 캐시가 비워지면 조회한 값을 캐시에 저장하지 않는다")
+        @Test
+        fun `유저 정보를 조회하는 동안 캐시가 비워지면 조회한 값을 캐시에 저장하지 않는다`() {
+            //given
+            every { userService.getUserById(userId) } answers {
+                userResponseCache.evict(UserUpdatedEvent(userId))
+                userResponse
+            } andThen userResponse
+            userResponseCache.getUser(userId)
+
+            //when
+            userResponseCache.getUser(userId)
+
+            //then
+            verify(exactly = 2) { userService.getUserById(userId) }
+        }
+
+        @DisplayName("적중 여부가 메트릭으로 기록된다")
+        @Test
+        fun `적중 여부가 메트릭으로 기록된다`() {
+            //given
+            //when
+            repeat(3) { userResponseCache.getUser(userId) }
+
+            //then
+            val hit = meterRegistry.find("user.cache.requests").tags("tier", "local", "result", "hit").counter()
+            val miss = meterRegistry.find("user.cache.requests").tags("tier", "local", "result", "miss").counter()
+            assertThat(hit?.count()).isEqualTo(2.0)
+            assertThat(miss?.count()).isEqualTo(1.0)
+        }
+    }
+
+    @DisplayName("Redis 캐시 사용 시")
+    @Nested
+    inner class TestRedisCache {
+        @BeforeEach
+        fun init() {
+            userCacheProperties.redisEnabled = true
+            userCacheProperties.localTtlMillis = 0
+        }
+
+        @DisplayName("Redis 에 값이 있으면 유저 정보를 조회하지 않는다")
+        @Test
+        fun `Redis 에 값이 있으면 유저 정보를 조회하지 않는다`() {
+            //given
+            every { valueOps.get(any()) } returns """{"id":1,"nickname":"cached","exp":30}"""
+
+            //when
+            val result = userResponseCache.getUser(userId)
+
+            //then
+            assertThat(result.nickname).isEqualTo("cached")
+            assertThat(result.exp).isEqualTo(30L)
+            verify(inverse = true) { userService.getUserById(any()) }
+        }
+
+        @DisplayName("Redis 에 값이 없으면 조회한 유저 정보를 Redis 에 저장한다")
+        @Test
+        fun `Redis 에 값이 없으면 조회한 유저 정보를 Redis 에 저장한다`() {
+            //given
+            every { valueOps.get(any()) } returns null
+
+            //when
+            userResponseCache.getUser(userId)
+
+            //then
+            verify { valueOps.set(userCacheProperties.redisKeyPrefix + userId, any(), any<Duration>()) }
+        }
+
+        @DisplayName("Redis 조회 중 오류가 발생하면 유저 정보를 조회한다")
+        @Test
+        fun `Redis 조회 중 오류가 발생하면 유저 정보를 조회한다`() {
+            //given
+            every { valueOps.get(any()) } throws IllegalStateException()
+
+            //when
+            val result = userResponseCache.getUser(userId)
+
+            //then
+            assertThat(result).isSameAs(userResponse)
+        }
+
+        @DisplayName("유저 변경 이벤트를 받으면 Redis 캐시도 비운다")
+        @Test
+        fun `유저 변경 이벤트를 받으면 Redis 캐시도 비운다`() {
+            //given
+            //when
+            userResponseCache.evict(UserUpdatedEvent(userId))
+
+            //then
+            verify { redisTemplate.delete(userCacheProperties.redisKeyPrefix + userId) }
+        }
+
+        @DisplayName("유저 변경 이벤트를 받으면 지연 시간 후 Redis 캐시를 한 번 더 비운다")
+        @Test
+        fun `유저 변경 이벤트를 받으면 지연 시간 후 Redis 캐시를 한 번 더 비운다`() {
+            //given
+            userCacheProperties.redisDelayedEvictMillis = 10
+
+            //when
+            userResponseCache.evict(UserUpdatedEvent(userId))
+
+            //then
+            verify(timeout = 1000, exactly = 2) { redisTemplate.delete(userCacheProperties.redisKeyPrefix + userId) }
+        }
+
+        @DisplayName("유저 정보를 조회하는 동안 캐시가 비워지면 조회한 값을 Redis 에 저장하지 않는다")
+        @Test
+        fun `유저 정보를 조회하는 동안 캐시가 비워지면 조회한 값을 Redis 에 저장하지 않는다`() {
+            //given
+            every { valueOps.get(any()) } returns null
+            every { userService.getUserById(userId) } answers {
+                userResponseCache.evict(UserUpdatedEvent(userId))
+                userResponse
+            }
+
+            //when
+            val result = userResponseCache.getUser(userId)
+
+            //then
+            assertThat(result).isSameAs(userResponse)
+            verify(inverse = true) { valueOps.set(any(), any(), any<Duration>()) }
+        }
+    }
+}